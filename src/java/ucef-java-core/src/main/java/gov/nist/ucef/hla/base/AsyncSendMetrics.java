@@ -0,0 +1,161 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.base;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A snapshot of the state of the asynchronous send queue of an {@link RTIAmbassadorWrapper}
+ * (see {@link RTIAmbassadorWrapper#getAsyncSendMetrics()}).
+ *
+ * Latency is measured from the point at which an interaction or attribute update is queued to
+ * the point at which the RTI call to send it completes.
+ */
+public final class AsyncSendMetrics
+{
+	//----------------------------------------------------------
+	//                    STATIC VARIABLES
+	//----------------------------------------------------------
+	/** metrics for when nothing has been sent asynchronously */
+	public static final AsyncSendMetrics NONE = new AsyncSendMetrics( 0, 0, 0, 0, 0, 0, 0 );
+
+	//----------------------------------------------------------
+	//                   INSTANCE VARIABLES
+	//----------------------------------------------------------
+	private final long sentCount;
+	private final long droppedCount;
+	private final long failedCount;
+	private final int queueDepth;
+	private final int maxQueueDepth;
+	private final long totalLatencyNanos;
+	private final long maxLatencyNanos;
+
+	//----------------------------------------------------------
+	//                      CONSTRUCTORS
+	//----------------------------------------------------------
+	/**
+	 * Constructor
+	 *
+	 * @param sentCount the number of items sent
+	 * @param droppedCount the number of items discarded because the queue was full
+	 * @param failedCount the number of items which the RTI failed to send
+	 * @param queueDepth the number of items currently waiting to be sent
+	 * @param maxQueueDepth the largest number of items which have been waiting to be sent
+	 * @param totalLatencyNanos the total latency of all sent items, in nanoseconds
+	 * @param maxLatencyNanos the largest latency of any sent item, in nanoseconds
+	 */
+	public AsyncSendMetrics( long sentCount, long droppedCount, long failedCount, int queueDepth,
+	                         int maxQueueDepth, long totalLatencyNanos, long maxLatencyNanos )
+	{
+		this.sentCount = sentCount;
+		this.droppedCount = droppedCount;
+		this.failedCount = failedCount;
+		this.queueDepth = queueDepth;
+		this.maxQueueDepth = maxQueueDepth;
+		this.totalLatencyNanos = totalLatencyNanos;
+		this.maxLatencyNanos = maxLatencyNanos;
+	}
+
+	//----------------------------------------------------------
+	//                    INSTANCE METHODS
+	//----------------------------------------------------------
+	@Override
+	public String toString()
+	{
+		return String.format( "%d sent, %d dropped, %d failed, queue depth %d (max %d), " +
+		                      "latency %.3fms mean, %.3fms max",
+		                      this.sentCount,
+		                      this.droppedCount,
+		                      this.failedCount,
+		                      this.queueDepth,
+		                      this.maxQueueDepth,
+		                      this.sentCount == 0 ? 0.0 : this.totalLatencyNanos / 1e6 / this.sentCount,
+		                      this.maxLatencyNanos / 1e6 );
+	}
+
+	/**
+	 * @return the number of items which have been sent
+	 */
+	public long getSentCount()
+	{
+		return this.sentCount;
+	}
+
+	/**
+	 * @return the number of items which were discarded because the queue was full (see
+	 *         {@link SendOverflowPolicy#DROP_OLDEST})
+	 */
+	public long getDroppedCount()
+	{
+		return this.droppedCount;
+	}
+
+	/**
+	 * @return the number of items which the RTI failed to send
+	 */
+	public long getFailedCount()
+	{
+		return this.failedCount;
+	}
+
+	/**
+	 * @return the number of items waiting to be sent at the time of the snapshot
+	 */
+	public int getQueueDepth()
+	{
+		return this.queueDepth;
+	}
+
+	/**
+	 * @return the largest number of items which have been waiting to be sent at once
+	 */
+	public int getMaxQueueDepth()
+	{
+		return this.maxQueueDepth;
+	}
+
+	/**
+	 * @param unit the time unit for the result
+	 * @return the mean time from queuing to sending of the items sent (0 if nothing was sent)
+	 */
+	public long getMeanLatency( TimeUnit unit )
+	{
+		if( this.sentCount == 0 )
+			return 0;
+		return unit.convert( this.totalLatencyNanos / this.sentCount, TimeUnit.NANOSECONDS );
+	}
+
+	/**
+	 * @param unit the time unit for the result
+	 * @return the longest time from queuing to sending of any item sent
+	 */
+	public long getMaxLatency( TimeUnit unit )
+	{
+		return unit.convert( this.maxLatencyNanos, TimeUnit.NANOSECONDS );
+	}
+
+	//----------------------------------------------------------
+	//                     STATIC METHODS
+	//----------------------------------------------------------
+}
@@ -0,0 +1,417 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.base;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Sends interactions and attribute updates to the RTI from a dedicated thread, so that the
+ * threads which send them do not block on RTI I/O.
+ *
+ * Sends are submitted as tasks to a bounded queue, and are carried out by the sender thread in
+ * the order in which they were submitted. What happens when the queue is full is determined by
+ * the {@link SendOverflowPolicy}.
+ *
+ * Since the sends happen on another thread, a failure to send cannot be reported to the thread
+ * which submitted it. Instead the most recent failure is recorded, and thrown from the next call
+ * to {@link #awaitIdle()}.
+ */
+final class AsyncSender
+{
+	//----------------------------------------------------------
+	//                    STATIC VARIABLES
+	//----------------------------------------------------------
+	private static final Logger logger = LogManager.getLogger( AsyncSender.class );
+
+	// placed on the queue to tell the sender thread to stop
+	private static final QueuedSend STOP = new QueuedSend( () -> {}, null, null, 0 );
+
+	//----------------------------------------------------------
+	//                   INSTANCE VARIABLES
+	//----------------------------------------------------------
+	private final BlockingQueue<QueuedSend> queue;
+	private final SendOverflowPolicy overflowPolicy;
+	private final Thread sender;
+
+	// number of sends which have been submitted but have not yet been completed or dropped
+	private long pending;
+	private boolean isShutdown;
+	private UCEFException failure;
+
+	// metrics - see getMetrics()
+	private long sentCount;
+	private long droppedCount;
+	private long failedCount;
+	private int maxQueueDepth;
+	private long totalLatencyNanos;
+	private long maxLatencyNanos;
+
+	private final Object mutex_lock = new Object();
+
+	//----------------------------------------------------------
+	//                      CONSTRUCTORS
+	//----------------------------------------------------------
+	/**
+	 * Constructor
+	 *
+	 * @param queueSize the maximum number of sends which may be waiting
+	 * @param overflowPolicy what to do when a send is submitted while the queue is full
+	 * @param name the name of the sender thread
+	 */
+	AsyncSender( int queueSize, SendOverflowPolicy overflowPolicy, String name )
+	{
+		if( queueSize < 1 )
+			throw new UCEFException( "Asynchronous send queue size must be at least one (%d given).",
+			                         queueSize );
+		if( overflowPolicy == null )
+			throw new UCEFException( "Asynchronous send requires an overflow policy." );
+
+		this.queue = new ArrayBlockingQueue<>( queueSize );
+		this.overflowPolicy = overflowPolicy;
+		this.pending = 0;
+		this.isShutdown = false;
+		this.failure = null;
+
+		this.sender = new Thread( this::work, name );
+		this.sender.setDaemon( true );
+		this.sender.start();
+	}
+
+	//----------------------------------------------------------
+	//                    INSTANCE METHODS
+	//----------------------------------------------------------
+	/**
+	 * Submit a send to be carried out by the sender thread.
+	 *
+	 * @param send the send
+	 * @throws UCEFException if the queue is full and the overflow policy is
+	 *             {@link SendOverflowPolicy#FAIL}
+	 */
+	void submit( Runnable send )
+	{
+		submit( send, null );
+	}
+
+	/**
+	 * Submit a send to be carried out by the sender thread, with an action to take if the send is
+	 * not carried out after all - because it is dropped to make room for a later send, rejected
+	 * because the queue is full, or fails.
+	 *
+	 * @param send the send
+	 * @param notSent run if the send is not carried out (may be null)
+	 * @throws UCEFException if the queue is full and the overflow policy is
+	 *             {@link SendOverflowPolicy#FAIL}
+	 */
+	void submit( Runnable send, Runnable notSent )
+	{
+		submit( send, null, notSent );
+	}
+
+	/**
+	 * Submit a send to be carried out by the sender thread, with an action to take once the send
+	 * has been carried out successfully, and one to take if it is not carried out after all (see
+	 * {@link #submit(Runnable, Runnable)}).
+	 *
+	 * @param send the send
+	 * @param sent run on the sender thread once the send has succeeded (may be null)
+	 * @param notSent run if the send is not carried out (may be null)
+	 * @throws UCEFException if the queue is full and the overflow policy is
+	 *             {@link SendOverflowPolicy#FAIL}
+	 */
+	void submit( Runnable send, Runnable sent, Runnable notSent )
+	{
+		synchronized( mutex_lock )
+		{
+			if( this.isShutdown )
+				throw new UCEFException( "Cannot send asynchronously after shutdown." );
+			this.pending++;
+		}
+
+		QueuedSend queued = new QueuedSend( send, sent, notSent, System.nanoTime() );
+		try
+		{
+			switch( this.overflowPolicy )
+			{
+				case BLOCK:
+					this.queue.put( queued );
+					break;
+				case DROP_OLDEST:
+					while( !this.queue.offer( queued ) )
+					{
+						// make room by discarding whatever has been waiting longest
+						QueuedSend oldest = this.queue.poll();
+						if( oldest != null )
+							dropped( oldest );
+					}
+					break;
+				case FAIL:
+					if( !this.queue.offer( queued ) )
+					{
+						queued.notSent();
+						completed();
+						throw new UCEFException( "Asynchronous send queue is full (%d waiting).",
+						                         this.queue.size() );
+					}
+					break;
+			}
+		}
+		catch( InterruptedException e )
+		{
+			queued.notSent();
+			completed();
+			Thread.currentThread().interrupt();
+			throw new UCEFException( e, "Interrupted while queuing send." );
+		}
+
+		int depth = this.queue.size();
+		synchronized( mutex_lock )
+		{
+			this.maxQueueDepth = Math.max( this.maxQueueDepth, depth );
+		}
+	}
+
+	/**
+	 * Block until all sends submitted so far have been carried out (or dropped).
+	 *
+	 * @throws UCEFException if any send has failed since this was last called
+	 */
+	void awaitIdle()
+	{
+		UCEFException lastFailure;
+		synchronized( mutex_lock )
+		{
+			while( this.pending > 0 )
+			{
+				try
+				{
+					mutex_lock.wait();
+				}
+				catch( InterruptedException e )
+				{
+					Thread.currentThread().interrupt();
+					throw new UCEFException( e, "Interrupted while waiting for queued sends." );
+				}
+			}
+
+			lastFailure = this.failure;
+			this.failure = null;
+		}
+
+		if( lastFailure != null )
+			throw lastFailure;
+	}
+
+	/**
+	 * Carry out all outstanding sends and then stop the sender thread. No further sends may be
+	 * submitted once this has been called.
+	 *
+	 * @throws UCEFException if any send has failed since {@link #awaitIdle()} was last called
+	 */
+	void shutdown()
+	{
+		synchronized( mutex_lock )
+		{
+			if( this.isShutdown )
+				return;
+			this.isShutdown = true;
+		}
+
+		try
+		{
+			awaitIdle();
+		}
+		finally
+		{
+			try
+			{
+				this.queue.put( STOP );
+				this.sender.join();
+			}
+			catch( InterruptedException e )
+			{
+				Thread.currentThread().interrupt();
+				throw new UCEFException( e, "Interrupted while stopping asynchronous send." );
+			}
+		}
+	}
+
+	/**
+	 * @return a snapshot of the current state of the send queue
+	 */
+	AsyncSendMetrics getMetrics()
+	{
+		int depth = this.queue.size();
+		synchronized( mutex_lock )
+		{
+			return new AsyncSendMetrics( this.sentCount, this.droppedCount, this.failedCount,
+			                             depth, this.maxQueueDepth,
+			                             this.totalLatencyNanos, this.maxLatencyNanos );
+		}
+	}
+
+	/**
+	 * Carry out the queued sends until told to stop
+	 */
+	private void work()
+	{
+		while( true )
+		{
+			QueuedSend queued;
+			try
+			{
+				queued = this.queue.take();
+			}
+			catch( InterruptedException e )
+			{
+				return;
+			}
+
+			if( queued == STOP )
+				return;
+
+			try
+			{
+				queued.send.run();
+				sent( System.nanoTime() - queued.queuedAt );
+				queued.sent();
+			}
+			catch( UCEFException e )
+			{
+				failed( queued, e );
+			}
+			catch( Throwable t )
+			{
+				failed( queued, new UCEFException( t, "Asynchronous send failed." ) );
+			}
+			finally
+			{
+				completed();
+			}
+		}
+	}
+
+	private void sent( long latencyNanos )
+	{
+		synchronized( mutex_lock )
+		{
+			this.sentCount++;
+			this.totalLatencyNanos += latencyNanos;
+			this.maxLatencyNanos = Math.max( this.maxLatencyNanos, latencyNanos );
+		}
+	}
+
+	private void dropped( QueuedSend queued )
+	{
+		queued.notSent();
+		synchronized( mutex_lock )
+		{
+			this.droppedCount++;
+		}
+		completed();
+	}
+
+	private void failed( QueuedSend queued, UCEFException e )
+	{
+		queued.notSent();
+		synchronized( mutex_lock )
+		{
+			this.failedCount++;
+			this.failure = e;
+		}
+		logger.error( "Asynchronous send failed", e );
+	}
+
+	/**
+	 * Record the completion of a send, waking up anything waiting for the sender to become idle
+	 */
+	private void completed()
+	{
+		synchronized( mutex_lock )
+		{
+			this.pending--;
+			if( this.pending == 0 )
+				mutex_lock.notifyAll();
+		}
+	}
+
+	//----------------------------------------------------------
+	//                     STATIC METHODS
+	//----------------------------------------------------------
+
+	//----------------------------------------------------------
+	//                     INNER CLASSES
+	//----------------------------------------------------------
+	/**
+	 * A send waiting on the queue, along with the time at which it was queued
+	 */
+	private static final class QueuedSend
+	{
+		private final Runnable send;
+		private final Runnable sent;
+		private final Runnable notSent;
+		private final long queuedAt;
+
+		private QueuedSend( Runnable send, Runnable sent, Runnable notSent, long queuedAt )
+		{
+			this.send = send;
+			this.sent = sent;
+			this.notSent = notSent;
+			this.queuedAt = queuedAt;
+		}
+
+		private void sent()
+		{
+			if( this.sent == null )
+				return;
+
+			try
+			{
+				this.sent.run();
+			}
+			catch( RuntimeException e )
+			{
+				logger.warn( "Failed to handle a send which was carried out", e );
+			}
+		}
+
+		private void notSent()
+		{
+			if( this.notSent == null )
+				return;
+
+			try
+			{
+				this.notSent.run();
+			}
+			catch( RuntimeException e )
+			{
+				logger.warn( "Failed to handle a send which was not carried out", e );
+			}
+		}
+	}
+}
@@ -0,0 +1,262 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.base;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Hands callback processing off to a fixed set of worker threads.
+ *
+ * Each task is submitted with a partition key (typically an object instance handle or an
+ * interaction class handle). All tasks with equal keys are processed by the same worker, in the
+ * order they were submitted, so per-instance ordering is preserved while tasks for different
+ * instances are processed concurrently.
+ *
+ * Each worker has a bounded queue - when a worker's queue is full, the submitting thread blocks
+ * until there is room, so memory use is bounded and the RTI is slowed down rather than the
+ * federate running out of memory.
+ */
+final class CallbackDispatcher
+{
+	//----------------------------------------------------------
+	//                    STATIC VARIABLES
+	//----------------------------------------------------------
+	private static final Logger logger = LogManager.getLogger( CallbackDispatcher.class );
+
+	// placed on a worker's queue to tell it to stop
+	private static final Runnable STOP = () -> {};
+
+	//----------------------------------------------------------
+	//                   INSTANCE VARIABLES
+	//----------------------------------------------------------
+	private final BlockingQueue<Runnable>[] queues;
+	private final Thread[] workers;
+
+	// number of tasks which have been submitted but have not yet been completed
+	private long pending;
+	private boolean isShutdown;
+
+	private final Object mutex_lock = new Object();
+
+	//----------------------------------------------------------
+	//                      CONSTRUCTORS
+	//----------------------------------------------------------
+	/**
+	 * Constructor
+	 *
+	 * @param threadCount the number of worker threads
+	 * @param queueSize the maximum number of tasks which may be waiting on each worker
+	 * @param name the name used as a prefix for the worker thread names
+	 */
+	@SuppressWarnings("unchecked")
+	CallbackDispatcher( int threadCount, int queueSize, String name )
+	{
+		if( threadCount < 1 )
+			throw new UCEFException( "Callback dispatch requires at least one thread (%d given).",
+			                         threadCount );
+		if( queueSize < 1 )
+			throw new UCEFException( "Callback dispatch queue size must be at least one (%d given).",
+			                         queueSize );
+
+		this.queues = new BlockingQueue[threadCount];
+		this.workers = new Thread[threadCount];
+		this.pending = 0;
+		this.isShutdown = false;
+
+		for( int i = 0; i < threadCount; i++ )
+		{
+			BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>( queueSize );
+			this.queues[i] = queue;
+			this.workers[i] = new Thread( () -> work( queue ), name + "-" + i );
+			this.workers[i].setDaemon( true );
+			this.workers[i].start();
+		}
+	}
+
+	//----------------------------------------------------------
+	//                    INSTANCE METHODS
+	//----------------------------------------------------------
+	/**
+	 * Submit a task for processing. Tasks with equal keys are processed in submission order.
+	 *
+	 * If the queue of the worker responsible for the key is full, this blocks until there is
+	 * room on it.
+	 *
+	 * @param key the partition key for the task
+	 * @param task the task
+	 */
+	void dispatch( Object key, Runnable task )
+	{
+		synchronized( mutex_lock )
+		{
+			if( this.isShutdown )
+				throw new UCEFException( "Cannot dispatch callbacks after shutdown." );
+			this.pending++;
+		}
+
+		try
+		{
+			this.queues[partitionOf( key )].put( task );
+		}
+		catch( InterruptedException e )
+		{
+			completed();
+			Thread.currentThread().interrupt();
+			throw new UCEFException( e, "Interrupted while dispatching callback." );
+		}
+	}
+
+	/**
+	 * Block until all tasks submitted so far have been processed
+	 */
+	void awaitIdle()
+	{
+		synchronized( mutex_lock )
+		{
+			while( this.pending > 0 )
+			{
+				try
+				{
+					mutex_lock.wait();
+				}
+				catch( InterruptedException e )
+				{
+					Thread.currentThread().interrupt();
+					throw new UCEFException( e, "Interrupted while waiting for dispatched callbacks." );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Process all outstanding tasks and then stop the worker threads. No further tasks may be
+	 * submitted once this has been called.
+	 */
+	void shutdown()
+	{
+		synchronized( mutex_lock )
+		{
+			if( this.isShutdown )
+				return;
+			this.isShutdown = true;
+		}
+
+		awaitIdle();
+
+		for( int i = 0; i < this.workers.length; i++ )
+		{
+			try
+			{
+				this.queues[i].put( STOP );
+				this.workers[i].join();
+			}
+			catch( InterruptedException e )
+			{
+				Thread.currentThread().interrupt();
+				throw new UCEFException( e, "Interrupted while stopping callback dispatch." );
+			}
+		}
+	}
+
+	/**
+	 * @return the number of worker threads
+	 */
+	int getThreadCount()
+	{
+		return this.workers.length;
+	}
+
+	/**
+	 * Work through the tasks on a queue until told to stop
+	 *
+	 * @param queue the queue to take tasks from
+	 */
+	private void work( BlockingQueue<Runnable> queue )
+	{
+		while( true )
+		{
+			Runnable task;
+			try
+			{
+				task = queue.take();
+			}
+			catch( InterruptedException e )
+			{
+				return;
+			}
+
+			if( task == STOP )
+				return;
+
+			try
+			{
+				task.run();
+			}
+			catch( Throwable t )
+			{
+				// one misbehaving handler must not stop callbacks being processed for all of the
+				// other instances which share this worker
+				logger.error( "Unhandled exception processing dispatched callback", t );
+			}
+			finally
+			{
+				completed();
+			}
+		}
+	}
+
+	/**
+	 * Record the completion of a task, waking up anything waiting for the dispatcher to become
+	 * idle
+	 */
+	private void completed()
+	{
+		synchronized( mutex_lock )
+		{
+			this.pending--;
+			if( this.pending == 0 )
+				mutex_lock.notifyAll();
+		}
+	}
+
+	/**
+	 * @param key a partition key
+	 * @return the index of the worker responsible for the key
+	 */
+	private int partitionOf( Object key )
+	{
+		int hash = key == null ? 0 : key.hashCode();
+		// spread the hash bits so that handles with similar hash codes don't bunch up
+		hash ^= (hash >>> 16);
+		return (hash & Integer.MAX_VALUE) % this.queues.length;
+	}
+
+	//----------------------------------------------------------
+	//                     STATIC METHODS
+	//----------------------------------------------------------
+}
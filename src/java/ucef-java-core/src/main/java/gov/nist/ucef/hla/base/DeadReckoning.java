@@ -0,0 +1,300 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.base;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import hla.rti1516e.ObjectInstanceHandle;
+
+/**
+ * Keeps track of the state needed to dead reckon object instance attributes (see
+ * {@link DeadReckoningSpec}), on both the publishing and the subscribing side.
+ *
+ * On the publishing side, the value, rate and time of the last update sent for each dead
+ * reckoned attribute is recorded once the update has been handed to the RTI, so that an
+ * attribute can be left out of an update for as long as subscribers' extrapolation of it
+ * remains within the threshold.
+ *
+ * On the subscribing side, the time at which each dead reckoned attribute was last reflected is
+ * recorded, so that its current value can be extrapolated.
+ */
+final class DeadReckoning
+{
+	//----------------------------------------------------------
+	//                    STATIC VARIABLES
+	//----------------------------------------------------------
+
+	//----------------------------------------------------------
+	//                   INSTANCE VARIABLES
+	//----------------------------------------------------------
+	// publishing side - the last values sent, by instance and attribute name
+	private final Map<ObjectInstanceHandle,Map<String,Sent>> sentByInstance;
+	// subscribing side - the times at which values were last reflected, by instance and
+	// attribute name
+	private final Map<ObjectInstanceHandle,Map<String,Double>> reflectedByInstance;
+
+	//----------------------------------------------------------
+	//                      CONSTRUCTORS
+	//----------------------------------------------------------
+	DeadReckoning()
+	{
+		this.sentByInstance = new ConcurrentHashMap<>();
+		this.reflectedByInstance = new ConcurrentHashMap<>();
+	}
+
+	//----------------------------------------------------------
+	//                    INSTANCE METHODS
+	//----------------------------------------------------------
+	/**
+	 * Remove dead reckoned attributes from an update where subscribers' extrapolation of them is
+	 * still within the threshold.
+	 *
+	 * The values of the attributes which are left in are not recorded here, since the update may
+	 * yet be held back, dropped or fail to send - see {@link #recordSent(HLAObject, Map, Map, double)}.
+	 *
+	 * When a {@link DeadReckoningSpec.Model#LINEAR} attribute is sent, its rate attribute is
+	 * always sent along with it, since subscribers extrapolate using both. A rate attribute is
+	 * left out of the update along with the attribute it belongs to, unless it is needed by
+	 * another attribute which is being sent. Conversely, when a rate which differs from the one
+	 * last sent goes out, the attributes which use it go out too (with their current values),
+	 * since subscribers would otherwise extrapolate them with the new rate from the time of
+	 * their last reflection.
+	 *
+	 * @param instance the object instance being updated
+	 * @param state the attributes and values to be sent (modified by this method)
+	 * @param specs the dead reckoning specifications for the instance's object class, by
+	 *            attribute name
+	 * @param time the logical time of the update
+	 * @return the attributes and values to send
+	 */
+	Map<String,byte[]> filterUpdate( HLAObject instance, Map<String,byte[]> state,
+	                                 Map<String,DeadReckoningSpec> specs, double time )
+	{
+		Map<String,Sent> sent = this.sentByInstance.get( instance.getObjectInstanceHandle() );
+
+		// rate attributes of attributes which were left out, which can be left out too unless
+		// something being sent needs them
+		Set<String> unneededRates = null;
+		Set<String> neededRates = null;
+
+		for( DeadReckoningSpec spec : specs.values() )
+		{
+			byte[] rawValue = state.get( spec.getAttributeName() );
+			if( rawValue == null || rawValue.length == 0 )
+				continue;
+
+			String rateName = spec.getRateAttributeName();
+			Sent last = sent == null ? null : sent.get( spec.getAttributeName() );
+			if( last != null )
+			{
+				double value = HLACodecUtils.asDouble( rawValue );
+				double predicted = spec.extrapolate( last.value, last.rate, time - last.time );
+				if( Math.abs( value - predicted ) <= spec.getThreshold() )
+				{
+					state.remove( spec.getAttributeName() );
+					if( rateName != null )
+					{
+						if( unneededRates == null )
+							unneededRates = new HashSet<>();
+						unneededRates.add( rateName );
+					}
+					continue;
+				}
+			}
+
+			if( rateName != null )
+			{
+				if( !state.containsKey( rateName ) )
+				{
+					byte[] rawRate = instance.getRawValue( rateName );
+					if( rawRate != null && rawRate.length != 0 )
+						state.put( rateName, rawRate );
+				}
+
+				if( neededRates == null )
+					neededRates = new HashSet<>();
+				neededRates.add( rateName );
+			}
+		}
+
+		if( unneededRates != null )
+		{
+			for( String rateName : unneededRates )
+			{
+				// a rate which is itself dead reckoned has already been dealt with above
+				if( (neededRates == null || !neededRates.contains( rateName )) &&
+				    !specs.containsKey( rateName ) )
+					state.remove( rateName );
+			}
+		}
+
+		for( DeadReckoningSpec spec : specs.values() )
+		{
+			String rateName = spec.getRateAttributeName();
+			if( rateName == null || state.containsKey( spec.getAttributeName() ) )
+				continue;
+
+			byte[] rawRate = state.get( rateName );
+			if( rawRate == null || rawRate.length == 0 )
+				continue;
+
+			Sent last = sent == null ? null : sent.get( spec.getAttributeName() );
+			if( last != null && HLACodecUtils.asDouble( rawRate ) == last.rate )
+				continue;
+
+			byte[] rawValue = instance.getRawValue( spec.getAttributeName() );
+			if( rawValue != null && rawValue.length != 0 )
+				state.put( spec.getAttributeName(), rawValue );
+		}
+
+		return state;
+	}
+
+	/**
+	 * Record the values of the dead reckoned attributes in an update which has been handed to the
+	 * RTI, as the basis for deciding whether later updates need to include them.
+	 *
+	 * @param instance the object instance which was updated
+	 * @param state the attributes and values which were sent
+	 * @param specs the dead reckoning specifications for the instance's object class, by
+	 *            attribute name
+	 * @param time the logical time of the update
+	 */
+	void recordSent( HLAObject instance, Map<String,byte[]> state,
+	                 Map<String,DeadReckoningSpec> specs, double time )
+	{
+		Map<String,Sent> sent = null;
+		for( DeadReckoningSpec spec : specs.values() )
+		{
+			byte[] rawValue = state.get( spec.getAttributeName() );
+			if( rawValue == null || rawValue.length == 0 )
+				continue;
+
+			double rate = 0.0;
+			String rateName = spec.getRateAttributeName();
+			if( rateName != null )
+			{
+				byte[] rawRate = state.get( rateName );
+				if( rawRate != null && rawRate.length != 0 )
+					rate = HLACodecUtils.asDouble( rawRate );
+			}
+
+			if( sent == null )
+			{
+				sent = this.sentByInstance.computeIfAbsent( instance.getObjectInstanceHandle(),
+				                                            handle -> new ConcurrentHashMap<>() );
+			}
+			sent.put( spec.getAttributeName(),
+			          new Sent( HLACodecUtils.asDouble( rawValue ), rate, time ) );
+		}
+	}
+
+	/**
+	 * Record the time at which dead reckoned attributes of an instance were reflected.
+	 *
+	 * @param instance the object instance which was reflected
+	 * @param attributeNames the names of the attributes which were reflected
+	 * @param specs the dead reckoning specifications for the instance's object class, by
+	 *            attribute name
+	 * @param time the logical time of the reflection
+	 */
+	void reflected( HLAObject instance, Set<String> attributeNames,
+	                Map<String,DeadReckoningSpec> specs, double time )
+	{
+		Map<String,Double> reflected = null;
+		for( String attributeName : attributeNames )
+		{
+			if( !specs.containsKey( attributeName ) )
+				continue;
+
+			if( reflected == null )
+			{
+				reflected = this.reflectedByInstance.computeIfAbsent( instance.getObjectInstanceHandle(),
+				                                                      handle -> new ConcurrentHashMap<>() );
+			}
+			reflected.put( attributeName, time );
+		}
+	}
+
+	/**
+	 * Extrapolate the current value of a dead reckoned attribute from the last value reflected.
+	 *
+	 * @param instance the object instance
+	 * @param spec the dead reckoning specification of the attribute
+	 * @param time the logical time to extrapolate to
+	 * @return the extrapolated value
+	 */
+	double extrapolate( HLAObject instance, DeadReckoningSpec spec, double time )
+	{
+		double value = instance.getAsDouble( spec.getAttributeName() );
+		if( spec.getModel() == DeadReckoningSpec.Model.STATIC )
+			return value;
+
+		Map<String,Double> reflected = this.reflectedByInstance.get( instance.getObjectInstanceHandle() );
+		Double reflectedAt = reflected == null ? null : reflected.get( spec.getAttributeName() );
+		if( reflectedAt == null || !instance.isPresent( spec.getRateAttributeName() ) )
+			return value;
+
+		double rate = instance.getAsDouble( spec.getRateAttributeName() );
+		return spec.extrapolate( value, rate, time - reflectedAt );
+	}
+
+	/**
+	 * Discard all dead reckoning state held for an object instance
+	 *
+	 * @param handle the handle of the object instance
+	 */
+	void forget( ObjectInstanceHandle handle )
+	{
+		this.sentByInstance.remove( handle );
+		this.reflectedByInstance.remove( handle );
+	}
+
+	//----------------------------------------------------------
+	//                     STATIC METHODS
+	//----------------------------------------------------------
+
+	//----------------------------------------------------------
+	//                     INNER CLASSES
+	//----------------------------------------------------------
+	/**
+	 * The value, rate of change and time of the last update sent for an attribute
+	 */
+	private static final class Sent
+	{
+		private final double value;
+		private final double rate;
+		private final double time;
+
+		private Sent( double value, double rate, double time )
+		{
+			this.value = value;
+			this.rate = rate;
+			this.time = time;
+		}
+	}
+}
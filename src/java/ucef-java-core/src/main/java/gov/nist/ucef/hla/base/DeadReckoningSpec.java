@@ -0,0 +1,209 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.base;
+
+/**
+ * Declares how a numeric object class attribute is dead reckoned.
+ *
+ * When an attribute is dead reckoned, the publishing federate only sends a new value when the
+ * value which subscribing federates would extrapolate from the last value sent differs from the
+ * actual value by more than the threshold. Subscribing federates extrapolate the current value
+ * from the last value received (see {@link FederateBase#extrapolate(HLAObject, String)}).
+ *
+ * Two models are supported:
+ * <ul>
+ * <li>{@link Model#STATIC}: the value is assumed not to change between updates</li>
+ * <li>{@link Model#LINEAR}: the value is assumed to change at the rate given by another
+ * attribute of the same object (for example, a position which changes according to a
+ * velocity)</li>
+ * </ul>
+ *
+ * Dead reckoned attributes (and rate attributes) must be encoded as doubles.
+ *
+ * Dead reckoning specifications are immutable.
+ */
+public final class DeadReckoningSpec
+{
+	//----------------------------------------------------------
+	//                    STATIC VARIABLES
+	//----------------------------------------------------------
+	/**
+	 * The model used to extrapolate a dead reckoned value between updates
+	 */
+	public enum Model
+	{
+		STATIC("static"),
+		LINEAR("linear");
+
+		private final String label;
+
+		private Model( String label )
+		{
+			this.label = label;
+		}
+
+		/**
+		 * @return the text identifier for the model (as used in JSON configuration)
+		 */
+		public String getLabel()
+		{
+			return this.label;
+		}
+
+		/**
+		 * @param label the text identifier for a model
+		 * @return the model identified by the label, or null if there is no such model
+		 */
+		public static Model fromLabel( String label )
+		{
+			for( Model model : values() )
+			{
+				if( model.label.equals( label ) )
+					return model;
+			}
+			return null;
+		}
+	}
+
+	//----------------------------------------------------------
+	//                   INSTANCE VARIABLES
+	//----------------------------------------------------------
+	private final String attributeName;
+	private final Model model;
+	private final String rateAttributeName;
+	private final double threshold;
+
+	//----------------------------------------------------------
+	//                      CONSTRUCTORS
+	//----------------------------------------------------------
+	private DeadReckoningSpec( String attributeName, Model model, String rateAttributeName,
+	                           double threshold )
+	{
+		if( attributeName == null )
+			throw new UCEFException( "Cannot dead reckon a null attribute." );
+		if( threshold < 0.0 || Double.isNaN( threshold ) )
+			throw new UCEFException( "Dead reckoning threshold for '%s' must not be negative (%s given).",
+			                         attributeName, threshold );
+
+		this.attributeName = attributeName;
+		this.model = model;
+		this.rateAttributeName = rateAttributeName;
+		this.threshold = threshold;
+	}
+
+	//----------------------------------------------------------
+	//                    INSTANCE METHODS
+	//----------------------------------------------------------
+	@Override
+	public String toString()
+	{
+		if( this.model == Model.LINEAR )
+			return String.format( "%s (linear with rate %s, threshold %s)",
+			                      this.attributeName, this.rateAttributeName, this.threshold );
+		return String.format( "%s (static, threshold %s)", this.attributeName, this.threshold );
+	}
+
+	/**
+	 * @return the name of the dead reckoned attribute
+	 */
+	public String getAttributeName()
+	{
+		return this.attributeName;
+	}
+
+	/**
+	 * @return the model used to extrapolate the value between updates
+	 */
+	public Model getModel()
+	{
+		return this.model;
+	}
+
+	/**
+	 * @return the name of the attribute which holds the rate of change of the value per unit of
+	 *         logical time (null for the {@link Model#STATIC} model)
+	 */
+	public String getRateAttributeName()
+	{
+		return this.rateAttributeName;
+	}
+
+	/**
+	 * @return the largest acceptable difference between the extrapolated and actual values
+	 */
+	public double getThreshold()
+	{
+		return this.threshold;
+	}
+
+	/**
+	 * Extrapolate a value from the last value sent or received.
+	 *
+	 * @param value the last value
+	 * @param rate the rate of change of the value at the time of the last value (ignored for the
+	 *            {@link Model#STATIC} model)
+	 * @param elapsed the logical time which has passed since the last value
+	 * @return the extrapolated value
+	 */
+	public double extrapolate( double value, double rate, double elapsed )
+	{
+		return this.model == Model.LINEAR ? value + (rate * elapsed) : value;
+	}
+
+	//----------------------------------------------------------
+	//                     STATIC METHODS
+	//----------------------------------------------------------
+	/**
+	 * Create a specification for an attribute whose value is assumed not to change between
+	 * updates, so that only changes larger than the threshold are sent.
+	 *
+	 * @param attributeName the name of the attribute
+	 * @param threshold the largest change which is not sent
+	 * @return the specification
+	 */
+	public static DeadReckoningSpec staticModel( String attributeName, double threshold )
+	{
+		return new DeadReckoningSpec( attributeName, Model.STATIC, null, threshold );
+	}
+
+	/**
+	 * Create a specification for an attribute whose value is assumed to change at the rate given
+	 * by another attribute between updates.
+	 *
+	 * @param attributeName the name of the attribute
+	 * @param rateAttributeName the name of the attribute holding the rate of change of the value
+	 *            per unit of logical time
+	 * @param threshold the largest acceptable difference between the extrapolated and actual
+	 *            values
+	 * @return the specification
+	 */
+	public static DeadReckoningSpec linearModel( String attributeName, String rateAttributeName,
+	                                             double threshold )
+	{
+		if( rateAttributeName == null )
+			throw new UCEFException( "Linear dead reckoning of '%s' requires a rate attribute.",
+			                         attributeName );
+		return new DeadReckoningSpec( attributeName, Model.LINEAR, rateAttributeName, threshold );
+	}
+}
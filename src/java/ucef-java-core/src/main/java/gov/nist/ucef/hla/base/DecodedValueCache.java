@@ -0,0 +1,320 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.base;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import gov.nist.ucef.hla.base.Types.DataType;
+
+/**
+ * Holds the most recently decoded value of each attribute (or parameter) of an {@link HLAObject}
+ * (or {@link HLAInteraction}) so that repeated reads of a value which has not changed do not need
+ * to decode the underlying byte array again.
+ *
+ * Primitive values are held in their raw bit form in a single long, so no boxing takes place.
+ * Entries are reused once created, so a steady stream of reflections followed by reads does not
+ * generate garbage.
+ *
+ * If the owner stores its values by slot (see {@link SlotLayout}), the cache is created with the
+ * same layout and entries for members of the layout are held in an array indexed by slot, so
+ * they can be accessed without any hashing at all.
+ *
+ * NOTE: this class is not thread safe - the owner is responsible for synchronization, and for
+ *       invalidating entries whenever the underlying raw values change.
+ */
+class DecodedValueCache
+{
+	//----------------------------------------------------------
+	//                   INSTANCE VARIABLES
+	//----------------------------------------------------------
+	// the layout of the owner's slots (may be null)
+	private final SlotLayout layout;
+
+	// created on first use, since many instances are never read through the decoding accessors
+	private Map<String,Entry> entries;
+	private Entry[] slotEntries;
+
+	//----------------------------------------------------------
+	//                      CONSTRUCTORS
+	//----------------------------------------------------------
+	DecodedValueCache()
+	{
+		this( null );
+	}
+
+	/**
+	 * @param layout the layout of the owner's slots (may be null if the owner does not store its
+	 *            values by slot)
+	 */
+	DecodedValueCache( SlotLayout layout )
+	{
+		this.layout = layout;
+		this.entries = null;
+		this.slotEntries = null;
+	}
+
+	//----------------------------------------------------------
+	//                    INSTANCE METHODS
+	//----------------------------------------------------------
+	/**
+	 * Obtain the cached entry for the given name, but only if it holds a value which was decoded
+	 * as the given data type
+	 *
+	 * @param name the name of the attribute or parameter
+	 * @param dataType the data type the value is required as
+	 * @return the cached entry, or null if there is no valid cached value of the given type
+	 */
+	Entry get( String name, DataType dataType )
+	{
+		int slot = slotOf( name );
+		if( slot != SlotLayout.NO_SLOT )
+			return get( slot, dataType );
+
+		if( this.entries == null )
+			return null;
+
+		Entry entry = this.entries.get( name );
+		return entry == null || entry.dataType != dataType ? null : entry;
+	}
+
+	/**
+	 * Cache a decoded primitive value
+	 *
+	 * @param name the name of the attribute or parameter
+	 * @param dataType the data type the value was decoded as
+	 * @param bits the raw bits of the decoded value (see {@link Entry#bits})
+	 */
+	void put( String name, DataType dataType, long bits )
+	{
+		entryFor( name ).set( dataType, bits, null );
+	}
+
+	/**
+	 * Cache a decoded string value
+	 *
+	 * @param name the name of the attribute or parameter
+	 * @param value the decoded value
+	 */
+	void put( String name, String value )
+	{
+		entryFor( name ).set( DataType.STRING, 0L, value );
+	}
+
+	/**
+	 * Discard any cached value for the given name
+	 *
+	 * @param name the name of the attribute or parameter
+	 */
+	void invalidate( String name )
+	{
+		int slot = slotOf( name );
+		if( slot != SlotLayout.NO_SLOT )
+		{
+			invalidate( slot );
+			return;
+		}
+
+		if( this.entries == null )
+			return;
+
+		Entry entry = this.entries.get( name );
+		if( entry != null )
+			entry.set( null, 0L, null );
+	}
+
+	/**
+	 * Discard any cached values for the given names
+	 *
+	 * @param names the names of the attributes or parameters
+	 */
+	void invalidate( Iterable<String> names )
+	{
+		if( this.entries == null && this.slotEntries == null )
+			return;
+
+		for( String name : names )
+			invalidate( name );
+	}
+
+	/**
+	 * Discard all cached values
+	 */
+	void clear()
+	{
+		if( this.entries != null )
+			this.entries.clear();
+
+		if( this.slotEntries != null )
+		{
+			for( Entry entry : this.slotEntries )
+			{
+				if( entry != null )
+					entry.set( null, 0L, null );
+			}
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////////////////////
+	////////////////////////////////////// Slot Access /////////////////////////////////////////
+	////////////////////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Obtain the cached entry for the given slot, but only if it holds a value which was decoded
+	 * as the given data type
+	 *
+	 * NOTE: only valid if this cache was created with a {@link SlotLayout}
+	 *
+	 * @param slot the slot of the attribute or parameter
+	 * @param dataType the data type the value is required as
+	 * @return the cached entry, or null if there is no valid cached value of the given type
+	 */
+	Entry get( int slot, DataType dataType )
+	{
+		if( this.slotEntries == null )
+			return null;
+
+		Entry entry = this.slotEntries[slot];
+		return entry == null || entry.dataType != dataType ? null : entry;
+	}
+
+	/**
+	 * Cache a decoded primitive value for the given slot
+	 *
+	 * NOTE: only valid if this cache was created with a {@link SlotLayout}
+	 *
+	 * @param slot the slot of the attribute or parameter
+	 * @param dataType the data type the value was decoded as
+	 * @param bits the raw bits of the decoded value (see {@link Entry#bits})
+	 */
+	void put( int slot, DataType dataType, long bits )
+	{
+		entryFor( slot ).set( dataType, bits, null );
+	}
+
+	/**
+	 * Cache a decoded string value for the given slot
+	 *
+	 * NOTE: only valid if this cache was created with a {@link SlotLayout}
+	 *
+	 * @param slot the slot of the attribute or parameter
+	 * @param value the decoded value
+	 */
+	void put( int slot, String value )
+	{
+		entryFor( slot ).set( DataType.STRING, 0L, value );
+	}
+
+	/**
+	 * Discard any cached value for the given slot
+	 *
+	 * NOTE: only valid if this cache was created with a {@link SlotLayout}
+	 *
+	 * @param slot the slot of the attribute or parameter
+	 */
+	void invalidate( int slot )
+	{
+		if( this.slotEntries != null && this.slotEntries[slot] != null )
+			this.slotEntries[slot].set( null, 0L, null );
+	}
+
+	/**
+	 * Obtain the (possibly newly created) entry for the given name
+	 *
+	 * @param name the name of the attribute or parameter
+	 * @return the entry
+	 */
+	private Entry entryFor( String name )
+	{
+		int slot = slotOf( name );
+		if( slot != SlotLayout.NO_SLOT )
+			return entryFor( slot );
+
+		if( this.entries == null )
+			this.entries = new HashMap<>();
+
+		Entry entry = this.entries.get( name );
+		if( entry == null )
+		{
+			entry = new Entry();
+			this.entries.put( name, entry );
+		}
+		return entry;
+	}
+
+	/**
+	 * Obtain the (possibly newly created) entry for the given slot
+	 *
+	 * @param slot the slot of the attribute or parameter
+	 * @return the entry
+	 */
+	private Entry entryFor( int slot )
+	{
+		if( this.slotEntries == null )
+			this.slotEntries = new Entry[this.layout.size()];
+
+		Entry entry = this.slotEntries[slot];
+		if( entry == null )
+		{
+			entry = new Entry();
+			this.slotEntries[slot] = entry;
+		}
+		return entry;
+	}
+
+	/**
+	 * Obtain the slot for the given name
+	 *
+	 * @param name the name of the attribute or parameter
+	 * @return the slot, or {@link SlotLayout#NO_SLOT} if there is no layout or the name is not
+	 *         part of it
+	 */
+	private int slotOf( String name )
+	{
+		return this.layout == null ? SlotLayout.NO_SLOT : this.layout.slotOf( name );
+	}
+
+	////////////////////////////////////////////////////////////////////////////////////////////
+	////////////////////////////////// Cache Entry Class ///////////////////////////////////////
+	////////////////////////////////////////////////////////////////////////////////////////////
+	/**
+	 * A single cached value
+	 */
+	static class Entry
+	{
+		// the data type the value was decoded as, or null if the entry is not valid
+		DataType dataType;
+		// primitive values as bits - integral values are sign extended, floating point values are
+		// held as raw IEEE bits and booleans are held as 1 or 0
+		long bits;
+		// non-primitive values
+		Object value;
+
+		private void set( DataType dataType, long bits, Object value )
+		{
+			this.dataType = dataType;
+			this.bits = bits;
+			this.value = value;
+		}
+	}
+}
@@ -26,6 +26,7 @@ package gov.nist.ucef.hla.base;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BooleanSupplier;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -56,6 +57,10 @@ public class FederateAmbassador extends NullFederateAmbassador
 	//----------------------------------------------------------
 	private static final Logger logger = LogManager.getLogger( FederateAmbassador.class );
 
+	// upper limit on a single wait for a state change - state changes wake waiting threads
+	// immediately, so this is only a safety net
+	private static final long MAX_WAIT_MILLIS = 100;
+
 	//----------------------------------------------------------
 	//                   INSTANCE VARIABLES
 	//----------------------------------------------------------
@@ -71,6 +76,8 @@ public class FederateAmbassador extends NullFederateAmbassador
 	private boolean isTimeRegulated;
 	private boolean isTimeConstrained;
 
+	// guards the state of this ambassador, and is notified whenever the state changes so that
+	// threads waiting for callbacks wake up as soon as they arrive
 	private final Object mutex_lock = new Object();
 
 	//----------------------------------------------------------
@@ -97,12 +104,18 @@ public class FederateAmbassador extends NullFederateAmbassador
 	/////////////////////////////////////////////////////////////////////////////////////
 	public String getAnnouncedSyncPoint()
 	{
-		return announcedSyncPoint;
+		synchronized( mutex_lock )
+		{
+			return announcedSyncPoint;
+		}
 	}
 
 	public String getCurrentSyncPoint()
 	{
-		return currentSyncPoint;
+		synchronized( mutex_lock )
+		{
+			return currentSyncPoint;
+		}
 	}
 
 	/**
@@ -113,7 +126,10 @@ public class FederateAmbassador extends NullFederateAmbassador
 	 */
 	public boolean isAnnounced( String label )
 	{
-		return announcedPoints.contains( label );
+		synchronized( mutex_lock )
+		{
+			return announcedPoints.contains( label );
+		}
 	}
 
 	/**
@@ -124,7 +140,10 @@ public class FederateAmbassador extends NullFederateAmbassador
 	 */
 	public boolean isAchieved( String label )
 	{
-		return achievedPoints.contains( label );
+		synchronized( mutex_lock )
+		{
+			return achievedPoints.contains( label );
+		}
 	}
 
 	/**
@@ -134,7 +153,10 @@ public class FederateAmbassador extends NullFederateAmbassador
 	 */
 	public double getFederateTime()
 	{
-		return this.federateTime;
+		synchronized( mutex_lock )
+		{
+			return this.federateTime;
+		}
 	}
 
 	/**
@@ -144,7 +166,11 @@ public class FederateAmbassador extends NullFederateAmbassador
 	 */
 	protected void setTimeRegulated( boolean isTimeRegulated )
 	{
-		this.isTimeRegulated = isTimeRegulated;
+		synchronized( mutex_lock )
+		{
+			this.isTimeRegulated = isTimeRegulated;
+			mutex_lock.notifyAll();
+		}
 	}
 
 	/**
@@ -154,7 +180,10 @@ public class FederateAmbassador extends NullFederateAmbassador
 	 */
 	protected boolean isTimeRegulated()
 	{
-		return this.isTimeRegulated;
+		synchronized( mutex_lock )
+		{
+			return this.isTimeRegulated;
+		}
 	}
 
 	/**
@@ -164,7 +193,11 @@ public class FederateAmbassador extends NullFederateAmbassador
 	 */
 	protected void setTimeConstrained( boolean isTimeConstrained )
 	{
-		this.isTimeConstrained = isTimeConstrained;
+		synchronized( mutex_lock )
+		{
+			this.isTimeConstrained = isTimeConstrained;
+			mutex_lock.notifyAll();
+		}
 	}
 
 	/**
@@ -174,7 +207,43 @@ public class FederateAmbassador extends NullFederateAmbassador
 	 */
 	protected boolean isTimeConstrained()
 	{
-		return this.isTimeConstrained;
+		synchronized( mutex_lock )
+		{
+			return this.isTimeConstrained;
+		}
+	}
+
+	/**
+	 * Block the calling thread until a condition on the state of this ambassador is met.
+	 *
+	 * The condition is checked again each time the state changes as a result of a callback from
+	 * the RTI (such as a time advance grant, or the announcement or achievement of a
+	 * synchronization point), so the calling thread wakes as soon as the relevant callback
+	 * arrives rather than polling for it.
+	 *
+	 * NOTE: this is only useful when callbacks are delivered immediately - when callbacks are
+	 * evoked, they will only be delivered when the waiting thread evokes them.
+	 *
+	 * @param condition the condition to wait for (which should only depend on the state of this
+	 *            ambassador)
+	 */
+	protected void awaitCondition( BooleanSupplier condition )
+	{
+		synchronized( mutex_lock )
+		{
+			while( !condition.getAsBoolean() )
+			{
+				try
+				{
+					mutex_lock.wait( MAX_WAIT_MILLIS );
+				}
+				catch( InterruptedException e )
+				{
+					Thread.currentThread().interrupt();
+					throw new UCEFException( e, "Interrupted while waiting for RTI callbacks." );
+				}
+			}
+		}
 	}
 
 	/////////////////////////////////////////////////////////////////////////////////////
@@ -204,10 +273,11 @@ public class FederateAmbassador extends NullFederateAmbassador
 	{
 		logger.debug( "Synchronization point '{}' has been announced", label );
 
-		this.announcedSyncPoint = label;
 		synchronized( mutex_lock )
 		{
+			this.announcedSyncPoint = label;
 			this.announcedPoints.add( label );
+			mutex_lock.notifyAll();
 		}
 	}
 
@@ -218,6 +288,7 @@ public class FederateAmbassador extends NullFederateAmbassador
 		{
 			this.currentSyncPoint = label;
 			this.achievedPoints.add( label );
+			mutex_lock.notifyAll();
 		}
 		logger.debug( "Federation has synchronized to '{}'.", label );
 	}
@@ -233,6 +304,7 @@ public class FederateAmbassador extends NullFederateAmbassador
 		{
     		this.federateTime = logicalTimeAsDouble( time );
     		this.isTimeRegulated = true;
+    		mutex_lock.notifyAll();
 		}
 		logger.debug( "Time regulation is enabled." );
 	}
@@ -248,6 +320,7 @@ public class FederateAmbassador extends NullFederateAmbassador
 		{
     		this.federateTime = logicalTimeAsDouble( time );
     		this.isTimeConstrained = true;
+    		mutex_lock.notifyAll();
 		}
 		logger.debug( "Time constraint is enabled." );
 	}
@@ -263,6 +336,7 @@ public class FederateAmbassador extends NullFederateAmbassador
 		synchronized( mutex_lock )
 		{
 			this.federateTime = dblTime;
+			mutex_lock.notifyAll();
 		}
 		logger.debug( "Time advanced to {} has been granted.", dblTime );
 	}
@@ -332,8 +406,12 @@ public class FederateAmbassador extends NullFederateAmbassador
 	                                    SupplementalReflectInfo reflectInfo )
 	    throws FederateInternalError
 	{
-		// convert AttributeHandleValueMap to Map<String, byte[]>
-		Map<String,byte[]> attributes = federateBase.rtiamb.convert( objectInstanceHandle, attributeMap );
+		// convert AttributeHandleValueMap to Map<String, byte[]> (or just wrap it, if so configured)
+		Map<String,byte[]> attributes;
+		if( federateBase.configuration.useLazyIncomingValues() )
+			attributes = federateBase.rtiamb.view( objectInstanceHandle, attributeMap );
+		else
+			attributes = federateBase.rtiamb.convert( objectInstanceHandle, attributeMap );
 
 		// do the appropriate callback on the federate
 		if( time == null )
@@ -376,8 +454,12 @@ public class FederateAmbassador extends NullFederateAmbassador
 	                                SupplementalReceiveInfo receiveInfo )
 	    throws FederateInternalError
 	{
-		// convert ParameterHandleValueMap to Map<String, byte[]>
-		Map<String,byte[]> parameters = federateBase.rtiamb.convert( interactionClassHandle, parameterMap );
+		// convert ParameterHandleValueMap to Map<String, byte[]> (or just wrap it, if so configured)
+		Map<String,byte[]> parameters;
+		if( federateBase.configuration.useLazyIncomingValues() )
+			parameters = federateBase.rtiamb.view( interactionClassHandle, parameterMap );
+		else
+			parameters = federateBase.rtiamb.convert( interactionClassHandle, parameterMap );
 
 		// do the appropriate callback on the federate
 		if( time == null )
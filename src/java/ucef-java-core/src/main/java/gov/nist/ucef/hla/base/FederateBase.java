@@ -25,9 +25,14 @@ package gov.nist.ucef.hla.base;
 
 import java.net.URL;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
@@ -72,7 +77,30 @@ public abstract class FederateBase
 	private Map<ObjectInstanceHandle, HLAObject> hlaObjectByInstanceHandle;
 	private Map<InteractionClassHandle, Types.InteractionClass> interactionClassByHandle;
 
-	private final Object mutex_lock = new Object();
+	// typed handlers registered for specific classes, by class name, and by class handle once
+	// the handles are known - see registerInteractionHandler()/registerReflectionHandler()
+	private Map<String, BiConsumer<HLAInteraction,Double>> interactionHandlerByName;
+	private Map<InteractionClassHandle, BiConsumer<HLAInteraction,Double>> interactionHandlerByHandle;
+	private Map<String, BiConsumer<HLAObject,Double>> reflectionHandlerByName;
+	private Map<ObjectClassHandle, BiConsumer<HLAObject,Double>> reflectionHandlerByHandle;
+
+	// processes received callbacks on worker threads, if so configured (null otherwise)
+	private volatile CallbackDispatcher callbackDispatcher;
+
+	// interactions and attribute updates waiting to be sent, if sends are batched - see flush()
+	private final OutboundQueue outboundQueue;
+	// state for dead reckoned attributes - see extrapolate()
+	private final DeadReckoning deadReckoning;
+	// state for rate limited attributes - see getThrottledUpdateCount()
+	private final UpdateThrottle updateThrottle;
+
+	// step timing - see getLastStepMetrics()/getTotalStepMetrics()
+	private final AtomicLong callbackCount;
+	private final AtomicLong flushedCount;
+	private long lastGrantWaitNanos;
+	private long lastGrantCallbackCount;
+	private volatile StepMetrics lastStepMetrics;
+	private volatile StepMetrics totalStepMetrics;
 
 	//----------------------------------------------------------
 	//                      CONSTRUCTORS
@@ -84,10 +112,30 @@ public abstract class FederateBase
 		this.configuration = new FederateConfiguration();
 		this.lifecycleState = LifecycleState.GESTATING;
 
-		this.objectClassByClassHandle = new HashMap<>();
-		this.objectClassByInstanceHandle = new HashMap<>();
-		this.hlaObjectByInstanceHandle = new HashMap<>();
-		this.interactionClassByHandle = new HashMap<>();
+		// these are accessed from both the RTI callback thread(s) and the federate's own thread,
+		// and user callbacks are made without holding any locks on them
+		this.objectClassByClassHandle = new ConcurrentHashMap<>();
+		this.objectClassByInstanceHandle = new ConcurrentHashMap<>();
+		this.hlaObjectByInstanceHandle = new ConcurrentHashMap<>();
+		this.interactionClassByHandle = new ConcurrentHashMap<>();
+
+		this.interactionHandlerByName = new ConcurrentHashMap<>();
+		this.interactionHandlerByHandle = new ConcurrentHashMap<>();
+		this.reflectionHandlerByName = new ConcurrentHashMap<>();
+		this.reflectionHandlerByHandle = new ConcurrentHashMap<>();
+
+		this.callbackDispatcher = null;
+
+		this.outboundQueue = new OutboundQueue();
+		this.deadReckoning = new DeadReckoning();
+		this.updateThrottle = new UpdateThrottle();
+
+		this.callbackCount = new AtomicLong( 0 );
+		this.flushedCount = new AtomicLong( 0 );
+		this.lastGrantWaitNanos = 0;
+		this.lastGrantCallbackCount = 0;
+		this.lastStepMetrics = StepMetrics.NONE;
+		this.totalStepMetrics = StepMetrics.NONE;
 	}
 
 	//----------------------------------------------------------
@@ -213,6 +261,8 @@ public abstract class FederateBase
 	 */
 	protected void federateSetup()
 	{
+		startCallbackDispatch();
+		startAsyncSend();
 		createAndJoinFederation();
 		enableTimePolicy();
 
@@ -230,6 +280,72 @@ public abstract class FederateBase
 		beforeFirstStep();
 	}
 
+	/**
+	 * Obtain timing information for the most recently completed step of the main simulation loop
+	 *
+	 * @return the metrics for the last step ({@link StepMetrics#NONE} if no step has completed)
+	 */
+	public StepMetrics getLastStepMetrics()
+	{
+		return this.lastStepMetrics;
+	}
+
+	/**
+	 * Obtain accumulated timing information for all steps of the main simulation loop so far
+	 *
+	 * @return the metrics for all steps so far
+	 */
+	public StepMetrics getTotalStepMetrics()
+	{
+		return this.totalStepMetrics;
+	}
+
+	/**
+	 * Obtain the number of interactions and attribute updates which are queued, waiting to be
+	 * sent (see {@link FederateConfiguration#setBatchSends(boolean)})
+	 *
+	 * @return the number of queued interactions and attribute updates
+	 */
+	public int getPendingSendCount()
+	{
+		return this.outboundQueue.size();
+	}
+
+	/**
+	 * Obtain the number of interactions and attribute updates in the largest batch sent so far
+	 * (see {@link FederateConfiguration#setBatchSends(boolean)})
+	 *
+	 * @return the size of the largest batch sent so far
+	 */
+	public int getLargestSendBatch()
+	{
+		return this.outboundQueue.getLargestBatch();
+	}
+
+	/**
+	 * Obtain the number of attribute updates which have been merged into an already queued
+	 * update of the same object instance (see
+	 * {@link FederateConfiguration#setCoalesceUpdates(boolean)})
+	 *
+	 * @return the number of attribute updates merged so far
+	 */
+	public long getCoalescedUpdateCount()
+	{
+		return this.outboundQueue.getCoalescedCount();
+	}
+
+	/**
+	 * Obtain the number of attribute values which have been held back because they were updated
+	 * more often than allowed (see
+	 * {@link FederateConfiguration#addUpdateRateLimit(String, String, UpdateRateLimit)})
+	 *
+	 * @return the number of attribute values held back so far
+	 */
+	public long getThrottledUpdateCount()
+	{
+		return this.updateThrottle.getSuppressedCount();
+	}
+
 	/**
 	 * Run the federate through its main simulation loop
 	 */
@@ -238,17 +354,60 @@ public abstract class FederateBase
 		while( true )
 		{
 			// next step, and cease simulation loop if step() returns false
-			if( step( this.fedamb.getFederateTime() ) == false )
+			if( runStep() == false )
 				break;
-			advanceTime();
 		}
 	}
 
+	/**
+	 * Run a single pass of the simulation loop: call {@link #step(double)} and then, unless the
+	 * simulation is to stop, advance time. The timing of the step is recorded (see
+	 * {@link #getLastStepMetrics()}).
+	 *
+	 * @return true if the simulation loop should continue, false if it should stop
+	 */
+	protected boolean runStep()
+	{
+		long flushedBefore = this.flushedCount.get();
+		long stepStart = System.nanoTime();
+		boolean keepGoing = step( this.fedamb.getFederateTime() ) && !isEndRequested();
+		long stepNanos = System.nanoTime() - stepStart;
+		if( keepGoing == false )
+		{
+			recordStepMetrics( new StepMetrics( 1, stepNanos, 0, 0,
+			                                    this.flushedCount.get() - flushedBefore ) );
+			return false;
+		}
+
+		// any sends queued during the step are flushed before the time advance request
+		advanceTime();
+		recordStepMetrics( new StepMetrics( 1, stepNanos, this.lastGrantWaitNanos,
+		                                    this.lastGrantCallbackCount,
+		                                    this.flushedCount.get() - flushedBefore ) );
+		return true;
+	}
+
+	/**
+	 * Determine if the simulation has been asked to end by some means other than
+	 * {@link #step(double)} returning false. Checked by {@link #runStep()} after each step, so that
+	 * time is not advanced once the end has been requested.
+	 *
+	 * NOTE: this method can be overridden by federates which can be told to end externally
+	 *
+	 * @return true if the simulation should end, false otherwise
+	 */
+	protected boolean isEndRequested()
+	{
+		return false;
+	}
+
 	/**
 	 * Carry out all steps required to clean up and exit the federate
 	 */
 	protected void federateTeardown()
 	{
+		// anything queued by the final step still needs to go out
+		flush();
 		disableTimePolicy();
 
 		tickForCallBacks();
@@ -260,7 +419,10 @@ public abstract class FederateBase
 		tickForCallBacks();
 		beforeExit();
 
+		// everything sent must go out before we resign
+		this.rtiamb.stopAsyncSend();
 		resignAndDestroyFederation();
+		stopCallbackDispatch();
 	}
 
 	////////////////////////////////////////////////////////////////////////////////////////////
@@ -269,122 +431,198 @@ public abstract class FederateBase
 	public void incomingObjectRegistration( ObjectInstanceHandle instanceHandle,
 	                                        ObjectClassHandle classHandle )
 	{
-		synchronized( this.mutex_lock )
-		{
-			// just delegate to the default handler
-			Types.ObjectClass objectClass = this.objectClassByClassHandle.get( classHandle );
+		// the discovered class is the known class of the instance, so there is no need to ask
+		// the RTI for it when reflections are received for the instance
+		this.rtiamb.cacheKnownObjectClassHandle( instanceHandle, classHandle );
 
-			if( objectClass != null )
-			{
-				this.objectClassByInstanceHandle.put( instanceHandle, objectClass );
+		Types.ObjectClass objectClass = this.objectClassByClassHandle.get( classHandle );
+		if( objectClass == null )
+		{
+			logger.warn(
+			             "Discovered unrecognized object instance {}",
+			             this.rtiamb.makeSummary( instanceHandle ) );
+			return;
+		}
 
-				HLAObject hlaObject = new HLAObject( objectClass.name, instanceHandle );
-				this.hlaObjectByInstanceHandle.put( instanceHandle, hlaObject );
+		HLAObject hlaObject = new HLAObject( objectClass.name, null, instanceHandle,
+		                                     slotLayoutFor( objectClass.name ) );
+		this.objectClassByInstanceHandle.put( instanceHandle, objectClass );
+		this.hlaObjectByInstanceHandle.put( instanceHandle, hlaObject );
 
-				receiveObjectRegistration( hlaObject );
-			}
-			else
-			{
-				logger.warn(
-				             "Discovered unrecognized object instance {}",
-				             this.rtiamb.makeSummary( instanceHandle ) );
-			}
-		}
+		// just delegate to the default handler
+		dispatchCallback( instanceHandle, () -> receiveObjectRegistration( hlaObject ) );
 	}
 
 	public void incomingAttributeReflection( ObjectInstanceHandle handle, Map<String,byte[]> attributes )
 	{
-		synchronized( this.mutex_lock )
+		HLAObject hlaObject = this.hlaObjectByInstanceHandle.get( handle );
+		if( hlaObject == null )
 		{
-			HLAObject hlaObject = this.hlaObjectByInstanceHandle.get( handle );
-
-			if( hlaObject != null )
-			{
-				hlaObject.setState( attributes );
-				receiveAttributeReflection( hlaObject );
-			}
-			else
-			{
-				logger.warn( "Ignoring attribute reflection received for undiscovered object instance {}",
-				             this.rtiamb.makeSummary( handle ) );
-			}
+			logger.warn( "Ignoring attribute reflection received for undiscovered object instance {}",
+			             this.rtiamb.makeSummary( handle ) );
+			return;
 		}
 
-		// just delegate to the default handler
+		// the new values are applied by the handling thread, so that a handler which is still
+		// working on an earlier reflection of the same instance doesn't see them change
+		BiConsumer<HLAObject,Double> handler = reflectionHandlerFor( handle );
+		dispatchCallback( handle, () -> {
+			hlaObject.reflectState( attributes );
+			reflectedDeadReckoning( hlaObject, attributes, this.fedamb.getFederateTime() );
+			if( handler != null )
+				handler.accept( hlaObject, null );
+			else
+				receiveAttributeReflection( hlaObject );
+		} );
 	}
 
 	public void incomingAttributeReflection( ObjectInstanceHandle handle, Map<String,byte[]> attributes, double time )
 	{
-		synchronized( this.mutex_lock )
+		HLAObject hlaObject = this.hlaObjectByInstanceHandle.get( handle );
+		if( hlaObject == null )
 		{
-			HLAObject hlaObject = this.hlaObjectByInstanceHandle.get( handle );
+			logger.warn( "Ignoring attribute reflection received for undiscovered object instance {}",
+			             this.rtiamb.makeSummary( handle ) );
+			return;
+		}
 
-			if( hlaObject != null )
-			{
-				hlaObject.setState( attributes );
-				// just delegate to the default handler
-				receiveAttributeReflection( hlaObject, time );
-			}
+		BiConsumer<HLAObject,Double> handler = reflectionHandlerFor( handle );
+		dispatchCallback( handle, () -> {
+			hlaObject.reflectState( attributes );
+			reflectedDeadReckoning( hlaObject, attributes, time );
+			if( handler != null )
+				handler.accept( hlaObject, time );
 			else
-			{
-				logger.warn( "Ignoring attribute reflection received for undiscovered object instance {}",
-				             this.rtiamb.makeSummary( handle ) );
-			}
-		}
+				receiveAttributeReflection( hlaObject, time );
+		} );
 	}
 
 	public void incomingInteraction( InteractionClassHandle handle, Map<String,byte[]> parameters )
 	{
-		synchronized( this.mutex_lock )
+		HLAInteraction interaction = makeInteraction( handle, parameters );
+		if( interaction == null )
 		{
-			HLAInteraction interaction = makeInteraction( handle, parameters );
-			if( interaction != null )
-			{
-				// just delegate to the default handler
-				receiveInteraction( interaction );
-			}
-			else
-			{
-				logger.warn( "Ignoring unexpected interaction: {}", this.rtiamb.makeSummary( handle ) );
-			}
+			logger.warn( "Ignoring unexpected interaction: {}", this.rtiamb.makeSummary( handle ) );
+			return;
 		}
+
+		deliverInteraction( handle, interaction, null );
 	}
 
 	public void incomingInteraction( InteractionClassHandle handle, Map<String,byte[]> parameters, double time )
 	{
-		synchronized( this.mutex_lock )
+		HLAInteraction interaction = makeInteraction( handle, parameters );
+		if( interaction == null )
 		{
-			HLAInteraction interaction = makeInteraction( handle, parameters );
-			if( interaction != null )
-			{
-				// just delegate to the default handler
-				receiveInteraction( interaction, time );
-			}
-			else
-			{
-				logger.warn( "Ignoring unexpected interaction: {}", this.rtiamb.makeSummary( handle ) );
-			}
+			logger.warn( "Ignoring unexpected interaction: {}", this.rtiamb.makeSummary( handle ) );
+			return;
 		}
+
+		deliverInteraction( handle, interaction, time );
 	}
 
 	public void incomingObjectDeleted( ObjectInstanceHandle handle )
 	{
-		synchronized( this.mutex_lock )
+		this.rtiamb.forgetKnownObjectClassHandle( handle );
+
+		// clean up object maps as required
+		Types.ObjectClass objectClass = this.objectClassByInstanceHandle.remove( handle );
+		HLAObject hlaObject = this.hlaObjectByInstanceHandle.remove( handle );
+		if( objectClass == null || hlaObject == null )
 		{
-			// clean up object maps as required
-			Types.ObjectClass objectClass = this.objectClassByInstanceHandle.remove( handle );
-			HLAObject hlaObject = this.hlaObjectByInstanceHandle.remove( handle );
+			logger.warn( "Deletion notification received for previously undiscovered object instance {}",
+			             this.rtiamb.makeSummary( handle ) );
+			// no reflections of an undiscovered instance are dispatched, so nothing can race this
+			forgetInstanceState( handle );
+			return;
+		}
 
-			if( objectClass != null && hlaObject != null )
-			{
-				// just delegate to the default handler
-				receiveObjectDeleted( hlaObject );
-			}
-			else
-			{
-				logger.warn( "Deletion notification received for previously undiscovered object instance {}",
-				             this.rtiamb.makeSummary( handle ) );
-			}
+		// the dead reckoning and throttling state is forgotten in order with the instance's other
+		// callbacks, so that reflections still waiting to be dispatched don't recreate it
+		dispatchCallback( handle, () -> {
+			forgetInstanceState( handle );
+			receiveObjectDeleted( hlaObject );
+		} );
+	}
+
+	/**
+	 * Pass a received interaction on to the typed handler registered for its class or, if there
+	 * is none, to {@link #receiveInteraction(HLAInteraction)} (or
+	 * {@link #receiveInteraction(HLAInteraction, double)} if it is time stamped)
+	 *
+	 * @param handle the interaction class handle
+	 * @param interaction the received interaction
+	 * @param time the logical time (may be null)
+	 */
+	protected void deliverInteraction( InteractionClassHandle handle,
+	                                   HLAInteraction interaction,
+	                                   Double time )
+	{
+		BiConsumer<HLAInteraction,Double> handler = this.interactionHandlerByHandle.get( handle );
+		if( handler != null )
+			dispatchCallback( handle, () -> handler.accept( interaction, time ) );
+		else if( time == null )
+			dispatchCallback( handle, () -> receiveInteraction( interaction ) );
+		else
+			dispatchCallback( handle, () -> receiveInteraction( interaction, time ) );
+	}
+
+	////////////////////////////////////////////////////////////////////////////////////////////
+	////////////////////////////////// Typed Handler Registry //////////////////////////////////
+	////////////////////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Register a handler for received interactions of a particular class.
+	 *
+	 * Interactions of the class are passed to the handler (wrapped in their specific type)
+	 * instead of to {@link #receiveInteraction(HLAInteraction)}. The handler is found directly
+	 * from the interaction class handle, with no name comparisons.
+	 *
+	 * @param className the fully qualified name of the interaction class
+	 * @param wrapper creates the specific type from a received {@link HLAInteraction} (typically
+	 *            a constructor reference, such as <code>Ping::new</code>)
+	 * @param handler the handler
+	 */
+	protected <T> void registerInteractionHandler( String className,
+	                                               Function<HLAInteraction,T> wrapper,
+	                                               TypedHandler<T> handler )
+	{
+		BiConsumer<HLAInteraction,Double> wrapped =
+		    ( interaction, time ) -> handler.receive( wrapper.apply( interaction ), time );
+		this.interactionHandlerByName.put( className, wrapped );
+
+		// if the class handle is already known, the handler can be used straight away
+		for( Map.Entry<InteractionClassHandle,Types.InteractionClass> entry : this.interactionClassByHandle.entrySet() )
+		{
+			if( entry.getValue().name.equals( className ) )
+				this.interactionHandlerByHandle.put( entry.getKey(), wrapped );
+		}
+	}
+
+	/**
+	 * Register a handler for received attribute reflections of a particular object class.
+	 *
+	 * Reflections of the class are passed to the handler (wrapped in their specific type)
+	 * instead of to {@link #receiveAttributeReflection(HLAObject)}. The handler is found directly
+	 * from the object class handle, with no name comparisons.
+	 *
+	 * @param className the fully qualified name of the object class
+	 * @param wrapper creates the specific type from an {@link HLAObject} (typically a
+	 *            constructor reference, such as <code>Player::new</code>)
+	 * @param handler the handler
+	 */
+	protected <T> void registerReflectionHandler( String className,
+	                                              Function<HLAObject,T> wrapper,
+	                                              TypedHandler<T> handler )
+	{
+		BiConsumer<HLAObject,Double> wrapped =
+		    ( instance, time ) -> handler.receive( wrapper.apply( instance ), time );
+		this.reflectionHandlerByName.put( className, wrapped );
+
+		// if the class handle is already known, the handler can be used straight away
+		for( Map.Entry<ObjectClassHandle,Types.ObjectClass> entry : this.objectClassByClassHandle.entrySet() )
+		{
+			if( entry.getValue().name.equals( className ) )
+				this.reflectionHandlerByHandle.put( entry.getKey(), wrapped );
 		}
 	}
 
@@ -435,7 +673,7 @@ public abstract class FederateBase
 	 */
 	protected HLAInteraction makeInteraction( String className, Map<String, byte[]> parameters)
 	{
-		return this.rtiamb.makeInteraction( className, parameters );
+		return this.rtiamb.makeInteraction( className, parameters, slotLayoutFor( className ) );
 	}
 
 	/**
@@ -458,12 +696,7 @@ public abstract class FederateBase
 	 */
 	protected HLAInteraction makeInteraction( InteractionClassHandle handle, Map<String, byte[]> parameters)
 	{
-		Types.InteractionClass interactionClass;
-		synchronized( this.mutex_lock )
-		{
-			interactionClass = interactionClassByHandle( handle );
-		}
-
+		Types.InteractionClass interactionClass = interactionClassByHandle( handle );
 		if( interactionClass == null )
 			return null;
 
@@ -477,7 +710,7 @@ public abstract class FederateBase
 	 */
 	protected void sendInteraction( HLAInteraction interaction )
 	{
-		this.rtiamb.sendInteraction( interaction, null, null );
+		sendInteraction( interaction, null, null );
 	}
 
 	/**
@@ -488,7 +721,7 @@ public abstract class FederateBase
 	 */
 	protected void sendInteraction( HLAInteraction interaction, byte[] tag )
 	{
-		this.rtiamb.sendInteraction( interaction, tag, null );
+		sendInteraction( interaction, tag, null );
 	}
 
 	/**
@@ -501,7 +734,41 @@ public abstract class FederateBase
 	 */
 	protected void sendInteraction( HLAInteraction interaction, byte[] tag, double time )
 	{
-		this.rtiamb.sendInteraction( interaction, tag, time );
+		sendInteraction( interaction, tag, Double.valueOf( time ) );
+	}
+
+	/**
+	 * Publish the provided interaction to the federation with a tag (which can be null) and
+	 * time-stamp (which can be null), or queue it to be sent with the next batch if sends are
+	 * batched.
+	 *
+	 * @param interaction the interaction
+	 * @param tag the tag (can be null)
+	 * @param time the time-stamp (can be null)
+	 */
+	private void sendInteraction( HLAInteraction interaction, byte[] tag, Double time )
+	{
+		if( isBatchingSends() )
+			this.outboundQueue.queueInteraction( interaction, tag, time );
+		else
+			this.rtiamb.sendInteraction( interaction, tag, time );
+	}
+
+	/**
+	 * Send any queued interactions and attribute updates out to the federation now, in the order
+	 * in which they were sent, rather than waiting for the next time advance request.
+	 *
+	 * This has no effect unless sends are batched (see
+	 * {@link FederateConfiguration#setBatchSends(boolean)}), and should only be called from the
+	 * federate's own thread (i.e., from step() or the lifecycle methods).
+	 *
+	 * @return the number of interactions and attribute updates which were sent
+	 */
+	protected int flush()
+	{
+		int flushed = this.outboundQueue.flush( this.rtiamb );
+		this.flushedCount.addAndGet( flushed );
+		return flushed;
 	}
 
 	/**
@@ -524,7 +791,7 @@ public abstract class FederateBase
 	 */
 	protected HLAObject makeObjectInstance( String className, Map<String, byte[]> attributes)
 	{
-		return this.rtiamb.makeObjectInstance( className, attributes );
+		return this.rtiamb.makeObjectInstance( className, attributes, slotLayoutFor( className ) );
 	}
 
 	/**
@@ -549,12 +816,7 @@ public abstract class FederateBase
 	 */
 	protected HLAObject makeObjectInstance( ObjectClassHandle handle, Map<String, byte[]> attributes)
 	{
-		Types.ObjectClass objectClass;
-		synchronized( this.mutex_lock )
-		{
-			objectClass = objectClassByClassHandle( handle );
-		}
-
+		Types.ObjectClass objectClass = objectClassByClassHandle( handle );
 		if( objectClass == null )
 			return null;
 
@@ -574,38 +836,171 @@ public abstract class FederateBase
 	}
 
 	/**
-	 * Update the provided instance out to the federation with a tag (which can be null).
+	 * Update the provided instance out to the federation.
+	 *
+	 * If the federate is configured to update changed attributes only (see
+	 * {@link FederateConfiguration#shouldUpdateChangedOnly()}), only attributes which have changed
+	 * since they were last sent are included in the update.
 	 *
 	 * @param instance the object instance
-	 * @param tag the tag (can be null)
 	 */
 	protected void updateAttributeValues( HLAObject instance )
 	{
-		this.rtiamb.updateAttributeValues( instance, null, null );
+		updateAttributeValues( instance, null, null, this.configuration.shouldUpdateChangedOnly() );
 	}
 
 	/**
 	 * Update the provided instance out to the federation with a tag (which can be null).
 	 *
+	 * If the federate is configured to update changed attributes only (see
+	 * {@link FederateConfiguration#shouldUpdateChangedOnly()}), only attributes which have changed
+	 * since they were last sent are included in the update.
+	 *
 	 * @param instance the object instance
 	 * @param tag the tag (can be null)
 	 */
 	protected void updateAttributeValues( HLAObject instance, byte[] tag )
 	{
-		this.rtiamb.updateAttributeValues( instance, tag, null );
+		updateAttributeValues( instance, tag, null, this.configuration.shouldUpdateChangedOnly() );
 	}
 
 	/**
 	 * Update the provided instance out to the federation with a tag (which can be null) and
 	 * time-stamp.
 	 *
+	 * If the federate is configured to update changed attributes only (see
+	 * {@link FederateConfiguration#shouldUpdateChangedOnly()}), only attributes which have changed
+	 * since they were last sent are included in the update.
+	 *
 	 * @param instance the object instance
 	 * @param tag the tag (can be null)
 	 * @param time the time-stamp
 	 */
 	protected void updateAttributeValues( HLAObject instance, byte[] tag, double time )
 	{
-		this.rtiamb.updateAttributeValues( instance, tag, time );
+		updateAttributeValues( instance, tag, time, this.configuration.shouldUpdateChangedOnly() );
+	}
+
+	/**
+	 * Update the values of *all* attributes of the provided instance out to the federation,
+	 * regardless of whether they have changed since they were last sent.
+	 *
+	 * This is useful for periodically refreshing the full state of an instance, for example for
+	 * the benefit of late joining federates.
+	 *
+	 * @param instance the object instance
+	 */
+	protected void updateAllAttributeValues( HLAObject instance )
+	{
+		updateAttributeValues( instance, null, null, false );
+	}
+
+	/**
+	 * Update the values of *all* attributes of the provided instance out to the federation with a
+	 * tag (which can be null), regardless of whether they have changed since they were last sent.
+	 *
+	 * @param instance the object instance
+	 * @param tag the tag (can be null)
+	 */
+	protected void updateAllAttributeValues( HLAObject instance, byte[] tag )
+	{
+		updateAttributeValues( instance, tag, null, false );
+	}
+
+	/**
+	 * Update the values of *all* attributes of the provided instance out to the federation with a
+	 * tag (which can be null) and time-stamp, regardless of whether they have changed since they
+	 * were last sent.
+	 *
+	 * @param instance the object instance
+	 * @param tag the tag (can be null)
+	 * @param time the time-stamp
+	 */
+	protected void updateAllAttributeValues( HLAObject instance, byte[] tag, double time )
+	{
+		updateAttributeValues( instance, tag, time, false );
+	}
+
+	/**
+	 * Update the provided instance out to the federation with a tag (which can be null) and
+	 * time-stamp (which can be null).
+	 *
+	 * @param instance the object instance
+	 * @param tag the tag (can be null)
+	 * @param time the time-stamp (can be null)
+	 * @param changedOnly if true, only attributes which have changed since they were last sent
+	 *            are included in the update, otherwise the values of all attributes are sent
+	 */
+	private void updateAttributeValues( HLAObject instance, byte[] tag, Double time,
+	                                    boolean changedOnly )
+	{
+		if( instance == null )
+			throw new UCEFException( "null object instance. Cannot update attribute values." );
+
+		Map<String,byte[]> state = changedOnly ? instance.getDirtyState() : instance.copyState();
+		double updateTime = time == null ? this.fedamb.getFederateTime() : time;
+
+		// leave out dead reckoned attributes which subscribers can still extrapolate well enough
+		Map<String,DeadReckoningSpec> specs =
+		    this.configuration.getDeadReckoning( instance.getObjectClassName() );
+		if( !specs.isEmpty() )
+			state = this.deadReckoning.filterUpdate( instance, state, specs, updateTime );
+
+		// hold back rate limited attributes which were sent too recently - they are released
+		// at the end of a later step (see advanceTimeTo())
+		Map<String,UpdateRateLimit> limits =
+		    this.configuration.getUpdateRateLimits( instance.getObjectClassName() );
+		if( !limits.isEmpty() && !state.isEmpty() )
+			state = this.updateThrottle.filterUpdate( instance, state, limits, updateTime, tag, time != null );
+
+		sendAttributeValues( instance, state, tag, time );
+	}
+
+	/**
+	 * Send (or queue, if sends are batched) already filtered attribute values of an instance.
+	 *
+	 * The values of any dead reckoned attributes among them, and the time of sending of any rate
+	 * limited ones, are recorded once the update has been handed to the RTI, so that one which is
+	 * dropped or fails to send is neither taken as the basis for subscribers' extrapolation nor
+	 * holds back the next update.
+	 *
+	 * @param instance the object instance
+	 * @param state the attributes and values to send
+	 * @param tag the tag (can be null)
+	 * @param time the time-stamp (can be null)
+	 */
+	private void sendAttributeValues( HLAObject instance, Map<String,byte[]> state, byte[] tag,
+	                                  Double time )
+	{
+		if( state.isEmpty() )
+			return;
+
+		Consumer<Map<String,byte[]>> onSent = null;
+		double sentTime = time == null ? this.fedamb.getFederateTime() : time;
+		Map<String,DeadReckoningSpec> specs =
+		    this.configuration.getDeadReckoning( instance.getObjectClassName() );
+		if( !specs.isEmpty() )
+			onSent = sent -> this.deadReckoning.recordSent( instance, sent, specs, sentTime );
+
+		Map<String,UpdateRateLimit> limits =
+		    this.configuration.getUpdateRateLimits( instance.getObjectClassName() );
+		if( !limits.isEmpty() )
+		{
+			Consumer<Map<String,byte[]>> recordThrottled =
+			    sent -> this.updateThrottle.recordSent( instance, sent, limits, sentTime );
+			onSent = onSent == null ? recordThrottled : onSent.andThen( recordThrottled );
+		}
+
+		if( isBatchingSends() )
+		{
+			this.outboundQueue.queueAttributeValues( instance, state, tag, time,
+			                                         this.configuration.shouldCoalesceUpdates(),
+			                                         onSent );
+		}
+		else
+		{
+			this.rtiamb.submitAttributeValues( instance, state, tag, time, onSent );
+		}
 	}
 
 	/**
@@ -639,7 +1034,59 @@ public abstract class FederateBase
 	 */
 	protected HLAObject deleteObjectInstance( HLAObject instance, byte[] tag )
 	{
-		return this.rtiamb.deleteObjectInstance( instance, tag );
+		HLAObject deleted = this.rtiamb.deleteObjectInstance( instance, tag );
+		forgetInstanceState( instance.getObjectInstanceHandle() );
+		return deleted;
+	}
+
+	/**
+	 * Discard the dead reckoning and update throttling state kept for an object instance which
+	 * has been deleted
+	 *
+	 * @param handle the handle of the deleted instance
+	 */
+	private void forgetInstanceState( ObjectInstanceHandle handle )
+	{
+		this.deadReckoning.forget( handle );
+		this.updateThrottle.forget( handle );
+	}
+
+	/**
+	 * Obtain the value of a dead reckoned attribute of an object instance, extrapolated to the
+	 * federate's current logical time from the value last reflected (see
+	 * {@link FederateConfiguration#addDeadReckoning(String, DeadReckoningSpec)}).
+	 *
+	 * The value of an attribute which is not dead reckoned is returned as is.
+	 *
+	 * @param instance the object instance
+	 * @param attributeName the name of the attribute (which must be encoded as a double)
+	 * @return the extrapolated value
+	 */
+	protected double extrapolate( HLAObject instance, String attributeName )
+	{
+		return extrapolate( instance, attributeName, this.fedamb.getFederateTime() );
+	}
+
+	/**
+	 * Obtain the value of a dead reckoned attribute of an object instance, extrapolated to the
+	 * given logical time from the value last reflected (see
+	 * {@link FederateConfiguration#addDeadReckoning(String, DeadReckoningSpec)}).
+	 *
+	 * The value of an attribute which is not dead reckoned is returned as is.
+	 *
+	 * @param instance the object instance
+	 * @param attributeName the name of the attribute (which must be encoded as a double)
+	 * @param time the logical time to extrapolate to
+	 * @return the extrapolated value
+	 */
+	protected double extrapolate( HLAObject instance, String attributeName, double time )
+	{
+		DeadReckoningSpec spec =
+		    this.configuration.getDeadReckoning( instance.getObjectClassName() ).get( attributeName );
+		if( spec == null )
+			return instance.getAsDouble( attributeName );
+
+		return this.deadReckoning.extrapolate( instance, spec, time );
 	}
 
 	////////////////////////////////////////////////////////////////////////////////////////////
@@ -749,6 +1196,8 @@ public abstract class FederateBase
 	 */
 	protected void synchronize( UCEFSyncPoint syncPoint )
 	{
+		// anything sent before the sync point must go out before we achieve it
+		this.rtiamb.awaitAsyncSends();
 		registerSyncPoint( syncPoint.getLabel(), null );
 		// automatically achieve the sync point
 		achieveSyncPoint( syncPoint.getLabel() );
@@ -775,10 +1224,7 @@ public abstract class FederateBase
 	 */
 	protected void waitForSyncPointAnnouncement( String label )
 	{
-		while( !this.fedamb.isAnnounced( label ) )
-		{
-			tickForCallBacks();
-		}
+		waitForCallbacks( () -> this.fedamb.isAnnounced( label ) );
 	}
 
 	/**
@@ -808,10 +1254,7 @@ public abstract class FederateBase
 	 */
 	protected void waitForSyncPointAchievement( String label )
 	{
-		while( !this.fedamb.isAchieved( label ) )
-		{
-			tickForCallBacks();
-		}
+		waitForCallbacks( () -> this.fedamb.isAchieved( label ) );
 	}
 
 	/**
@@ -829,12 +1272,49 @@ public abstract class FederateBase
 	 */
 	protected void advanceTime()
 	{
-		double nextTime = this.fedamb.getFederateTime() + this.configuration.getLookAhead();
+		advanceTimeTo( this.fedamb.getFederateTime() + this.configuration.getLookAhead() );
+	}
+
+	/**
+	 * Request a time advance and block until it is granted. Callbacks received while waiting
+	 * are processed before this returns. Any queued interactions and attribute updates
+	 * are sent before the time advance is requested.
+	 *
+	 * @param nextTime the time to advance to
+	 */
+	protected void advanceTimeTo( double nextTime )
+	{
+		releaseThrottledUpdates();
+		flush();
+		// time-stamped sends must go out before the time advance is requested
+		this.rtiamb.awaitAsyncSends();
+
+		long waitStart = System.nanoTime();
+		long callbacksBefore = this.callbackCount.get();
+
 		this.rtiamb.timeAdvanceRequest( nextTime );
-		while( this.fedamb.getFederateTime() < nextTime )
-		{
-			tickForCallBacks();
-		}
+		waitForCallbacks( () -> this.fedamb.getFederateTime() >= nextTime );
+		// everything received up to the grant must be processed before the next step
+		awaitDispatchedCallbacks();
+
+		this.lastGrantWaitNanos = System.nanoTime() - waitStart;
+		this.lastGrantCallbackCount = this.callbackCount.get() - callbacksBefore;
+	}
+
+	/**
+	 * Send the latest values of rate limited attributes which were held back, where their
+	 * minimum interval has now passed. Time-stamped updates which were held back are sent with
+	 * the earliest time-stamp which is still allowed.
+	 */
+	private void releaseThrottledUpdates()
+	{
+		double federateTime = this.fedamb.getFederateTime();
+		double timestamp = federateTime + this.configuration.getLookAhead();
+		this.updateThrottle.releaseHeld( federateTime,
+		                                 this.configuration::getUpdateRateLimits,
+		                                 ( instance, state, tag, timestamped ) ->
+		                                     sendAttributeValues( instance, state, tag,
+		                                                          timestamped ? timestamp : null ) );
 	}
 
 	/**
@@ -884,22 +1364,16 @@ public abstract class FederateBase
 		if( this.configuration.isTimeRegulated() )
 		{
 			this.rtiamb.enableTimeRegulation( this.configuration.getLookAhead() );
-			while( this.fedamb.isTimeRegulated() == false )
-			{
-				// waiting for callback to confirm it's enabled
-				tickForCallBacks();
-			}
+			// waiting for callback to confirm it's enabled
+			waitForCallbacks( () -> this.fedamb.isTimeRegulated() );
 		}
 
 		// enable time constrained based on configuration
 		if( this.configuration.isTimeConstrained() )
 		{
 			this.rtiamb.enableTimeConstrained();
-			while( this.fedamb.isTimeConstrained() == false )
-			{
-				// waiting for callback to confirm it's enabled
-				tickForCallBacks();
-			}
+			// waiting for callback to confirm it's enabled
+			waitForCallbacks( () -> this.fedamb.isTimeConstrained() );
 		}
 	}
 
@@ -921,31 +1395,27 @@ public abstract class FederateBase
 	 */
 	protected void publishAndSubscribe()
 	{
-		Collection<ObjectClass> objectClasses = this.configuration.getPublishedAndSubscribedObjectClasses();
+		// the published/subscribed attribute names are precomputed in the registry snapshot
+		ModelRegistry registry = this.configuration.getModelRegistry();
+
+		Collection<ObjectClass> objectClasses = registry.getObjectClasses();
 		for( ObjectClass objectClass : objectClasses )
 		{
+			ModelRegistry.ClassEntry entry = registry.getEntry( objectClass.name );
 			if( objectClass.isPublished() )
 			{
-				Set<String> attributes = objectClass.attributes.entrySet()
-					.stream()
-					.filter( x -> x.getValue().isPublished() )
-					.map( x -> x.getValue().name )
-					.collect(Collectors.toSet());
-				this.rtiamb.publishObjectClassAttributes( objectClass.name, attributes );
+				this.rtiamb.publishObjectClassAttributes( objectClass.name,
+				                                          entry.getPublishedMemberNames() );
 			}
 			if(objectClass.isSubscribed())
 			{
-				Set<String> attributes = objectClass.attributes.entrySet()
-					.stream()
-					.filter( x -> x.getValue().isSubscribed() )
-					.map( x -> x.getValue().name )
-					.collect(Collectors.toSet());
-				this.rtiamb.subscribeObjectClassAttributes( objectClass.name, attributes );
+				this.rtiamb.subscribeObjectClassAttributes( objectClass.name,
+				                                            entry.getSubscribedMemberNames() );
 			}
 		}
 		storeObjectClassData( objectClasses );
 
-		Collection<InteractionClass> interactionClasses = this.configuration.getPublishedAndSubscribedInteractions();
+		Collection<InteractionClass> interactionClasses = registry.getInteractionClasses();
 		// Collection<InteractionClass> interactionClasses = SOMParser.getInteractionClasses(configuration.getSomPaths());
 
 		for( InteractionClass interactionClass : interactionClasses )
@@ -1006,34 +1476,196 @@ public abstract class FederateBase
 
 	private void storeObjectClassData( Collection<Types.ObjectClass> objectClasses )
 	{
-		synchronized( this.mutex_lock )
+		for(Types.ObjectClass objectClass : objectClasses)
 		{
-			for(Types.ObjectClass objectClass : objectClasses)
-			{
-				ObjectClassHandle handle = this.rtiamb.getObjectClassHandle( objectClass.name );
-				this.objectClassByClassHandle.put( handle, objectClass );
-			}
+			ObjectClassHandle handle = this.rtiamb.cacheHandles( objectClass );
+			this.objectClassByClassHandle.put( handle, objectClass );
+
+			BiConsumer<HLAObject,Double> handler = this.reflectionHandlerByName.get( objectClass.name );
+			if( handler != null )
+				this.reflectionHandlerByHandle.put( handle, handler );
 		}
 	}
 
 	private void storeInteractionClassData( Collection<Types.InteractionClass> interactionClasses )
 	{
-		synchronized( this.mutex_lock )
+		for( Types.InteractionClass interactionClass : interactionClasses )
 		{
-			for( Types.InteractionClass interactionClass : interactionClasses )
-			{
-				InteractionClassHandle handle = this.rtiamb.getInteractionClassHandle( interactionClass.name );
-				this.interactionClassByHandle.put( handle, interactionClass );
-			}
+			InteractionClassHandle handle = this.rtiamb.cacheHandles( interactionClass );
+			this.interactionClassByHandle.put( handle, interactionClass );
+
+			BiConsumer<HLAInteraction,Double> handler = this.interactionHandlerByName.get( interactionClass.name );
+			if( handler != null )
+				this.interactionHandlerByHandle.put( handle, handler );
+		}
+	}
+
+	/**
+	 * Obtain the typed handler registered for reflections of an object instance's class
+	 *
+	 * @param instanceHandle the object instance handle
+	 * @return the typed handler, or null if there is none
+	 */
+	private BiConsumer<HLAObject,Double> reflectionHandlerFor( ObjectInstanceHandle instanceHandle )
+	{
+		if( this.reflectionHandlerByHandle.isEmpty() )
+			return null;
+
+		return this.reflectionHandlerByHandle.get( this.rtiamb.getKnownObjectClassHandle( instanceHandle ) );
+	}
+
+	/**
+	 * Obtain the slot layout to use for the storage of attribute/parameter values of instances of
+	 * an object/interaction class
+	 *
+	 * @param className the name of the object or interaction class
+	 * @return the slot layout, or null if values should not be stored by slot
+	 */
+	private SlotLayout slotLayoutFor( String className )
+	{
+		if( !this.configuration.useSlotIndexedStorage() )
+			return null;
+
+		return this.configuration.getSlotLayout( className );
+	}
+
+	/**
+	 * Wait until a condition which depends on callbacks from the RTI is met.
+	 *
+	 * When callbacks are immediate, the calling thread blocks until the federate ambassador
+	 * receives a callback which satisfies the condition. Otherwise callbacks are evoked until the
+	 * condition is satisfied.
+	 *
+	 * @param condition the condition to wait for
+	 */
+	private void waitForCallbacks( BooleanSupplier condition )
+	{
+		if( this.configuration.callbacksAreImmediate() )
+		{
+			this.fedamb.awaitCondition( condition );
+		}
+		else
+		{
+			while( !condition.getAsBoolean() )
+				evokeMultipleCallbacks();
 		}
 	}
 
+	/**
+	 * Record the timing information for a completed step
+	 *
+	 * @param stepMetrics the timing information for the step
+	 */
+	private void recordStepMetrics( StepMetrics stepMetrics )
+	{
+		this.lastStepMetrics = stepMetrics;
+		this.totalStepMetrics = this.totalStepMetrics.plus( stepMetrics );
+	}
+
+	/**
+	 * Record the time at which any dead reckoned attributes of an object instance were reflected
+	 *
+	 * @param instance the object instance
+	 * @param attributes the attributes which were reflected
+	 * @param time the logical time of the reflection
+	 */
+	private void reflectedDeadReckoning( HLAObject instance, Map<String,byte[]> attributes, double time )
+	{
+		Map<String,DeadReckoningSpec> specs =
+		    this.configuration.getDeadReckoning( instance.getObjectClassName() );
+		if( !specs.isEmpty() )
+			this.deadReckoning.reflected( instance, attributes.keySet(), specs, time );
+	}
+
+	/**
+	 * Determine whether sends should currently be queued rather than sent immediately. Sends are
+	 * only batched while the federate is running through its main simulation loop, so that
+	 * anything sent while setting up or cleaning up goes out before the synchronization points.
+	 *
+	 * @return true if sends should be queued, false otherwise
+	 */
+	private boolean isBatchingSends()
+	{
+		return this.configuration.shouldBatchSends() &&
+		       this.lifecycleState == LifecycleState.RUNNING;
+	}
+
 	private void tickForCallBacks()
 	{
 		if( this.configuration.callbacksAreImmediate() )
 			delayFor(1);
 		else
 			evokeMultipleCallbacks();
+		awaitDispatchedCallbacks();
+	}
+
+	/**
+	 * Start the worker threads which process received callbacks, if any are configured
+	 */
+	private void startCallbackDispatch()
+	{
+		int threadCount = this.configuration.getCallbackThreads();
+		if( threadCount > 0 && this.callbackDispatcher == null )
+		{
+			this.callbackDispatcher = new CallbackDispatcher( threadCount,
+			                                                  this.configuration.getCallbackQueueSize(),
+			                                                  this.configuration.getFederateName() +
+			                                                      "-callbacks" );
+		}
+	}
+
+	/**
+	 * Start sending interactions and attribute updates from a dedicated thread, if so configured
+	 */
+	private void startAsyncSend()
+	{
+		if( this.configuration.shouldSendAsync() )
+		{
+			this.rtiamb.startAsyncSend( this.configuration.getAsyncSendQueueSize(),
+			                            this.configuration.getAsyncSendOverflowPolicy() );
+		}
+	}
+
+	/**
+	 * Process any outstanding callbacks and stop the callback worker threads, if any
+	 */
+	private void stopCallbackDispatch()
+	{
+		if( this.callbackDispatcher != null )
+		{
+			this.callbackDispatcher.shutdown();
+			this.callbackDispatcher = null;
+		}
+	}
+
+	/**
+	 * Pass a received callback on to the user's handler, either directly or via the callback
+	 * worker threads if they are in use.
+	 *
+	 * @param key the object instance handle or interaction class handle which the callback
+	 *            relates to - callbacks with the same key are always handled in order
+	 * @param callback the call to the user's handler
+	 */
+	protected void dispatchCallback( Object key, Runnable callback )
+	{
+		this.callbackCount.incrementAndGet();
+
+		CallbackDispatcher dispatcher = this.callbackDispatcher;
+		if( dispatcher == null )
+			callback.run();
+		else
+			dispatcher.dispatch( key, callback );
+	}
+
+	/**
+	 * Wait until all callbacks passed to the callback worker threads have been handled (returns
+	 * immediately if worker threads are not in use)
+	 */
+	private void awaitDispatchedCallbacks()
+	{
+		CallbackDispatcher dispatcher = this.callbackDispatcher;
+		if( dispatcher != null )
+			dispatcher.awaitIdle();
 	}
 
 	private void delayFor(long milliseconds)
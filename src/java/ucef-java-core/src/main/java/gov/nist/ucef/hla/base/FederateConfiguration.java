@@ -27,15 +27,19 @@ import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -47,8 +51,6 @@ import org.json.simple.parser.JSONParser;
 
 import gov.nist.ucef.hla.base.Types.DataType;
 import gov.nist.ucef.hla.base.Types.InteractionClass;
-import gov.nist.ucef.hla.base.Types.InteractionParameter;
-import gov.nist.ucef.hla.base.Types.ObjectAttribute;
 import gov.nist.ucef.hla.base.Types.ObjectClass;
 
 /**
@@ -84,6 +86,16 @@ public class FederateConfiguration
 	private static final double DEFAULT_STEP_SIZE                 = 0.1;
 	private static final boolean DEFAULT_IS_TIME_CONSTRAINED      = true;
 	private static final boolean DEFAULT_IS_TIME_REGULATED        = true;
+	private static final boolean DEFAULT_SLOT_INDEXED_STORAGE     = false;
+	private static final boolean DEFAULT_UPDATE_CHANGED_ONLY      = false;
+	private static final int DEFAULT_CALLBACK_THREADS             = 0;
+	private static final int DEFAULT_CALLBACK_QUEUE_SIZE          = 1024;
+	private static final boolean DEFAULT_LAZY_INCOMING_VALUES     = false;
+	private static final boolean DEFAULT_BATCH_SENDS              = false;
+	private static final boolean DEFAULT_COALESCE_UPDATES         = false;
+	private static final boolean DEFAULT_ASYNC_SENDS              = false;
+	private static final int DEFAULT_ASYNC_SEND_QUEUE_SIZE        = 1024;
+	private static final SendOverflowPolicy DEFAULT_ASYNC_SEND_OVERFLOW = SendOverflowPolicy.BLOCK;
 
 	// keys for locating values in JSON based configuration data
 	private static final String JSON_CONFIG_KEY_FEDERATE_NAME           = "federateName";
@@ -102,6 +114,25 @@ public class FederateConfiguration
 	private static final String JSON_CONFIG_KEY_BASE_FOM_PATHS          = "baseFomPaths";
 	private static final String JSON_CONFIG_KEY_JOIN_FOM_PATHS          = "joinFomPaths";
 	private static final String JSON_CONFIG_KEY_SOM_PATH                = "somPath";
+	private static final String JSON_CONFIG_KEY_SOM_PATHS               = "somPaths";
+	private static final String JSON_CONFIG_KEY_SOM_CACHE_DIRECTORY     = "somCacheDirectory";
+	private static final String JSON_CONFIG_KEY_SLOT_INDEXED_STORAGE    = "slotIndexedStorage";
+	private static final String JSON_CONFIG_KEY_UPDATE_CHANGED_ONLY     = "updateChangedOnly";
+	private static final String JSON_CONFIG_KEY_CALLBACK_THREADS        = "callbackThreads";
+	private static final String JSON_CONFIG_KEY_CALLBACK_QUEUE_SIZE     = "callbackQueueSize";
+	private static final String JSON_CONFIG_KEY_LAZY_INCOMING_VALUES    = "lazyIncomingValues";
+	private static final String JSON_CONFIG_KEY_BATCH_SENDS             = "batchSends";
+	private static final String JSON_CONFIG_KEY_COALESCE_UPDATES        = "coalesceUpdates";
+	private static final String JSON_CONFIG_KEY_ASYNC_SENDS             = "asyncSends";
+	private static final String JSON_CONFIG_KEY_ASYNC_SEND_QUEUE_SIZE   = "asyncSendQueueSize";
+	private static final String JSON_CONFIG_KEY_ASYNC_SEND_OVERFLOW     = "asyncSendOverflow";
+	private static final String JSON_CONFIG_KEY_DEAD_RECKONING          = "deadReckoning";
+	private static final String JSON_CONFIG_KEY_DR_MODEL                = "model";
+	private static final String JSON_CONFIG_KEY_DR_RATE                 = "rate";
+	private static final String JSON_CONFIG_KEY_DR_THRESHOLD            = "threshold";
+	private static final String JSON_CONFIG_KEY_UPDATE_RATE_LIMITS      = "updateRateLimits";
+	private static final String JSON_CONFIG_KEY_MAX_RATE                = "maxRate";
+	private static final String JSON_CONFIG_KEY_TIME_BASE               = "timeBase";
 
 	//----------------------------------------------------------
 	//                   INSTANCE VARIABLES
@@ -115,10 +146,13 @@ public class FederateConfiguration
 
 	private Collection<String> baseFoms;
 	private Collection<String> joinFoms;
-	private String somPath;
+	private List<String> somPaths;
+	private String somCacheDirectory;
 
 	private Map<String,Types.InteractionClass> interactionsByName;
 	private Map<String,Types.ObjectClass> objectClassesByName;
+	// snapshot of the above, rebuilt on demand after they change (null when out of date)
+	private volatile ModelRegistry modelRegistry;
 
 	private boolean canCreateFederation;
 	private int maxJoinAttempts;
@@ -133,6 +167,20 @@ public class FederateConfiguration
 	private boolean isTimeConstrained;
 	private boolean isTimeRegulated;
 
+	private boolean slotIndexedStorage;
+	private boolean updateChangedOnly;
+
+	private int callbackThreads;
+	private int callbackQueueSize;
+	private boolean lazyIncomingValues;
+	private boolean batchSends;
+	private boolean coalesceUpdates;
+	private boolean asyncSends;
+	private int asyncSendQueueSize;
+	private SendOverflowPolicy asyncSendOverflowPolicy;
+	private Map<String,Map<String,DeadReckoningSpec>> deadReckoningByClass;
+	private Map<String,Map<String,UpdateRateLimit>> updateRateLimitsByClass;
+
 	//----------------------------------------------------------
 	//                      CONSTRUCTORS
 	//----------------------------------------------------------
@@ -166,10 +214,12 @@ public class FederateConfiguration
 
 		this.baseFoms = new HashSet<>();
 		this.joinFoms = new HashSet<>();
-		this.somPath = "";
+		this.somPaths = new ArrayList<>();
+		this.somCacheDirectory = "";
 
 		this.objectClassesByName = new HashMap<>();
 		this.interactionsByName = new HashMap<>();
+		this.modelRegistry = null;
 
 		this.canCreateFederation = DEFAULT_SHOULD_CREATE_FEDERATION;
 		this.maxJoinAttempts = DEFAULT_MAX_JOIN_ATTEMPTS;
@@ -183,6 +233,20 @@ public class FederateConfiguration
 
 		this.isTimeConstrained = DEFAULT_IS_TIME_CONSTRAINED;
 		this.isTimeRegulated = DEFAULT_IS_TIME_REGULATED;
+
+		this.slotIndexedStorage = DEFAULT_SLOT_INDEXED_STORAGE;
+		this.updateChangedOnly = DEFAULT_UPDATE_CHANGED_ONLY;
+
+		this.callbackThreads = DEFAULT_CALLBACK_THREADS;
+		this.callbackQueueSize = DEFAULT_CALLBACK_QUEUE_SIZE;
+		this.lazyIncomingValues = DEFAULT_LAZY_INCOMING_VALUES;
+		this.batchSends = DEFAULT_BATCH_SENDS;
+		this.coalesceUpdates = DEFAULT_COALESCE_UPDATES;
+		this.asyncSends = DEFAULT_ASYNC_SENDS;
+		this.asyncSendQueueSize = DEFAULT_ASYNC_SEND_QUEUE_SIZE;
+		this.asyncSendOverflowPolicy = DEFAULT_ASYNC_SEND_OVERFLOW;
+		this.deadReckoningByClass = new HashMap<>();
+		this.updateRateLimitsByClass = new HashMap<>();
 	}
 
 	//----------------------------------------------------------
@@ -306,7 +370,47 @@ public class FederateConfiguration
 	 *     "timeRegulated":         BOOL,
 	 *     "baseFomPaths":          ARRAY[STRING...],
 	 *     "joinFomPaths":          ARRAY[STRING...],
-	 *     "somPath":               STRING
+	 *     "somPath":               STRING,
+	 *     "somPaths":              ARRAY[STRING...],
+	 *     "somCacheDirectory":     STRING,
+	 *     "slotIndexedStorage":    BOOL,
+	 *     "updateChangedOnly":     BOOL,
+	 *     "callbackThreads":       INT,
+	 *     "callbackQueueSize":     INT,
+	 *     "lazyIncomingValues":    BOOL,
+	 *     "batchSends":            BOOL,
+	 *     "coalesceUpdates":       BOOL,
+	 *     "asyncSends":            BOOL,
+	 *     "asyncSendQueueSize":    INT,
+	 *     "asyncSendOverflow":     STRING,
+	 *     "deadReckoning":         OBJECT,
+	 *     "updateRateLimits":      OBJECT
+	 * }
+	 *
+	 * The SOMs given by the "somPath" and "somPaths" items (either or both may be used) are
+	 * loaded and merged, replacing any previously configured SOMs (see
+	 * {@link #addSomPaths(Collection)}).
+	 *
+	 * The "deadReckoning" item declares dead reckoned attributes (see {@link DeadReckoningSpec})
+	 * by object class and attribute name, like so:
+	 *
+	 * "deadReckoning": {
+	 *     "HLAobjectRoot.Vehicle": {
+	 *         "PositionX": { "model": "linear", "rate": "VelocityX", "threshold": 0.5 },
+	 *         "Heading":   { "model": "static", "threshold": 1.0 }
+	 *     }
+	 * }
+	 *
+	 * The "updateRateLimits" item declares maximum update rates (see {@link UpdateRateLimit}) by
+	 * object class and attribute name - the attribute name "*" applies to all attributes of the
+	 * class which have no limit of their own. The "timeBase" is either "logical" (the default),
+	 * for updates per unit of logical time, or "wallClock", for updates per second:
+	 *
+	 * "updateRateLimits": {
+	 *     "HLAobjectRoot.Vehicle": {
+	 *         "*":        { "maxRate": 1.0 },
+	 *         "Position": { "maxRate": 10.0, "timeBase": "wallClock" }
+	 *     }
 	 * }
 	 *
 	 * @param configData the {@link JSONObject} containing configuration data
@@ -351,7 +455,21 @@ public class FederateConfiguration
 	                JSON_CONFIG_KEY_TIME_REGULATED,
 	                JSON_CONFIG_KEY_BASE_FOM_PATHS,
 	                JSON_CONFIG_KEY_JOIN_FOM_PATHS,
-	                JSON_CONFIG_KEY_SOM_PATH
+	                JSON_CONFIG_KEY_SOM_PATH,
+	                JSON_CONFIG_KEY_SOM_PATHS,
+	                JSON_CONFIG_KEY_SOM_CACHE_DIRECTORY,
+	                JSON_CONFIG_KEY_SLOT_INDEXED_STORAGE,
+	                JSON_CONFIG_KEY_UPDATE_CHANGED_ONLY,
+	                JSON_CONFIG_KEY_CALLBACK_THREADS,
+	                JSON_CONFIG_KEY_CALLBACK_QUEUE_SIZE,
+	                JSON_CONFIG_KEY_LAZY_INCOMING_VALUES,
+	                JSON_CONFIG_KEY_BATCH_SENDS,
+	                JSON_CONFIG_KEY_COALESCE_UPDATES,
+	                JSON_CONFIG_KEY_ASYNC_SENDS,
+	                JSON_CONFIG_KEY_ASYNC_SEND_QUEUE_SIZE,
+	                JSON_CONFIG_KEY_ASYNC_SEND_OVERFLOW,
+	                JSON_CONFIG_KEY_DEAD_RECKONING,
+	                JSON_CONFIG_KEY_UPDATE_RATE_LIMITS
 	            }
 			));
 			for(Object key : configData.keySet())
@@ -426,6 +544,50 @@ public class FederateConfiguration
 			this.isTimeRegulated = jsonBooleanOrDefault( configData,
 			                                             JSON_CONFIG_KEY_TIME_REGULATED,
 			                                             this.isTimeRegulated );
+			this.slotIndexedStorage = jsonBooleanOrDefault( configData,
+			                                                JSON_CONFIG_KEY_SLOT_INDEXED_STORAGE,
+			                                                this.slotIndexedStorage );
+			this.updateChangedOnly = jsonBooleanOrDefault( configData,
+			                                               JSON_CONFIG_KEY_UPDATE_CHANGED_ONLY,
+			                                               this.updateChangedOnly );
+			this.callbackThreads = jsonIntOrDefault( configData,
+			                                         JSON_CONFIG_KEY_CALLBACK_THREADS,
+			                                         this.callbackThreads );
+			this.callbackQueueSize = jsonIntOrDefault( configData,
+			                                           JSON_CONFIG_KEY_CALLBACK_QUEUE_SIZE,
+			                                           this.callbackQueueSize );
+			this.lazyIncomingValues = jsonBooleanOrDefault( configData,
+			                                                JSON_CONFIG_KEY_LAZY_INCOMING_VALUES,
+			                                                this.lazyIncomingValues );
+			this.batchSends = jsonBooleanOrDefault( configData,
+			                                        JSON_CONFIG_KEY_BATCH_SENDS,
+			                                        this.batchSends );
+			this.coalesceUpdates = jsonBooleanOrDefault( configData,
+			                                             JSON_CONFIG_KEY_COALESCE_UPDATES,
+			                                             this.coalesceUpdates );
+			this.asyncSends = jsonBooleanOrDefault( configData,
+			                                        JSON_CONFIG_KEY_ASYNC_SENDS,
+			                                        this.asyncSends );
+			this.asyncSendQueueSize = jsonIntOrDefault( configData,
+			                                            JSON_CONFIG_KEY_ASYNC_SEND_QUEUE_SIZE,
+			                                            this.asyncSendQueueSize );
+			String overflowPolicyLabel = jsonStringOrDefault( configData,
+			                                                  JSON_CONFIG_KEY_ASYNC_SEND_OVERFLOW,
+			                                                  this.asyncSendOverflowPolicy.getLabel() );
+			SendOverflowPolicy overflowPolicy = SendOverflowPolicy.fromLabel( overflowPolicyLabel );
+			if( overflowPolicy == null )
+			{
+				throw new UCEFException( "Expected '%s', '%s' or '%s' for '%s' but found '%s'",
+				                         SendOverflowPolicy.BLOCK.getLabel(),
+				                         SendOverflowPolicy.DROP_OLDEST.getLabel(),
+				                         SendOverflowPolicy.FAIL.getLabel(),
+				                         JSON_CONFIG_KEY_ASYNC_SEND_OVERFLOW, overflowPolicyLabel );
+			}
+			this.asyncSendOverflowPolicy = overflowPolicy;
+			if( configData.containsKey( JSON_CONFIG_KEY_DEAD_RECKONING ) )
+				deadReckoningFromJSON( configData.get( JSON_CONFIG_KEY_DEAD_RECKONING ) );
+			if( configData.containsKey( JSON_CONFIG_KEY_UPDATE_RATE_LIMITS ) )
+				updateRateLimitsFromJSON( configData.get( JSON_CONFIG_KEY_UPDATE_RATE_LIMITS ) );
 			this.lookAhead = jsonDoubleOrDefault( configData,
 			                                      JSON_CONFIG_KEY_LOOK_AHEAD,
 			                                      this.lookAhead );
@@ -451,14 +613,20 @@ public class FederateConfiguration
 				addJoinModules( urlsFromPaths( this.joinFoms ) );
 			}
 
+			// the cache directory has to be known before the SOM is loaded
+			this.somCacheDirectory = jsonStringOrDefault( configData,
+			                                              JSON_CONFIG_KEY_SOM_CACHE_DIRECTORY,
+			                                              this.somCacheDirectory );
+			List<String> extractedSomPaths = new ArrayList<>();
 			String extractedSomPath = jsonStringOrDefault( configData, JSON_CONFIG_KEY_SOM_PATH, "" );
 			if( extractedSomPath.length() > 0 )
-			{
-				this.somPath = extractedSomPath;
-				this.interactionsByName.clear();
-				this.objectClassesByName.clear();
-				SOMParser.somToFederateConfig( this.somPath, this );
-			}
+				extractedSomPaths.add( extractedSomPath );
+			String[] extractedSomPathArray = jsonStringArrayOrDefault( configData,
+			                                                           JSON_CONFIG_KEY_SOM_PATHS,
+			                                                           new String[0] );
+			extractedSomPaths.addAll( Arrays.asList( extractedSomPathArray ) );
+			if( extractedSomPaths.size() > 0 )
+				loadSOMs( extractedSomPaths );
 		}
 		catch( Exception e )
 		{
@@ -497,6 +665,49 @@ public class FederateConfiguration
 		builder.append( "Are Callbacks Immediate?   : " + (this.callbacksAreImmediate?"Yes":"No") + "\n" );
 		builder.append( "Look Ahead                 : " + this.lookAhead + "\n" );
 		builder.append( "Step Size                  : " + this.stepSize + "\n" );
+		builder.append( "Slot Indexed Storage?      : " + (this.slotIndexedStorage?"Yes":"No") + "\n" );
+		builder.append( "Update Changed Only?       : " + (this.updateChangedOnly?"Yes":"No") + "\n" );
+		builder.append( "Callback Threads           : " + (this.callbackThreads > 0 ? this.callbackThreads : "None (callback thread)") + "\n" );
+		builder.append( "Callback Queue Size        : " + this.callbackQueueSize + "\n" );
+		builder.append( "Lazy Incoming Values?      : " + (this.lazyIncomingValues?"Yes":"No") + "\n" );
+		builder.append( "Batch Sends?               : " + (this.batchSends?"Yes":"No") + "\n" );
+		builder.append( "Coalesce Updates?          : " + (this.coalesceUpdates?"Yes":"No") + "\n" );
+		builder.append( "Asynchronous Sends?        : " + (this.asyncSends?"Yes":"No") + "\n" );
+		builder.append( "Async Send Queue Size      : " + this.asyncSendQueueSize + "\n" );
+		builder.append( "Async Send Overflow        : " + this.asyncSendOverflowPolicy + "\n" );
+		builder.append( "SOM Cache Directory        : " + (this.somCacheDirectory.isEmpty()?"None":this.somCacheDirectory) + "\n" );
+
+		builder.append( dotRule );
+		builder.append( "Dead Reckoned Attributes:\n" );
+		if( this.deadReckoningByClass.isEmpty() )
+		{
+			builder.append( "\t...none...\n" );
+		}
+		else
+		{
+			for( Map.Entry<String,Map<String,DeadReckoningSpec>> entry : this.deadReckoningByClass.entrySet() )
+			{
+				builder.append( "\t" + entry.getKey() + "\n" );
+				for( DeadReckoningSpec spec : entry.getValue().values() )
+					builder.append( "\t\t" + spec + "\n" );
+			}
+		}
+
+		builder.append( dotRule );
+		builder.append( "Update Rate Limits:\n" );
+		if( this.updateRateLimitsByClass.isEmpty() )
+		{
+			builder.append( "\t...none...\n" );
+		}
+		else
+		{
+			for( Map.Entry<String,Map<String,UpdateRateLimit>> entry : this.updateRateLimitsByClass.entrySet() )
+			{
+				builder.append( "\t" + entry.getKey() + "\n" );
+				for( Map.Entry<String,UpdateRateLimit> limit : entry.getValue().entrySet() )
+					builder.append( "\t\t" + limit.getKey() + " (" + limit.getValue() + ")\n" );
+			}
+		}
 
 		builder.append( dotRule );
 		builder.append( "Published Attributes:\n" );
@@ -900,6 +1111,329 @@ public class FederateConfiguration
 		return this.callbacksAreImmediate;
 	}
 
+	/**
+	 * Configure whether attribute and parameter values of instances created by the federate are
+	 * stored by slot, according to the {@link SlotLayout} of their object or interaction class
+	 *
+	 * @param slotIndexedStorage true if attribute and parameter values should be stored by slot,
+	 *            false otherwise
+	 * @return this instance (for method chaining)
+	 */
+	public FederateConfiguration setSlotIndexedStorage( boolean slotIndexedStorage )
+	{
+		this.slotIndexedStorage = slotIndexedStorage;
+		return this;
+	}
+
+	/**
+	 * Determine if attribute and parameter values of instances created by the federate are
+	 * stored by slot
+	 *
+	 * @return true if attribute and parameter values are stored by slot
+	 */
+	public boolean useSlotIndexedStorage()
+	{
+		return this.slotIndexedStorage;
+	}
+
+	/**
+	 * Configure whether attribute updates sent by the federate include only the attributes which
+	 * have changed since they were last sent, or the values of all attributes
+	 *
+	 * @param updateChangedOnly true if only changed attributes should be sent, false otherwise
+	 * @return this instance (for method chaining)
+	 */
+	public FederateConfiguration setUpdateChangedOnly( boolean updateChangedOnly )
+	{
+		this.updateChangedOnly = updateChangedOnly;
+		return this;
+	}
+
+	/**
+	 * Determine if attribute updates sent by the federate include only the attributes which have
+	 * changed since they were last sent
+	 *
+	 * @return true if only changed attributes are sent
+	 */
+	public boolean shouldUpdateChangedOnly()
+	{
+		return this.updateChangedOnly;
+	}
+
+	/**
+	 * Configure the number of worker threads used to process received object registrations,
+	 * reflections, interactions and deletions.
+	 *
+	 * Callbacks relating to the same object instance (or interaction class) are always processed
+	 * in order by the same worker. A value of zero (the default) processes callbacks directly on
+	 * the thread which receives them from the RTI.
+	 *
+	 * @param callbackThreads the number of worker threads, or zero to process callbacks on the
+	 *            receiving thread
+	 * @return this instance (for method chaining)
+	 */
+	public FederateConfiguration setCallbackThreads( int callbackThreads )
+	{
+		this.callbackThreads = Math.max( 0, callbackThreads );
+		return this;
+	}
+
+	/**
+	 * Obtain the number of worker threads used to process received callbacks
+	 *
+	 * @return the number of worker threads, or zero if callbacks are processed on the receiving
+	 *         thread
+	 */
+	public int getCallbackThreads()
+	{
+		return this.callbackThreads;
+	}
+
+	/**
+	 * Configure the maximum number of callbacks which may be waiting for each worker thread. When
+	 * a worker's queue is full, delivery of further callbacks from the RTI waits until there is
+	 * room.
+	 *
+	 * Only relevant if callback worker threads are in use (see {@link #setCallbackThreads(int)}).
+	 *
+	 * @param callbackQueueSize the maximum number of waiting callbacks per worker thread
+	 * @return this instance (for method chaining)
+	 */
+	public FederateConfiguration setCallbackQueueSize( int callbackQueueSize )
+	{
+		this.callbackQueueSize = Math.max( 1, callbackQueueSize );
+		return this;
+	}
+
+	/**
+	 * Obtain the maximum number of callbacks which may be waiting for each worker thread
+	 *
+	 * @return the maximum number of waiting callbacks per worker thread
+	 */
+	public int getCallbackQueueSize()
+	{
+		return this.callbackQueueSize;
+	}
+
+	/**
+	 * Configure whether received attribute and parameter values are provided as a view over the
+	 * handle keyed maps received from the RTI, with names resolved only as values are accessed,
+	 * rather than being converted up front into new name keyed maps.
+	 *
+	 * NOTE: the RTI's maps are retained by the view, so this should only be enabled with RTIs
+	 *       which do not reuse the maps they pass to callbacks.
+	 *
+	 * @param lazyIncomingValues true if received values should be lazily converted, false otherwise
+	 * @return this instance (for method chaining)
+	 */
+	public FederateConfiguration setLazyIncomingValues( boolean lazyIncomingValues )
+	{
+		this.lazyIncomingValues = lazyIncomingValues;
+		return this;
+	}
+
+	/**
+	 * Determine if received attribute and parameter values are lazily converted
+	 *
+	 * @return true if received attribute and parameter values are lazily converted
+	 */
+	public boolean useLazyIncomingValues()
+	{
+		return this.lazyIncomingValues;
+	}
+
+	/**
+	 * Configure whether interactions and attribute updates sent while the federate is running are
+	 * queued and sent together just before each time advance request, rather than being sent
+	 * immediately.
+	 *
+	 * @param batchSends true if sends should be batched, false otherwise
+	 * @return this instance (for method chaining)
+	 */
+	public FederateConfiguration setBatchSends( boolean batchSends )
+	{
+		this.batchSends = batchSends;
+		return this;
+	}
+
+	/**
+	 * Determine if interactions and attribute updates sent while the federate is running are
+	 * batched
+	 *
+	 * @return true if sends are batched, false otherwise
+	 */
+	public boolean shouldBatchSends()
+	{
+		return this.batchSends;
+	}
+
+	/**
+	 * Configure whether batched attribute updates of the same object instance are merged into a
+	 * single update, with the latest value of each attribute, when the batch is sent. This has no
+	 * effect unless sends are batched (see {@link #setBatchSends(boolean)}).
+	 *
+	 * @param coalesceUpdates true if batched attribute updates should be merged, false otherwise
+	 * @return this instance (for method chaining)
+	 */
+	public FederateConfiguration setCoalesceUpdates( boolean coalesceUpdates )
+	{
+		this.coalesceUpdates = coalesceUpdates;
+		return this;
+	}
+
+	/**
+	 * Determine if batched attribute updates of the same object instance are merged
+	 *
+	 * @return true if batched attribute updates are merged, false otherwise
+	 */
+	public boolean shouldCoalesceUpdates()
+	{
+		return this.coalesceUpdates;
+	}
+
+	/**
+	 * Configure whether interactions and attribute updates are sent to the RTI from a dedicated
+	 * sender thread, so that the federate does not block on RTI I/O when sending (see also
+	 * {@link #setAsyncSendQueueSize(int)} and {@link #setAsyncSendOverflowPolicy(SendOverflowPolicy)})
+	 *
+	 * @param asyncSends true if sends should be asynchronous, false otherwise
+	 * @return this instance (for method chaining)
+	 */
+	public FederateConfiguration setAsyncSends( boolean asyncSends )
+	{
+		this.asyncSends = asyncSends;
+		return this;
+	}
+
+	/**
+	 * Determine if interactions and attribute updates are sent asynchronously
+	 *
+	 * @return true if sends are asynchronous, false otherwise
+	 */
+	public boolean shouldSendAsync()
+	{
+		return this.asyncSends;
+	}
+
+	/**
+	 * Configure the maximum number of interactions and attribute updates which may be waiting to be
+	 * sent when sends are asynchronous (see {@link #setAsyncSends(boolean)})
+	 *
+	 * @param asyncSendQueueSize the maximum number of waiting sends (must be at least one)
+	 * @return this instance (for method chaining)
+	 */
+	public FederateConfiguration setAsyncSendQueueSize( int asyncSendQueueSize )
+	{
+		this.asyncSendQueueSize = asyncSendQueueSize;
+		return this;
+	}
+
+	/**
+	 * Obtain the maximum number of interactions and attribute updates which may be waiting to be
+	 * sent when sends are asynchronous
+	 *
+	 * @return the maximum number of waiting sends
+	 */
+	public int getAsyncSendQueueSize()
+	{
+		return this.asyncSendQueueSize;
+	}
+
+	/**
+	 * Configure what happens when an interaction or attribute update is sent asynchronously while
+	 * the queue of waiting sends is full (see {@link #setAsyncSends(boolean)})
+	 *
+	 * @param asyncSendOverflowPolicy the overflow policy
+	 * @return this instance (for method chaining)
+	 */
+	public FederateConfiguration setAsyncSendOverflowPolicy( SendOverflowPolicy asyncSendOverflowPolicy )
+	{
+		this.asyncSendOverflowPolicy = asyncSendOverflowPolicy;
+		return this;
+	}
+
+	/**
+	 * Obtain what happens when an interaction or attribute update is sent asynchronously while
+	 * the queue of waiting sends is full
+	 *
+	 * @return the overflow policy
+	 */
+	public SendOverflowPolicy getAsyncSendOverflowPolicy()
+	{
+		return this.asyncSendOverflowPolicy;
+	}
+
+	/**
+	 * Declare an attribute of an object class to be dead reckoned. Any existing declaration for
+	 * the same attribute is replaced.
+	 *
+	 * @param objectClassName the fully qualified name of the object class
+	 * @param spec how the attribute is dead reckoned
+	 * @return this instance (for method chaining)
+	 */
+	public FederateConfiguration addDeadReckoning( String objectClassName, DeadReckoningSpec spec )
+	{
+		if( objectClassName == null || spec == null )
+			throw new UCEFException( "Cannot add dead reckoning with a null object class or specification." );
+
+		// the specifications are looked up for every update and reflection, so each class's
+		// specifications are kept as a ready made unmodifiable map
+		Map<String,DeadReckoningSpec> specs = new HashMap<>( getDeadReckoning( objectClassName ) );
+		specs.put( spec.getAttributeName(), spec );
+		this.deadReckoningByClass.put( objectClassName, Collections.unmodifiableMap( specs ) );
+		return this;
+	}
+
+	/**
+	 * Obtain the dead reckoned attributes of an object class
+	 *
+	 * @param objectClassName the fully qualified name of the object class
+	 * @return the dead reckoning specifications by attribute name (empty if the object class has
+	 *         no dead reckoned attributes)
+	 */
+	public Map<String,DeadReckoningSpec> getDeadReckoning( String objectClassName )
+	{
+		Map<String,DeadReckoningSpec> specs = this.deadReckoningByClass.get( objectClassName );
+		return specs == null ? Collections.emptyMap() : specs;
+	}
+
+	/**
+	 * Limit the rate at which values of an attribute of an object class are sent. Any existing
+	 * limit for the same attribute is replaced.
+	 *
+	 * @param objectClassName the fully qualified name of the object class
+	 * @param attributeName the name of the attribute, or {@link UpdateRateLimit#ALL_ATTRIBUTES}
+	 *            to limit all attributes of the class which have no limit of their own
+	 * @param limit the maximum update rate
+	 * @return this instance (for method chaining)
+	 */
+	public FederateConfiguration addUpdateRateLimit( String objectClassName, String attributeName,
+	                                                 UpdateRateLimit limit )
+	{
+		if( objectClassName == null || attributeName == null || limit == null )
+			throw new UCEFException( "Cannot add an update rate limit with a null object class, " +
+			                         "attribute or limit." );
+
+		// as with dead reckoning, the limits are looked up for every update
+		Map<String,UpdateRateLimit> limits = new HashMap<>( getUpdateRateLimits( objectClassName ) );
+		limits.put( attributeName, limit );
+		this.updateRateLimitsByClass.put( objectClassName, Collections.unmodifiableMap( limits ) );
+		return this;
+	}
+
+	/**
+	 * Obtain the update rate limits of an object class
+	 *
+	 * @param objectClassName the fully qualified name of the object class
+	 * @return the update rate limits by attribute name, or {@link UpdateRateLimit#ALL_ATTRIBUTES}
+	 *         (empty if the object class has no update rate limits)
+	 */
+	public Map<String,UpdateRateLimit> getUpdateRateLimits( String objectClassName )
+	{
+		Map<String,UpdateRateLimit> limits = this.updateRateLimitsByClass.get( objectClassName );
+		return limits == null ? Collections.emptyMap() : limits;
+	}
+
 	/**
 	 * Add a FOM module to the configuration
 	 *
@@ -1011,25 +1545,93 @@ public class FederateConfiguration
 		return this;
 	}
 
+	/**
+	 * Obtain the paths of the configured SOMs
+	 *
+	 * @return the paths of the configured SOMs, in the order in which they were added
+	 */
 	public Set<String> getSomPaths()
 	{
-		// this is to support multiple SOM usage without breaking the interface
-		Set<String> soms = new HashSet<>();
-		soms.add( this.somPath );
-		return soms;
+		return new LinkedHashSet<>( this.somPaths );
 	}
 
+	/**
+	 * Add a SOM to the configuration. The object and interaction classes of all configured SOMs
+	 * are (re)loaded and merged (see {@link #addSomPaths(Collection)}), replacing any previously
+	 * cached object and interaction classes.
+	 *
+	 * @param path the path of the SOM
+	 * @return this instance (for method chaining)
+	 */
 	public FederateConfiguration addSomPath( String path )
 	{
-		this.somPath = path;
+		return addSomPaths( Collections.singletonList( path ) );
+	}
 
-		this.interactionsByName.clear();
-		this.objectClassesByName.clear();
-		SOMParser.somToFederateConfig( this.somPath, this );
+	/**
+	 * Add SOMs to the configuration. The object and interaction classes of all configured SOMs
+	 * are then (re)loaded and merged, replacing any previously cached object and interaction
+	 * classes.
+	 *
+	 * The SOMs are loaded concurrently, but merged in the order in which they were added. A
+	 * class which is defined in more than one SOM is only included once, with the combined
+	 * sharing of its definitions. Classes with the same name and different attributes or
+	 * parameters cause a {@link UCEFException} listing all such conflicts, in which case the
+	 * SOMs are not added.
+	 *
+	 * @param paths the paths of the SOMs
+	 * @return this instance (for method chaining)
+	 */
+	public FederateConfiguration addSomPaths( Collection<String> paths )
+	{
+		if( notNullOrEmpty( paths ) )
+		{
+			List<String> combined = new ArrayList<>( this.somPaths );
+			combined.addAll( paths );
+			loadSOMs( combined );
+		}
+		return this;
+	}
 
+	/**
+	 * Remove all SOMs from the configuration. Object and interaction classes which have already
+	 * been loaded from them remain cached.
+	 *
+	 * @return this instance (for method chaining)
+	 */
+	public FederateConfiguration clearSomPaths()
+	{
+		this.somPaths.clear();
 		return this;
 	}
 
+	/**
+	 * Configure a directory in which parsed SOMs are cached, so that later loads of the same SOM
+	 * (by this or any other federate using the same directory) can skip parsing the XML. Cached
+	 * copies are identified by the content of the SOM file, so a changed SOM is parsed again.
+	 *
+	 * NOTE: this must be set before the SOM paths (see {@link #addSomPath(String)}) for the cache
+	 * to be used.
+	 *
+	 * @param somCacheDirectory the cache directory, or an empty string to disable caching
+	 * @return this instance (for method chaining)
+	 */
+	public FederateConfiguration setSomCacheDirectory( String somCacheDirectory )
+	{
+		this.somCacheDirectory = somCacheDirectory == null ? "" : somCacheDirectory.trim();
+		return this;
+	}
+
+	/**
+	 * Obtain the directory in which parsed SOMs are cached
+	 *
+	 * @return the cache directory, or an empty string if caching is disabled
+	 */
+	public String getSomCacheDirectory()
+	{
+		return this.somCacheDirectory;
+	}
+
 	/**
 	 * Add one or more object classes that may be published or subscribed (or both or neither!) by
 	 * this federate
@@ -1057,6 +1659,7 @@ public class FederateConfiguration
 			{
 				this.objectClassesByName.put( objectClass.name, objectClass );
 			}
+			this.modelRegistry = null;
 		}
 		return this;
 	}
@@ -1088,10 +1691,42 @@ public class FederateConfiguration
 			{
 				this.interactionsByName.put( interactionClass.name, interactionClass);
 			}
+			this.modelRegistry = null;
 		}
 		return this;
 	}
 
+	/**
+	 * Obtain an immutable snapshot of the object and interaction classes of this federate, with
+	 * the published/subscribed classes, member names and data types precomputed (see
+	 * {@link ModelRegistry}).
+	 *
+	 * The snapshot is built on first use, and rebuilt on the next use after any object or
+	 * interaction classes are cached. Changes made directly to cached {@link ObjectClass} or
+	 * {@link InteractionClass} instances are not detected, so classes should not be modified
+	 * after they have been cached.
+	 *
+	 * @return the current snapshot of the object and interaction classes
+	 */
+	public ModelRegistry getModelRegistry()
+	{
+		ModelRegistry registry = this.modelRegistry;
+		if( registry == null )
+		{
+			synchronized( this )
+			{
+				registry = this.modelRegistry;
+				if( registry == null )
+				{
+					registry = new ModelRegistry( this.objectClassesByName.values(),
+					                              this.interactionsByName.values() );
+					this.modelRegistry = registry;
+				}
+			}
+		}
+		return registry;
+	}
+
 	/**
 	 * Obtain the interactions which are both published *and* subscribed by this federate
 	 *
@@ -1099,7 +1734,7 @@ public class FederateConfiguration
 	 */
 	public Collection<Types.InteractionClass> getPublishedAndSubscribedInteractions()
 	{
-		return Collections.unmodifiableCollection( this.interactionsByName.values() );
+		return getModelRegistry().getInteractionClasses();
 	}
 
 	/**
@@ -1109,10 +1744,7 @@ public class FederateConfiguration
 	 */
 	public Collection<Types.InteractionClass> getPublishedInteractions()
 	{
-		return this.interactionsByName.values()
-			.stream()
-			.filter( x -> x.isPublished() )
-			.collect( Collectors.toList() );
+		return getModelRegistry().getPublishedInteractionClasses();
 	}
 
 	/**
@@ -1122,10 +1754,7 @@ public class FederateConfiguration
 	 */
 	public Collection<Types.InteractionClass> getSubscribedInteractions()
 	{
-		return this.interactionsByName.values()
-			.stream()
-			.filter( x -> x.isSubscribed() )
-			.collect( Collectors.toList() );
+		return getModelRegistry().getSubscribedInteractionClasses();
 	}
 
 	/**
@@ -1135,7 +1764,7 @@ public class FederateConfiguration
 	 */
 	public Collection<Types.ObjectClass> getPublishedAndSubscribedObjectClasses()
 	{
-		return Collections.unmodifiableCollection( this.objectClassesByName.values() );
+		return getModelRegistry().getObjectClasses();
 	}
 
 	/**
@@ -1145,10 +1774,7 @@ public class FederateConfiguration
 	 */
 	public Collection<Types.ObjectClass> getPublishedObjectClasses()
 	{
-		return this.objectClassesByName.values()
-			.stream()
-			.filter( x -> x.isPublished() )
-			.collect( Collectors.toList() );
+		return getModelRegistry().getPublishedObjectClasses();
 	}
 
 	/**
@@ -1158,10 +1784,7 @@ public class FederateConfiguration
 	 */
 	public Collection<Types.ObjectClass> getSubscribedObjectClasses()
 	{
-		return this.objectClassesByName.values()
-			.stream()
-			.filter( x -> x.isSubscribed() )
-			.collect( Collectors.toList() );
+		return getModelRegistry().getSubscribedObjectClasses();
 	}
 
 	/**
@@ -1172,10 +1795,7 @@ public class FederateConfiguration
 	 */
 	public Set<String> getPublishedInteractionNames()
 	{
-		return getPublishedInteractions()
-			.stream()
-			.map(x -> x.name)
-			.collect(Collectors.toSet());
+		return getModelRegistry().getPublishedInteractionClassNames();
 	}
 
 	/**
@@ -1186,10 +1806,7 @@ public class FederateConfiguration
 	 */
 	public Set<String> getSubscribedInteractionNames()
 	{
-		return getSubscribedInteractions()
-			.stream()
-			.map(x -> x.name)
-			.collect(Collectors.toSet());
+		return getModelRegistry().getSubscribedInteractionClassNames();
 	}
 
 	/**
@@ -1203,16 +1820,12 @@ public class FederateConfiguration
 	 */
 	public Set<String> getPublishedAttributeNames( String className )
 	{
-		ObjectClass objectClass = this.objectClassesByName.get( className );
+		ModelRegistry.ClassEntry entry = getModelRegistry().getEntry( className );
 
-		if( objectClass == null )
+		if( entry == null || entry.isInteraction() )
 			return Collections.emptySet();
 
-		return objectClass.attributes.values()
-			.stream()
-			.filter(attr -> attr.isPublished())
-			.map(attr -> attr.name)
-			.collect(Collectors.toSet());
+		return entry.getPublishedMemberNames();
 	}
 
 	/**
@@ -1226,16 +1839,12 @@ public class FederateConfiguration
 	 */
 	public Set<String> getSubscribedAttributeNames( String className )
 	{
-		ObjectClass objectClass = this.objectClassesByName.get( className );
+		ModelRegistry.ClassEntry entry = getModelRegistry().getEntry( className );
 
-		if( objectClass == null )
+		if( entry == null || entry.isInteraction() )
 			return Collections.emptySet();
 
-		return objectClass.attributes.values()
-			.stream()
-			.filter(attr -> attr.isSubscribed())
-			.map(attr -> attr.name)
-			.collect(Collectors.toSet());
+		return entry.getSubscribedMemberNames();
 	}
 
 	/**
@@ -1265,12 +1874,12 @@ public class FederateConfiguration
 	 */
 	public Set<String> getParameterNames( String className )
 	{
-		InteractionClass interactionClass = this.interactionsByName.get( className );
+		ModelRegistry.ClassEntry entry = getModelRegistry().getEntry( className );
 
-		if( interactionClass == null )
+		if( entry == null || !entry.isInteraction() )
 			return Collections.emptySet();
 
-		return interactionClass.parameters.keySet();
+		return entry.getMemberNames();
 	}
 
 	/**
@@ -1286,7 +1895,7 @@ public class FederateConfiguration
 		if( instance == null )
 			return Collections.emptySet();
 
-		return getParameterNames( instance.getObjectClassName() );
+		return getAttributeNames( instance.getObjectClassName() );
 	}
 
 	/**
@@ -1300,12 +1909,12 @@ public class FederateConfiguration
 	 */
 	public Set<String> getAttributeNames( String className )
 	{
-		ObjectClass objectClass = this.objectClassesByName.get( className );
+		ModelRegistry.ClassEntry entry = getModelRegistry().getEntry( className );
 
-		if( objectClass == null )
+		if( entry == null || entry.isInteraction() )
 			return Collections.emptySet();
 
-		return objectClass.attributes.keySet();
+		return entry.getMemberNames();
 	}
 
 	/**
@@ -1315,10 +1924,7 @@ public class FederateConfiguration
 	 */
 	public Set<String> getPublishedClassNames()
 	{
-		return getPublishedObjectClasses()
-			.stream()
-			.map(x -> x.name)
-			.collect(Collectors.toSet());
+		return getModelRegistry().getPublishedObjectClassNames();
 	}
 
 	/**
@@ -1328,10 +1934,7 @@ public class FederateConfiguration
 	 */
 	public Set<String> getSubscribedClassNames()
 	{
-		return getSubscribedObjectClasses()
-			.stream()
-			.map(x -> x.name)
-			.collect(Collectors.toSet());
+		return getModelRegistry().getSubscribedObjectClassNames();
 	}
 
 	/**
@@ -1393,27 +1996,25 @@ public class FederateConfiguration
 	 */
 	public DataType getDataType( String className, String memberName )
 	{
-		// start by looking for an interaction matching the class name
-		InteractionClass interactionClass = this.interactionsByName.get( className );
-		if( interactionClass != null )
-		{
-			// found - determine the parameter type and return
-			InteractionParameter parameter = interactionClass.parameters.get( memberName );
-			return parameter == null ? DataType.UNKNOWN : parameter.dataType;
-		}
-
-		// no interaction match - try to match on known object classes...
-		ObjectClass objectClass = this.objectClassesByName.get( className );
-		if( objectClass != null )
-		{
-			// found - determine the attribute type and return
-			ObjectAttribute attribute = objectClass.attributes.get( memberName );
-			return attribute == null ? DataType.UNKNOWN : attribute.dataType;
-		}
+		ModelRegistry.ClassEntry entry = getModelRegistry().getEntry( className );
+		return entry == null ? DataType.UNKNOWN : entry.getDataType( memberName );
+	}
 
-		// no interaction or object class found matching the provided
-		// fully qualified class name
-		return DataType.UNKNOWN;
+	/**
+	 * Returns the slot layout of an object class or interaction class given the fully qualified
+	 * name
+	 *
+	 * NOTE: as for {@link #getDataType(String, String)}, it is not necessary to specify whether
+	 * the fully qualified class name refers to an interaction or object class.
+	 *
+	 * @param className the fully qualified name of an object or an interaction class
+	 * @return the slot layout of the attributes or parameters of the object/interaction class, or
+	 *         null if the class is unknown
+	 */
+	public SlotLayout getSlotLayout( String className )
+	{
+		ModelRegistry.ClassEntry entry = getModelRegistry().getEntry( className );
+		return entry == null ? null : entry.getSlotLayout();
 	}
 
 	////////////////////////////////////////////////////////////////////////////////////////////
@@ -1804,24 +2405,197 @@ public class FederateConfiguration
 	 */
 	private Collection<URL> urlsFromPaths( Collection<String> paths )
 	{
-		Set<URL> result = new HashSet<>();
+		// the paths are resolved concurrently, since each may involve a class path search
+		List<String> orderedPaths = new ArrayList<>( paths );
+		List<URL> urls = orderedPaths.parallelStream()
+			.map( this::getResourceURL )
+			.collect( Collectors.toList() );
 
-		for( String path : paths )
+		Set<URL> result = new HashSet<>();
+		List<String> missing = new ArrayList<>();
+		for( int i = 0; i < orderedPaths.size(); i++ )
 		{
-			URL url = getResourceURL( path );
+			URL url = urls.get( i );
 			if( url != null )
-			{
 				result.add( url );
-			}
 			else
+				missing.add( orderedPaths.get( i ) );
+		}
+
+		// report all missing files at once, in a predictable order
+		if( missing.size() == 1 )
+		{
+			throw new UCEFException( "The file '%s' does not exist. " +
+			                         "Please check the file path.",
+			                         missing.get( 0 ) );
+		}
+		else if( missing.size() > 1 )
+		{
+			Collections.sort( missing );
+			throw new UCEFException( "The files '%s' do not exist. " +
+			                         "Please check the file paths.",
+			                         String.join( "', '", missing ) );
+		}
+
+		return result;
+	}
+
+	/**
+	 * Utility function to load and merge the object and interaction classes of SOMs, replacing
+	 * the configured SOMs and any previously cached object and interaction classes. Nothing is
+	 * changed if any of the SOMs cannot be loaded.
+	 *
+	 * The SOMs are loaded concurrently, and then merged in the order in which they are given
+	 * (see {@link SOMParser#merge(List, List)}).
+	 *
+	 * @param somPaths the paths of the SOMs (duplicates are ignored)
+	 */
+	private void loadSOMs( Collection<String> somPaths )
+	{
+		List<String> paths = new ArrayList<>( new LinkedHashSet<>( somPaths ) );
+		String cacheDirectory = this.somCacheDirectory;
+
+		List<SOMParser.ObjectModel> objectModels = new ArrayList<>();
+		if( paths.size() == 1 )
+		{
+			objectModels.add( SOMParser.load( paths.get( 0 ), cacheDirectory ) );
+		}
+		else
+		{
+			List<CompletableFuture<SOMParser.ObjectModel>> loading = new ArrayList<>();
+			for( String path : paths )
+				loading.add( CompletableFuture.supplyAsync( () -> SOMParser.load( path, cacheDirectory ) ) );
+
+			// wait for all of them, so that the first failure (in configured order) is reported
+			for( CompletableFuture<SOMParser.ObjectModel> load : loading )
 			{
-				throw new UCEFException( "The file '%s' does not exist. " +
-				                         "Please check the file path.",
-				                         path );
+				try
+				{
+					objectModels.add( load.join() );
+				}
+				catch( CompletionException e )
+				{
+					if( e.getCause() instanceof UCEFException )
+						throw (UCEFException)e.getCause();
+					throw new UCEFException( e.getCause(), "Unable to load SOMs." );
+				}
 			}
 		}
 
-		return result;
+		SOMParser.ObjectModel merged = SOMParser.merge( paths, objectModels );
+		this.somPaths = paths;
+		this.interactionsByName.clear();
+		this.objectClassesByName.clear();
+		this.modelRegistry = null;
+		cacheObjectClasses( merged.getObjectClasses() );
+		cacheInteractionClasses( merged.getInteractionClasses() );
+	}
+
+	/**
+	 * Utility function to add the dead reckoned attributes declared in JSON configuration data
+	 * (see {@link #fromJSON(JSONObject)} for the expected structure)
+	 *
+	 * @param value the value of the "deadReckoning" configuration item
+	 */
+	private void deadReckoningFromJSON( Object value )
+	{
+		if( !(value instanceof JSONObject) )
+			throw new UCEFException( "Expected an object value for '%s' but found '%s'",
+			                         JSON_CONFIG_KEY_DEAD_RECKONING, value );
+
+		for( Object classEntry : ((JSONObject)value).entrySet() )
+		{
+			Map.Entry<?,?> byClass = (Map.Entry<?,?>)classEntry;
+			String objectClassName = byClass.getKey().toString();
+			if( !(byClass.getValue() instanceof JSONObject) )
+				throw new UCEFException( "Expected an object value for '%s' but found '%s'",
+				                         objectClassName, byClass.getValue() );
+
+			for( Object attributeEntry : ((JSONObject)byClass.getValue()).entrySet() )
+			{
+				Map.Entry<?,?> byAttribute = (Map.Entry<?,?>)attributeEntry;
+				String attributeName = byAttribute.getKey().toString();
+				if( !(byAttribute.getValue() instanceof JSONObject) )
+					throw new UCEFException( "Expected an object value for '%s' but found '%s'",
+					                         attributeName, byAttribute.getValue() );
+
+				JSONObject specData = (JSONObject)byAttribute.getValue();
+				String modelLabel = jsonStringOrDefault( specData, JSON_CONFIG_KEY_DR_MODEL,
+				                                         DeadReckoningSpec.Model.STATIC.getLabel() );
+				double threshold = jsonDoubleOrDefault( specData, JSON_CONFIG_KEY_DR_THRESHOLD, 0.0 );
+
+				DeadReckoningSpec.Model model = DeadReckoningSpec.Model.fromLabel( modelLabel );
+				if( model == DeadReckoningSpec.Model.LINEAR )
+				{
+					String rateName = jsonStringOrDefault( specData, JSON_CONFIG_KEY_DR_RATE, null );
+					addDeadReckoning( objectClassName,
+					                  DeadReckoningSpec.linearModel( attributeName, rateName, threshold ) );
+				}
+				else if( model == DeadReckoningSpec.Model.STATIC )
+				{
+					addDeadReckoning( objectClassName,
+					                  DeadReckoningSpec.staticModel( attributeName, threshold ) );
+				}
+				else
+				{
+					throw new UCEFException( "Expected '%s' or '%s' for '%s' of '%s' but found '%s'",
+					                         DeadReckoningSpec.Model.STATIC.getLabel(),
+					                         DeadReckoningSpec.Model.LINEAR.getLabel(),
+					                         JSON_CONFIG_KEY_DR_MODEL, attributeName, modelLabel );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Utility function to add the update rate limits declared in JSON configuration data (see
+	 * {@link #fromJSON(JSONObject)} for the expected structure)
+	 *
+	 * @param value the value of the "updateRateLimits" configuration item
+	 */
+	private void updateRateLimitsFromJSON( Object value )
+	{
+		if( !(value instanceof JSONObject) )
+			throw new UCEFException( "Expected an object value for '%s' but found '%s'",
+			                         JSON_CONFIG_KEY_UPDATE_RATE_LIMITS, value );
+
+		for( Object classEntry : ((JSONObject)value).entrySet() )
+		{
+			Map.Entry<?,?> byClass = (Map.Entry<?,?>)classEntry;
+			String objectClassName = byClass.getKey().toString();
+			if( !(byClass.getValue() instanceof JSONObject) )
+				throw new UCEFException( "Expected an object value for '%s' but found '%s'",
+				                         objectClassName, byClass.getValue() );
+
+			for( Object attributeEntry : ((JSONObject)byClass.getValue()).entrySet() )
+			{
+				Map.Entry<?,?> byAttribute = (Map.Entry<?,?>)attributeEntry;
+				String attributeName = byAttribute.getKey().toString();
+				if( !(byAttribute.getValue() instanceof JSONObject) )
+					throw new UCEFException( "Expected an object value for '%s' but found '%s'",
+					                         attributeName, byAttribute.getValue() );
+
+				JSONObject limitData = (JSONObject)byAttribute.getValue();
+				if( !limitData.containsKey( JSON_CONFIG_KEY_MAX_RATE ) )
+					throw new UCEFException( "No '%s' given for update rate limit of '%s'",
+					                         JSON_CONFIG_KEY_MAX_RATE, attributeName );
+
+				double maxRate = jsonDoubleOrDefault( limitData, JSON_CONFIG_KEY_MAX_RATE, 0.0 );
+				String timeBaseLabel = jsonStringOrDefault( limitData, JSON_CONFIG_KEY_TIME_BASE,
+				                                            UpdateRateLimit.TimeBase.LOGICAL.getLabel() );
+				UpdateRateLimit.TimeBase timeBase = UpdateRateLimit.TimeBase.fromLabel( timeBaseLabel );
+				if( timeBase == null )
+				{
+					throw new UCEFException( "Expected '%s' or '%s' for '%s' of '%s' but found '%s'",
+					                         UpdateRateLimit.TimeBase.LOGICAL.getLabel(),
+					                         UpdateRateLimit.TimeBase.WALL_CLOCK.getLabel(),
+					                         JSON_CONFIG_KEY_TIME_BASE, attributeName, timeBaseLabel );
+				}
+
+				addUpdateRateLimit( objectClassName, attributeName,
+				                    new UpdateRateLimit( maxRate, timeBase ) );
+			}
+		}
 	}
 
 	//----------------------------------------------------------
@@ -24,25 +24,49 @@
 package gov.nist.ucef.hla.base;
 
 import hla.rti1516e.RtiFactoryFactory;
-import hla.rti1516e.encoding.DecoderException;
 import hla.rti1516e.encoding.EncoderFactory;
-import hla.rti1516e.encoding.HLAboolean;
-import hla.rti1516e.encoding.HLAbyte;
-import hla.rti1516e.encoding.HLAfloat32BE;
-import hla.rti1516e.encoding.HLAfloat64BE;
-import hla.rti1516e.encoding.HLAinteger16BE;
-import hla.rti1516e.encoding.HLAinteger32BE;
-import hla.rti1516e.encoding.HLAinteger64BE;
-import hla.rti1516e.encoding.HLAunicodeChar;
-import hla.rti1516e.encoding.HLAunicodeString;
 import hla.rti1516e.exceptions.RTIinternalError;
 
 /**
  * The purpose of this class is to provide encoding/decoding of various "primitive" data types
  * to/from HLA standard representations to minimize repeated code
+ *
+ * All encoding and decoding is done directly on the underlying byte arrays using the big endian
+ * wire formats of the HLA basic data representations (HLAoctet, HLAinteger16BE, HLAinteger32BE,
+ * HLAinteger64BE, HLAfloat32BE, HLAfloat64BE, HLAboolean, HLAunicodeChar and HLAunicodeString),
+ * so no intermediate RTI encoding wrappers are created. In addition to the methods which return
+ * a newly allocated byte array, there are variants which decode from an offset within an array
+ * and which encode into a caller supplied buffer, allowing buffers to be reused.
+ *
+ * The variants which take an {@link EncoderFactory} do not use it, and are retained only so
+ * that existing code does not need to change.
  */
 public class HLACodecUtils
 {
+	//----------------------------------------------------------
+	//                    STATIC VARIABLES
+	//----------------------------------------------------------
+	/** the number of bytes in an encoded HLAbyte */
+	public static final int BYTE_LENGTH    = 1;
+	/** the number of bytes in an encoded HLAunicodeChar */
+	public static final int CHAR_LENGTH    = 2;
+	/** the number of bytes in an encoded HLAinteger16BE */
+	public static final int SHORT_LENGTH   = 2;
+	/** the number of bytes in an encoded HLAinteger32BE */
+	public static final int INT_LENGTH     = 4;
+	/** the number of bytes in an encoded HLAinteger64BE */
+	public static final int LONG_LENGTH    = 8;
+	/** the number of bytes in an encoded HLAfloat32BE */
+	public static final int FLOAT_LENGTH   = 4;
+	/** the number of bytes in an encoded HLAfloat64BE */
+	public static final int DOUBLE_LENGTH  = 8;
+	/** the number of bytes in an encoded HLAboolean (which is an HLAinteger32BE) */
+	public static final int BOOLEAN_LENGTH = 4;
+
+	// HLAboolean values are encoded as HLAinteger32BE values
+	private static final int HLA_TRUE = 1;
+	private static final int HLA_FALSE = 0;
+
 	//----------------------------------------------------------
 	//                    STATIC METHODS
 	//----------------------------------------------------------
@@ -58,6 +82,9 @@ public class HLACodecUtils
 		}
 	}
 
+	////////////////////////////////////////////////////////////////////////////////////////////
+	//////////////////////////// Encoder Factory Based Decoding ////////////////////////////////
+	////////////////////////////////////////////////////////////////////////////////////////////
 	/**
 	 * Decode HLA byte array representation of a bye
 	 *
@@ -67,18 +94,7 @@ public class HLACodecUtils
 	 */
 	public static byte asByte( EncoderFactory encoderFactory, byte[] bytes )
 	{
-		HLAbyte value = makeHLAType(encoderFactory, (byte)0);
-		try
-		{
-			value.decode( bytes );
-			return value.getValue();
-		}
-		catch( DecoderException de )
-		{
-			throw new UCEFException( de,
-			                         "Unable to decode byte array of length %d as a short.",
-			                         bytes.length );
-		}
+		return asByte( bytes, 0 );
 	}
 
 	/**
@@ -90,18 +106,7 @@ public class HLACodecUtils
 	 */
 	public static short asShort( EncoderFactory encoderFactory, byte[] bytes )
 	{
-		HLAinteger16BE value = makeHLAType(encoderFactory, (short)0);
-		try
-		{
-			value.decode( bytes );
-			return value.getValue();
-		}
-		catch( DecoderException de )
-		{
-			throw new UCEFException( de,
-			                         "Unable to decode byte array of length %d as a short.",
-			                         bytes.length );
-		}
+		return asShort( bytes, 0 );
 	}
 
 	/**
@@ -113,18 +118,7 @@ public class HLACodecUtils
 	 */
 	public static int asInt( EncoderFactory encoderFactory, byte[] bytes )
 	{
-		HLAinteger32BE value = makeHLAType(encoderFactory, 0);
-		try
-		{
-			value.decode( bytes );
-			return value.getValue();
-		}
-		catch( DecoderException de )
-		{
-			throw new UCEFException( de,
-			                         "Unable to decode byte array of length %d as a integer.",
-			                         bytes.length );
-		}
+		return asInt( bytes, 0 );
 	}
 
 	/**
@@ -136,18 +130,7 @@ public class HLACodecUtils
 	 */
 	public static long asLong( EncoderFactory encoderFactory, byte[] bytes )
 	{
-		HLAinteger64BE value = makeHLAType(encoderFactory, (long)0);
-		try
-		{
-			value.decode( bytes );
-			return value.getValue();
-		}
-		catch( DecoderException de )
-		{
-			throw new UCEFException( de,
-			                         "Unable to decode byte array of length %d as a long.",
-			                         bytes.length );
-		}
+		return asLong( bytes, 0 );
 	}
 
 	/**
@@ -159,18 +142,7 @@ public class HLACodecUtils
 	 */
 	public static float asFloat( EncoderFactory encoderFactory, byte[] bytes )
 	{
-		HLAfloat32BE value = makeHLAType(encoderFactory, (float)0);
-		try
-		{
-			value.decode( bytes );
-			return value.getValue();
-		}
-		catch( DecoderException de )
-		{
-			throw new UCEFException( de,
-			                         "Unable to decode byte array of length %d as a float.",
-			                         bytes.length );
-		}
+		return asFloat( bytes, 0 );
 	}
 
 	/**
@@ -182,18 +154,7 @@ public class HLACodecUtils
 	 */
 	public static double asDouble( EncoderFactory encoderFactory, byte[] bytes )
 	{
-		HLAfloat64BE value = makeHLAType(encoderFactory, (double)0);
-		try
-		{
-			value.decode( bytes );
-			return value.getValue();
-		}
-		catch( DecoderException de )
-		{
-			throw new UCEFException( de,
-			                         "Unable to decode byte array of length %d as a double.",
-			                         bytes.length );
-		}
+		return asDouble( bytes, 0 );
 	}
 
 	/**
@@ -205,18 +166,7 @@ public class HLACodecUtils
 	 */
 	public static boolean asBoolean( EncoderFactory encoderFactory, byte[] bytes )
 	{
-		HLAboolean value = makeHLAType(encoderFactory, false);
-		try
-		{
-			value.decode( bytes );
-			return value.getValue();
-		}
-		catch( DecoderException de )
-		{
-			throw new UCEFException( de,
-			                         "Unable to decode byte array of length %d as a boolean.",
-			                         bytes.length );
-		}
+		return asBoolean( bytes, 0 );
 	}
 
 	/**
@@ -228,18 +178,7 @@ public class HLACodecUtils
 	 */
 	public static char asChar( EncoderFactory encoderFactory, byte[] bytes )
 	{
-		HLAunicodeChar value = makeHLAType(encoderFactory, (char)0);
-		try
-		{
-			value.decode( bytes );
-			return (char)value.getValue();
-		}
-		catch( DecoderException de )
-		{
-			throw new UCEFException( de,
-			                         "Unable to decode byte array of length %d as a short.",
-			                         bytes.length );
-		}
+		return asChar( bytes, 0 );
 	}
 
 	/**
@@ -251,27 +190,12 @@ public class HLACodecUtils
 	 */
 	public static String asString( EncoderFactory encoderFactory, byte[] bytes )
 	{
-		HLAunicodeString value = makeHLAType(encoderFactory, "");
-		try
-		{
-			value.decode( bytes );
-			String result = value.getValue();
-
-			// check for null terminator at end of string and remove as necessary
-			int length = result.length();
-			if( length > 0 && result.charAt( length - 1 ) == 0 )
-				result = result.substring( 0, length - 1  );
-
-			return result;
-		}
-		catch( DecoderException de )
-		{
-			throw new UCEFException( de,
-			                         "Unable to decode byte array of length %d as a unicode string.",
-			                         bytes.length );
-		}
+		return asString( bytes, 0 );
 	}
 
+	////////////////////////////////////////////////////////////////////////////////////////////
+	//////////////////////////// Encoder Factory Based Encoding ////////////////////////////////
+	////////////////////////////////////////////////////////////////////////////////////////////
 	/**
 	 * Encode a short to an HLA byte array representation
 	 *
@@ -281,7 +205,7 @@ public class HLACodecUtils
 	 */
 	public static byte[] encode(EncoderFactory encoderFactory, char value)
 	{
-		return makeHLAType(encoderFactory, value).toByteArray();
+		return encode( value );
 	}
 
 	/**
@@ -293,7 +217,7 @@ public class HLACodecUtils
 	 */
 	public static byte[] encode(EncoderFactory encoderFactory, byte value)
 	{
-		return makeHLAType(encoderFactory, value).toByteArray();
+		return encode( value );
 	}
 
 	/**
@@ -305,7 +229,7 @@ public class HLACodecUtils
 	 */
 	public static byte[] encode(EncoderFactory encoderFactory, short value)
 	{
-		return makeHLAType(encoderFactory, value).toByteArray();
+		return encode( value );
 	}
 
 	/**
@@ -317,7 +241,7 @@ public class HLACodecUtils
 	 */
 	public static byte[] encode(EncoderFactory encoderFactory, int value)
 	{
-		return makeHLAType(encoderFactory, value).toByteArray();
+		return encode( value );
 	}
 
 	/**
@@ -329,7 +253,7 @@ public class HLACodecUtils
 	 */
 	public static byte[] encode(EncoderFactory encoderFactory, long value)
 	{
-		return makeHLAType(encoderFactory, value).toByteArray();
+		return encode( value );
 	}
 
 	/**
@@ -341,7 +265,7 @@ public class HLACodecUtils
 	 */
 	public static byte[] encode(EncoderFactory encoderFactory, double value)
 	{
-		return makeHLAType(encoderFactory, value).toByteArray();
+		return encode( value );
 	}
 
 	/**
@@ -353,7 +277,7 @@ public class HLACodecUtils
 	 */
 	public static byte[] encode(EncoderFactory encoderFactory, float value)
 	{
-		return makeHLAType(encoderFactory, value).toByteArray();
+		return encode( value );
 	}
 
 	/**
@@ -365,7 +289,7 @@ public class HLACodecUtils
 	 */
 	public static byte[] encode(EncoderFactory encoderFactory, boolean value)
 	{
-		return makeHLAType(encoderFactory, value).toByteArray();
+		return encode( value );
 	}
 
 	/**
@@ -377,116 +301,623 @@ public class HLACodecUtils
 	 */
 	public static byte[] encode(EncoderFactory encoderFactory, String value)
 	{
-		return makeHLAType( encoderFactory, value ).toByteArray();
+		return encode( value );
 	}
 
+	////////////////////////////////////////////////////////////////////////////////////////////
+	////////////////////////////////////// Direct Decoding /////////////////////////////////////
+	////////////////////////////////////////////////////////////////////////////////////////////
 	/**
-	 * Encode a byte to an {@link HLAbyte} representation
+	 * Decode HLA byte array representation of a byte
+	 *
+	 * @param bytes the HLA byte array
+	 * @return the decoded value
+	 */
+	public static byte asByte( byte[] bytes )
+	{
+		return asByte( bytes, 0 );
+	}
+
+	/**
+	 * Decode HLA byte array representation of a byte, starting at the given offset
+	 *
+	 * @param bytes the HLA byte array
+	 * @param offset the index of the first byte of the encoded value
+	 * @return the decoded value
+	 */
+	public static byte asByte( byte[] bytes, int offset )
+	{
+		checkDecodeLength( bytes, offset, BYTE_LENGTH, "byte" );
+		return bytes[offset];
+	}
+
+	/**
+	 * Decode HLA byte array representation of a short
+	 *
+	 * @param bytes the HLA byte array
+	 * @return the decoded value
+	 */
+	public static short asShort( byte[] bytes )
+	{
+		return asShort( bytes, 0 );
+	}
+
+	/**
+	 * Decode HLA byte array representation of a short, starting at the given offset
+	 *
+	 * @param bytes the HLA byte array
+	 * @param offset the index of the first byte of the encoded value
+	 * @return the decoded value
+	 */
+	public static short asShort( byte[] bytes, int offset )
+	{
+		checkDecodeLength( bytes, offset, SHORT_LENGTH, "short" );
+		return (short)readInt16( bytes, offset );
+	}
+
+	/**
+	 * Decode HLA byte array representation of an integer
+	 *
+	 * @param bytes the HLA byte array
+	 * @return the decoded value
+	 */
+	public static int asInt( byte[] bytes )
+	{
+		return asInt( bytes, 0 );
+	}
+
+	/**
+	 * Decode HLA byte array representation of an integer, starting at the given offset
+	 *
+	 * @param bytes the HLA byte array
+	 * @param offset the index of the first byte of the encoded value
+	 * @return the decoded value
+	 */
+	public static int asInt( byte[] bytes, int offset )
+	{
+		checkDecodeLength( bytes, offset, INT_LENGTH, "integer" );
+		return readInt32( bytes, offset );
+	}
+
+	/**
+	 * Decode HLA byte array representation of a long
+	 *
+	 * @param bytes the HLA byte array
+	 * @return the decoded value
+	 */
+	public static long asLong( byte[] bytes )
+	{
+		return asLong( bytes, 0 );
+	}
+
+	/**
+	 * Decode HLA byte array representation of a long, starting at the given offset
+	 *
+	 * @param bytes the HLA byte array
+	 * @param offset the index of the first byte of the encoded value
+	 * @return the decoded value
+	 */
+	public static long asLong( byte[] bytes, int offset )
+	{
+		checkDecodeLength( bytes, offset, LONG_LENGTH, "long" );
+		return readInt64( bytes, offset );
+	}
+
+	/**
+	 * Decode HLA byte array representation of a float
+	 *
+	 * @param bytes the HLA byte array
+	 * @return the decoded value
+	 */
+	public static float asFloat( byte[] bytes )
+	{
+		return asFloat( bytes, 0 );
+	}
+
+	/**
+	 * Decode HLA byte array representation of a float, starting at the given offset
+	 *
+	 * @param bytes the HLA byte array
+	 * @param offset the index of the first byte of the encoded value
+	 * @return the decoded value
+	 */
+	public static float asFloat( byte[] bytes, int offset )
+	{
+		checkDecodeLength( bytes, offset, FLOAT_LENGTH, "float" );
+		return Float.intBitsToFloat( readInt32( bytes, offset ) );
+	}
+
+	/**
+	 * Decode HLA byte array representation of a double
+	 *
+	 * @param bytes the HLA byte array
+	 * @return the decoded value
+	 */
+	public static double asDouble( byte[] bytes )
+	{
+		return asDouble( bytes, 0 );
+	}
+
+	/**
+	 * Decode HLA byte array representation of a double, starting at the given offset
+	 *
+	 * @param bytes the HLA byte array
+	 * @param offset the index of the first byte of the encoded value
+	 * @return the decoded value
+	 */
+	public static double asDouble( byte[] bytes, int offset )
+	{
+		checkDecodeLength( bytes, offset, DOUBLE_LENGTH, "double" );
+		return Double.longBitsToDouble( readInt64( bytes, offset ) );
+	}
+
+	/**
+	 * Decode HLA byte array representation of a boolean
+	 *
+	 * @param bytes the HLA byte array
+	 * @return the decoded value
+	 */
+	public static boolean asBoolean( byte[] bytes )
+	{
+		return asBoolean( bytes, 0 );
+	}
+
+	/**
+	 * Decode HLA byte array representation of a boolean, starting at the given offset
+	 *
+	 * @param bytes the HLA byte array
+	 * @param offset the index of the first byte of the encoded value
+	 * @return the decoded value
+	 */
+	public static boolean asBoolean( byte[] bytes, int offset )
+	{
+		checkDecodeLength( bytes, offset, BOOLEAN_LENGTH, "boolean" );
+		return readInt32( bytes, offset ) != HLA_FALSE;
+	}
+
+	/**
+	 * Decode HLA byte array representation of a char
+	 *
+	 * @param bytes the HLA byte array
+	 * @return the decoded value
+	 */
+	public static char asChar( byte[] bytes )
+	{
+		return asChar( bytes, 0 );
+	}
+
+	/**
+	 * Decode HLA byte array representation of a char, starting at the given offset
+	 *
+	 * @param bytes the HLA byte array
+	 * @param offset the index of the first byte of the encoded value
+	 * @return the decoded value
+	 */
+	public static char asChar( byte[] bytes, int offset )
+	{
+		checkDecodeLength( bytes, offset, CHAR_LENGTH, "char" );
+		return (char)readInt16( bytes, offset );
+	}
+
+	/**
+	 * Decode HLA byte array representation of a unicode string
+	 *
+	 * @param bytes the HLA byte array
+	 * @return the decoded value
+	 */
+	public static String asString( byte[] bytes )
+	{
+		return asString( bytes, 0 );
+	}
+
+	/**
+	 * Decode HLA byte array representation of a unicode string, starting at the given offset
+	 *
+	 * An HLAunicodeString is encoded as an HLAinteger32BE character count followed by that many
+	 * HLAunicodeChar values.
+	 *
+	 * @param bytes the HLA byte array
+	 * @param offset the index of the first byte of the encoded value
+	 * @return the decoded value
+	 */
+	public static String asString( byte[] bytes, int offset )
+	{
+		checkDecodeLength( bytes, offset, INT_LENGTH, "unicode string" );
+		int length = readInt32( bytes, offset );
+		if( length < 0 )
+		{
+			throw new UCEFException( "Unable to decode byte array of length %d as a unicode " +
+			                         "string (negative character count %d).",
+			                         bytes.length, length );
+		}
+		// compare character counts rather than byte counts, which could overflow
+		if( length > (bytes.length - offset - INT_LENGTH) / CHAR_LENGTH )
+		{
+			throw new UCEFException( "Unable to decode byte array of length %d as a unicode " +
+			                         "string (character count %d).",
+			                         bytes.length, length );
+		}
+
+		// check for null terminator at end of string and ignore as necessary
+		int start = offset + INT_LENGTH;
+		if( length > 0 && readInt16( bytes, start + ((length - 1) * CHAR_LENGTH) ) == 0 )
+			length--;
+
+		char[] chars = new char[length];
+		for( int i = 0; i < length; i++ )
+			chars[i] = (char)readInt16( bytes, start + (i * CHAR_LENGTH) );
+		return new String( chars );
+	}
+
+	////////////////////////////////////////////////////////////////////////////////////////////
+	////////////////////////////////////// Direct Encoding /////////////////////////////////////
+	////////////////////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Encode a char to an HLA byte array representation
 	 *
-	 * @param encoderFactory the encoder instance to use
 	 * @param value the value to encode
-	 * @return the {@link HLAbyte}
+	 * @return the HLA byte array
 	 */
-	private static HLAbyte makeHLAType(EncoderFactory encoderFactory, byte value)
+	public static byte[] encode( char value )
 	{
-		return encoderFactory.createHLAbyte(value);
+		byte[] bytes = new byte[CHAR_LENGTH];
+		writeInt16( value, bytes, 0 );
+		return bytes;
 	}
 
 	/**
-	 * Encode a short to an {@link HLAinteger16BE} representation
+	 * Encode a char into the given buffer as an HLA byte array representation
 	 *
-	 * @param encoderFactory the encoder instance to use
 	 * @param value the value to encode
-	 * @return the {@link HLAinteger16BE}
+	 * @param buffer the buffer to encode into
+	 * @param offset the index in the buffer at which to write the first byte
+	 * @return the number of bytes written
 	 */
-	private static HLAinteger16BE makeHLAType(EncoderFactory encoderFactory, short value)
+	public static int encode( char value, byte[] buffer, int offset )
 	{
-		return encoderFactory.createHLAinteger16BE(value);
+		checkEncodeLength( buffer, offset, CHAR_LENGTH, "char" );
+		writeInt16( value, buffer, offset );
+		return CHAR_LENGTH;
 	}
 
 	/**
-	 * Encode an integer to an {@link HLAinteger32BE} representation
+	 * Encode a byte to an HLA byte array representation
 	 *
-	 * @param encoderFactory the encoder instance to use
 	 * @param value the value to encode
-	 * @return the {@link HLAinteger32BE}
+	 * @return the HLA byte array
 	 */
-	private static HLAinteger32BE makeHLAType(EncoderFactory encoderFactory, int value)
+	public static byte[] encode( byte value )
 	{
-		return encoderFactory.createHLAinteger32BE(value);
+		return new byte[]{ value };
 	}
 
 	/**
-	 * Encode a long to an {@link HLAinteger64BE} representation
+	 * Encode a byte into the given buffer as an HLA byte array representation
+	 *
+	 * @param value the value to encode
+	 * @param buffer the buffer to encode into
+	 * @param offset the index in the buffer at which to write the first byte
+	 * @return the number of bytes written
+	 */
+	public static int encode( byte value, byte[] buffer, int offset )
+	{
+		checkEncodeLength( buffer, offset, BYTE_LENGTH, "byte" );
+		buffer[offset] = value;
+		return BYTE_LENGTH;
+	}
+
+	/**
+	 * Encode a short to an HLA byte array representation
 	 *
-	 * @param encoderFactory the encoder instance to use
 	 * @param value the value to encode
 	 * @return the HLA byte array
 	 */
-	private static HLAinteger64BE makeHLAType(EncoderFactory encoderFactory, long value)
+	public static byte[] encode( short value )
 	{
-		return encoderFactory.createHLAinteger64BE(value);
+		byte[] bytes = new byte[SHORT_LENGTH];
+		writeInt16( value, bytes, 0 );
+		return bytes;
 	}
 
 	/**
-	 * Encode a double to an {@link HLAfloat64BE} representation
+	 * Encode a short into the given buffer as an HLA byte array representation
 	 *
-	 * @param encoderFactory the encoder instance to use
 	 * @param value the value to encode
-	 * @return the {@link HLAfloat64BE}
+	 * @param buffer the buffer to encode into
+	 * @param offset the index in the buffer at which to write the first byte
+	 * @return the number of bytes written
 	 */
-	private static HLAfloat64BE makeHLAType(EncoderFactory encoderFactory, double value)
+	public static int encode( short value, byte[] buffer, int offset )
 	{
-		return encoderFactory.createHLAfloat64BE(value);
+		checkEncodeLength( buffer, offset, SHORT_LENGTH, "short" );
+		writeInt16( value, buffer, offset );
+		return SHORT_LENGTH;
 	}
 
 	/**
-	 * Encode a float to an {@link HLAfloat32BE} representation
+	 * Encode an integer to an HLA byte array representation
 	 *
-	 * @param encoderFactory the encoder instance to use
 	 * @param value the value to encode
-	 * @return the {@link HLAfloat32BE}
+	 * @return the HLA byte array
 	 */
-	private static HLAfloat32BE makeHLAType(EncoderFactory encoderFactory, float value)
+	public static byte[] encode( int value )
 	{
-		return encoderFactory.createHLAfloat32BE(value);
+		byte[] bytes = new byte[INT_LENGTH];
+		writeInt32( value, bytes, 0 );
+		return bytes;
 	}
 
 	/**
-	 * Encode a boolean to an {@link HLAboolean} representation
+	 * Encode an integer into the given buffer as an HLA byte array representation
 	 *
-	 * @param encoderFactory the encoder instance to use
 	 * @param value the value to encode
-	 * @return the {@link HLAboolean}
+	 * @param buffer the buffer to encode into
+	 * @param offset the index in the buffer at which to write the first byte
+	 * @return the number of bytes written
 	 */
-	private static HLAboolean makeHLAType(EncoderFactory encoderFactory, boolean value)
+	public static int encode( int value, byte[] buffer, int offset )
 	{
-		return encoderFactory.createHLAboolean(value);
+		checkEncodeLength( buffer, offset, INT_LENGTH, "integer" );
+		writeInt32( value, buffer, offset );
+		return INT_LENGTH;
 	}
 
 	/**
-	 * Encode a char to an {@link HLAunicodeChar} representation
+	 * Encode a long to an HLA byte array representation
 	 *
-	 * @param encoderFactory the encoder instance to use
 	 * @param value the value to encode
-	 * @return the {@link HLAunicodeChar}
+	 * @return the HLA byte array
 	 */
-	private static HLAunicodeChar makeHLAType(EncoderFactory encoderFactory, char value)
+	public static byte[] encode( long value )
 	{
-		// NOTE: we need to cast the char to a short here
-		//       in order to create the HLAunicodeChar
-		return encoderFactory.createHLAunicodeChar((short)value);
+		byte[] bytes = new byte[LONG_LENGTH];
+		writeInt64( value, bytes, 0 );
+		return bytes;
 	}
 
 	/**
-	 * Encode a string to an {@link HLAunicodeString} representation
+	 * Encode a long into the given buffer as an HLA byte array representation
+	 *
+	 * @param value the value to encode
+	 * @param buffer the buffer to encode into
+	 * @param offset the index in the buffer at which to write the first byte
+	 * @return the number of bytes written
+	 */
+	public static int encode( long value, byte[] buffer, int offset )
+	{
+		checkEncodeLength( buffer, offset, LONG_LENGTH, "long" );
+		writeInt64( value, buffer, offset );
+		return LONG_LENGTH;
+	}
+
+	/**
+	 * Encode a double to an HLA byte array representation
+	 *
+	 * @param value the value to encode
+	 * @return the HLA byte array
+	 */
+	public static byte[] encode( double value )
+	{
+		byte[] bytes = new byte[DOUBLE_LENGTH];
+		writeInt64( Double.doubleToLongBits( value ), bytes, 0 );
+		return bytes;
+	}
+
+	/**
+	 * Encode a double into the given buffer as an HLA byte array representation
 	 *
-	 * @param encoderFactory the encoder instance to use
 	 * @param value the value to encode
-	 * @return the {@link HLAunicodeString}
+	 * @param buffer the buffer to encode into
+	 * @param offset the index in the buffer at which to write the first byte
+	 * @return the number of bytes written
 	 */
-	private static HLAunicodeString makeHLAType(EncoderFactory encoderFactory, String value)
+	public static int encode( double value, byte[] buffer, int offset )
+	{
+		checkEncodeLength( buffer, offset, DOUBLE_LENGTH, "double" );
+		writeInt64( Double.doubleToLongBits( value ), buffer, offset );
+		return DOUBLE_LENGTH;
+	}
+
+	/**
+	 * Encode a float to an HLA byte array representation
+	 *
+	 * @param value the value to encode
+	 * @return the HLA byte array
+	 */
+	public static byte[] encode( float value )
+	{
+		byte[] bytes = new byte[FLOAT_LENGTH];
+		writeInt32( Float.floatToIntBits( value ), bytes, 0 );
+		return bytes;
+	}
+
+	/**
+	 * Encode a float into the given buffer as an HLA byte array representation
+	 *
+	 * @param value the value to encode
+	 * @param buffer the buffer to encode into
+	 * @param offset the index in the buffer at which to write the first byte
+	 * @return the number of bytes written
+	 */
+	public static int encode( float value, byte[] buffer, int offset )
+	{
+		checkEncodeLength( buffer, offset, FLOAT_LENGTH, "float" );
+		writeInt32( Float.floatToIntBits( value ), buffer, offset );
+		return FLOAT_LENGTH;
+	}
+
+	/**
+	 * Encode a boolean to an HLA byte array representation
+	 *
+	 * @param value the value to encode
+	 * @return the HLA byte array
+	 */
+	public static byte[] encode( boolean value )
+	{
+		byte[] bytes = new byte[BOOLEAN_LENGTH];
+		writeInt32( value ? HLA_TRUE : HLA_FALSE, bytes, 0 );
+		return bytes;
+	}
+
+	/**
+	 * Encode a boolean into the given buffer as an HLA byte array representation
+	 *
+	 * @param value the value to encode
+	 * @param buffer the buffer to encode into
+	 * @param offset the index in the buffer at which to write the first byte
+	 * @return the number of bytes written
+	 */
+	public static int encode( boolean value, byte[] buffer, int offset )
+	{
+		checkEncodeLength( buffer, offset, BOOLEAN_LENGTH, "boolean" );
+		writeInt32( value ? HLA_TRUE : HLA_FALSE, buffer, offset );
+		return BOOLEAN_LENGTH;
+	}
+
+	/**
+	 * Encode a string to an HLA byte array representation of a unicode string
+	 *
+	 * @param value the value to encode (null is treated as an empty string)
+	 * @return the HLA byte array
+	 */
+	public static byte[] encode( String value )
+	{
+		byte[] bytes = new byte[encodedLength( value )];
+		encodeString( value == null ? "" : value, bytes, 0 );
+		return bytes;
+	}
+
+	/**
+	 * Encode a string into the given buffer as an HLA byte array representation of a unicode
+	 * string. Use {@link #encodedLength(String)} to determine the space required.
+	 *
+	 * @param value the value to encode (null is treated as an empty string)
+	 * @param buffer the buffer to encode into
+	 * @param offset the index in the buffer at which to write the first byte
+	 * @return the number of bytes written
+	 */
+	public static int encode( String value, byte[] buffer, int offset )
+	{
+		int length = encodedLength( value );
+		checkEncodeLength( buffer, offset, length, "unicode string" );
+		encodeString( value == null ? "" : value, buffer, offset );
+		return length;
+	}
+
+	/**
+	 * Determine the number of bytes required to encode a string as an HLA unicode string
+	 *
+	 * @param value the value to be encoded (null is treated as an empty string)
+	 * @return the number of bytes required
+	 */
+	public static int encodedLength( String value )
+	{
+		return INT_LENGTH + ((value == null ? 0 : value.length()) * CHAR_LENGTH);
+	}
+
+	////////////////////////////////////////////////////////////////////////////////////////////
+	//////////////////////////////// Internal Utility Methods //////////////////////////////////
+	////////////////////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Writes the character count and characters of a string into a buffer which is already
+	 * known to be large enough
+	 *
+	 * @param value the value to encode
+	 * @param buffer the buffer to encode into
+	 * @param offset the index in the buffer at which to write the first byte
+	 */
+	private static void encodeString( String value, byte[] buffer, int offset )
+	{
+		int length = value.length();
+		writeInt32( length, buffer, offset );
+		int position = offset + INT_LENGTH;
+		for( int i = 0; i < length; i++ )
+		{
+			writeInt16( value.charAt( i ), buffer, position );
+			position += CHAR_LENGTH;
+		}
+	}
+
+	/**
+	 * Check that a byte array contains enough bytes from the given offset to decode a value
+	 *
+	 * @param bytes the HLA byte array
+	 * @param offset the index of the first byte of the encoded value
+	 * @param required the number of bytes required
+	 * @param typeName the name of the type being decoded, used in the exception message
+	 * @throws UCEFException if there are not enough bytes available
+	 */
+	private static void checkDecodeLength( byte[] bytes, int offset, int required, String typeName )
+	{
+		if( bytes == null )
+			throw new UCEFException( "Unable to decode null byte array as a %s.", typeName );
+
+		if( offset < 0 || bytes.length - offset < required )
+		{
+			throw new UCEFException( "Unable to decode byte array of length %d as a %s.",
+			                         bytes.length, typeName );
+		}
+	}
+
+	/**
+	 * Check that a buffer has enough space from the given offset to encode a value
+	 *
+	 * @param buffer the buffer to encode into
+	 * @param offset the index in the buffer at which to write the first byte
+	 * @param required the number of bytes required
+	 * @param typeName the name of the type being encoded, used in the exception message
+	 * @throws UCEFException if there is not enough space available
+	 */
+	private static void checkEncodeLength( byte[] buffer, int offset, int required, String typeName )
+	{
+		if( buffer == null )
+			throw new UCEFException( "Unable to encode a %s into a null buffer.", typeName );
+
+		if( offset < 0 || buffer.length - offset < required )
+		{
+			throw new UCEFException( "Unable to encode a %s at offset %d of a buffer of length " +
+			                         "%d (%d bytes required).",
+			                         typeName, offset, buffer.length, required );
+		}
+	}
+
+	private static int readInt16( byte[] bytes, int offset )
+	{
+		return ((bytes[offset] & 0xFF) << 8) |
+		        (bytes[offset + 1] & 0xFF);
+	}
+
+	private static int readInt32( byte[] bytes, int offset )
+	{
+		return ((bytes[offset] & 0xFF) << 24) |
+		       ((bytes[offset + 1] & 0xFF) << 16) |
+		       ((bytes[offset + 2] & 0xFF) << 8) |
+		        (bytes[offset + 3] & 0xFF);
+	}
+
+	private static long readInt64( byte[] bytes, int offset )
+	{
+		return ((long)readInt32( bytes, offset ) << 32) |
+		       (readInt32( bytes, offset + 4 ) & 0xFFFFFFFFL);
+	}
+
+	private static void writeInt16( int value, byte[] buffer, int offset )
+	{
+		buffer[offset] = (byte)(value >>> 8);
+		buffer[offset + 1] = (byte)value;
+	}
+
+	private static void writeInt32( int value, byte[] buffer, int offset )
+	{
+		buffer[offset] = (byte)(value >>> 24);
+		buffer[offset + 1] = (byte)(value >>> 16);
+		buffer[offset + 2] = (byte)(value >>> 8);
+		buffer[offset + 3] = (byte)value;
+	}
+
+	private static void writeInt64( long value, byte[] buffer, int offset )
 	{
-		return encoderFactory.createHLAunicodeString(value == null ? "" : value);
+		writeInt32( (int)(value >>> 32), buffer, offset );
+		writeInt32( (int)value, buffer, offset + 4 );
 	}
 }
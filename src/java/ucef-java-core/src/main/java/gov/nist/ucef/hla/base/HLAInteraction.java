@@ -28,6 +28,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
+import gov.nist.ucef.hla.base.Types.DataType;
 import hla.rti1516e.encoding.EncoderFactory;
 
 /**
@@ -48,10 +49,20 @@ public class HLAInteraction
 	protected final String interactionClassName;
 	protected Map<String, byte[]> parameters;
 
+	// the slots of the parameters (null if this instance is not accessed by slot)
+	protected final SlotLayout slotLayout;
+	// the parameter storage if it is slot indexed by the same layout (null otherwise), allowing
+	// slot based access to go directly to the storage
+	private final SlotMap slots;
+
 	// used for encoding/decoding byte array representations of interaction parameters
 	protected EncoderFactory encoder;
 
-	private final Object mutex_lock = new Object();
+	// most recently decoded parameter values, to avoid repeatedly decoding unchanged values
+	private DecodedValueCache decodedValues;
+
+	// shared between linked instances, since they also share their underlying state
+	private final Object mutex_lock;
 
 	//----------------------------------------------------------
 	//                      CONSTRUCTORS
@@ -66,7 +77,7 @@ public class HLAInteraction
 	 */
 	protected HLAInteraction( String interactionClassName )
 	{
-		this( interactionClassName, null );
+		this( interactionClassName, null, null );
 	}
 
 	/**
@@ -80,9 +91,44 @@ public class HLAInteraction
 	 */
 	protected HLAInteraction( String interactionClassName,
 	                          Map<String,byte[]> parameters )
+	{
+		this( interactionClassName, parameters, null );
+	}
+
+	/**
+	 * Construct a new interaction instance with parameter values, optionally stored by slot
+	 *
+	 * NOTE: if a slot layout is provided, the parameter values are copied into slot indexed
+	 * storage, otherwise the provided map is used directly as the storage for the parameter
+	 * values.
+	 *
+	 * NOTE: Generally speaking the RTIAmbassadorWrapper's makeInteraction() method should be used
+	 * to create a new {@link HLAInteraction}
+	 *
+	 * @param interactionClassName the name of the interaction class to which this instance
+	 *            corresponds
+	 * @param parameters the parameter values for the interaction (may be empty or null)
+	 * @param slotLayout the slots of the parameters (may be null, in which case parameter values
+	 *            are not stored by slot)
+	 */
+	protected HLAInteraction( String interactionClassName,
+	                          Map<String,byte[]> parameters, SlotLayout slotLayout )
 	{
 		this.interactionClassName = interactionClassName;
-		this.parameters = parameters == null ? new HashMap<>() : parameters;
+		if( slotLayout == null )
+		{
+			this.parameters = parameters == null ? new HashMap<>() : parameters;
+		}
+		else
+		{
+			this.parameters = new SlotMap( slotLayout );
+			if( parameters != null )
+				this.parameters.putAll( parameters );
+		}
+		this.slotLayout = slotLayout;
+		this.slots = slotStorage( this.parameters, slotLayout );
+		this.decodedValues = new DecodedValueCache( storageLayout( this.parameters ) );
+		this.mutex_lock = new Object();
 
 		this.encoder = HLACodecUtils.getEncoder();
 	}
@@ -98,9 +144,32 @@ public class HLAInteraction
 	 * @param interaction the interaction to use as the base
 	 */
 	protected HLAInteraction( HLAInteraction interaction )
+	{
+		this( interaction, interaction.slotLayout );
+	}
+
+	/**
+	 * Construct from another {@link HLAInteraction} instance, accessing parameters by slot
+	 * according to the given layout.
+	 *
+	 * NOTE: this will result in an instance which is "linked" to the original instance. Slot
+	 * based access goes directly to the underlying storage if the original instance stores its
+	 * parameter values using an equal layout, and otherwise falls back to access by name.
+	 *
+	 * NOTE: Generally speaking the RTIAmbassadorWrapper's makeInteraction() method should be used
+	 * to create a new {@link HLAInteraction}
+	 *
+	 * @param interaction the interaction to use as the base
+	 * @param slotLayout the slots of the parameters (may be null)
+	 */
+	protected HLAInteraction( HLAInteraction interaction, SlotLayout slotLayout )
 	{
 		this.interactionClassName = interaction.interactionClassName;
 		this.parameters = interaction.parameters;
+		this.slotLayout = slotLayout;
+		this.slots = slotStorage( this.parameters, slotLayout );
+		this.decodedValues = interaction.decodedValues;
+		this.mutex_lock = interaction.mutex_lock;
 
 		this.encoder = interaction.encoder;
 	}
@@ -133,6 +202,18 @@ public class HLAInteraction
 		return this.interactionClassName;
 	}
 
+	/**
+	 * Obtain the slots of the parameters of this instance, which determine the slot values used
+	 * by the slot based accessor and mutator methods such as {@link #getAsDouble(int)}
+	 *
+	 * @return the slots of the parameters of this instance, or null if this instance is not
+	 *         accessed by slot
+	 */
+	public SlotLayout getSlotLayout()
+	{
+		return this.slotLayout;
+	}
+
 	/**
 	 * Determine if this instance has a parameter with the given name.
 	 *
@@ -173,7 +254,16 @@ public class HLAInteraction
 	 */
 	public byte getAsByte( String parameterName )
 	{
-		return HLACodecUtils.asByte( this.encoder, getRawValue( parameterName ) );
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( parameterName, DataType.BYTE );
+			if( e != null )
+				return (byte)e.bits;
+
+			byte value = HLACodecUtils.asByte( this.parameters.get( parameterName ) );
+			this.decodedValues.put( parameterName, DataType.BYTE, value );
+			return value;
+		}
 	}
 
 	/**
@@ -184,7 +274,16 @@ public class HLAInteraction
 	 */
 	public short getAsShort( String parameterName )
 	{
-		return HLACodecUtils.asShort( this.encoder, getRawValue( parameterName ) );
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( parameterName, DataType.SHORT );
+			if( e != null )
+				return (short)e.bits;
+
+			short value = HLACodecUtils.asShort( this.parameters.get( parameterName ) );
+			this.decodedValues.put( parameterName, DataType.SHORT, value );
+			return value;
+		}
 	}
 
 	/**
@@ -195,7 +294,16 @@ public class HLAInteraction
 	 */
 	public int getAsInt( String parameterName )
 	{
-		return HLACodecUtils.asInt( this.encoder, getRawValue( parameterName ) );
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( parameterName, DataType.INT );
+			if( e != null )
+				return (int)e.bits;
+
+			int value = HLACodecUtils.asInt( this.parameters.get( parameterName ) );
+			this.decodedValues.put( parameterName, DataType.INT, value );
+			return value;
+		}
 	}
 
 	/**
@@ -206,7 +314,16 @@ public class HLAInteraction
 	 */
 	public long getAsLong( String parameterName )
 	{
-		return HLACodecUtils.asLong( this.encoder, getRawValue( parameterName ) );
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( parameterName, DataType.LONG );
+			if( e != null )
+				return e.bits;
+
+			long value = HLACodecUtils.asLong( this.parameters.get( parameterName ) );
+			this.decodedValues.put( parameterName, DataType.LONG, value );
+			return value;
+		}
 	}
 
 	/**
@@ -217,7 +334,16 @@ public class HLAInteraction
 	 */
 	public float getAsFloat( String parameterName )
 	{
-		return HLACodecUtils.asFloat( this.encoder, getRawValue( parameterName ) );
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( parameterName, DataType.FLOAT );
+			if( e != null )
+				return Float.intBitsToFloat( (int)e.bits );
+
+			float value = HLACodecUtils.asFloat( this.parameters.get( parameterName ) );
+			this.decodedValues.put( parameterName, DataType.FLOAT, Float.floatToRawIntBits( value ) );
+			return value;
+		}
 	}
 
 	/**
@@ -228,7 +354,16 @@ public class HLAInteraction
 	 */
 	public double getAsDouble( String parameterName )
 	{
-		return HLACodecUtils.asDouble( this.encoder, getRawValue( parameterName ) );
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( parameterName, DataType.DOUBLE );
+			if( e != null )
+				return Double.longBitsToDouble( e.bits );
+
+			double value = HLACodecUtils.asDouble( this.parameters.get( parameterName ) );
+			this.decodedValues.put( parameterName, DataType.DOUBLE, Double.doubleToRawLongBits( value ) );
+			return value;
+		}
 	}
 
 	/**
@@ -239,7 +374,16 @@ public class HLAInteraction
 	 */
 	public boolean getAsBoolean( String parameterName )
 	{
-		return HLACodecUtils.asBoolean( this.encoder, getRawValue( parameterName ) );
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( parameterName, DataType.BOOLEAN );
+			if( e != null )
+				return e.bits != 0L;
+
+			boolean value = HLACodecUtils.asBoolean( this.parameters.get( parameterName ) );
+			this.decodedValues.put( parameterName, DataType.BOOLEAN, value ? 1L : 0L );
+			return value;
+		}
 	}
 
 	/**
@@ -250,7 +394,16 @@ public class HLAInteraction
 	 */
 	public char getAsChar( String parameterName )
 	{
-		return HLACodecUtils.asChar( this.encoder, getRawValue( parameterName ) );
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( parameterName, DataType.CHAR );
+			if( e != null )
+				return (char)e.bits;
+
+			char value = HLACodecUtils.asChar( this.parameters.get( parameterName ) );
+			this.decodedValues.put( parameterName, DataType.CHAR, value );
+			return value;
+		}
 	}
 
 	/**
@@ -261,7 +414,16 @@ public class HLAInteraction
 	 */
 	public String getAsString( String parameterName )
 	{
-		return HLACodecUtils.asString( this.encoder, getRawValue( parameterName ) );
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( parameterName, DataType.STRING );
+			if( e != null )
+				return (String)e.value;
+
+			String value = HLACodecUtils.asString( this.parameters.get( parameterName ) );
+			this.decodedValues.put( parameterName, value );
+			return value;
+		}
 	}
 
 	/**
@@ -281,6 +443,17 @@ public class HLAInteraction
 		return result;
 	}
 
+	/**
+	 * Set the value of a parameter to a byte
+	 *
+	 * @param parameterName the name of the parameter
+	 * @param value the value to set
+	 */
+	public void setValue( String parameterName, byte value )
+	{
+		setRawValue( parameterName, HLACodecUtils.encode( value ) );
+	}
+
 	/**
 	 * Set the value of a parameter to a short
 	 *
@@ -289,7 +462,7 @@ public class HLAInteraction
 	 */
 	public void setValue( String parameterName, short value )
 	{
-		setRawValue( parameterName, HLACodecUtils.encode( this.encoder, value ) );
+		setRawValue( parameterName, HLACodecUtils.encode( value ) );
 	}
 
 	/**
@@ -300,7 +473,7 @@ public class HLAInteraction
 	 */
 	public void setValue( String parameterName, int value )
 	{
-		setRawValue( parameterName, HLACodecUtils.encode( this.encoder, value ) );
+		setRawValue( parameterName, HLACodecUtils.encode( value ) );
 	}
 
 	/**
@@ -311,7 +484,7 @@ public class HLAInteraction
 	 */
 	public void setValue( String parameterName, long value )
 	{
-		setRawValue( parameterName, HLACodecUtils.encode( this.encoder, value ) );
+		setRawValue( parameterName, HLACodecUtils.encode( value ) );
 	}
 
 	/**
@@ -322,7 +495,7 @@ public class HLAInteraction
 	 */
 	public void setValue( String parameterName, float value )
 	{
-		setRawValue( parameterName, HLACodecUtils.encode( this.encoder, value ) );
+		setRawValue( parameterName, HLACodecUtils.encode( value ) );
 	}
 
 	/**
@@ -333,7 +506,7 @@ public class HLAInteraction
 	 */
 	public void setValue( String parameterName, double value )
 	{
-		setRawValue( parameterName, HLACodecUtils.encode( this.encoder, value ) );
+		setRawValue( parameterName, HLACodecUtils.encode( value ) );
 	}
 
 	/**
@@ -344,7 +517,7 @@ public class HLAInteraction
 	 */
 	public void setValue( String parameterName, boolean value )
 	{
-		setRawValue( parameterName, HLACodecUtils.encode( this.encoder, value ) );
+		setRawValue( parameterName, HLACodecUtils.encode( value ) );
 	}
 
 	/**
@@ -355,7 +528,7 @@ public class HLAInteraction
 	 */
 	public void setValue( String parameterName, char value )
 	{
-		setRawValue( parameterName, HLACodecUtils.encode( this.encoder, value ) );
+		setRawValue( parameterName, HLACodecUtils.encode( value ) );
 	}
 
 	/**
@@ -366,7 +539,7 @@ public class HLAInteraction
 	 */
 	public void setValue( String parameterName, String value )
 	{
-		setRawValue( parameterName, HLACodecUtils.encode( this.encoder, value ) );
+		setRawValue( parameterName, HLACodecUtils.encode( value ) );
 	}
 
 	/**
@@ -379,6 +552,7 @@ public class HLAInteraction
 	{
 		synchronized( mutex_lock )
 		{
+			this.decodedValues.invalidate( parameterName );
 			if( value == null )
 			{
 				this.parameters.remove( parameterName );
@@ -390,6 +564,386 @@ public class HLAInteraction
 		}
 	}
 
+	////////////////////////////////////////////////////////////////////////////////////////////
+	////////////////////////// Slot Indexed Accessor and Mutator Methods ///////////////////////
+	////////////////////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Determine if the parameter in the given slot has been initialized (i.e. has a value)
+	 *
+	 * See also {@link #isPresent(String)} and {@link #getSlotLayout()}
+	 *
+	 * @param slot the slot of the parameter in this instance's {@link SlotLayout}
+	 * @return true if the parameter as a value defined for it, false otherwise
+	 */
+	public boolean isPresent( int slot )
+	{
+		byte[] rawValue = getRawValue( slot );
+		return rawValue != null && rawValue.length != 0;
+	}
+
+	/**
+	 * Obtain the value for the parameter in the given slot as a byte
+	 *
+	 * @param slot the slot of the parameter in this instance's {@link SlotLayout}
+	 * @return the value
+	 */
+	public byte getAsByte( int slot )
+	{
+		if( this.slots == null )
+			return getAsByte( slotName( slot ) );
+
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( slot, DataType.BYTE );
+			if( e != null )
+				return (byte)e.bits;
+
+			byte value = HLACodecUtils.asByte( this.slots.getSlot( slot ) );
+			this.decodedValues.put( slot, DataType.BYTE, value );
+			return value;
+		}
+	}
+
+	/**
+	 * Obtain the value for the parameter in the given slot as a short
+	 *
+	 * @param slot the slot of the parameter in this instance's {@link SlotLayout}
+	 * @return the value
+	 */
+	public short getAsShort( int slot )
+	{
+		if( this.slots == null )
+			return getAsShort( slotName( slot ) );
+
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( slot, DataType.SHORT );
+			if( e != null )
+				return (short)e.bits;
+
+			short value = HLACodecUtils.asShort( this.slots.getSlot( slot ) );
+			this.decodedValues.put( slot, DataType.SHORT, value );
+			return value;
+		}
+	}
+
+	/**
+	 * Obtain the value for the parameter in the given slot as an integer
+	 *
+	 * @param slot the slot of the parameter in this instance's {@link SlotLayout}
+	 * @return the value
+	 */
+	public int getAsInt( int slot )
+	{
+		if( this.slots == null )
+			return getAsInt( slotName( slot ) );
+
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( slot, DataType.INT );
+			if( e != null )
+				return (int)e.bits;
+
+			int value = HLACodecUtils.asInt( this.slots.getSlot( slot ) );
+			this.decodedValues.put( slot, DataType.INT, value );
+			return value;
+		}
+	}
+
+	/**
+	 * Obtain the value for the parameter in the given slot as a long
+	 *
+	 * @param slot the slot of the parameter in this instance's {@link SlotLayout}
+	 * @return the value
+	 */
+	public long getAsLong( int slot )
+	{
+		if( this.slots == null )
+			return getAsLong( slotName( slot ) );
+
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( slot, DataType.LONG );
+			if( e != null )
+				return e.bits;
+
+			long value = HLACodecUtils.asLong( this.slots.getSlot( slot ) );
+			this.decodedValues.put( slot, DataType.LONG, value );
+			return value;
+		}
+	}
+
+	/**
+	 * Obtain the value for the parameter in the given slot as a float
+	 *
+	 * @param slot the slot of the parameter in this instance's {@link SlotLayout}
+	 * @return the value
+	 */
+	public float getAsFloat( int slot )
+	{
+		if( this.slots == null )
+			return getAsFloat( slotName( slot ) );
+
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( slot, DataType.FLOAT );
+			if( e != null )
+				return Float.intBitsToFloat( (int)e.bits );
+
+			float value = HLACodecUtils.asFloat( this.slots.getSlot( slot ) );
+			this.decodedValues.put( slot, DataType.FLOAT, Float.floatToRawIntBits( value ) );
+			return value;
+		}
+	}
+
+	/**
+	 * Obtain the value for the parameter in the given slot as a double
+	 *
+	 * @param slot the slot of the parameter in this instance's {@link SlotLayout}
+	 * @return the value
+	 */
+	public double getAsDouble( int slot )
+	{
+		if( this.slots == null )
+			return getAsDouble( slotName( slot ) );
+
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( slot, DataType.DOUBLE );
+			if( e != null )
+				return Double.longBitsToDouble( e.bits );
+
+			double value = HLACodecUtils.asDouble( this.slots.getSlot( slot ) );
+			this.decodedValues.put( slot, DataType.DOUBLE, Double.doubleToRawLongBits( value ) );
+			return value;
+		}
+	}
+
+	/**
+	 * Obtain the value for the parameter in the given slot as a boolean
+	 *
+	 * @param slot the slot of the parameter in this instance's {@link SlotLayout}
+	 * @return the value
+	 */
+	public boolean getAsBoolean( int slot )
+	{
+		if( this.slots == null )
+			return getAsBoolean( slotName( slot ) );
+
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( slot, DataType.BOOLEAN );
+			if( e != null )
+				return e.bits != 0L;
+
+			boolean value = HLACodecUtils.asBoolean( this.slots.getSlot( slot ) );
+			this.decodedValues.put( slot, DataType.BOOLEAN, value ? 1L : 0L );
+			return value;
+		}
+	}
+
+	/**
+	 * Obtain the value for the parameter in the given slot as a char
+	 *
+	 * @param slot the slot of the parameter in this instance's {@link SlotLayout}
+	 * @return the value
+	 */
+	public char getAsChar( int slot )
+	{
+		if( this.slots == null )
+			return getAsChar( slotName( slot ) );
+
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( slot, DataType.CHAR );
+			if( e != null )
+				return (char)e.bits;
+
+			char value = HLACodecUtils.asChar( this.slots.getSlot( slot ) );
+			this.decodedValues.put( slot, DataType.CHAR, value );
+			return value;
+		}
+	}
+
+	/**
+	 * Obtain the value for the parameter in the given slot as a string
+	 *
+	 * @param slot the slot of the parameter in this instance's {@link SlotLayout}
+	 * @return the value
+	 */
+	public String getAsString( int slot )
+	{
+		if( this.slots == null )
+			return getAsString( slotName( slot ) );
+
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( slot, DataType.STRING );
+			if( e != null )
+				return (String)e.value;
+
+			String value = HLACodecUtils.asString( this.slots.getSlot( slot ) );
+			this.decodedValues.put( slot, value );
+			return value;
+		}
+	}
+
+	/**
+	 * Obtain the raw byte array value of the parameter in the given slot
+	 *
+	 * @param slot the slot of the parameter in this instance's {@link SlotLayout}
+	 * @return the raw byte array value
+	 */
+	public byte[] getRawValue( int slot )
+	{
+		if( this.slots == null )
+			return getRawValue( slotName( slot ) );
+
+		synchronized( mutex_lock )
+		{
+			return this.slots.getSlot( slot );
+		}
+	}
+
+	/**
+	 * Set the value of the parameter in the given slot to a byte
+	 *
+	 * @param slot the slot of the parameter in this instance's {@link SlotLayout}
+	 * @param value the value to set
+	 */
+	public void setValue( int slot, byte value )
+	{
+		setRawValue( slot, HLACodecUtils.encode( value ) );
+	}
+
+	/**
+	 * Set the value of the parameter in the given slot to a short
+	 *
+	 * @param slot the slot of the parameter in this instance's {@link SlotLayout}
+	 * @param value the value to set
+	 */
+	public void setValue( int slot, short value )
+	{
+		setRawValue( slot, HLACodecUtils.encode( value ) );
+	}
+
+	/**
+	 * Set the value of the parameter in the given slot to an integer
+	 *
+	 * @param slot the slot of the parameter in this instance's {@link SlotLayout}
+	 * @param value the value to set
+	 */
+	public void setValue( int slot, int value )
+	{
+		setRawValue( slot, HLACodecUtils.encode( value ) );
+	}
+
+	/**
+	 * Set the value of the parameter in the given slot to a long
+	 *
+	 * @param slot the slot of the parameter in this instance's {@link SlotLayout}
+	 * @param value the value to set
+	 */
+	public void setValue( int slot, long value )
+	{
+		setRawValue( slot, HLACodecUtils.encode( value ) );
+	}
+
+	/**
+	 * Set the value of the parameter in the given slot to a float
+	 *
+	 * @param slot the slot of the parameter in this instance's {@link SlotLayout}
+	 * @param value the value to set
+	 */
+	public void setValue( int slot, float value )
+	{
+		setRawValue( slot, HLACodecUtils.encode( value ) );
+	}
+
+	/**
+	 * Set the value of the parameter in the given slot to a double
+	 *
+	 * @param slot the slot of the parameter in this instance's {@link SlotLayout}
+	 * @param value the value to set
+	 */
+	public void setValue( int slot, double value )
+	{
+		setRawValue( slot, HLACodecUtils.encode( value ) );
+	}
+
+	/**
+	 * Set the value of the parameter in the given slot to a boolean
+	 *
+	 * @param slot the slot of the parameter in this instance's {@link SlotLayout}
+	 * @param value the value to set
+	 */
+	public void setValue( int slot, boolean value )
+	{
+		setRawValue( slot, HLACodecUtils.encode( value ) );
+	}
+
+	/**
+	 * Set the value of the parameter in the given slot to a char
+	 *
+	 * @param slot the slot of the parameter in this instance's {@link SlotLayout}
+	 * @param value the value to set
+	 */
+	public void setValue( int slot, char value )
+	{
+		setRawValue( slot, HLACodecUtils.encode( value ) );
+	}
+
+	/**
+	 * Set the value of the parameter in the given slot to a string
+	 *
+	 * @param slot the slot of the parameter in this instance's {@link SlotLayout}
+	 * @param value the value to set
+	 */
+	public void setValue( int slot, String value )
+	{
+		setRawValue( slot, HLACodecUtils.encode( value ) );
+	}
+
+	/**
+	 * Set the the raw byte array value of the parameter in the given slot
+	 *
+	 * @param slot the slot of the parameter in this instance's {@link SlotLayout}
+	 * @param value the raw byte array value
+	 */
+	public void setRawValue( int slot, byte[] value )
+	{
+		if( this.slots == null )
+		{
+			setRawValue( slotName( slot ), value );
+			return;
+		}
+
+		synchronized( mutex_lock )
+		{
+			this.decodedValues.invalidate( slot );
+			if( value == null )
+				this.slots.clearSlot( slot );
+			else
+				this.slots.setSlot( slot, value );
+		}
+	}
+
+	/**
+	 * Obtain the name of the parameter in the given slot
+	 *
+	 * @param slot the slot of the parameter in this instance's {@link SlotLayout}
+	 * @return the name of the parameter
+	 */
+	private String slotName( int slot )
+	{
+		if( this.slotLayout == null )
+		{
+			throw new UCEFException( "Cannot access parameter slot %d of %s - there is no slot layout.",
+			                         slot, this.interactionClassName );
+		}
+		return this.slotLayout.nameOf( slot );
+	}
+
 	/**
 	 * Get the current value of all parameters of this interaction.
 	 *
@@ -423,6 +977,7 @@ public class HLAInteraction
 		synchronized( mutex_lock )
 		{
 			this.parameters.putAll( parameters );
+			this.decodedValues.invalidate( parameters.keySet() );
 		}
 		return this;
 	}
@@ -439,6 +994,7 @@ public class HLAInteraction
 		synchronized( mutex_lock )
 		{
 			this.parameters.clear();
+			this.decodedValues.clear();
 		}
 		return this;
 	}
@@ -456,4 +1012,29 @@ public class HLAInteraction
 	//----------------------------------------------------------
 	//                     STATIC METHODS
 	//----------------------------------------------------------
+	/**
+	 * Obtain the underlying slot indexed storage of a map of parameter values, if it is indexed by
+	 * the given layout
+	 *
+	 * @param parameters the parameter values
+	 * @param slotLayout the slot layout (may be null)
+	 * @return the slot indexed storage, or null if the values are not stored by slot, or are
+	 *         stored according to a different layout
+	 */
+	private static SlotMap slotStorage( Map<String,byte[]> parameters, SlotLayout slotLayout )
+	{
+		SlotLayout layout = storageLayout( parameters );
+		return layout != null && layout.equals( slotLayout ) ? (SlotMap)parameters : null;
+	}
+
+	/**
+	 * Obtain the slot layout of the storage of a map of parameter values
+	 *
+	 * @param parameters the parameter values
+	 * @return the slot layout of the storage, or null if the values are not stored by slot
+	 */
+	private static SlotLayout storageLayout( Map<String,byte[]> parameters )
+	{
+		return parameters instanceof SlotMap ? ((SlotMap)parameters).getLayout() : null;
+	}
 }
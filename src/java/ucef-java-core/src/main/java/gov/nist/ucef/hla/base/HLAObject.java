@@ -26,8 +26,11 @@ package gov.nist.ucef.hla.base;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
+import gov.nist.ucef.hla.base.Types.DataType;
 import hla.rti1516e.ObjectInstanceHandle;
 import hla.rti1516e.encoding.EncoderFactory;
 
@@ -50,10 +53,23 @@ public class HLAObject
 	protected Map<String, byte[]> attributes;
 	protected ObjectInstanceHandle instanceHandle;
 
+	// the slots of the attributes (null if this instance is not accessed by slot)
+	protected final SlotLayout slotLayout;
+	// the attribute storage if it is slot indexed by the same layout (null otherwise), allowing
+	// slot based access to go directly to the storage
+	private final SlotMap slots;
+
 	// used for encoding/decoding byte array representations of attributes
 	protected EncoderFactory encoder;
 
-	private final Object mutex_lock = new Object();
+	// most recently decoded attribute values, to avoid repeatedly decoding unchanged values
+	private DecodedValueCache decodedValues;
+
+	// names of attributes which have been changed since they were last sent to the federation
+	private final Set<String> dirtyAttributes;
+
+	// shared between linked instances, since they also share their underlying state
+	private final Object mutex_lock;
 
 	//----------------------------------------------------------
 	//                      CONSTRUCTORS
@@ -68,7 +84,7 @@ public class HLAObject
 	 */
 	protected HLAObject( String objectClassName )
 	{
-		this( objectClassName, null, null );
+		this( objectClassName, null, null, null );
 	}
 
 	/**
@@ -81,7 +97,7 @@ public class HLAObject
 	 */
 	protected HLAObject( String objectClassName, ObjectInstanceHandle handle )
 	{
-		this( objectClassName, null, handle );
+		this( objectClassName, null, handle, null );
 	}
 
 	/**
@@ -111,9 +127,46 @@ public class HLAObject
 	 */
 	protected HLAObject( String objectClassName,
 	                     Map<String,byte[]> initialValues, ObjectInstanceHandle handle )
+	{
+		this( objectClassName, initialValues, handle, null );
+	}
+
+	/**
+	 * Construct a new object instance with attribute values, optionally stored by slot
+	 *
+	 * NOTE: if a slot layout is provided, the initial values are copied into slot indexed storage,
+	 * otherwise the provided map is used directly as the storage for the attribute values.
+	 *
+	 * NOTE: Generally speaking the RTIAmbassadorWrapper's makeObjectInstance() family of methods
+	 * should be used to create a new {@link HLAObject}
+	 *
+	 * @param objectClassName the name of the object class to which this instance corresponds
+	 * @param initialValues the initial attribute values for the interaction (may be empty or
+	 *            null)
+	 * @param handle the object instance handle (may be null)
+	 * @param slotLayout the slots of the attributes (may be null, in which case attribute values
+	 *            are not stored by slot)
+	 */
+	protected HLAObject( String objectClassName, Map<String,byte[]> initialValues,
+	                     ObjectInstanceHandle handle, SlotLayout slotLayout )
 	{
 		this.objectClassName = objectClassName;
-		this.attributes = initialValues == null ? new HashMap<>() : initialValues;
+		if( slotLayout == null )
+		{
+			this.attributes = initialValues == null ? new HashMap<>() : initialValues;
+		}
+		else
+		{
+			this.attributes = new SlotMap( slotLayout );
+			if( initialValues != null )
+				this.attributes.putAll( initialValues );
+		}
+		this.slotLayout = slotLayout;
+		this.slots = slotStorage( this.attributes, slotLayout );
+		this.decodedValues = new DecodedValueCache( storageLayout( this.attributes ) );
+		// initial values have not yet been sent, so they start out dirty
+		this.dirtyAttributes = new HashSet<>( this.attributes.keySet() );
+		this.mutex_lock = new Object();
 
 		this.instanceHandle = handle;
 
@@ -131,9 +184,33 @@ public class HLAObject
 	 * @param objectInstance the object instance to use as the base
 	 */
 	protected HLAObject( HLAObject objectInstance )
+	{
+		this( objectInstance, objectInstance.slotLayout );
+	}
+
+	/**
+	 * Construct from another {@link HLAObject} instance, accessing attributes by slot according
+	 * to the given layout.
+	 *
+	 * NOTE: this will result in an instance which is "linked" to the original instance. Slot
+	 * based access goes directly to the underlying storage if the original instance stores its
+	 * attribute values using an equal layout, and otherwise falls back to access by name.
+	 *
+	 * NOTE: Generally speaking the RTIAmbassadorWrapper's makeObjectInstance() family of methods
+	 * should be used to create a new {@link HLAObject}
+	 *
+	 * @param objectInstance the object instance to use as the base
+	 * @param slotLayout the slots of the attributes (may be null)
+	 */
+	protected HLAObject( HLAObject objectInstance, SlotLayout slotLayout )
 	{
 		this.objectClassName = objectInstance.objectClassName;
 		this.attributes = objectInstance.attributes;
+		this.slotLayout = slotLayout;
+		this.slots = slotStorage( this.attributes, slotLayout );
+		this.decodedValues = objectInstance.decodedValues;
+		this.dirtyAttributes = objectInstance.dirtyAttributes;
+		this.mutex_lock = objectInstance.mutex_lock;
 
 		this.instanceHandle = objectInstance.instanceHandle;
 
@@ -175,6 +252,18 @@ public class HLAObject
 		return this.instanceHandle;
 	}
 
+	/**
+	 * Obtain the slots of the attributes of this instance, which determine the slot values used
+	 * by the slot based accessor and mutator methods such as {@link #getAsDouble(int)}
+	 *
+	 * @return the slots of the attributes of this instance, or null if this instance is not
+	 *         accessed by slot
+	 */
+	public SlotLayout getSlotLayout()
+	{
+		return this.slotLayout;
+	}
+
 	/**
 	 * Determine if this instance has a attribute with the given name.
 	 *
@@ -214,7 +303,16 @@ public class HLAObject
 	 */
 	public byte getAsByte( String attributeName )
 	{
-		return HLACodecUtils.asByte( this.encoder, getRawValue( attributeName ) );
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( attributeName, DataType.BYTE );
+			if( e != null )
+				return (byte)e.bits;
+
+			byte value = HLACodecUtils.asByte( this.attributes.get( attributeName ) );
+			this.decodedValues.put( attributeName, DataType.BYTE, value );
+			return value;
+		}
 	}
 
 	/**
@@ -225,7 +323,16 @@ public class HLAObject
 	 */
 	public short getAsShort( String attributeName )
 	{
-		return HLACodecUtils.asShort( this.encoder, getRawValue( attributeName ) );
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( attributeName, DataType.SHORT );
+			if( e != null )
+				return (short)e.bits;
+
+			short value = HLACodecUtils.asShort( this.attributes.get( attributeName ) );
+			this.decodedValues.put( attributeName, DataType.SHORT, value );
+			return value;
+		}
 	}
 
 	/**
@@ -236,7 +343,16 @@ public class HLAObject
 	 */
 	public int getAsInt( String attributeName )
 	{
-		return HLACodecUtils.asInt( this.encoder, getRawValue( attributeName ) );
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( attributeName, DataType.INT );
+			if( e != null )
+				return (int)e.bits;
+
+			int value = HLACodecUtils.asInt( this.attributes.get( attributeName ) );
+			this.decodedValues.put( attributeName, DataType.INT, value );
+			return value;
+		}
 	}
 
 	/**
@@ -247,7 +363,16 @@ public class HLAObject
 	 */
 	public long getAsLong( String attributeName )
 	{
-		return HLACodecUtils.asLong( this.encoder, getRawValue( attributeName ) );
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( attributeName, DataType.LONG );
+			if( e != null )
+				return e.bits;
+
+			long value = HLACodecUtils.asLong( this.attributes.get( attributeName ) );
+			this.decodedValues.put( attributeName, DataType.LONG, value );
+			return value;
+		}
 	}
 
 	/**
@@ -258,7 +383,16 @@ public class HLAObject
 	 */
 	public float getAsFloat( String attributeName )
 	{
-		return HLACodecUtils.asFloat( this.encoder, getRawValue( attributeName ) );
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( attributeName, DataType.FLOAT );
+			if( e != null )
+				return Float.intBitsToFloat( (int)e.bits );
+
+			float value = HLACodecUtils.asFloat( this.attributes.get( attributeName ) );
+			this.decodedValues.put( attributeName, DataType.FLOAT, Float.floatToRawIntBits( value ) );
+			return value;
+		}
 	}
 
 	/**
@@ -269,7 +403,16 @@ public class HLAObject
 	 */
 	public double getAsDouble( String attributeName )
 	{
-		return HLACodecUtils.asDouble( this.encoder, getRawValue( attributeName ) );
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( attributeName, DataType.DOUBLE );
+			if( e != null )
+				return Double.longBitsToDouble( e.bits );
+
+			double value = HLACodecUtils.asDouble( this.attributes.get( attributeName ) );
+			this.decodedValues.put( attributeName, DataType.DOUBLE, Double.doubleToRawLongBits( value ) );
+			return value;
+		}
 	}
 
 	/**
@@ -280,7 +423,16 @@ public class HLAObject
 	 */
 	public boolean getAsBoolean( String attributeName )
 	{
-		return HLACodecUtils.asBoolean( this.encoder, getRawValue( attributeName ) );
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( attributeName, DataType.BOOLEAN );
+			if( e != null )
+				return e.bits != 0L;
+
+			boolean value = HLACodecUtils.asBoolean( this.attributes.get( attributeName ) );
+			this.decodedValues.put( attributeName, DataType.BOOLEAN, value ? 1L : 0L );
+			return value;
+		}
 	}
 
 	/**
@@ -291,7 +443,16 @@ public class HLAObject
 	 */
 	public char getAsChar( String attributeName )
 	{
-		return HLACodecUtils.asChar( this.encoder, getRawValue( attributeName ) );
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( attributeName, DataType.CHAR );
+			if( e != null )
+				return (char)e.bits;
+
+			char value = HLACodecUtils.asChar( this.attributes.get( attributeName ) );
+			this.decodedValues.put( attributeName, DataType.CHAR, value );
+			return value;
+		}
 	}
 
 	/**
@@ -302,7 +463,16 @@ public class HLAObject
 	 */
 	public String getAsString( String attributeName )
 	{
-		return HLACodecUtils.asString( this.encoder, getRawValue( attributeName ) );
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( attributeName, DataType.STRING );
+			if( e != null )
+				return (String)e.value;
+
+			String value = HLACodecUtils.asString( this.attributes.get( attributeName ) );
+			this.decodedValues.put( attributeName, value );
+			return value;
+		}
 	}
 
 	/**
@@ -322,6 +492,17 @@ public class HLAObject
 		return result;
 	}
 
+	/**
+	 * Set the value of an attribute to a byte
+	 *
+	 * @param attributeName the name of the attribute
+	 * @param value the value to set
+	 */
+	public void setValue( String attributeName, byte value )
+	{
+		setRawValue( attributeName, HLACodecUtils.encode( value ) );
+	}
+
 	/**
 	 * Set the value of an attribute to a short
 	 *
@@ -330,7 +511,7 @@ public class HLAObject
 	 */
 	public void setValue( String attributeName, short value )
 	{
-		setRawValue( attributeName, HLACodecUtils.encode( this.encoder, value ) );
+		setRawValue( attributeName, HLACodecUtils.encode( value ) );
 	}
 
 	/**
@@ -341,7 +522,7 @@ public class HLAObject
 	 */
 	public void setValue( String attributeName, int value )
 	{
-		setRawValue( attributeName, HLACodecUtils.encode( this.encoder, value ) );
+		setRawValue( attributeName, HLACodecUtils.encode( value ) );
 	}
 
 	/**
@@ -352,7 +533,7 @@ public class HLAObject
 	 */
 	public void setValue( String attributeName, long value )
 	{
-		setRawValue( attributeName, HLACodecUtils.encode( this.encoder, value ) );
+		setRawValue( attributeName, HLACodecUtils.encode( value ) );
 	}
 
 	/**
@@ -363,7 +544,7 @@ public class HLAObject
 	 */
 	public void setValue( String attributeName, float value )
 	{
-		setRawValue( attributeName, HLACodecUtils.encode( this.encoder, value ) );
+		setRawValue( attributeName, HLACodecUtils.encode( value ) );
 	}
 
 	/**
@@ -374,7 +555,7 @@ public class HLAObject
 	 */
 	public void setValue( String attributeName, double value )
 	{
-		setRawValue( attributeName, HLACodecUtils.encode( this.encoder, value ) );
+		setRawValue( attributeName, HLACodecUtils.encode( value ) );
 	}
 
 	/**
@@ -385,7 +566,7 @@ public class HLAObject
 	 */
 	public void setValue( String attributeName, boolean value )
 	{
-		setRawValue( attributeName, HLACodecUtils.encode( this.encoder, value ) );
+		setRawValue( attributeName, HLACodecUtils.encode( value ) );
 	}
 
 	/**
@@ -396,7 +577,7 @@ public class HLAObject
 	 */
 	public void setValue( String attributeName, char value )
 	{
-		setRawValue( attributeName, HLACodecUtils.encode( this.encoder, value ) );
+		setRawValue( attributeName, HLACodecUtils.encode( value ) );
 	}
 
 	/**
@@ -407,7 +588,7 @@ public class HLAObject
 	 */
 	public void setValue( String attributeName, String value )
 	{
-		setRawValue( attributeName, HLACodecUtils.encode( this.encoder, value ) );
+		setRawValue( attributeName, HLACodecUtils.encode( value ) );
 	}
 
 	/**
@@ -420,17 +601,406 @@ public class HLAObject
 	{
 		synchronized( mutex_lock )
 		{
+			this.decodedValues.invalidate( attributeName );
 			if( value == null )
 			{
 				this.attributes.remove( attributeName );
+				this.dirtyAttributes.remove( attributeName );
 			}
 			else
 			{
 				this.attributes.put( attributeName, value );
+				this.dirtyAttributes.add( attributeName );
 			}
 		}
 	}
 
+	////////////////////////////////////////////////////////////////////////////////////////////
+	////////////////////////// Slot Indexed Accessor and Mutator Methods ///////////////////////
+	////////////////////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Determine if the attribute in the given slot has been initialized (i.e. has a value)
+	 *
+	 * See also {@link #isPresent(String)} and {@link #getSlotLayout()}
+	 *
+	 * @param slot the slot of the attribute in this instance's {@link SlotLayout}
+	 * @return true if the attribute as a value defined for it, false otherwise
+	 */
+	public boolean isPresent( int slot )
+	{
+		byte[] rawValue = getRawValue( slot );
+		return rawValue != null && rawValue.length != 0;
+	}
+
+	/**
+	 * Obtain the value for the attribute in the given slot as a byte
+	 *
+	 * @param slot the slot of the attribute in this instance's {@link SlotLayout}
+	 * @return the value
+	 */
+	public byte getAsByte( int slot )
+	{
+		if( this.slots == null )
+			return getAsByte( slotName( slot ) );
+
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( slot, DataType.BYTE );
+			if( e != null )
+				return (byte)e.bits;
+
+			byte value = HLACodecUtils.asByte( this.slots.getSlot( slot ) );
+			this.decodedValues.put( slot, DataType.BYTE, value );
+			return value;
+		}
+	}
+
+	/**
+	 * Obtain the value for the attribute in the given slot as a short
+	 *
+	 * @param slot the slot of the attribute in this instance's {@link SlotLayout}
+	 * @return the value
+	 */
+	public short getAsShort( int slot )
+	{
+		if( this.slots == null )
+			return getAsShort( slotName( slot ) );
+
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( slot, DataType.SHORT );
+			if( e != null )
+				return (short)e.bits;
+
+			short value = HLACodecUtils.asShort( this.slots.getSlot( slot ) );
+			this.decodedValues.put( slot, DataType.SHORT, value );
+			return value;
+		}
+	}
+
+	/**
+	 * Obtain the value for the attribute in the given slot as an integer
+	 *
+	 * @param slot the slot of the attribute in this instance's {@link SlotLayout}
+	 * @return the value
+	 */
+	public int getAsInt( int slot )
+	{
+		if( this.slots == null )
+			return getAsInt( slotName( slot ) );
+
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( slot, DataType.INT );
+			if( e != null )
+				return (int)e.bits;
+
+			int value = HLACodecUtils.asInt( this.slots.getSlot( slot ) );
+			this.decodedValues.put( slot, DataType.INT, value );
+			return value;
+		}
+	}
+
+	/**
+	 * Obtain the value for the attribute in the given slot as a long
+	 *
+	 * @param slot the slot of the attribute in this instance's {@link SlotLayout}
+	 * @return the value
+	 */
+	public long getAsLong( int slot )
+	{
+		if( this.slots == null )
+			return getAsLong( slotName( slot ) );
+
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( slot, DataType.LONG );
+			if( e != null )
+				return e.bits;
+
+			long value = HLACodecUtils.asLong( this.slots.getSlot( slot ) );
+			this.decodedValues.put( slot, DataType.LONG, value );
+			return value;
+		}
+	}
+
+	/**
+	 * Obtain the value for the attribute in the given slot as a float
+	 *
+	 * @param slot the slot of the attribute in this instance's {@link SlotLayout}
+	 * @return the value
+	 */
+	public float getAsFloat( int slot )
+	{
+		if( this.slots == null )
+			return getAsFloat( slotName( slot ) );
+
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( slot, DataType.FLOAT );
+			if( e != null )
+				return Float.intBitsToFloat( (int)e.bits );
+
+			float value = HLACodecUtils.asFloat( this.slots.getSlot( slot ) );
+			this.decodedValues.put( slot, DataType.FLOAT, Float.floatToRawIntBits( value ) );
+			return value;
+		}
+	}
+
+	/**
+	 * Obtain the value for the attribute in the given slot as a double
+	 *
+	 * @param slot the slot of the attribute in this instance's {@link SlotLayout}
+	 * @return the value
+	 */
+	public double getAsDouble( int slot )
+	{
+		if( this.slots == null )
+			return getAsDouble( slotName( slot ) );
+
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( slot, DataType.DOUBLE );
+			if( e != null )
+				return Double.longBitsToDouble( e.bits );
+
+			double value = HLACodecUtils.asDouble( this.slots.getSlot( slot ) );
+			this.decodedValues.put( slot, DataType.DOUBLE, Double.doubleToRawLongBits( value ) );
+			return value;
+		}
+	}
+
+	/**
+	 * Obtain the value for the attribute in the given slot as a boolean
+	 *
+	 * @param slot the slot of the attribute in this instance's {@link SlotLayout}
+	 * @return the value
+	 */
+	public boolean getAsBoolean( int slot )
+	{
+		if( this.slots == null )
+			return getAsBoolean( slotName( slot ) );
+
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( slot, DataType.BOOLEAN );
+			if( e != null )
+				return e.bits != 0L;
+
+			boolean value = HLACodecUtils.asBoolean( this.slots.getSlot( slot ) );
+			this.decodedValues.put( slot, DataType.BOOLEAN, value ? 1L : 0L );
+			return value;
+		}
+	}
+
+	/**
+	 * Obtain the value for the attribute in the given slot as a char
+	 *
+	 * @param slot the slot of the attribute in this instance's {@link SlotLayout}
+	 * @return the value
+	 */
+	public char getAsChar( int slot )
+	{
+		if( this.slots == null )
+			return getAsChar( slotName( slot ) );
+
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( slot, DataType.CHAR );
+			if( e != null )
+				return (char)e.bits;
+
+			char value = HLACodecUtils.asChar( this.slots.getSlot( slot ) );
+			this.decodedValues.put( slot, DataType.CHAR, value );
+			return value;
+		}
+	}
+
+	/**
+	 * Obtain the value for the attribute in the given slot as a string
+	 *
+	 * @param slot the slot of the attribute in this instance's {@link SlotLayout}
+	 * @return the value
+	 */
+	public String getAsString( int slot )
+	{
+		if( this.slots == null )
+			return getAsString( slotName( slot ) );
+
+		synchronized( mutex_lock )
+		{
+			DecodedValueCache.Entry e = this.decodedValues.get( slot, DataType.STRING );
+			if( e != null )
+				return (String)e.value;
+
+			String value = HLACodecUtils.asString( this.slots.getSlot( slot ) );
+			this.decodedValues.put( slot, value );
+			return value;
+		}
+	}
+
+	/**
+	 * Obtain the raw byte array value of the attribute in the given slot
+	 *
+	 * @param slot the slot of the attribute in this instance's {@link SlotLayout}
+	 * @return the raw byte array value
+	 */
+	public byte[] getRawValue( int slot )
+	{
+		if( this.slots == null )
+			return getRawValue( slotName( slot ) );
+
+		synchronized( mutex_lock )
+		{
+			return this.slots.getSlot( slot );
+		}
+	}
+
+	/**
+	 * Set the value of the attribute in the given slot to a byte
+	 *
+	 * @param slot the slot of the attribute in this instance's {@link SlotLayout}
+	 * @param value the value to set
+	 */
+	public void setValue( int slot, byte value )
+	{
+		setRawValue( slot, HLACodecUtils.encode( value ) );
+	}
+
+	/**
+	 * Set the value of the attribute in the given slot to a short
+	 *
+	 * @param slot the slot of the attribute in this instance's {@link SlotLayout}
+	 * @param value the value to set
+	 */
+	public void setValue( int slot, short value )
+	{
+		setRawValue( slot, HLACodecUtils.encode( value ) );
+	}
+
+	/**
+	 * Set the value of the attribute in the given slot to an integer
+	 *
+	 * @param slot the slot of the attribute in this instance's {@link SlotLayout}
+	 * @param value the value to set
+	 */
+	public void setValue( int slot, int value )
+	{
+		setRawValue( slot, HLACodecUtils.encode( value ) );
+	}
+
+	/**
+	 * Set the value of the attribute in the given slot to a long
+	 *
+	 * @param slot the slot of the attribute in this instance's {@link SlotLayout}
+	 * @param value the value to set
+	 */
+	public void setValue( int slot, long value )
+	{
+		setRawValue( slot, HLACodecUtils.encode( value ) );
+	}
+
+	/**
+	 * Set the value of the attribute in the given slot to a float
+	 *
+	 * @param slot the slot of the attribute in this instance's {@link SlotLayout}
+	 * @param value the value to set
+	 */
+	public void setValue( int slot, float value )
+	{
+		setRawValue( slot, HLACodecUtils.encode( value ) );
+	}
+
+	/**
+	 * Set the value of the attribute in the given slot to a double
+	 *
+	 * @param slot the slot of the attribute in this instance's {@link SlotLayout}
+	 * @param value the value to set
+	 */
+	public void setValue( int slot, double value )
+	{
+		setRawValue( slot, HLACodecUtils.encode( value ) );
+	}
+
+	/**
+	 * Set the value of the attribute in the given slot to a boolean
+	 *
+	 * @param slot the slot of the attribute in this instance's {@link SlotLayout}
+	 * @param value the value to set
+	 */
+	public void setValue( int slot, boolean value )
+	{
+		setRawValue( slot, HLACodecUtils.encode( value ) );
+	}
+
+	/**
+	 * Set the value of the attribute in the given slot to a char
+	 *
+	 * @param slot the slot of the attribute in this instance's {@link SlotLayout}
+	 * @param value the value to set
+	 */
+	public void setValue( int slot, char value )
+	{
+		setRawValue( slot, HLACodecUtils.encode( value ) );
+	}
+
+	/**
+	 * Set the value of the attribute in the given slot to a string
+	 *
+	 * @param slot the slot of the attribute in this instance's {@link SlotLayout}
+	 * @param value the value to set
+	 */
+	public void setValue( int slot, String value )
+	{
+		setRawValue( slot, HLACodecUtils.encode( value ) );
+	}
+
+	/**
+	 * Set the the raw byte array value of the attribute in the given slot
+	 *
+	 * @param slot the slot of the attribute in this instance's {@link SlotLayout}
+	 * @param value the raw byte array value
+	 */
+	public void setRawValue( int slot, byte[] value )
+	{
+		if( this.slots == null )
+		{
+			setRawValue( slotName( slot ), value );
+			return;
+		}
+
+		synchronized( mutex_lock )
+		{
+			this.decodedValues.invalidate( slot );
+			if( value == null )
+			{
+				this.slots.clearSlot( slot );
+				this.dirtyAttributes.remove( this.slotLayout.nameOf( slot ) );
+			}
+			else
+			{
+				this.slots.setSlot( slot, value );
+				this.dirtyAttributes.add( this.slotLayout.nameOf( slot ) );
+			}
+		}
+	}
+
+	/**
+	 * Obtain the name of the attribute in the given slot
+	 *
+	 * @param slot the slot of the attribute in this instance's {@link SlotLayout}
+	 * @return the name of the attribute
+	 */
+	private String slotName( int slot )
+	{
+		if( this.slotLayout == null )
+		{
+			throw new UCEFException( "Cannot access attribute slot %d of %s - there is no slot layout.",
+			                         slot, this.objectClassName );
+		}
+		return this.slotLayout.nameOf( slot );
+	}
+
 	/**
 	 * Get the current value of all attributes this object instance.
 	 *
@@ -464,6 +1034,8 @@ public class HLAObject
 		synchronized( mutex_lock )
 		{
 			this.attributes.putAll( attributes );
+			this.decodedValues.invalidate( attributes.keySet() );
+			this.dirtyAttributes.addAll( attributes.keySet() );
 		}
 		return this;
 	}
@@ -480,6 +1052,8 @@ public class HLAObject
 		synchronized( mutex_lock )
 		{
 			this.attributes.clear();
+			this.decodedValues.clear();
+			this.dirtyAttributes.clear();
 		}
 		return this;
 	}
@@ -494,7 +1068,198 @@ public class HLAObject
 		return Collections.unmodifiableSet( this.attributes.keySet() );
 	}
 
+	////////////////////////////////////////////////////////////////////////////////////////////
+	///////////////////////////////////// Change Tracking //////////////////////////////////////
+	////////////////////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Determine if the named attribute has been changed since it was last sent to the federation
+	 *
+	 * @param attributeName the name of the attribute
+	 * @return true if the attribute has been changed, false otherwise
+	 */
+	public boolean isDirty( String attributeName )
+	{
+		synchronized( mutex_lock )
+		{
+			return this.dirtyAttributes.contains( attributeName );
+		}
+	}
+
+	/**
+	 * Determine if any attributes have been changed since they were last sent to the federation
+	 *
+	 * @return true if any attributes have been changed, false otherwise
+	 */
+	public boolean hasDirtyAttributes()
+	{
+		synchronized( mutex_lock )
+		{
+			return !this.dirtyAttributes.isEmpty();
+		}
+	}
+
+	/**
+	 * Get the names of the attributes which have been changed since they were last sent to the
+	 * federation
+	 *
+	 * @return the names of the changed attributes (a copy, which does not reflect later changes)
+	 */
+	public Set<String> getDirtyAttributeNames()
+	{
+		synchronized( mutex_lock )
+		{
+			return new HashSet<>( this.dirtyAttributes );
+		}
+	}
+
+	/**
+	 * Get the current value of the attributes which have been changed since they were last sent
+	 * to the federation
+	 *
+	 * @return the changed attributes and their values (a copy, which does not reflect later
+	 *         changes)
+	 */
+	public Map<String,byte[]> getDirtyState()
+	{
+		synchronized( mutex_lock )
+		{
+			Map<String,byte[]> dirtyState = new HashMap<>();
+			for( String attributeName : this.dirtyAttributes )
+				dirtyState.put( attributeName, this.attributes.get( attributeName ) );
+			return dirtyState;
+		}
+	}
+
+	/**
+	 * Mark all attributes as changed, so that they will all be sent out with the next update
+	 *
+	 * @return this instance
+	 */
+	public HLAObject markAllDirty()
+	{
+		synchronized( mutex_lock )
+		{
+			this.dirtyAttributes.addAll( this.attributes.keySet() );
+		}
+		return this;
+	}
+
+	/**
+	 * Mark all attributes as unchanged
+	 *
+	 * @return this instance
+	 */
+	public HLAObject markAllClean()
+	{
+		synchronized( mutex_lock )
+		{
+			this.dirtyAttributes.clear();
+		}
+		return this;
+	}
+
+	/**
+	 * Get a copy of the current value of all attributes of this object instance.
+	 *
+	 * This is used when sending out the full state, so that the values which were sent can be
+	 * passed to {@link #markClean(Map)} afterwards.
+	 *
+	 * @return the attributes and their values (a copy, which does not reflect later changes)
+	 */
+	Map<String,byte[]> copyState()
+	{
+		synchronized( mutex_lock )
+		{
+			return new HashMap<>( this.attributes );
+		}
+	}
+
+	/**
+	 * Mark attributes as unchanged after their values have been sent to the federation.
+	 *
+	 * Attributes which have been changed again since the values were obtained (i.e., while they
+	 * were being sent) are left marked as changed, so that the new values are not lost.
+	 *
+	 * @param sentState the attributes and the values which were sent
+	 */
+	void markClean( Map<String,byte[]> sentState )
+	{
+		synchronized( mutex_lock )
+		{
+			for( Map.Entry<String,byte[]> entry : sentState.entrySet() )
+			{
+				if( this.attributes.get( entry.getKey() ) == entry.getValue() )
+					this.dirtyAttributes.remove( entry.getKey() );
+			}
+		}
+	}
+
+	/**
+	 * Mark attributes as changed again after an attempt to send their values failed, or the
+	 * values were discarded without being sent.
+	 *
+	 * Only attributes which still hold the values which were to be sent are marked - attributes
+	 * which have been changed (or removed) since are left as they are, since a change is already
+	 * recorded for them if there is anything left to send.
+	 *
+	 * @param unsentState the attributes and the values which were not sent
+	 */
+	void markDirty( Map<String,byte[]> unsentState )
+	{
+		synchronized( mutex_lock )
+		{
+			for( Map.Entry<String,byte[]> entry : unsentState.entrySet() )
+			{
+				if( this.attributes.get( entry.getKey() ) == entry.getValue() )
+					this.dirtyAttributes.add( entry.getKey() );
+			}
+		}
+	}
+
+	/**
+	 * Apply attribute values reflected from the federation.
+	 *
+	 * Unlike {@link #setState(Map)}, the attributes are not marked as changed, since the values
+	 * originate from the federation rather than from this federate.
+	 *
+	 * @param attributes the attributes and values to update from
+	 */
+	void reflectState( Map<String, byte[]> attributes )
+	{
+		synchronized( mutex_lock )
+		{
+			this.attributes.putAll( attributes );
+			this.decodedValues.invalidate( attributes.keySet() );
+			this.dirtyAttributes.removeAll( attributes.keySet() );
+		}
+	}
+
 	//----------------------------------------------------------
 	//                     STATIC METHODS
 	//----------------------------------------------------------
+	/**
+	 * Obtain the underlying slot indexed storage of a map of attribute values, if it is indexed by
+	 * the given layout
+	 *
+	 * @param attributes the attribute values
+	 * @param slotLayout the slot layout (may be null)
+	 * @return the slot indexed storage, or null if the values are not stored by slot, or are
+	 *         stored according to a different layout
+	 */
+	private static SlotMap slotStorage( Map<String,byte[]> attributes, SlotLayout slotLayout )
+	{
+		SlotLayout layout = storageLayout( attributes );
+		return layout != null && layout.equals( slotLayout ) ? (SlotMap)attributes : null;
+	}
+
+	/**
+	 * Obtain the slot layout of the storage of a map of attribute values
+	 *
+	 * @param attributes the attribute values
+	 * @return the slot layout of the storage, or null if the values are not stored by slot
+	 */
+	private static SlotLayout storageLayout( Map<String,byte[]> attributes )
+	{
+		return attributes instanceof SlotMap ? ((SlotMap)attributes).getLayout() : null;
+	}
 }
@@ -0,0 +1,273 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.base;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * A two way lookup table between the names of the members of an object or interaction class
+ * (i.e., attributes or parameters) and their RTI handles.
+ *
+ * Lookups in both directions are made directly against open addressed arrays, which avoids both
+ * the round trip to the RTI ambassador and the allocation of boxed keys. Since member names are
+ * commonly interned constants, name lookups compare by identity before falling back to equality.
+ *
+ * Instances are immutable, so they can be safely read from callback threads without locking -
+ * adding an entry with {@link #with(String, Object)} creates a new table.
+ *
+ * @param <H> the type of the handles - {@link hla.rti1516e.AttributeHandle} or
+ *            {@link hla.rti1516e.ParameterHandle}
+ */
+final class HandleTable<H>
+{
+	//----------------------------------------------------------
+	//                    STATIC VARIABLES
+	//----------------------------------------------------------
+	private static final HandleTable<?> EMPTY = new HandleTable<>( new String[0], new Object[0] );
+
+	//----------------------------------------------------------
+	//                   INSTANCE VARIABLES
+	//----------------------------------------------------------
+	private final String[] names;
+	private final Object[] handles;
+
+	// open addressed indices into the names/handles arrays - entries are offset by one so that
+	// zero can be used to mark an empty position
+	private final int[] nameIndex;
+	private final int[] handleIndex;
+	private final int mask;
+
+	//----------------------------------------------------------
+	//                      CONSTRUCTORS
+	//----------------------------------------------------------
+	private HandleTable( String[] names, Object[] handles )
+	{
+		this.names = names;
+		this.handles = handles;
+
+		int capacity = tableSize( names.length );
+		this.mask = capacity - 1;
+		this.nameIndex = new int[capacity];
+		this.handleIndex = new int[capacity];
+		for( int i = 0; i < names.length; i++ )
+		{
+			insert( this.nameIndex, names[i].hashCode(), i );
+			insert( this.handleIndex, handles[i].hashCode(), i );
+		}
+	}
+
+	//----------------------------------------------------------
+	//                    INSTANCE METHODS
+	//----------------------------------------------------------
+	/**
+	 * Obtain the handle for a member name
+	 *
+	 * @param name the name of the member
+	 * @return the handle of the member, or null if the name is not in this table
+	 */
+	public H handleOf( String name )
+	{
+		int index = indexOf( name );
+		return index < 0 ? null : handleAt( index );
+	}
+
+	/**
+	 * Obtain the member name for a handle
+	 *
+	 * @param handle the handle of the member
+	 * @return the name of the member, or null if the handle is not in this table
+	 */
+	public String nameOf( H handle )
+	{
+		int index = indexOfHandle( handle );
+		return index < 0 ? null : this.names[index];
+	}
+
+	/**
+	 * Obtain the position of a member name in this table. Positions follow the order in which
+	 * the entries were provided when the table was created.
+	 *
+	 * @param name the name of the member
+	 * @return the position of the member, or -1 if the name is not in this table
+	 */
+	public int indexOf( String name )
+	{
+		if( name == null )
+			return -1;
+
+		for( int i = spread( name.hashCode() ) & mask; ; i = (i + 1) & mask )
+		{
+			int entry = this.nameIndex[i];
+			if( entry == 0 )
+				return -1;
+
+			String candidate = this.names[entry - 1];
+			if( candidate == name || candidate.equals( name ) )
+				return entry - 1;
+		}
+	}
+
+	/**
+	 * Obtain the position of a handle in this table. Positions follow the order in which the
+	 * entries were provided when the table was created.
+	 *
+	 * @param handle the handle of the member
+	 * @return the position of the member, or -1 if the handle is not in this table
+	 */
+	public int indexOfHandle( H handle )
+	{
+		if( handle == null )
+			return -1;
+
+		for( int i = spread( handle.hashCode() ) & mask; ; i = (i + 1) & mask )
+		{
+			int entry = this.handleIndex[i];
+			if( entry == 0 )
+				return -1;
+
+			if( handle.equals( this.handles[entry - 1] ) )
+				return entry - 1;
+		}
+	}
+
+	/**
+	 * Obtain the member name at a position in this table
+	 *
+	 * @param index the position
+	 * @return the name of the member
+	 */
+	public String nameAt( int index )
+	{
+		return this.names[index];
+	}
+
+	/**
+	 * Obtain the handle at a position in this table
+	 *
+	 * @param index the position
+	 * @return the handle of the member
+	 */
+	@SuppressWarnings("unchecked")
+	public H handleAt( int index )
+	{
+		return (H)this.handles[index];
+	}
+
+	/**
+	 * Obtain the number of members in this table
+	 *
+	 * @return the number of members in this table
+	 */
+	public int size()
+	{
+		return this.names.length;
+	}
+
+	/**
+	 * Obtain a table containing the entries of this table, plus the given entry
+	 *
+	 * @param name the name of the member
+	 * @param handle the handle of the member
+	 * @return a new table with the entry added, or this table if it already contains the name
+	 */
+	public HandleTable<H> with( String name, H handle )
+	{
+		if( handleOf( name ) != null )
+			return this;
+
+		int size = this.names.length;
+		String[] newNames = Arrays.copyOf( this.names, size + 1 );
+		Object[] newHandles = Arrays.copyOf( this.handles, size + 1 );
+		newNames[size] = name;
+		newHandles[size] = handle;
+		return new HandleTable<>( newNames, newHandles );
+	}
+
+	private void insert( int[] index, int hash, int position )
+	{
+		int i = spread( hash ) & mask;
+		while( index[i] != 0 )
+			i = (i + 1) & mask;
+		index[i] = position + 1;
+	}
+
+	//----------------------------------------------------------
+	//                     STATIC METHODS
+	//----------------------------------------------------------
+	/**
+	 * Obtain an empty table
+	 *
+	 * @return an empty table
+	 */
+	@SuppressWarnings("unchecked")
+	public static <H> HandleTable<H> empty()
+	{
+		return (HandleTable<H>)EMPTY;
+	}
+
+	/**
+	 * Create a table from a map of member names to handles. Entries are positioned in the
+	 * iteration order of the map.
+	 *
+	 * @param handlesByName the member names and their handles
+	 * @return the table
+	 */
+	public static <H> HandleTable<H> of( Map<String,H> handlesByName )
+	{
+		int size = handlesByName.size();
+		String[] names = new String[size];
+		Object[] handles = new Object[size];
+		int i = 0;
+		for( Entry<String,H> entry : handlesByName.entrySet() )
+		{
+			names[i] = entry.getKey();
+			handles[i] = entry.getValue();
+			i++;
+		}
+		return new HandleTable<>( names, handles );
+	}
+
+	/**
+	 * Determine the size of the index arrays for a number of entries - a power of two, with the
+	 * index at most half full so that probe sequences stay short
+	 */
+	private static int tableSize( int entries )
+	{
+		int capacity = 2;
+		while( capacity < entries * 2 )
+			capacity <<= 1;
+		return capacity;
+	}
+
+	/**
+	 * Spread the higher bits of a hash code downwards, since only the lower bits are used to
+	 * select an index position
+	 */
+	private static int spread( int hash )
+	{
+		return hash ^ (hash >>> 16);
+	}
+}
@@ -0,0 +1,240 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.base;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A {@link Map} view of the attribute or parameter values received from the RTI, keyed by name,
+ * which is backed directly by the handle keyed map the RTI provided.
+ *
+ * Names are only resolved to handles (or handles to names) when a value is actually looked up
+ * or iterated over, using the cached {@link HandleTable} for the class, so receivers which only
+ * read a few values don't pay for converting all of them.
+ *
+ * The view can be used as the storage of an {@link HLAInteraction}, so it supports
+ * modification - the first modification copies the values into an ordinary map, which is used
+ * from then on, and the RTI's map is never changed.
+ *
+ * NOTE: the RTI's map is retained, so this must only be used with RTIs which do not reuse the
+ *       maps they pass to callbacks.
+ *
+ * @param <H> the type of the handles - {@link hla.rti1516e.AttributeHandle} or
+ *            {@link hla.rti1516e.ParameterHandle}
+ */
+final class IncomingStateView<H> extends AbstractMap<String,byte[]>
+{
+	//----------------------------------------------------------
+	//                   INSTANCE VARIABLES
+	//----------------------------------------------------------
+	private final Map<H,byte[]> source;
+	private final HandleTable<H> table;
+	// resolves the names of handles which are not in the table
+	private final Function<H,String> nameResolver;
+
+	// the copied values, once the view has been modified (null until then)
+	private Map<String,byte[]> copy;
+
+	//----------------------------------------------------------
+	//                      CONSTRUCTORS
+	//----------------------------------------------------------
+	/**
+	 * Constructor
+	 *
+	 * @param source the handle keyed values received from the RTI
+	 * @param table the handle table for the class the values belong to
+	 * @param nameResolver resolves the names of any handles which are not in the table
+	 */
+	IncomingStateView( Map<H,byte[]> source, HandleTable<H> table, Function<H,String> nameResolver )
+	{
+		this.source = source;
+		this.table = table;
+		this.nameResolver = nameResolver;
+		this.copy = null;
+	}
+
+	//----------------------------------------------------------
+	//                    INSTANCE METHODS
+	//----------------------------------------------------------
+	@Override
+	public int size()
+	{
+		return this.copy == null ? this.source.size() : this.copy.size();
+	}
+
+	@Override
+	public boolean containsKey( Object name )
+	{
+		if( this.copy != null )
+			return this.copy.containsKey( name );
+
+		H handle = handleOf( name );
+		if( handle != null )
+			return this.source.containsKey( handle );
+
+		return unknownEntry( name ) != null;
+	}
+
+	@Override
+	public byte[] get( Object name )
+	{
+		if( this.copy != null )
+			return this.copy.get( name );
+
+		H handle = handleOf( name );
+		if( handle != null )
+			return this.source.get( handle );
+
+		Entry<H,byte[]> entry = unknownEntry( name );
+		return entry == null ? null : entry.getValue();
+	}
+
+	@Override
+	public byte[] put( String name, byte[] value )
+	{
+		return materialize().put( name, value );
+	}
+
+	@Override
+	public byte[] remove( Object name )
+	{
+		return materialize().remove( name );
+	}
+
+	@Override
+	public void putAll( Map<? extends String,? extends byte[]> values )
+	{
+		materialize().putAll( values );
+	}
+
+	@Override
+	public void clear()
+	{
+		materialize().clear();
+	}
+
+	@Override
+	public Set<Entry<String,byte[]>> entrySet()
+	{
+		if( this.copy != null )
+			return this.copy.entrySet();
+
+		return new AbstractSet<Entry<String,byte[]>>()
+		{
+			@Override
+			public int size()
+			{
+				return IncomingStateView.this.source.size();
+			}
+
+			@Override
+			public Iterator<Entry<String,byte[]>> iterator()
+			{
+				if( IncomingStateView.this.copy != null )
+					return IncomingStateView.this.copy.entrySet().iterator();
+
+				Iterator<Entry<H,byte[]>> iterator = IncomingStateView.this.source.entrySet().iterator();
+				return new Iterator<Entry<String,byte[]>>()
+				{
+					@Override
+					public boolean hasNext()
+					{
+						return iterator.hasNext();
+					}
+
+					@Override
+					public Entry<String,byte[]> next()
+					{
+						Entry<H,byte[]> entry = iterator.next();
+						return new SimpleImmutableEntry<>( nameOf( entry.getKey() ), entry.getValue() );
+					}
+				};
+			}
+		};
+	}
+
+	/**
+	 * @param name a member name
+	 * @return the handle for the name, or null if the name is not known
+	 */
+	private H handleOf( Object name )
+	{
+		return name instanceof String ? this.table.handleOf( (String)name ) : null;
+	}
+
+	/**
+	 * Find the entry whose handle is not in the table but resolves to the given name, so that
+	 * lookups agree with the names produced by iteration. This scans the RTI's map, but is only
+	 * needed for names the table doesn't know, which should be rare.
+	 *
+	 * @param name a member name
+	 * @return the entry for the name, or null if there is none
+	 */
+	private Entry<H,byte[]> unknownEntry( Object name )
+	{
+		if( !(name instanceof String) )
+			return null;
+
+		for( Entry<H,byte[]> entry : this.source.entrySet() )
+		{
+			H handle = entry.getKey();
+			if( this.table.indexOfHandle( handle ) < 0 && name.equals( this.nameResolver.apply( handle ) ) )
+				return entry;
+		}
+		return null;
+	}
+
+	/**
+	 * @param handle a member handle
+	 * @return the name for the handle
+	 */
+	private String nameOf( H handle )
+	{
+		String name = this.table.nameOf( handle );
+		return name != null ? name : this.nameResolver.apply( handle );
+	}
+
+	/**
+	 * Copy the values out of the RTI's map, so that they can be modified
+	 *
+	 * @return the copied values
+	 */
+	private Map<String,byte[]> materialize()
+	{
+		if( this.copy == null )
+		{
+			Map<String,byte[]> values = new HashMap<>( this.source.size() * 2 );
+			for( Entry<H,byte[]> entry : this.source.entrySet() )
+				values.put( nameOf( entry.getKey() ), entry.getValue() );
+			this.copy = values;
+		}
+		return this.copy;
+	}
+}
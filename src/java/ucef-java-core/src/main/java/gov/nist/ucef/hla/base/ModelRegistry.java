@@ -0,0 +1,427 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.base;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import gov.nist.ucef.hla.base.Types.DataType;
+import gov.nist.ucef.hla.base.Types.InteractionClass;
+import gov.nist.ucef.hla.base.Types.InteractionParameter;
+import gov.nist.ucef.hla.base.Types.ObjectAttribute;
+import gov.nist.ucef.hla.base.Types.ObjectClass;
+import gov.nist.ucef.hla.base.Types.Sharing;
+
+/**
+ * An immutable snapshot of the object and interaction classes known to a
+ * {@link FederateConfiguration}, with everything which is looked up while the federate is
+ * running (published/subscribed classes and member names, member data types and so on)
+ * computed once, up front.
+ *
+ * Each class is also given a class id - a small integer which can be used to index arrays of
+ * per class data. Class ids are assigned in order of class name (object classes first), so the
+ * same classes are given the same ids in every snapshot.
+ *
+ * A new snapshot is created by the {@link FederateConfiguration} whenever its classes change
+ * (see {@link FederateConfiguration#getModelRegistry()}). Changes made directly to the
+ * {@link ObjectClass} or {@link InteractionClass} instances (for example, adding attributes)
+ * after they have been cached in the configuration are not reflected.
+ */
+public final class ModelRegistry
+{
+	//----------------------------------------------------------
+	//                    STATIC VARIABLES
+	//----------------------------------------------------------
+	/** the value returned by {@link #getClassId(String)} for names which are not known */
+	public static final int NO_CLASS_ID = -1;
+
+	//----------------------------------------------------------
+	//                   INSTANCE VARIABLES
+	//----------------------------------------------------------
+	private final ClassEntry[] entries;
+	private final Map<String,ClassEntry> entryByName;
+
+	private final Collection<ObjectClass> objectClasses;
+	private final Collection<ObjectClass> publishedObjectClasses;
+	private final Collection<ObjectClass> subscribedObjectClasses;
+	private final Set<String> publishedObjectClassNames;
+	private final Set<String> subscribedObjectClassNames;
+
+	private final Collection<InteractionClass> interactionClasses;
+	private final Collection<InteractionClass> publishedInteractionClasses;
+	private final Collection<InteractionClass> subscribedInteractionClasses;
+	private final Set<String> publishedInteractionClassNames;
+	private final Set<String> subscribedInteractionClassNames;
+
+	//----------------------------------------------------------
+	//                      CONSTRUCTORS
+	//----------------------------------------------------------
+	/**
+	 * Constructor
+	 *
+	 * @param objectClasses the object classes
+	 * @param interactionClasses the interaction classes
+	 */
+	ModelRegistry( Collection<ObjectClass> objectClasses,
+	               Collection<InteractionClass> interactionClasses )
+	{
+		this.objectClasses = Collections.unmodifiableList( new ArrayList<>( objectClasses ) );
+		this.publishedObjectClasses = unmodifiableFilter( objectClasses, ObjectClass::isPublished );
+		this.subscribedObjectClasses = unmodifiableFilter( objectClasses, ObjectClass::isSubscribed );
+		this.publishedObjectClassNames = namesOf( this.publishedObjectClasses, x -> x.name );
+		this.subscribedObjectClassNames = namesOf( this.subscribedObjectClasses, x -> x.name );
+
+		this.interactionClasses = Collections.unmodifiableList( new ArrayList<>( interactionClasses ) );
+		this.publishedInteractionClasses = unmodifiableFilter( interactionClasses,
+		                                                      InteractionClass::isPublished );
+		this.subscribedInteractionClasses = unmodifiableFilter( interactionClasses,
+		                                                       InteractionClass::isSubscribed );
+		this.publishedInteractionClassNames = namesOf( this.publishedInteractionClasses, x -> x.name );
+		this.subscribedInteractionClassNames = namesOf( this.subscribedInteractionClasses, x -> x.name );
+
+		List<ClassEntry> entries = new ArrayList<>();
+		List<ObjectClass> sortedObjectClasses = new ArrayList<>( objectClasses );
+		sortedObjectClasses.sort( ( a, b ) -> a.name.compareTo( b.name ) );
+		for( ObjectClass objectClass : sortedObjectClasses )
+			entries.add( new ClassEntry( entries.size(), objectClass ) );
+		List<InteractionClass> sortedInteractionClasses = new ArrayList<>( interactionClasses );
+		sortedInteractionClasses.sort( ( a, b ) -> a.name.compareTo( b.name ) );
+		for( InteractionClass interactionClass : sortedInteractionClasses )
+			entries.add( new ClassEntry( entries.size(), interactionClass ) );
+
+		this.entries = entries.toArray( new ClassEntry[entries.size()] );
+		this.entryByName = new HashMap<>();
+		for( ClassEntry entry : this.entries )
+			this.entryByName.put( entry.name, entry );
+	}
+
+	//----------------------------------------------------------
+	//                    INSTANCE METHODS
+	//----------------------------------------------------------
+	@Override
+	public String toString()
+	{
+		return String.format( "ModelRegistry(%d object classes, %d interaction classes)",
+		                      this.objectClasses.size(), this.interactionClasses.size() );
+	}
+
+	////////////////////////////////////////////////////////////////////////////////////////////
+	/////////////////////////////// Accessor and Mutator Methods ///////////////////////////////
+	////////////////////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Obtain the number of classes (and so the number of class ids)
+	 *
+	 * @return the number of object and interaction classes
+	 */
+	public int size()
+	{
+		return this.entries.length;
+	}
+
+	/**
+	 * Obtain the details of an object or interaction class (see
+	 * {@link FederateConfiguration#getDataType(String, String)} regarding name collisions)
+	 *
+	 * @param className the fully qualified name of an object or interaction class
+	 * @return the details of the class, or null if the class is not known
+	 */
+	public ClassEntry getEntry( String className )
+	{
+		return this.entryByName.get( className );
+	}
+
+	/**
+	 * Obtain the details of an object or interaction class
+	 *
+	 * @param classId the class id
+	 * @return the details of the class
+	 */
+	public ClassEntry getEntry( int classId )
+	{
+		return this.entries[classId];
+	}
+
+	/**
+	 * Obtain the class id of an object or interaction class
+	 *
+	 * @param className the fully qualified name of an object or interaction class
+	 * @return the class id, or {@link #NO_CLASS_ID} if the class is not known
+	 */
+	public int getClassId( String className )
+	{
+		ClassEntry entry = this.entryByName.get( className );
+		return entry == null ? NO_CLASS_ID : entry.classId;
+	}
+
+	/**
+	 * @return all object classes (not modifiable)
+	 */
+	public Collection<ObjectClass> getObjectClasses()
+	{
+		return this.objectClasses;
+	}
+
+	/**
+	 * @return the published object classes (not modifiable)
+	 */
+	public Collection<ObjectClass> getPublishedObjectClasses()
+	{
+		return this.publishedObjectClasses;
+	}
+
+	/**
+	 * @return the subscribed object classes (not modifiable)
+	 */
+	public Collection<ObjectClass> getSubscribedObjectClasses()
+	{
+		return this.subscribedObjectClasses;
+	}
+
+	/**
+	 * @return the fully qualified names of the published object classes (not modifiable)
+	 */
+	public Set<String> getPublishedObjectClassNames()
+	{
+		return this.publishedObjectClassNames;
+	}
+
+	/**
+	 * @return the fully qualified names of the subscribed object classes (not modifiable)
+	 */
+	public Set<String> getSubscribedObjectClassNames()
+	{
+		return this.subscribedObjectClassNames;
+	}
+
+	/**
+	 * @return all interaction classes (not modifiable)
+	 */
+	public Collection<InteractionClass> getInteractionClasses()
+	{
+		return this.interactionClasses;
+	}
+
+	/**
+	 * @return the published interaction classes (not modifiable)
+	 */
+	public Collection<InteractionClass> getPublishedInteractionClasses()
+	{
+		return this.publishedInteractionClasses;
+	}
+
+	/**
+	 * @return the subscribed interaction classes (not modifiable)
+	 */
+	public Collection<InteractionClass> getSubscribedInteractionClasses()
+	{
+		return this.subscribedInteractionClasses;
+	}
+
+	/**
+	 * @return the fully qualified names of the published interaction classes (not modifiable)
+	 */
+	public Set<String> getPublishedInteractionClassNames()
+	{
+		return this.publishedInteractionClassNames;
+	}
+
+	/**
+	 * @return the fully qualified names of the subscribed interaction classes (not modifiable)
+	 */
+	public Set<String> getSubscribedInteractionClassNames()
+	{
+		return this.subscribedInteractionClassNames;
+	}
+
+	//----------------------------------------------------------
+	//                     STATIC METHODS
+	//----------------------------------------------------------
+	private static <T> Collection<T> unmodifiableFilter( Collection<T> values,
+	                                                     Predicate<T> filter )
+	{
+		List<T> result = new ArrayList<>();
+		for( T value : values )
+		{
+			if( filter.test( value ) )
+				result.add( value );
+		}
+		return Collections.unmodifiableList( result );
+	}
+
+	private static <T> Set<String> namesOf( Collection<T> values,
+	                                        Function<T,String> name )
+	{
+		Set<String> result = new LinkedHashSet<>();
+		for( T value : values )
+			result.add( name.apply( value ) );
+		return Collections.unmodifiableSet( result );
+	}
+
+	//----------------------------------------------------------
+	//                     INNER CLASSES
+	//----------------------------------------------------------
+	/**
+	 * The details of a single object or interaction class
+	 */
+	public static final class ClassEntry
+	{
+		private final int classId;
+		private final String name;
+		private final boolean isInteraction;
+		private final Sharing sharing;
+		// in the iteration order of the class's own attributes/parameters
+		private final Set<String> memberNames;
+		private final Set<String> publishedMemberNames;
+		private final Set<String> subscribedMemberNames;
+		private final SlotLayout slotLayout;
+
+		private ClassEntry( int classId, ObjectClass objectClass )
+		{
+			Set<String> names = new LinkedHashSet<>();
+			Set<String> published = new LinkedHashSet<>();
+			Set<String> subscribed = new LinkedHashSet<>();
+			for( ObjectAttribute attribute : objectClass.attributes.values() )
+			{
+				names.add( attribute.name );
+				if( attribute.isPublished() )
+					published.add( attribute.name );
+				if( attribute.isSubscribed() )
+					subscribed.add( attribute.name );
+			}
+
+			this.classId = classId;
+			this.name = objectClass.name;
+			this.isInteraction = false;
+			this.sharing = objectClass.sharing;
+			this.memberNames = Collections.unmodifiableSet( names );
+			this.publishedMemberNames = Collections.unmodifiableSet( published );
+			this.subscribedMemberNames = Collections.unmodifiableSet( subscribed );
+			this.slotLayout = objectClass.getSlotLayout();
+		}
+
+		private ClassEntry( int classId, InteractionClass interactionClass )
+		{
+			Set<String> names = new LinkedHashSet<>();
+			for( InteractionParameter parameter : interactionClass.parameters.values() )
+				names.add( parameter.name );
+
+			this.classId = classId;
+			this.name = interactionClass.name;
+			this.isInteraction = true;
+			this.sharing = interactionClass.sharing;
+			this.memberNames = Collections.unmodifiableSet( names );
+			// parameters don't have their own sharing
+			this.publishedMemberNames = Collections.emptySet();
+			this.subscribedMemberNames = Collections.emptySet();
+			this.slotLayout = interactionClass.getSlotLayout();
+		}
+
+		/**
+		 * @return the class id
+		 */
+		public int getClassId()
+		{
+			return this.classId;
+		}
+
+		/**
+		 * @return the fully qualified class name
+		 */
+		public String getName()
+		{
+			return this.name;
+		}
+
+		/**
+		 * @return true if this is an interaction class, false if it is an object class
+		 */
+		public boolean isInteraction()
+		{
+			return this.isInteraction;
+		}
+
+		/**
+		 * @return the sharing of the class
+		 */
+		public Sharing getSharing()
+		{
+			return this.sharing;
+		}
+
+		/**
+		 * @return the names of all attributes/parameters of the class (not modifiable)
+		 */
+		public Set<String> getMemberNames()
+		{
+			return this.memberNames;
+		}
+
+		/**
+		 * @return the names of the published attributes of an object class (not modifiable, and
+		 *         always empty for an interaction class)
+		 */
+		public Set<String> getPublishedMemberNames()
+		{
+			return this.publishedMemberNames;
+		}
+
+		/**
+		 * @return the names of the subscribed attributes of an object class (not modifiable,
+		 *         and always empty for an interaction class)
+		 */
+		public Set<String> getSubscribedMemberNames()
+		{
+			return this.subscribedMemberNames;
+		}
+
+		/**
+		 * @return the slot layout of the attributes/parameters of the class, which also holds
+		 *         their data types by slot
+		 */
+		public SlotLayout getSlotLayout()
+		{
+			return this.slotLayout;
+		}
+
+		/**
+		 * Obtain the data type of an attribute/parameter of the class
+		 *
+		 * @param memberName the name of the attribute/parameter
+		 * @return the data type, or {@link DataType#UNKNOWN} if there is no such member
+		 */
+		public DataType getDataType( String memberName )
+		{
+			int slot = this.slotLayout.slotOf( memberName );
+			return slot == SlotLayout.NO_SLOT ? DataType.UNKNOWN : this.slotLayout.dataTypeOf( slot );
+		}
+	}
+}
@@ -0,0 +1,342 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.base;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import hla.rti1516e.ObjectInstanceHandle;
+
+/**
+ * Holds interactions and attribute updates which have been sent by a federate until they are
+ * flushed out to the RTI together, typically once per step just before the time advance request.
+ *
+ * The values of interaction parameters and object attributes are captured at the point of
+ * queuing, so later changes to the interaction or object instance (before the queue is flushed)
+ * do not affect what is sent. Queued items are sent in the order in which they were queued.
+ *
+ * Attribute updates may optionally be coalesced: an update of an instance which already has an
+ * update with the same time-stamp waiting in the queue is merged into the waiting update rather
+ * than being queued separately (see
+ * {@link #queueAttributeValues(HLAObject, Map, byte[], Double, boolean)}).
+ *
+ * Items may be queued from any thread - for example, from a callback worker thread in response
+ * to a received interaction - but the queue is flushed by a single thread at a time.
+ */
+final class OutboundQueue
+{
+	//----------------------------------------------------------
+	//                    STATIC VARIABLES
+	//----------------------------------------------------------
+	private static final Logger logger = LogManager.getLogger( OutboundQueue.class );
+
+	//----------------------------------------------------------
+	//                   INSTANCE VARIABLES
+	//----------------------------------------------------------
+	private List<Outbound> queued;
+
+	// the most recently queued attribute update of each instance, which later updates of the
+	// instance with the same time-stamp may be merged into (only used when coalescing)
+	private Map<ObjectInstanceHandle,Outbound> latestUpdateByInstance;
+
+	// the size of the largest batch flushed so far
+	private int largestBatch;
+	// the number of attribute updates merged into an already queued update so far
+	private long coalescedCount;
+
+	private final Object mutex_lock = new Object();
+
+	//----------------------------------------------------------
+	//                      CONSTRUCTORS
+	//----------------------------------------------------------
+	OutboundQueue()
+	{
+		this.queued = new ArrayList<>();
+		this.latestUpdateByInstance = new HashMap<>();
+		this.largestBatch = 0;
+		this.coalescedCount = 0;
+	}
+
+	//----------------------------------------------------------
+	//                    INSTANCE METHODS
+	//----------------------------------------------------------
+	/**
+	 * Queue an interaction to be sent when the queue is next flushed
+	 *
+	 * @param interaction the interaction
+	 * @param tag the tag (can be null)
+	 * @param time the time-stamp (can be null)
+	 */
+	void queueInteraction( HLAInteraction interaction, byte[] tag, Double time )
+	{
+		if( interaction == null )
+			throw new UCEFException( "null interaction. Cannot send interaction." );
+
+		queue( new Outbound( interaction, null, new HashMap<>( interaction.getState() ),
+		                     tag, time, null ) );
+	}
+
+	/**
+	 * Queue an attribute update to be sent when the queue is next flushed.
+	 *
+	 * The attributes are marked as unchanged immediately, so that a further update of the same
+	 * instance queued before the flush only includes attributes which have been changed again
+	 * since (if only changed attributes are being sent). They are marked as changed again if the
+	 * update fails to send (see {@link #flush(RTIAmbassadorWrapper)}).
+	 *
+	 * If coalescing, and the most recently queued update of the same instance has the same
+	 * time-stamp (or both have none), this update is merged into it instead of being queued
+	 * separately:
+	 * <ul>
+	 * <li>for each attribute, the value from the latest update is sent (last writer wins)</li>
+	 * <li>the tag of the latest update is sent</li>
+	 * <li>the merged update keeps the queue position of the earlier update</li>
+	 * </ul>
+	 * Updates with different time-stamps are never merged, since they describe the instance at
+	 * different times.
+	 *
+	 * @param instance the object instance
+	 * @param state the attributes and values to send (a copy, which is not modified elsewhere
+	 *            after this call)
+	 * @param tag the tag (can be null)
+	 * @param time the time-stamp (can be null)
+	 * @param coalesce if true, merge this update into a waiting update of the same instance (if
+	 *            there is one with the same time-stamp)
+	 */
+	void queueAttributeValues( HLAObject instance, Map<String,byte[]> state, byte[] tag,
+	                           Double time, boolean coalesce )
+	{
+		queueAttributeValues( instance, state, tag, time, coalesce, null );
+	}
+
+	/**
+	 * Queue an attribute update to be sent when the queue is next flushed (see
+	 * {@link #queueAttributeValues(HLAObject, Map, byte[], Double, boolean)}), with an action to
+	 * take once the update has been handed to the RTI successfully.
+	 *
+	 * The action is given the attributes and values which were actually sent. If the update is
+	 * merged into a waiting update, the action of the later update replaces that of the earlier
+	 * one, and is given the merged values.
+	 *
+	 * @param instance the object instance
+	 * @param state the attributes and values to send (a copy, which is not modified elsewhere
+	 *            after this call)
+	 * @param tag the tag (can be null)
+	 * @param time the time-stamp (can be null)
+	 * @param coalesce if true, merge this update into a waiting update of the same instance (if
+	 *            there is one with the same time-stamp)
+	 * @param onSent given the attributes and values once they have been sent (can be null)
+	 */
+	void queueAttributeValues( HLAObject instance, Map<String,byte[]> state, byte[] tag,
+	                           Double time, boolean coalesce, Consumer<Map<String,byte[]>> onSent )
+	{
+		instance.markClean( state );
+
+		if( !coalesce )
+		{
+			queue( new Outbound( null, instance, state, tag, time, onSent ) );
+			return;
+		}
+
+		synchronized( mutex_lock )
+		{
+			Outbound latest = this.latestUpdateByInstance.get( instance.instanceHandle );
+			if( latest != null && Objects.equals( latest.time, time ) )
+			{
+				latest.state.putAll( state );
+				latest.tag = tag;
+				latest.onSent = onSent;
+				this.coalescedCount++;
+			}
+			else
+			{
+				Outbound outbound = new Outbound( null, instance, state, tag, time, onSent );
+				this.queued.add( outbound );
+				this.latestUpdateByInstance.put( instance.instanceHandle, outbound );
+			}
+		}
+	}
+
+	/**
+	 * Send all queued interactions and attribute updates to the RTI, in the order in which they
+	 * were queued.
+	 *
+	 * If sending an item fails, the failure is propagated to the caller. The items queued after
+	 * it are kept, ahead of anything queued since, to be sent by the next flush. The attributes of
+	 * an attribute update which failed are marked as changed again, so that they are included in
+	 * the next update of the instance if only changed attributes are being sent.
+	 *
+	 * @param rtiamb the RTI ambassador to send with
+	 * @return the number of items which were sent
+	 */
+	int flush( RTIAmbassadorWrapper rtiamb )
+	{
+		List<Outbound> batch;
+		synchronized( mutex_lock )
+		{
+			if( this.queued.isEmpty() )
+				return 0;
+
+			batch = this.queued;
+			this.queued = new ArrayList<>( batch.size() );
+			this.latestUpdateByInstance.clear();
+			this.largestBatch = Math.max( this.largestBatch, batch.size() );
+		}
+
+		logger.trace( "Flushing {} queued interaction(s) and attribute update(s)...", batch.size() );
+
+		for( int i = 0; i < batch.size(); i++ )
+		{
+			Outbound outbound = batch.get( i );
+			try
+			{
+				if( outbound.interaction != null )
+				{
+					rtiamb.submitInteraction( outbound.interaction, outbound.state,
+					                          outbound.tag, outbound.time );
+				}
+				else
+				{
+					rtiamb.submitAttributeValues( outbound.instance, outbound.state,
+					                              outbound.tag, outbound.time, outbound.onSent );
+				}
+			}
+			catch( RuntimeException e )
+			{
+				if( outbound.instance != null )
+					outbound.instance.markDirty( outbound.state );
+				requeue( batch.subList( i + 1, batch.size() ) );
+				throw e;
+			}
+		}
+
+		logger.trace( "Flushed {} queued interaction(s) and attribute update(s).", batch.size() );
+		return batch.size();
+	}
+
+	/**
+	 * @return the number of items currently waiting to be sent
+	 */
+	int size()
+	{
+		synchronized( mutex_lock )
+		{
+			return this.queued.size();
+		}
+	}
+
+	/**
+	 * @return the number of items in the largest batch flushed so far
+	 */
+	int getLargestBatch()
+	{
+		synchronized( mutex_lock )
+		{
+			return this.largestBatch;
+		}
+	}
+
+	/**
+	 * @return the number of attribute updates merged into an already queued update so far
+	 */
+	long getCoalescedCount()
+	{
+		synchronized( mutex_lock )
+		{
+			return this.coalescedCount;
+		}
+	}
+
+	private void queue( Outbound outbound )
+	{
+		synchronized( mutex_lock )
+		{
+			this.queued.add( outbound );
+		}
+	}
+
+	/**
+	 * Put items which were not sent back at the front of the queue
+	 *
+	 * @param unsent the items which were not sent, in the order in which they were queued
+	 */
+	private void requeue( List<Outbound> unsent )
+	{
+		if( unsent.isEmpty() )
+			return;
+
+		logger.debug( "Keeping {} unsent interaction(s) and attribute update(s) for the next flush.",
+		              unsent.size() );
+		synchronized( mutex_lock )
+		{
+			// anything queued since the flush started goes after these. Later updates are not
+			// merged into these, since an update of the same instance may already be queued
+			// behind them
+			List<Outbound> requeued = new ArrayList<>( unsent.size() + this.queued.size() );
+			requeued.addAll( unsent );
+			requeued.addAll( this.queued );
+			this.queued = requeued;
+		}
+	}
+
+	//----------------------------------------------------------
+	//                     STATIC METHODS
+	//----------------------------------------------------------
+
+	//----------------------------------------------------------
+	//                     INNER CLASSES
+	//----------------------------------------------------------
+	/**
+	 * An interaction or attribute update waiting to be sent
+	 */
+	private static final class Outbound
+	{
+		// exactly one of interaction and instance is non-null
+		private final HLAInteraction interaction;
+		private final HLAObject instance;
+		private final Map<String,byte[]> state;
+		private byte[] tag;
+		private final Double time;
+		// given the state once an attribute update has been sent (can be null)
+		private Consumer<Map<String,byte[]>> onSent;
+
+		private Outbound( HLAInteraction interaction, HLAObject instance, Map<String,byte[]> state,
+		                  byte[] tag, Double time, Consumer<Map<String,byte[]>> onSent )
+		{
+			this.interaction = interaction;
+			this.instance = instance;
+			this.state = state;
+			this.tag = tag;
+			this.time = time;
+			this.onSent = onSent;
+		}
+	}
+}
@@ -27,9 +27,12 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
@@ -90,6 +93,21 @@ public class RTIAmbassadorWrapper
 	private AttributeHandleValueMapFactory attributeMapFactory;
 	private AttributeHandleSetFactory attributeHandleSetFactory;
 
+	// handles and names obtained from the RTI ambassador, which remain valid for as long as we
+	// are joined to the federation, so we only need to ask for each of them once
+	private Map<String,ObjectClassHandle> objectClassHandleByName;
+	private Map<ObjectClassHandle,String> objectClassNameByHandle;
+	private Map<String,InteractionClassHandle> interactionClassHandleByName;
+	private Map<InteractionClassHandle,String> interactionClassNameByHandle;
+	private Map<ObjectClassHandle,HandleTable<AttributeHandle>> attributeTables;
+	private Map<InteractionClassHandle,HandleTable<ParameterHandle>> parameterTables;
+	private Map<ObjectClassHandle,StateConverter<AttributeHandle>> attributeConverters;
+	private Map<InteractionClassHandle,StateConverter<ParameterHandle>> parameterConverters;
+	private Map<ObjectInstanceHandle,ObjectClassHandle> knownObjectClassByInstance;
+
+	// carries out sends on a dedicated thread, if so configured (null otherwise)
+	private volatile AsyncSender asyncSender;
+
 	//----------------------------------------------------------
 	//                      CONSTRUCTORS
 	//----------------------------------------------------------
@@ -109,6 +127,18 @@ public class RTIAmbassadorWrapper
 		{
 			throw new UCEFException( "Failed to initialize RTI ambassador wrapper.", e );
 		}
+
+		this.objectClassHandleByName = new ConcurrentHashMap<>();
+		this.objectClassNameByHandle = new ConcurrentHashMap<>();
+		this.interactionClassHandleByName = new ConcurrentHashMap<>();
+		this.interactionClassNameByHandle = new ConcurrentHashMap<>();
+		this.attributeTables = new ConcurrentHashMap<>();
+		this.parameterTables = new ConcurrentHashMap<>();
+		this.attributeConverters = new ConcurrentHashMap<>();
+		this.parameterConverters = new ConcurrentHashMap<>();
+		this.knownObjectClassByInstance = new ConcurrentHashMap<>();
+
+		this.asyncSender = null;
 	}
 
 	//----------------------------------------------------------
@@ -267,6 +297,9 @@ public class RTIAmbassadorWrapper
 			logger.debug( "Resigning from the federation..." );
 			rtiAmbassador.resignFederationExecution( resignAction );
 			logger.debug( "Resigned from the federation." );
+
+			// handles are only meaningful within the federation execution
+			clearHandleCaches();
 		}
 		catch( Exception e )
 		{
@@ -358,6 +391,7 @@ public class RTIAmbassadorWrapper
 				logger.debug( "Deleting object instance {}...", handleSummary );
 
 			rtiAmbassador.deleteObjectInstance( handle, safeByteArray( tag ) );
+			forgetKnownObjectClassHandle( handle );
 
 			if( debugLogging )
 				logger.debug( "Object instance {} was deleted.", handleSummary );
@@ -536,10 +570,16 @@ public class RTIAmbassadorWrapper
 	 */
 	public String getObjectClassName( ObjectClassHandle handle )
 	{
+		String cached = handle == null ? null : this.objectClassNameByHandle.get( handle );
+		if( cached != null )
+			return cached;
+
 		try
 		{
 			logger.trace( "Retrieving object class name for object class handle {}...", handle );
-			return this.rtiAmbassador.getObjectClassName( handle );
+			String name = this.rtiAmbassador.getObjectClassName( handle );
+			cacheObjectClass( name, handle );
+			return name;
 		}
 		catch( Exception e )
 		{
@@ -558,10 +598,16 @@ public class RTIAmbassadorWrapper
 	 */
 	public ObjectClassHandle getObjectClassHandle( String name )
 	{
+		ObjectClassHandle cached = name == null ? null : this.objectClassHandleByName.get( name );
+		if( cached != null )
+			return cached;
+
 		try
 		{
 			logger.trace( "Retrieving object class handle for object class name '{}'...", name );
-			return this.rtiAmbassador.getObjectClassHandle( name );
+			ObjectClassHandle handle = this.rtiAmbassador.getObjectClassHandle( name );
+			cacheObjectClass( name, handle );
+			return handle;
 		}
 		catch( Exception e )
 		{
@@ -580,10 +626,16 @@ public class RTIAmbassadorWrapper
 	 */
 	public ObjectClassHandle getKnownObjectClassHandle( ObjectInstanceHandle handle )
 	{
+		ObjectClassHandle cached = handle == null ? null : this.knownObjectClassByInstance.get( handle );
+		if( cached != null )
+			return cached;
+
 		try
 		{
 			logger.trace( "Retrieving known object class handle for object instance handle ...", handle );
-			return rtiAmbassador.getKnownObjectClassHandle( handle );
+			ObjectClassHandle classHandle = rtiAmbassador.getKnownObjectClassHandle( handle );
+			cacheKnownObjectClassHandle( handle, classHandle );
+			return classHandle;
 		}
 		catch( Exception e )
 		{
@@ -653,12 +705,20 @@ public class RTIAmbassadorWrapper
 	public String getAttributeName( ObjectClassHandle objectClassHandle,
 	                                AttributeHandle attributeHandle )
 	{
+		HandleTable<AttributeHandle> table = objectClassHandle == null ? null :
+		                                     this.attributeTables.get( objectClassHandle );
+		String cached = table == null ? null : table.nameOf( attributeHandle );
+		if( cached != null )
+			return cached;
+
 		try
 		{
 			logger.trace( "Retrieving attribute name for attribute handle {} "+
 						  "in the context of object class handle {}...",
 			              attributeHandle, objectClassHandle );
-			return this.rtiAmbassador.getAttributeName( objectClassHandle, attributeHandle );
+			String name = this.rtiAmbassador.getAttributeName( objectClassHandle, attributeHandle );
+			cacheAttribute( objectClassHandle, name, attributeHandle );
+			return name;
 		}
 		catch( Exception e )
 		{
@@ -679,12 +739,19 @@ public class RTIAmbassadorWrapper
 	 */
 	public AttributeHandle getAttributeHandle( ObjectClassHandle handle, String attributeName )
 	{
+		HandleTable<AttributeHandle> table = handle == null ? null : this.attributeTables.get( handle );
+		AttributeHandle cached = table == null ? null : table.handleOf( attributeName );
+		if( cached != null )
+			return cached;
+
 		try
 		{
 			logger.trace( "Retrieving attribute handle for attribute name '{}' " +
 			              "in the context of object class handle {}...",
 			              attributeName, handle );
-			return this.rtiAmbassador.getAttributeHandle( handle, attributeName );
+			AttributeHandle attributeHandle = this.rtiAmbassador.getAttributeHandle( handle, attributeName );
+			cacheAttribute( handle, attributeName, attributeHandle );
+			return attributeHandle;
 		}
 		catch( Exception e )
 		{
@@ -704,11 +771,17 @@ public class RTIAmbassadorWrapper
 	 */
 	protected String getInteractionClassName( InteractionClassHandle handle )
 	{
+		String cached = handle == null ? null : this.interactionClassNameByHandle.get( handle );
+		if( cached != null )
+			return cached;
+
 		try
 		{
 			logger.trace( "Retrieving interaction class name for interaction class handle {}...",
 			              handle );
-			return this.rtiAmbassador.getInteractionClassName( handle );
+			String name = this.rtiAmbassador.getInteractionClassName( handle );
+			cacheInteractionClass( name, handle );
+			return name;
 		}
 		catch( Exception e )
 		{
@@ -744,11 +817,18 @@ public class RTIAmbassadorWrapper
 	 */
 	public InteractionClassHandle getInteractionClassHandle( String name )
 	{
+		InteractionClassHandle cached = name == null ? null :
+		                                this.interactionClassHandleByName.get( name );
+		if( cached != null )
+			return cached;
+
 		try
 		{
 			logger.trace( "Retrieving interaction class handle for interaction class name '{}'...",
 			              name );
-			return this.rtiAmbassador.getInteractionClassHandle( name );
+			InteractionClassHandle handle = this.rtiAmbassador.getInteractionClassHandle( name );
+			cacheInteractionClass( name, handle );
+			return handle;
 		}
 		catch( Exception e )
 		{
@@ -786,12 +866,19 @@ public class RTIAmbassadorWrapper
 	 */
 	public ParameterHandle getParameterHandle( InteractionClassHandle handle, String parameterName )
 	{
+		HandleTable<ParameterHandle> table = handle == null ? null : this.parameterTables.get( handle );
+		ParameterHandle cached = table == null ? null : table.handleOf( parameterName );
+		if( cached != null )
+			return cached;
+
 		try
 		{
 			logger.trace( "Retrieving parameter handle for parameter name '{}' "+
 						  "in the context of interaction class handle {}...",
 			              parameterName, handle );
-			return this.rtiAmbassador.getParameterHandle( handle, parameterName );
+			ParameterHandle parameterHandle = this.rtiAmbassador.getParameterHandle( handle, parameterName );
+			cacheParameter( handle, parameterName, parameterHandle );
+			return parameterHandle;
 		}
 		catch( Exception e )
 		{
@@ -813,13 +900,21 @@ public class RTIAmbassadorWrapper
 	public String getParameterName( InteractionClassHandle interactionClassHandle,
 	                                ParameterHandle parameterHandle )
 	{
+		HandleTable<ParameterHandle> table = interactionClassHandle == null ? null :
+		                                     this.parameterTables.get( interactionClassHandle );
+		String cached = table == null ? null : table.nameOf( parameterHandle );
+		if( cached != null )
+			return cached;
+
 		try
 		{
 			logger.trace( "Retrieving parameter name for parameter handle {} " +
 			              "in the context of interaction class handle {}...",
 			              parameterHandle,
 			              interactionClassHandle );
-			return this.rtiAmbassador.getParameterName( interactionClassHandle, parameterHandle );
+			String name = this.rtiAmbassador.getParameterName( interactionClassHandle, parameterHandle );
+			cacheParameter( interactionClassHandle, name, parameterHandle );
+			return name;
 		}
 		catch( Exception e )
 		{
@@ -877,6 +972,170 @@ public class RTIAmbassadorWrapper
 		}
 	}
 
+	////////////////////////////////////////////////////////////////////////////////////////////
+	////////////////////////////////////// HANDLE CACHING //////////////////////////////////////
+	////////////////////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Obtain and cache the handles of an object class and all of its attributes, so that later
+	 * handle and name lookups for the class do not need to go to the RTI, and compile a converter
+	 * for attribute values of the class.
+	 *
+	 * NOTE: lookups for classes and attributes which have not been cached in advance are cached
+	 * when they are first made, so calling this method is not required - it just moves the cost
+	 * of the lookups to a convenient time, such as just after publication and subscription.
+	 *
+	 * @param objectClass the object class
+	 * @return the handle of the object class
+	 */
+	public ObjectClassHandle cacheHandles( Types.ObjectClass objectClass )
+	{
+		ObjectClassHandle classHandle = getObjectClassHandle( objectClass.name );
+
+		// handles are obtained in slot order, so that their positions in the table are their slots
+		SlotLayout layout = objectClass.getSlotLayout();
+		Map<String,AttributeHandle> handlesByName = new LinkedHashMap<>();
+		for( String attributeName : layout.getNames() )
+		{
+			try
+			{
+				handlesByName.put( attributeName, getAttributeHandle( classHandle, attributeName ) );
+			}
+			catch( UCEFException e )
+			{
+				// not fatal here - the problem will be reported again if the attribute is used
+				logger.warn( e.getMessage() );
+			}
+		}
+		HandleTable<AttributeHandle> table = HandleTable.of( handlesByName );
+		this.attributeTables.put( classHandle, table );
+		if( table.size() == layout.size() )
+			this.attributeConverters.put( classHandle, new StateConverter<>( layout, table ) );
+
+		return classHandle;
+	}
+
+	/**
+	 * Obtain and cache the handles of an interaction class and all of its parameters, so that
+	 * later handle and name lookups for the class do not need to go to the RTI, and compile a
+	 * converter for parameter values of the class.
+	 *
+	 * NOTE: lookups for classes and parameters which have not been cached in advance are cached
+	 * when they are first made, so calling this method is not required - it just moves the cost
+	 * of the lookups to a convenient time, such as just after publication and subscription.
+	 *
+	 * @param interactionClass the interaction class
+	 * @return the handle of the interaction class
+	 */
+	public InteractionClassHandle cacheHandles( Types.InteractionClass interactionClass )
+	{
+		InteractionClassHandle classHandle = getInteractionClassHandle( interactionClass.name );
+
+		// handles are obtained in slot order, so that their positions in the table are their slots
+		SlotLayout layout = interactionClass.getSlotLayout();
+		Map<String,ParameterHandle> handlesByName = new LinkedHashMap<>();
+		for( String parameterName : layout.getNames() )
+		{
+			try
+			{
+				handlesByName.put( parameterName, getParameterHandle( classHandle, parameterName ) );
+			}
+			catch( UCEFException e )
+			{
+				// not fatal here - the problem will be reported again if the parameter is used
+				logger.warn( e.getMessage() );
+			}
+		}
+		HandleTable<ParameterHandle> table = HandleTable.of( handlesByName );
+		this.parameterTables.put( classHandle, table );
+		if( table.size() == layout.size() )
+			this.parameterConverters.put( classHandle, new StateConverter<>( layout, table ) );
+
+		return classHandle;
+	}
+
+	/**
+	 * Discard all cached handles and names
+	 */
+	public void clearHandleCaches()
+	{
+		this.objectClassHandleByName.clear();
+		this.objectClassNameByHandle.clear();
+		this.interactionClassHandleByName.clear();
+		this.interactionClassNameByHandle.clear();
+		this.attributeTables.clear();
+		this.parameterTables.clear();
+		this.attributeConverters.clear();
+		this.parameterConverters.clear();
+		this.knownObjectClassByInstance.clear();
+	}
+
+	/**
+	 * Record the known object class of an object instance, so that it does not need to be
+	 * obtained from the RTI when attribute values are sent or received for the instance.
+	 *
+	 * NOTE: this happens automatically for instances registered through this wrapper - it is
+	 * only required for discovered instances.
+	 *
+	 * @param instanceHandle the object instance handle
+	 * @param classHandle the handle of the known object class of the instance
+	 */
+	public void cacheKnownObjectClassHandle( ObjectInstanceHandle instanceHandle,
+	                                         ObjectClassHandle classHandle )
+	{
+		if( instanceHandle != null && classHandle != null )
+			this.knownObjectClassByInstance.put( instanceHandle, classHandle );
+	}
+
+	/**
+	 * Discard the cached known object class of an object instance (i.e., because the instance has
+	 * been deleted)
+	 *
+	 * @param instanceHandle the object instance handle
+	 */
+	public void forgetKnownObjectClassHandle( ObjectInstanceHandle instanceHandle )
+	{
+		if( instanceHandle != null )
+			this.knownObjectClassByInstance.remove( instanceHandle );
+	}
+
+	private void cacheObjectClass( String name, ObjectClassHandle handle )
+	{
+		if( name == null || handle == null )
+			return;
+
+		this.objectClassHandleByName.put( name, handle );
+		this.objectClassNameByHandle.put( handle, name );
+	}
+
+	private void cacheInteractionClass( String name, InteractionClassHandle handle )
+	{
+		if( name == null || handle == null )
+			return;
+
+		this.interactionClassHandleByName.put( name, handle );
+		this.interactionClassNameByHandle.put( handle, name );
+	}
+
+	private void cacheAttribute( ObjectClassHandle classHandle, String name, AttributeHandle handle )
+	{
+		if( classHandle == null || name == null || handle == null )
+			return;
+
+		this.attributeTables.compute( classHandle, (k, table) -> table == null ?
+		                              HandleTable.<AttributeHandle>empty().with( name, handle ) :
+		                              table.with( name, handle ) );
+	}
+
+	private void cacheParameter( InteractionClassHandle classHandle, String name, ParameterHandle handle )
+	{
+		if( classHandle == null || name == null || handle == null )
+			return;
+
+		this.parameterTables.compute( classHandle, (k, table) -> table == null ?
+		                              HandleTable.<ParameterHandle>empty().with( name, handle ) :
+		                              table.with( name, handle ) );
+	}
+
 	////////////////////////////////////////////////////////////////////////////////////////////
 	/////////////////////////////////// OBJECT REGISTRATION ////////////////////////////////////
 	////////////////////////////////////////////////////////////////////////////////////////////
@@ -957,6 +1216,7 @@ public class RTIAmbassadorWrapper
 				instanceHandle = rtiAmbassador.registerObjectInstance( handle, instanceIdentifier );
 			}
 			logger.trace( "Registered object instance handle {}.", handle );
+			cacheKnownObjectClassHandle( instanceHandle, handle );
 		}
 		catch( Exception e )
 		{
@@ -1007,7 +1267,23 @@ public class RTIAmbassadorWrapper
 	 */
 	public HLAInteraction makeInteraction( String name, Map<String,byte[]> parameters )
 	{
-		return new HLAInteraction( name, parameters );
+		return makeInteraction( name, parameters, null );
+	}
+
+	/**
+	 * A utility method to allow simple instantiation of an interaction based off an interaction
+	 * name and some parameters, with the parameter values stored by slot
+	 *
+	 * @param name the interaction class name
+	 * @param parameters the parameters (can be null)
+	 * @param slotLayout the slots of the parameters (can be null, in which case parameter values
+	 *            are not stored by slot)
+	 * @return the interaction
+	 */
+	public HLAInteraction makeInteraction( String name, Map<String,byte[]> parameters,
+	                                       SlotLayout slotLayout )
+	{
+		return new HLAInteraction( name, parameters, slotLayout );
 	}
 
 	/**
@@ -1031,10 +1307,27 @@ public class RTIAmbassadorWrapper
 	 * @return the interaction
 	 */
 	public HLAObject makeObjectInstance( String className, Map<String,byte[]> attributes )
+	{
+		return makeObjectInstance( className, attributes, null );
+	}
+
+	/**
+	 * A utility method to allow simple instantiation of an object instance based off an object class
+	 * name and some initial values for the attributes, also registering the instance with the RTI.
+	 * The attribute values are stored by slot.
+	 *
+	 * @param name the object class name
+	 * @param attributes the initial values for the attributes (can be null)
+	 * @param slotLayout the slots of the attributes (can be null, in which case attribute values
+	 *            are not stored by slot)
+	 * @return the interaction
+	 */
+	public HLAObject makeObjectInstance( String className, Map<String,byte[]> attributes,
+	                                     SlotLayout slotLayout )
 	{
 		ObjectClassHandle classhandle = getObjectClassHandle( className );
 		ObjectInstanceHandle instanceHandle = registerObjectInstance( classhandle );
-		return new HLAObject( className, attributes, instanceHandle );
+		return new HLAObject( className, attributes, instanceHandle, slotLayout );
 	}
 
 	////////////////////////////////////////////////////////////////////////////////////////////
@@ -1359,6 +1652,9 @@ public class RTIAmbassadorWrapper
 	 * This method will send out an attribute update for the specified object instance with the
 	 * given timestamp and tag information.
 	 *
+	 * The current values of *all* attributes of the instance are sent. See also
+	 * {@link #updateDirtyAttributeValues(HLAObject, byte[], Double)}.
+	 *
 	 * Federates which are subscribed to a matching combination of class type and attributes will
 	 * receive a notification the next time they tick().
 	 *
@@ -1373,11 +1669,109 @@ public class RTIAmbassadorWrapper
 			throw new UCEFException( "%s object instance. Cannot update attribute values.",
 			                         NULL_TEXT );
 
+		submitAttributeValues( instance, instance.copyState(), tag, time );
+	}
+
+	/**
+	 * This method will send out an attribute update for the specified object instance with the
+	 * given timestamp and tag information.
+	 *
+	 * Only the values of attributes which have changed since they were last sent are included in
+	 * the update. If no attributes have changed, no update is sent.
+	 *
+	 * Federates which are subscribed to a matching combination of class type and attributes will
+	 * receive a notification the next time they tick().
+	 *
+	 * @param instance the instance
+	 * @param tag the tag of the interaction (can be null)
+	 * @param time the timestamp for the interaction (can be null)
+	 */
+	public void updateDirtyAttributeValues( HLAObject instance, byte[] tag, Double time)
+	{
+		// basic sanity checks on provided arguments
+		if( instance == null )
+			throw new UCEFException( "%s object instance. Cannot update attribute values.",
+			                         NULL_TEXT );
+
+		Map<String,byte[]> dirtyState = instance.getDirtyState();
+		if( dirtyState.isEmpty() )
+		{
+			logger.trace( "No changed attributes for object instance handle {} - nothing to send.",
+			              instance.instanceHandle );
+			return;
+		}
+
+		submitAttributeValues( instance, dirtyState, tag, time );
+	}
+
+	/**
+	 * Send out an attribute update for the specified object instance, either immediately or via
+	 * the asynchronous sender if it is in use (see {@link #startAsyncSend(int, SendOverflowPolicy)}).
+	 *
+	 * @param instance the instance
+	 * @param state the attributes and values to send (not modified after this call)
+	 * @param tag the tag of the interaction (can be null)
+	 * @param time the timestamp for the interaction (can be null)
+	 */
+	void submitAttributeValues( HLAObject instance, Map<String,byte[]> state,
+	                            byte[] tag, Double time )
+	{
+		submitAttributeValues( instance, state, tag, time, null );
+	}
+
+	/**
+	 * Send out an attribute update for the specified object instance, either immediately or via
+	 * the asynchronous sender if it is in use, with an action to take once the update has been
+	 * handed to the RTI successfully.
+	 *
+	 * The action is not taken if the update is dropped or fails to send. When sending
+	 * asynchronously it is taken on the sender thread.
+	 *
+	 * @param instance the instance
+	 * @param state the attributes and values to send (not modified after this call)
+	 * @param tag the tag of the interaction (can be null)
+	 * @param time the timestamp for the interaction (can be null)
+	 * @param onSent given the attributes and values once they have been sent (can be null)
+	 */
+	void submitAttributeValues( HLAObject instance, Map<String,byte[]> state,
+	                            byte[] tag, Double time, Consumer<Map<String,byte[]>> onSent )
+	{
+		AsyncSender sender = this.asyncSender;
+		if( sender == null )
+		{
+			sendAttributeValues( instance, state, tag, time );
+			if( onSent != null )
+				onSent.accept( state );
+		}
+		else
+		{
+			// mark the attributes clean now rather than once they have been sent, so that an
+			// update queued behind this one doesn't pick up the same values again - they are
+			// marked as changed again if the update is dropped or fails
+			instance.markClean( state );
+			sender.submit( () -> sendAttributeValues( instance, state, tag, time ),
+			               onSent == null ? null : () -> onSent.accept( state ),
+			               () -> instance.markDirty( state ) );
+		}
+	}
+
+	/**
+	 * Send out an attribute update for the specified object instance, and mark the sent
+	 * attributes as unchanged if the update succeeds.
+	 *
+	 * @param instance the instance
+	 * @param state the attributes and values to send
+	 * @param tag the tag of the interaction (can be null)
+	 * @param time the timestamp for the interaction (can be null)
+	 */
+	void sendAttributeValues( HLAObject instance, Map<String,byte[]> state,
+	                          byte[] tag, Double time )
+	{
 		ObjectInstanceHandle objectInstanceHandle = instance.instanceHandle;
 		try
 		{
 			// we need to build up an AttributeHandleValueMap from the object state
-			AttributeHandleValueMap ahvm = convert( objectInstanceHandle, instance.getState() );
+			AttributeHandleValueMap ahvm = convert( objectInstanceHandle, state );
 
 			// now we have the information we need to do the update
 			logger.trace( "Sending reflection for {} attribute(s) for object instance handle {}...",
@@ -1398,6 +1792,8 @@ public class RTIAmbassadorWrapper
 			                         "Failed to update attribute values for object instance %s",
 			                         makeSummary( objectInstanceHandle ) );
 		}
+
+		instance.markClean( state );
 	}
 
 	/**
@@ -1417,11 +1813,51 @@ public class RTIAmbassadorWrapper
 			throw new UCEFException( "%s interaction. Cannot send interaction.",
 			                         NULL_TEXT );
 
+		submitInteraction( interaction, interaction.getState(), tag, time );
+	}
+
+	/**
+	 * Send out an interaction, either immediately or via the asynchronous sender if it is in use
+	 * (see {@link #startAsyncSend(int, SendOverflowPolicy)}).
+	 *
+	 * @param interaction the interaction
+	 * @param state the parameters and values to send
+	 * @param tag the tag of the interaction (can be null)
+	 * @param time the timestamp for the interaction (can be null)
+	 */
+	void submitInteraction( HLAInteraction interaction, Map<String,byte[]> state,
+	                        byte[] tag, Double time )
+	{
+		AsyncSender sender = this.asyncSender;
+		if( sender == null )
+		{
+			sendInteraction( interaction, state, tag, time );
+		}
+		else
+		{
+			// the interaction may be changed and sent again before this one goes out
+			Map<String,byte[]> sentState = new HashMap<>( state );
+			sender.submit( () -> sendInteraction( interaction, sentState, tag, time ) );
+		}
+	}
+
+	/**
+	 * Send out an interaction of the same class as the given interaction, with the given
+	 * parameter values (which may be a copy of the interaction's values captured earlier).
+	 *
+	 * @param interaction the interaction
+	 * @param state the parameters and values to send
+	 * @param tag the tag of the interaction (can be null)
+	 * @param time the timestamp for the interaction (can be null)
+	 */
+	void sendInteraction( HLAInteraction interaction, Map<String,byte[]> state,
+	                      byte[] tag, Double time )
+	{
 		InteractionClassHandle interactionClassHandle = getInteractionClassHandle( interaction );
 		try
 		{
 			// we need to build up a ParameterHandleValueMap from the interaction parameters
-			ParameterHandleValueMap phvm = convert( interactionClassHandle, interaction.getState() );
+			ParameterHandleValueMap phvm = convert( interactionClassHandle, state );
 
 			// now we have the information we need to do the send
 			logger.trace( "Sending interaction with {} parameter(s) for interaction class handle {}...",
@@ -1448,6 +1884,80 @@ public class RTIAmbassadorWrapper
 		}
 	}
 
+	////////////////////////////////////////////////////////////////////////////////////////////
+	/////////////////////////////////// ASYNCHRONOUS SENDING ///////////////////////////////////
+	////////////////////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Start sending interactions and attribute updates from a dedicated thread. Once started,
+	 * {@link #sendInteraction(HLAInteraction, byte[], Double)},
+	 * {@link #updateAttributeValues(HLAObject, byte[], Double)} and
+	 * {@link #updateDirtyAttributeValues(HLAObject, byte[], Double)} queue the send and return
+	 * without waiting for the RTI.
+	 *
+	 * Failures to send are logged, and the most recent one is thrown from the next call to
+	 * {@link #awaitAsyncSends()} or {@link #stopAsyncSend()}.
+	 *
+	 * Has no effect if asynchronous sending has already been started.
+	 *
+	 * @param queueSize the maximum number of sends which may be waiting
+	 * @param overflowPolicy what to do when a send is made while the queue is full
+	 */
+	public void startAsyncSend( int queueSize, SendOverflowPolicy overflowPolicy )
+	{
+		if( this.asyncSender == null )
+			this.asyncSender = new AsyncSender( queueSize, overflowPolicy, "ucef-async-send" );
+	}
+
+	/**
+	 * Carry out any outstanding sends, and go back to sending synchronously. Has no effect if
+	 * asynchronous sending has not been started.
+	 */
+	public void stopAsyncSend()
+	{
+		AsyncSender sender = this.asyncSender;
+		if( sender != null )
+		{
+			this.asyncSender = null;
+			sender.shutdown();
+		}
+	}
+
+	/**
+	 * Block until all sends queued so far have been carried out. Returns immediately if
+	 * asynchronous sending is not in use.
+	 *
+	 * This must be called before requesting a time advance, so that time-stamped sends are not
+	 * made after the time they relate to has been granted.
+	 */
+	public void awaitAsyncSends()
+	{
+		AsyncSender sender = this.asyncSender;
+		if( sender != null )
+			sender.awaitIdle();
+	}
+
+	/**
+	 * Determine if sends are carried out asynchronously
+	 *
+	 * @return true if sends are carried out asynchronously, false otherwise
+	 */
+	public boolean isSendingAsync()
+	{
+		return this.asyncSender != null;
+	}
+
+	/**
+	 * Obtain a snapshot of the state of the asynchronous send queue
+	 *
+	 * @return the asynchronous send metrics ({@link AsyncSendMetrics#NONE} if asynchronous
+	 *         sending is not in use)
+	 */
+	public AsyncSendMetrics getAsyncSendMetrics()
+	{
+		AsyncSender sender = this.asyncSender;
+		return sender == null ? AsyncSendMetrics.NONE : sender.getMetrics();
+	}
+
 	////////////////////////////////////////////////////////////////////////////////////////////
 	//////////////////////////////////////// REQUESTS //////////////////////////////////////////
 	////////////////////////////////////////////////////////////////////////////////////////////
@@ -1522,6 +2032,11 @@ public class RTIAmbassadorWrapper
 	protected ParameterHandleValueMap convert( InteractionClassHandle ich, Map<String,byte[]> source )
 	{
 		ParameterHandleValueMap result = parameterMapFactory.create( source.size() );
+
+		StateConverter<ParameterHandle> converter = this.parameterConverters.get( ich );
+		if( converter != null )
+			return converter.fromState( source, result, name -> getParameterHandle( ich, name ) );
+
 		for( Entry<String,byte[]> entry : source.entrySet() )
 		{
 			ParameterHandle parameterHandle = getParameterHandle( ich, entry.getKey() );
@@ -1546,6 +2061,11 @@ public class RTIAmbassadorWrapper
 	{
 		ObjectClassHandle och = getKnownObjectClassHandle( oih );
 		AttributeHandleValueMap result = attributeMapFactory.create( source.size() );
+
+		StateConverter<AttributeHandle> converter = this.attributeConverters.get( och );
+		if( converter != null )
+			return converter.fromState( source, result, name -> getAttributeHandle( och, name ) );
+
 		for( Entry<String,byte[]> entry : source.entrySet() )
 		{
 			AttributeHandle attributeHandle = getAttributeHandle( och, entry.getKey() );
@@ -1553,7 +2073,7 @@ public class RTIAmbassadorWrapper
 				throw new UCEFException( "Unknown attribute '%s'. Cannot create attribute value map.",
 				                         entry.getKey() );
 
-			result.put( getAttributeHandle( och, entry.getKey() ), entry.getValue() );
+			result.put( attributeHandle, entry.getValue() );
 		}
 		return result;
 	}
@@ -1570,6 +2090,11 @@ public class RTIAmbassadorWrapper
 	protected Map<String,byte[]> convert( ObjectInstanceHandle oih, AttributeHandleValueMap phvm )
 	{
 		ObjectClassHandle och = getKnownObjectClassHandle( oih );
+
+		StateConverter<AttributeHandle> converter = this.attributeConverters.get( och );
+		if( converter != null )
+			return converter.toState( phvm, handle -> getAttributeName( och, handle ) );
+
 		HashMap<String,byte[]> result = new HashMap<>();
 		for( Entry<AttributeHandle,byte[]> entry : phvm.entrySet() )
 		{
@@ -1590,6 +2115,10 @@ public class RTIAmbassadorWrapper
 	 */
 	protected Map<String,byte[]> convert( InteractionClassHandle ich, ParameterHandleValueMap phvm )
 	{
+		StateConverter<ParameterHandle> converter = this.parameterConverters.get( ich );
+		if( converter != null )
+			return converter.toState( phvm, handle -> getParameterName( ich, handle ) );
+
 		HashMap<String,byte[]> result = new HashMap<>();
 		for( Entry<ParameterHandle,byte[]> entry : phvm.entrySet() )
 		{
@@ -1599,6 +2128,46 @@ public class RTIAmbassadorWrapper
 		return result;
 	}
 
+	/**
+	 * A utility method which provides a lazily converted view of an
+	 * {@link AttributeHandleValueMap}, keyed by attribute name, without copying it (see
+	 * {@link IncomingStateView}). If the attribute handles of the object class have not been
+	 * cached, the map is converted as per {@link #convert(ObjectInstanceHandle, AttributeHandleValueMap)}
+	 *
+	 * @param oih the object instance handle with which the attributes are associated
+	 * @param ahvm the map containing attribute handles and their associated byte values
+	 * @return a {@link Map} of attribute names to their associated byte values
+	 */
+	protected Map<String,byte[]> view( ObjectInstanceHandle oih, AttributeHandleValueMap ahvm )
+	{
+		ObjectClassHandle och = getKnownObjectClassHandle( oih );
+
+		HandleTable<AttributeHandle> table = this.attributeTables.get( och );
+		if( table == null )
+			return convert( oih, ahvm );
+
+		return new IncomingStateView<>( ahvm, table, handle -> getAttributeName( och, handle ) );
+	}
+
+	/**
+	 * A utility method which provides a lazily converted view of a
+	 * {@link ParameterHandleValueMap}, keyed by parameter name, without copying it (see
+	 * {@link IncomingStateView}). If the parameter handles of the interaction class have not been
+	 * cached, the map is converted as per {@link #convert(InteractionClassHandle, ParameterHandleValueMap)}
+	 *
+	 * @param ich the interaction class handle with which the parameters are associated
+	 * @param phvm the map containing parameter handles and their associated byte values
+	 * @return a {@link Map} of parameter names to their associated byte values
+	 */
+	protected Map<String,byte[]> view( InteractionClassHandle ich, ParameterHandleValueMap phvm )
+	{
+		HandleTable<ParameterHandle> table = this.parameterTables.get( ich );
+		if( table == null )
+			return convert( ich, phvm );
+
+		return new IncomingStateView<>( phvm, table, handle -> getParameterName( ich, handle ) );
+	}
+
 	/**
 	 * A utility method to provide an zero-length byte array in place of a null as required
 	 *
@@ -0,0 +1,393 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.base;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import gov.nist.ucef.hla.base.Types.DataType;
+import gov.nist.ucef.hla.base.Types.InteractionClass;
+import gov.nist.ucef.hla.base.Types.InteractionParameter;
+import gov.nist.ucef.hla.base.Types.ObjectAttribute;
+import gov.nist.ucef.hla.base.Types.ObjectClass;
+import gov.nist.ucef.hla.base.Types.Sharing;
+
+/**
+ * A directory of compact binary snapshots of parsed SOMs (see {@link SOMParser}), so that
+ * federates which are started repeatedly with the same SOM do not have to parse its XML every
+ * time.
+ *
+ * Snapshots are identified by a SHA-256 hash of the content of the SOM file, so a SOM which has
+ * changed (or been moved) is simply parsed again. Snapshots are memory mapped when loaded, and
+ * any snapshot which cannot be read (a different format version, a truncated file and so on) is
+ * ignored and replaced. Since the cache is only an optimization, problems writing to it are
+ * logged rather than treated as errors.
+ *
+ * Attribute and parameter definitions which are shared between a class and its subclasses are
+ * only stored once, and are still shared between the classes once they have been loaded again.
+ */
+final class SOMCache
+{
+	//----------------------------------------------------------
+	//                    STATIC VARIABLES
+	//----------------------------------------------------------
+	private static final Logger logger = LogManager.getLogger( SOMCache.class );
+
+	private static final int MAGIC = 0x55534F4D; // "USOM"
+	// NOTE: increase this whenever the layout changes, or the order of the DataType or Sharing
+	//       constants changes, since these are stored by ordinal
+	private static final int FORMAT_VERSION = 1;
+	private static final String DIGEST_ALGORITHM = "SHA-256";
+	private static final String FILE_EXTENSION = ".som";
+
+	private static final DataType[] DATA_TYPES = DataType.values();
+	private static final Sharing[] SHARINGS = Sharing.values();
+
+	//----------------------------------------------------------
+	//                   INSTANCE VARIABLES
+	//----------------------------------------------------------
+	private final File directory;
+
+	//----------------------------------------------------------
+	//                      CONSTRUCTORS
+	//----------------------------------------------------------
+	SOMCache( File directory )
+	{
+		this.directory = directory;
+	}
+
+	//----------------------------------------------------------
+	//                    INSTANCE METHODS
+	//----------------------------------------------------------
+	/**
+	 * Obtain the object and interaction classes defined in a SOM, from a snapshot in the cache
+	 * if there is one for the current content of the SOM file, or otherwise by parsing the SOM
+	 * (and adding a snapshot of the result to the cache)
+	 *
+	 * @param somPath the path to the SOM file
+	 * @return the object and interaction classes defined in the SOM
+	 */
+	SOMParser.ObjectModel load( String somPath )
+	{
+		File somFile = SOMParser.findSOMFile( somPath );
+		byte[] content;
+		try
+		{
+			content = Files.readAllBytes( somFile.toPath() );
+		}
+		catch( IOException e )
+		{
+			throw new UCEFException( e, "Unable to read SOM from '%s'.", somPath );
+		}
+
+		byte[] digest = digest( content );
+		File cacheFile = new File( this.directory, toHex( digest ) + FILE_EXTENSION );
+		if( cacheFile.isFile() )
+		{
+			SOMParser.ObjectModel objectModel = read( cacheFile, digest );
+			if( objectModel != null )
+			{
+				logger.debug( "Loaded SOM '{}' from cache '{}'", somPath, cacheFile );
+				return objectModel;
+			}
+			logger.debug( "Ignoring unreadable cached SOM '{}'", cacheFile );
+		}
+
+		SOMParser.ObjectModel objectModel = SOMParser.parse( new ByteArrayInputStream( content ),
+		                                                     somPath );
+		write( cacheFile, digest, objectModel );
+		return objectModel;
+	}
+
+	/**
+	 * Read a snapshot from the cache
+	 *
+	 * @param cacheFile the snapshot file
+	 * @param digest the expected hash of the SOM content
+	 * @return the object and interaction classes, or null if the snapshot could not be read or
+	 *         is not for the expected SOM content
+	 */
+	private SOMParser.ObjectModel read( File cacheFile, byte[] digest )
+	{
+		try( FileChannel channel = FileChannel.open( cacheFile.toPath(), StandardOpenOption.READ ) )
+		{
+			ByteBuffer buffer = channel.map( FileChannel.MapMode.READ_ONLY, 0, channel.size() );
+			if( buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION )
+				return null;
+
+			byte[] storedDigest = new byte[digest.length];
+			buffer.get( storedDigest );
+			if( !Arrays.equals( digest, storedDigest ) )
+				return null;
+
+			ObjectAttribute[] attributes = new ObjectAttribute[getCount( buffer )];
+			for( int i = 0; i < attributes.length; i++ )
+			{
+				String name = getString( buffer );
+				DataType dataType = DATA_TYPES[buffer.get()];
+				attributes[i] = new ObjectAttribute( name, dataType, SHARINGS[buffer.get()] );
+			}
+
+			List<ObjectClass> objectClasses = new ArrayList<>();
+			for( int count = getCount( buffer ); count > 0; count-- )
+			{
+				ObjectClass objectClass = new ObjectClass( getString( buffer ), SHARINGS[buffer.get()] );
+				for( int attributeCount = getCount( buffer ); attributeCount > 0; attributeCount-- )
+					objectClass.addAttribute( attributes[buffer.getInt()] );
+				objectClasses.add( objectClass );
+			}
+
+			InteractionParameter[] parameters = new InteractionParameter[getCount( buffer )];
+			for( int i = 0; i < parameters.length; i++ )
+				parameters[i] = new InteractionParameter( getString( buffer ), DATA_TYPES[buffer.get()] );
+
+			List<InteractionClass> interactionClasses = new ArrayList<>();
+			for( int count = getCount( buffer ); count > 0; count-- )
+			{
+				InteractionClass interactionClass = new InteractionClass( getString( buffer ),
+				                                                          SHARINGS[buffer.get()] );
+				for( int parameterCount = getCount( buffer ); parameterCount > 0; parameterCount-- )
+					interactionClass.addParameter( parameters[buffer.getInt()] );
+				interactionClasses.add( interactionClass );
+			}
+
+			return new SOMParser.ObjectModel( objectClasses, interactionClasses );
+		}
+		catch( IOException | BufferUnderflowException | IndexOutOfBoundsException |
+		       IllegalArgumentException e )
+		{
+			// corrupt, truncated or otherwise unusable - the SOM will be parsed instead
+			return null;
+		}
+	}
+
+	/**
+	 * Write a snapshot to the cache. The snapshot is written to a temporary file first, so that
+	 * other federates sharing the cache never see a partially written snapshot.
+	 *
+	 * @param cacheFile the snapshot file
+	 * @param digest the hash of the SOM content
+	 * @param objectModel the object and interaction classes to store
+	 */
+	private void write( File cacheFile, byte[] digest, SOMParser.ObjectModel objectModel )
+	{
+		Path temp = null;
+		try
+		{
+			Files.createDirectories( this.directory.toPath() );
+			temp = Files.createTempFile( this.directory.toPath(), cacheFile.getName(), ".tmp" );
+			Files.write( temp, encode( digest, objectModel ) );
+			try
+			{
+				Files.move( temp, cacheFile.toPath(), StandardCopyOption.ATOMIC_MOVE );
+			}
+			catch( AtomicMoveNotSupportedException e )
+			{
+				Files.move( temp, cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING );
+			}
+		}
+		catch( IOException e )
+		{
+			logger.warn( "Unable to cache SOM in '{}': {}", cacheFile, e.getMessage() );
+			try
+			{
+				if( temp != null )
+					Files.deleteIfExists( temp );
+			}
+			catch( IOException ignored )
+			{
+				// nothing more we can do
+			}
+		}
+	}
+
+	/**
+	 * Encode a snapshot
+	 *
+	 * @param digest the hash of the SOM content
+	 * @param objectModel the object and interaction classes to store
+	 * @return the encoded snapshot
+	 */
+	private byte[] encode( byte[] digest, SOMParser.ObjectModel objectModel ) throws IOException
+	{
+		// attributes and parameters which are shared between classes are stored once, and
+		// referred to by their index
+		Map<ObjectAttribute,Integer> attributeIndices = new IdentityHashMap<>();
+		for( ObjectClass objectClass : objectModel.getObjectClasses() )
+		{
+			for( ObjectAttribute attribute : objectClass.attributes.values() )
+				attributeIndices.putIfAbsent( attribute, attributeIndices.size() );
+		}
+		Map<InteractionParameter,Integer> parameterIndices = new IdentityHashMap<>();
+		for( InteractionClass interactionClass : objectModel.getInteractionClasses() )
+		{
+			for( InteractionParameter parameter : interactionClass.parameters.values() )
+				parameterIndices.putIfAbsent( parameter, parameterIndices.size() );
+		}
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream( bytes );
+		out.writeInt( MAGIC );
+		out.writeInt( FORMAT_VERSION );
+		out.write( digest );
+
+		out.writeInt( attributeIndices.size() );
+		ObjectAttribute[] attributes = new ObjectAttribute[attributeIndices.size()];
+		for( ObjectAttribute attribute : inIndexOrder( attributeIndices, attributes ) )
+		{
+			putString( out, attribute.name );
+			out.writeByte( attribute.dataType.ordinal() );
+			out.writeByte( attribute.sharing.ordinal() );
+		}
+
+		Collection<ObjectClass> objectClasses = objectModel.getObjectClasses();
+		out.writeInt( objectClasses.size() );
+		for( ObjectClass objectClass : objectClasses )
+		{
+			putString( out, objectClass.name );
+			out.writeByte( objectClass.sharing.ordinal() );
+			out.writeInt( objectClass.attributes.size() );
+			for( ObjectAttribute attribute : objectClass.attributes.values() )
+				out.writeInt( attributeIndices.get( attribute ) );
+		}
+
+		out.writeInt( parameterIndices.size() );
+		InteractionParameter[] parameters = new InteractionParameter[parameterIndices.size()];
+		for( InteractionParameter parameter : inIndexOrder( parameterIndices, parameters ) )
+		{
+			putString( out, parameter.name );
+			out.writeByte( parameter.dataType.ordinal() );
+		}
+
+		Collection<InteractionClass> interactionClasses = objectModel.getInteractionClasses();
+		out.writeInt( interactionClasses.size() );
+		for( InteractionClass interactionClass : interactionClasses )
+		{
+			putString( out, interactionClass.name );
+			out.writeByte( interactionClass.sharing.ordinal() );
+			out.writeInt( interactionClass.parameters.size() );
+			for( InteractionParameter parameter : interactionClass.parameters.values() )
+				out.writeInt( parameterIndices.get( parameter ) );
+		}
+
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	//----------------------------------------------------------
+	//                     STATIC METHODS
+	//----------------------------------------------------------
+	private static <T> T[] inIndexOrder( Map<T,Integer> indices, T[] ordered )
+	{
+		for( Map.Entry<T,Integer> entry : indices.entrySet() )
+			ordered[entry.getValue()] = entry.getKey();
+		return ordered;
+	}
+
+	/**
+	 * Strings are stored as their length in UTF-8 bytes (or -1 for null) followed by the bytes
+	 */
+	private static void putString( DataOutputStream out, String value ) throws IOException
+	{
+		if( value == null )
+		{
+			out.writeInt( -1 );
+			return;
+		}
+
+		byte[] utf8 = value.getBytes( StandardCharsets.UTF_8 );
+		out.writeInt( utf8.length );
+		out.write( utf8 );
+	}
+
+	private static String getString( ByteBuffer buffer )
+	{
+		int length = buffer.getInt();
+		if( length < 0 )
+			return null;
+		if( length > buffer.remaining() )
+			throw new BufferUnderflowException();
+
+		byte[] utf8 = new byte[length];
+		buffer.get( utf8 );
+		return new String( utf8, StandardCharsets.UTF_8 );
+	}
+
+	/**
+	 * Read a count of items, checking that it is plausible for the remaining snapshot content
+	 * (every item takes up at least one byte) so that a corrupt snapshot cannot cause huge
+	 * allocations
+	 */
+	private static int getCount( ByteBuffer buffer )
+	{
+		int count = buffer.getInt();
+		if( count < 0 || count > buffer.remaining() )
+			throw new BufferUnderflowException();
+		return count;
+	}
+
+	private static byte[] digest( byte[] content )
+	{
+		try
+		{
+			return MessageDigest.getInstance( DIGEST_ALGORITHM ).digest( content );
+		}
+		catch( NoSuchAlgorithmException e )
+		{
+			// every Java platform is required to support SHA-256
+			throw new UCEFException( e, "Unable to compute %s hash of SOM.", DIGEST_ALGORITHM );
+		}
+	}
+
+	private static String toHex( byte[] bytes )
+	{
+		StringBuilder builder = new StringBuilder( bytes.length * 2 );
+		for( byte b : bytes )
+			builder.append( String.format( "%02x", b ) );
+		return builder.toString();
+	}
+}
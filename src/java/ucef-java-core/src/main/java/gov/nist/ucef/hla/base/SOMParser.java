@@ -24,21 +24,27 @@
 
 package gov.nist.ucef.hla.base;
 
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 
 import gov.nist.ucef.hla.base.Types.DataType;
 import gov.nist.ucef.hla.base.Types.InteractionClass;
@@ -47,6 +53,15 @@ import gov.nist.ucef.hla.base.Types.ObjectAttribute;
 import gov.nist.ucef.hla.base.Types.ObjectClass;
 import gov.nist.ucef.hla.base.Types.Sharing;
 
+/**
+ * Extracts the object and interaction classes from SOM XML files.
+ *
+ * The SOM is read in a single streaming pass (using StAX) rather than being loaded into a DOM,
+ * so that large object models with thousands of classes can be parsed quickly and without
+ * holding the whole document in memory. Only the names, sharing and data types of the classes
+ * and their attributes/parameters are retained while reading - everything else in the SOM is
+ * skipped over.
+ */
 public class SOMParser
 {
 	//----------------------------------------------------------
@@ -87,85 +102,103 @@ public class SOMParser
 	//----------------------------------------------------------
 	/**
 	 * Reads a SOM XML definition and pushes the relevant parts into the provided
-	 * {@link FederateConiguration} instance
+	 * {@link FederateConfiguration} instance
+	 *
+	 * If the configuration has a SOM cache directory (see
+	 * {@link FederateConfiguration#setSomCacheDirectory(String)}), a previously parsed copy of
+	 * the same SOM is loaded from the cache instead of parsing the XML where possible.
 	 *
 	 * @param somPath the path to SOM file
 	 * @param config the {@link FederateConfiguration} instance which needs to be updated
 	 */
 	public static void somToFederateConfig( String somPath, FederateConfiguration config )
 	{
-		Document dom = buildDOM(somPath);
-		Element objectModelNode = findObjectModelNode(dom);
-
-		// get the <objects> element, which is directly under <objectModel>
-		Element objectsRoot = getElementByPath( objectModelNode, OBJECTS );
-		Collection<ObjectClass> reflections = extractObjectClasses( objectsRoot );
-		config.cacheObjectClasses(reflections);
-
-		// get the <interactions> element, which is directly under <objectModel>
-		Element interactionsRoot = getElementByPath( objectModelNode, INTERACTIONS );
-		Collection<InteractionClass> interactions = extractInteractionClasses( interactionsRoot );
-		config.cacheInteractionClasses(interactions);
+		ObjectModel objectModel = load( somPath, config.getSomCacheDirectory() );
+		config.cacheObjectClasses( objectModel.getObjectClasses() );
+		config.cacheInteractionClasses( objectModel.getInteractionClasses() );
 	}
 
 	/**
 	 * Reads a SOM XML definition and extracts the details of the object classes
 	 *
+	 * If the interaction classes are also required, use {@link #parse(String)} instead so that
+	 * the SOM is only read once.
+	 *
 	 * @param somPath the path to SOM file
 	 * @return a collection of {@link ObjectClass} instances which contain details of the names,
 	 *         datatypes, attributes, sharing, and so on
 	 */
 	public static Collection<ObjectClass> getObjectClasses( String somPath )
 	{
-		Document dom = buildDOM(somPath);
-		Element objectModelNode = findObjectModelNode(dom);
-
-		// get the <objects> element, which is directly under <objectModel>
-		Element objectsRoot = getElementByPath( objectModelNode, OBJECTS );
-		return extractObjectClasses( objectsRoot );
+		return parse( somPath ).getObjectClasses();
 	}
 
 	/**
 	 * Reads a SOM XML definition and extracts the details of the interaction classes
 	 *
+	 * If the object classes are also required, use {@link #parse(String)} instead so that the
+	 * SOM is only read once.
+	 *
 	 * @param somPath the path to SOM file
 	 * @return a collection of {@link InteractionClass} instances which contain details of the names,
 	 *         datatypes, parameters, sharing, and so on
 	 */
 	public static Collection<InteractionClass> getInteractionClasses( String somPath )
 	{
-		Document dom = buildDOM(somPath);
-		Element objectModelNode = findObjectModelNode(dom);
-
-		// get the <interactions> element, which is directly under <objectModel>
-		Element interactionsRoot = getElementByPath( objectModelNode, INTERACTIONS );
-
-		return extractInteractionClasses( interactionsRoot );
+		return parse( somPath ).getInteractionClasses();
 	}
 
 	/**
-	 * Attempt to build a DOM from the SOM file at the given path
+	 * Reads a SOM XML definition in a single pass and extracts the details of both the object
+	 * classes and the interaction classes
 	 *
-	 * @param somPath the path to the SOM XML
-	 * @return the DOM from the SOM XML
+	 * @param somPath the path to SOM file
+	 * @return the object and interaction classes defined in the SOM
 	 */
-	private static Document buildDOM( String somPath )
+	public static ObjectModel parse( String somPath )
 	{
-		// check both file system and resources for the file
-		File file = getResource( somPath );
-		if( file == null || !file.isFile() )
+		File file = findSOMFile( somPath );
+		try( InputStream in = new BufferedInputStream( new FileInputStream( file ) ) )
 		{
-			throw new UCEFException( "The file '%s' does not exist. " +
-			                         "Please check the file path.", file.getAbsolutePath() );
+			return parse( in, somPath );
+		}
+		catch( IOException e )
+		{
+			throw new UCEFException( e, "Unable to parse SOM from '%s'.", somPath );
 		}
+	}
+
+	/**
+	 * Reads a SOM XML definition in a single pass and extracts the details of both the object
+	 * classes and the interaction classes
+	 *
+	 * @param in the stream to read the SOM XML from (not closed by this method)
+	 * @param somPath the path to the SOM file (for error reporting)
+	 * @return the object and interaction classes defined in the SOM
+	 */
+	static ObjectModel parse( InputStream in, String somPath )
+	{
+		XMLInputFactory factory = XMLInputFactory.newInstance();
+		// we only need the element structure and text of the SOM itself
+		factory.setProperty( XMLInputFactory.SUPPORT_DTD, false );
+		factory.setProperty( XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false );
+		factory.setProperty( XMLInputFactory.IS_COALESCING, true );
 
-		DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
 		try
 		{
-			// Using factory get an instance of document builder
-			DocumentBuilder db = dbf.newDocumentBuilder();
-			// parse using builder to get DOM representation of the XML file
-			return db.parse( file );
+			XMLStreamReader reader = factory.createXMLStreamReader( in );
+			try
+			{
+				return readObjectModel( reader );
+			}
+			finally
+			{
+				reader.close();
+			}
+		}
+		catch( UCEFException e )
+		{
+			throw e;
 		}
 		catch( Exception e )
 		{
@@ -174,92 +207,331 @@ public class SOMParser
 	}
 
 	/**
-	 * Attempt to locate the `<objectModel>` node in DOM (should be at the "top" of the DOM)
+	 * Obtain the object and interaction classes defined in a SOM, from a cache of previously
+	 * parsed SOMs where possible (see {@link SOMCache})
 	 *
-	 * @param dom the DOM created from the SOM XML
-	 * @return the `<objectModel>` node in DOM, or null if no such node could be found
+	 * @param somPath the path to SOM file
+	 * @param cacheDirectory the SOM cache directory, or an empty string to always parse the SOM
+	 * @return the object and interaction classes defined in the SOM
 	 */
-	public static Element findObjectModelNode( Document dom )
+	static ObjectModel load( String somPath, String cacheDirectory )
 	{
-		// get the root element, which is <objectModel>
-		// Element objectModelNode = dom.getDocumentElement();
-		Element objectModelNode = getElementByPath(dom, OBJECT_MODEL);
-		if(objectModelNode == null)
+		if( cacheDirectory.isEmpty() )
+			return parse( somPath );
+
+		return new SOMCache( new File( cacheDirectory ) ).load( somPath );
+	}
+
+	/**
+	 * Merge the object and interaction classes of several SOMs.
+	 *
+	 * The merged classes are in the order in which the SOMs are given, and then the order in
+	 * which they are defined within each SOM, regardless of the order in which the SOMs were
+	 * loaded. A class which is defined by more than one SOM is only included once, with the
+	 * combined sharing of all of its definitions (so a class published according to one SOM and
+	 * subscribed according to another is both published and subscribed) - however, definitions
+	 * of the same class with different attributes/parameters or data types are treated as an
+	 * error.
+	 *
+	 * @param somPaths the paths of the SOMs (for error reporting)
+	 * @param objectModels the object and interaction classes of each SOM, in the same order as
+	 *            the paths
+	 * @return the merged object and interaction classes
+	 * @throws UCEFException if any classes are defined differently by different SOMs - all such
+	 *             conflicts are reported together
+	 */
+	static ObjectModel merge( List<String> somPaths, List<ObjectModel> objectModels )
+	{
+		if( objectModels.size() == 1 )
+			return objectModels.get( 0 );
+
+		Map<String,ObjectClass> objectClasses = new LinkedHashMap<>();
+		Map<String,String> objectClassSources = new HashMap<>();
+		Map<String,InteractionClass> interactionClasses = new LinkedHashMap<>();
+		Map<String,String> interactionClassSources = new HashMap<>();
+		List<String> conflicts = new ArrayList<>();
+
+		for( int i = 0; i < objectModels.size(); i++ )
 		{
-			// can't find the <objectModel> node, which we need to have to proceed
-			throw new UCEFException( "Unable to locate '%s' node in SOM.", OBJECT_MODEL);
+			String somPath = somPaths.get( i );
+			for( ObjectClass objectClass : objectModels.get( i ).getObjectClasses() )
+			{
+				ObjectClass existing = objectClasses.putIfAbsent( objectClass.name, objectClass );
+				if( existing == null )
+					objectClassSources.put( objectClass.name, somPath );
+				else if( isSameStructure( existing, objectClass ) )
+					objectClasses.put( objectClass.name, combine( existing, objectClass ) );
+				else
+					conflicts.add( conflict( objectClass.name, objectClassSources, somPath ) );
+			}
+
+			for( InteractionClass interactionClass : objectModels.get( i ).getInteractionClasses() )
+			{
+				InteractionClass existing = interactionClasses.putIfAbsent( interactionClass.name,
+				                                                            interactionClass );
+				if( existing == null )
+					interactionClassSources.put( interactionClass.name, somPath );
+				else if( isSameStructure( existing, interactionClass ) )
+					interactionClasses.put( interactionClass.name, combine( existing, interactionClass ) );
+				else
+					conflicts.add( conflict( interactionClass.name, interactionClassSources, somPath ) );
+			}
 		}
-		return objectModelNode;
+
+		if( !conflicts.isEmpty() )
+		{
+			throw new UCEFException( "Conflicting class definitions in SOMs:\n\t%s",
+			                         String.join( "\n\t", conflicts ) );
+		}
+
+		return new ObjectModel( new ArrayList<>( objectClasses.values() ),
+		                        new ArrayList<>( interactionClasses.values() ) );
+	}
+
+	private static String conflict( String className, Map<String,String> sources, String somPath )
+	{
+		return String.format( "'%s' is defined differently in '%s' and '%s'",
+		                      className, sources.get( className ), somPath );
+	}
+
+	/**
+	 * Determine if two object classes have the same attributes (with the same data types)
+	 */
+	private static boolean isSameStructure( ObjectClass a, ObjectClass b )
+	{
+		if( !a.attributes.keySet().equals( b.attributes.keySet() ) )
+			return false;
+
+		for( ObjectAttribute attribute : a.attributes.values() )
+		{
+			if( attribute.dataType != b.attributes.get( attribute.name ).dataType )
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Determine if two interaction classes have the same parameters (with the same data types)
+	 */
+	private static boolean isSameStructure( InteractionClass a, InteractionClass b )
+	{
+		if( !a.parameters.keySet().equals( b.parameters.keySet() ) )
+			return false;
+
+		for( InteractionParameter parameter : a.parameters.values() )
+		{
+			if( parameter.dataType != b.parameters.get( parameter.name ).dataType )
+				return false;
+		}
+		return true;
 	}
 
 	/**
-	 * Extracts the details of the object classes defined in the SOM
+	 * Combine two definitions of the same object class. A new instance is created (rather than
+	 * modifying either definition) since the definitions may be shared with other classes.
+	 */
+	private static ObjectClass combine( ObjectClass a, ObjectClass b )
+	{
+		ObjectClass combined = new ObjectClass( a.name, combine( a.sharing, b.sharing ) );
+		for( ObjectAttribute attribute : a.attributes.values() )
+		{
+			Sharing sharing = combine( attribute.sharing, b.attributes.get( attribute.name ).sharing );
+			combined.addAttribute( new ObjectAttribute( attribute.name, attribute.dataType, sharing ) );
+		}
+		return combined;
+	}
+
+	/**
+	 * Combine two definitions of the same interaction class
+	 */
+	private static InteractionClass combine( InteractionClass a, InteractionClass b )
+	{
+		InteractionClass combined = new InteractionClass( a.name, combine( a.sharing, b.sharing ) );
+		for( InteractionParameter parameter : a.parameters.values() )
+			combined.addParameter( parameter );
+		return combined;
+	}
+
+	/**
+	 * @return a sharing which publishes if either of the given sharings does, and subscribes if
+	 *         either of them does
+	 */
+	private static Sharing combine( Sharing a, Sharing b )
+	{
+		boolean publish = a.isPublish() || b.isPublish();
+		boolean subscribe = a.isSubscribe() || b.isSubscribe();
+		if( publish && subscribe )
+			return Sharing.PUBLISHSUBSCRIBE;
+		if( publish )
+			return Sharing.PUBLISH;
+		return subscribe ? Sharing.SUBSCRIBE : Sharing.NEITHER;
+	}
+
+	/**
+	 * Locate a SOM file, checking both the file system and system resources
 	 *
-	 * @param root the `<objects>` node which contains the `<objectClass>` definition nodes
-	 * @return the extracted object classes
+	 * @param somPath the path to the SOM file
+	 * @return the SOM file
+	 * @throws UCEFException if the SOM file does not exist
 	 */
-	private static Collection<ObjectClass> extractObjectClasses( Element root )
+	static File findSOMFile( String somPath )
 	{
+		// check both file system and resources for the file
+		File file = getResource( somPath );
+		if( file == null || !file.isFile() )
+		{
+			throw new UCEFException( "The file '%s' does not exist. " +
+			                         "Please check the file path.", somPath );
+		}
+		return file;
+	}
+
+	/**
+	 * Reads the `<objectModel>` element (which should be at the "top" of the SOM) and the
+	 * `<objects>` and `<interactions>` elements directly under it
+	 *
+	 * @param reader the reader, positioned before the root element
+	 * @return the object and interaction classes defined in the SOM
+	 */
+	private static ObjectModel readObjectModel( XMLStreamReader reader ) throws XMLStreamException
+	{
+		// get the root element, which is <objectModel>
+		if( reader.nextTag() != XMLStreamConstants.START_ELEMENT ||
+		    !OBJECT_MODEL.equals( reader.getLocalName() ) )
+		{
+			// can't find the <objectModel> node, which we need to have to proceed
+			throw new UCEFException( "Unable to locate '%s' node in SOM.", OBJECT_MODEL );
+		}
+
+		List<ClassNode> objectRoots = null;
+		List<ClassNode> interactionRoots = null;
+		while( nextChildElement( reader ) )
+		{
+			String elementName = reader.getLocalName();
+			if( objectRoots == null && OBJECTS.equals( elementName ) )
+				objectRoots = readClassNodes( reader, OBJECTCLASS, ATTRIBUTE );
+			else if( interactionRoots == null && INTERACTIONS.equals( elementName ) )
+				interactionRoots = readClassNodes( reader, INTERACTIONCLASS, PARAMETER );
+			else
+				skipElement( reader );
+		}
+
 		List<ObjectClass> objectClasses = new ArrayList<>();
-		List<ObjectAttribute> objectAttributes = new ArrayList<>();
+		if( objectRoots != null )
+		{
+			for( ClassNode root : objectRoots )
+				traverseObjectClasses( root, "", objectClasses, new ArrayList<>() );
+		}
 
-		for( Element elm : getChildElementsByName( root, OBJECTCLASS ) )
+		List<InteractionClass> interactionClasses = new ArrayList<>();
+		if( interactionRoots != null )
 		{
-			traverseObjectClasses( elm, "", objectClasses, objectAttributes );
+			for( ClassNode root : interactionRoots )
+				traverseInteractionClasses( root, "", interactionClasses, new ArrayList<>() );
 		}
 
-		return objectClasses;
+		return new ObjectModel( objectClasses, interactionClasses );
 	}
 
 	/**
-	 * Extracts the details of the interaction classes defined in the SOM
+	 * Reads the class definitions directly under the current element (i.e., `<objects>` or
+	 * `<interactions>`), leaving the reader positioned at the end of the current element
 	 *
-	 * @param root the `<interactions>` node which contains the `<interactionClass>` definition nodes
-	 * @return the extracted interaction classes
+	 * @param reader the reader, positioned at the start of the parent element
+	 * @param classTag the name of the class definition elements
+	 * @param memberTag the name of the attribute/parameter definition elements
+	 * @return the top level class definitions
 	 */
-	private static Collection<InteractionClass> extractInteractionClasses( Element root )
+	private static List<ClassNode> readClassNodes( XMLStreamReader reader, String classTag,
+	                                               String memberTag ) throws XMLStreamException
 	{
-		List<InteractionClass> interactionClasses = new ArrayList<>();
-		List<InteractionParameter> interactionParameters = new ArrayList<>();
+		List<ClassNode> roots = new ArrayList<>();
+		while( nextChildElement( reader ) )
+		{
+			if( classTag.equals( reader.getLocalName() ) )
+				roots.add( readClassNode( reader, classTag, memberTag ) );
+			else
+				skipElement( reader );
+		}
+		return roots;
+	}
 
-		for( Element elm : getChildElementsByName( root, INTERACTIONCLASS ) )
+	/**
+	 * Reads a single class definition, along with the definitions of its members and
+	 * subclasses, leaving the reader positioned at the end of the class definition element
+	 *
+	 * @param reader the reader, positioned at the start of the class definition element
+	 * @param classTag the name of the class definition elements
+	 * @param memberTag the name of the attribute/parameter definition elements
+	 * @return the class definition
+	 */
+	private static ClassNode readClassNode( XMLStreamReader reader, String classTag,
+	                                        String memberTag ) throws XMLStreamException
+	{
+		ClassNode classNode = new ClassNode();
+		while( nextChildElement( reader ) )
 		{
-			traverseInteractionClasses( elm, "", interactionClasses, interactionParameters );
+			String elementName = reader.getLocalName();
+			if( NAME.equals( elementName ) )
+				classNode.name = readText( reader );
+			else if( SHARING.equals( elementName ) )
+				classNode.sharing = readText( reader );
+			else if( memberTag.equals( elementName ) )
+				classNode.members.add( readMemberNode( reader ) );
+			else if( classTag.equals( elementName ) )
+				classNode.children.add( readClassNode( reader, classTag, memberTag ) );
+			else
+				skipElement( reader );
 		}
+		return classNode;
+	}
 
-		return interactionClasses;
+	/**
+	 * Reads a single attribute/parameter definition, leaving the reader positioned at the end
+	 * of the definition element
+	 *
+	 * @param reader the reader, positioned at the start of the definition element
+	 * @return the attribute/parameter definition
+	 */
+	private static MemberNode readMemberNode( XMLStreamReader reader ) throws XMLStreamException
+	{
+		MemberNode memberNode = new MemberNode();
+		while( nextChildElement( reader ) )
+		{
+			String elementName = reader.getLocalName();
+			if( NAME.equals( elementName ) )
+				memberNode.name = readText( reader );
+			else if( SHARING.equals( elementName ) )
+				memberNode.sharing = readText( reader );
+			else if( DATA_TYPE.equals( elementName ) )
+				memberNode.dataType = readText( reader );
+			else
+				skipElement( reader );
+		}
+		return memberNode;
 	}
 
 	/**
 	 * Note that is a recursive method and passing copies of objectClassName and attributes
 	 * are required for the correct evaluation of values
 	 *
-	 * @param root the current `<objectClass>` node
+	 * @param root the current object class definition
 	 * @param namespace the current namespace
 	 * @param objectClasses the object classes collected so far
 	 * @param attributes the object class attributes collected so far
 	 */
-	private static void traverseObjectClasses( Element root, String namespace,
+	private static void traverseObjectClasses( ClassNode root, String namespace,
 	                                           Collection<ObjectClass> objectClasses,
-	                                           Collection<ObjectAttribute> attributes)
+	                                           Collection<ObjectAttribute> attributes )
 	{
-		String className = getTextValue( root, NAME );
-		String sharingStr = getTextValue( root, SHARING );
-
-		Sharing sharing = Sharing.fromLabel( sharingStr );
-		ObjectClass objectClass = new ObjectClass( namespace + className, sharing );
+		Sharing sharing = Sharing.fromLabel( root.sharing );
+		ObjectClass objectClass = new ObjectClass( namespace + root.name, sharing );
 
-		for( Element elm : getChildElementsByName( root, ATTRIBUTE ) )
+		for( MemberNode member : root.members )
 		{
-			String attrName = getTextValue( elm, NAME );
-			String attrSharingStr = getTextValue( elm, SHARING );
-			String attrTypeStr = getTextValue( elm, DATA_TYPE );
-
-			Sharing attrSharing = Sharing.fromLabel( attrSharingStr );
-			DataType attrDataType = DataType.fromLabel( attrTypeStr );
-			ObjectAttribute attribute = new ObjectAttribute( attrName, attrDataType, attrSharing );
-
-			attributes.add( attribute );
+			Sharing attrSharing = Sharing.fromLabel( member.sharing );
+			DataType attrDataType = DataType.fromLabel( member.dataType );
+			attributes.add( new ObjectAttribute( member.name, attrDataType, attrSharing ) );
 		}
 
 		// if we have attributes in this objectClass then we can publish and
@@ -276,13 +548,13 @@ public class SOMParser
 			logger.warn( objectClass.name  + " doesn't have any attributes - ignoring." );
 		}
 
-		for(Element elm : getChildElementsByName( root, OBJECTCLASS ))
+		for( ClassNode child : root.children )
 		{
 			// recurse - make a copy of the attributes so we don't "pollute"
 			// all the way through the tree using the original collection
 			ArrayList<ObjectAttribute> recAttributes = new ArrayList<ObjectAttribute>();
 			recAttributes.addAll( attributes );
-			traverseObjectClasses( elm, (namespace + className + "."),
+			traverseObjectClasses( child, (namespace + root.name + "."),
 			                       objectClasses, recAttributes );
 		}
 	}
@@ -291,30 +563,22 @@ public class SOMParser
 	 * Note that is a recursive method and passing copies of objectClassName and attributes
 	 * are required for the correct evaluation of values
 	 *
-	 * @param root the current `<interactionClass>` node
+	 * @param root the current interaction class definition
 	 * @param namespace the current namespace
 	 * @param interactionClasses the interaction classes collected so far
 	 * @param parameters the interaction class parameters collected so far
 	 */
-	private static void traverseInteractionClasses( Element root, String namespace,
+	private static void traverseInteractionClasses( ClassNode root, String namespace,
 	                                                Collection<InteractionClass> interactionClasses,
 	                                                Collection<InteractionParameter> parameters )
 	{
-		String className = getTextValue( root, NAME );
-		String sharingStr = getTextValue( root, SHARING );
-
-		Sharing sharing   = Sharing.fromLabel( sharingStr );
-		InteractionClass interactionClass = new InteractionClass(namespace + className, sharing);
+		Sharing sharing   = Sharing.fromLabel( root.sharing );
+		InteractionClass interactionClass = new InteractionClass( namespace + root.name, sharing );
 
-		for(Element elm : getChildElementsByName( root, PARAMETER ))
+		for( MemberNode member : root.members )
 		{
-			String parameterName    = getTextValue( elm, NAME );
-			String parameterTypeStr = getTextValue( elm, DATA_TYPE );
-
-			DataType dataType = DataType.fromLabel( parameterTypeStr );
-			InteractionParameter parameter = new InteractionParameter( parameterName, dataType );
-
-			parameters.add(parameter);
+			DataType dataType = DataType.fromLabel( member.dataType );
+			parameters.add( new InteractionParameter( member.name, dataType ) );
 		}
 
 		// interactions without parameters are just fine
@@ -323,105 +587,75 @@ public class SOMParser
 
 		interactionClasses.add( interactionClass );
 
-		for(Element elm : getChildElementsByName( root, INTERACTIONCLASS ))
+		for( ClassNode child : root.children )
 		{
 			// recurse - make a copy of the parameters so we don't "pollute"
 			// all the way through the tree using the original collection
 			ArrayList<InteractionParameter> recParameters = new ArrayList<InteractionParameter>();
 			recParameters.addAll( parameters );
-			traverseInteractionClasses( elm, (namespace + className + "."),
+			traverseInteractionClasses( child, (namespace + root.name + "."),
 			                            interactionClasses, recParameters );
 		}
 	}
 
 	/**
-	 * Given an XML element and a tag name, search for the tag and get its text content
-	 *
-	 * For example, given XML...
-	 *
-	 *     <drink><name>Mojito</name></drink>
-	 *
-	 * ...if the element points to the <drink> node and tagName is `name`, "Mojito" will be
-	 * returned
+	 * Advance the reader to the start of the next child element of the current element
 	 *
-	 * @param element the XML element
-	 * @param tag the tag to extract text from within the XML element
-	 * @return the text value, or null if no such tag could be found
+	 * @param reader the reader, positioned at the start of the current element or the end of
+	 *            one of its children
+	 * @return true if the reader is now positioned at the start of a child element, false if
+	 *         the end of the current element was reached instead
 	 */
-	private static String getTextValue( Element element, String tag )
+	private static boolean nextChildElement( XMLStreamReader reader ) throws XMLStreamException
 	{
-		NodeList nl = element.getElementsByTagName( tag );
-		if( nl != null && nl.getLength() > 0 )
+		while( reader.hasNext() )
 		{
-			Element el = (Element)nl.item( 0 );
-			return el.getFirstChild().getNodeValue();
+			int event = reader.next();
+			if( event == XMLStreamConstants.START_ELEMENT )
+				return true;
+			if( event == XMLStreamConstants.END_ELEMENT )
+				return false;
 		}
-		return null;
+		return false;
 	}
 
 	/**
-	 * Attempts to find an XML element given a 'path' to the element from the given root node
+	 * Skip over the current element and all of its content, leaving the reader positioned at
+	 * the end of the element
 	 *
-	 * @param root the root node to begin the traversal at
-	 * @param path the path to traverse along ('/' delimited)
-	 * @return the element located using the path, or null if the path did not resolve to an
-	 *         element
+	 * @param reader the reader, positioned at the start of the element to skip
 	 */
-	private static Element getElementByPath(Node root, String path)
+	private static void skipElement( XMLStreamReader reader ) throws XMLStreamException
 	{
-		if( root == null )
-			return null;
-
-		if( path == null || path.trim().length() == 0)
-			return null;
-
-		String[] parts = path.split("\\.", 2);
-		List<Element> elements = getChildElementsByName( root, parts[0] );
-		if(elements.size() > 0)
+		int depth = 1;
+		while( depth > 0 && reader.hasNext() )
 		{
-			Element current = elements.get(0);
-			if(elements.size() == 1)
-				return current;
-			else if (parts.length > 0)
-				return getElementByPath(current, parts[1]);
+			int event = reader.next();
+			if( event == XMLStreamConstants.START_ELEMENT )
+				depth++;
+			else if( event == XMLStreamConstants.END_ELEMENT )
+				depth--;
 		}
-		return null;
 	}
 
 	/**
-	 * Obtain all child elements of an XML node by name
+	 * Obtain the text content of the current element, leaving the reader positioned at the end
+	 * of the element
 	 *
-	 * @param root the XML node to obtain the children of
-	 * @param elementName the name to identify the children by
-	 * @return the matching child elements
+	 * For example, given XML...
+	 *
+	 *     <name>Mojito</name>
+	 *
+	 * ...if the reader is positioned at the start of the <name> element, "Mojito" will be
+	 * returned
+	 *
+	 * @param reader the reader, positioned at the start of a text only element
+	 * @return the text value, or null if the element is empty
 	 */
-	private static List<Element> getChildElementsByName( Node root, String elementName )
+	private static String readText( XMLStreamReader reader ) throws XMLStreamException
 	{
-		List<Element> elements = new ArrayList<>();
-
-		if(root == null )
-			return elements;
-
-		if( elementName == null || elementName.trim().length() == 0)
-			return elements;
-
-		NodeList objectsList = root.getChildNodes();
-		if( objectsList != null )
-		{
-			for( int i = 0; i < objectsList.getLength(); i++ )
-			{
-				Node node = objectsList.item( i );
-				if( node.getNodeType() == Node.ELEMENT_NODE )
-				{
-					if( elementName.equals( node.getNodeName() ) )
-					{
-						elements.add( (Element)node );
-					}
-				}
-			}
-		}
-
-		return elements;
+		String text = reader.getElementText().trim();
+		return text.isEmpty() ? null : text;
 	}
 
 	/**
@@ -444,4 +678,65 @@ public class SOMParser
 		}
 		return file;
 	}
-}
\ No newline at end of file
+
+	//----------------------------------------------------------
+	//                     INNER CLASSES
+	//----------------------------------------------------------
+	/**
+	 * The object and interaction classes extracted from a SOM
+	 */
+	public static final class ObjectModel
+	{
+		private final Collection<ObjectClass> objectClasses;
+		private final Collection<InteractionClass> interactionClasses;
+
+		ObjectModel( Collection<ObjectClass> objectClasses,
+		             Collection<InteractionClass> interactionClasses )
+		{
+			this.objectClasses = Collections.unmodifiableCollection( objectClasses );
+			this.interactionClasses = Collections.unmodifiableCollection( interactionClasses );
+		}
+
+		/**
+		 * @return the object classes, in the order in which they are defined in the SOM
+		 *         (superclasses before their subclasses)
+		 */
+		public Collection<ObjectClass> getObjectClasses()
+		{
+			return this.objectClasses;
+		}
+
+		/**
+		 * @return the interaction classes, in the order in which they are defined in the SOM
+		 *         (superclasses before their subclasses)
+		 */
+		public Collection<InteractionClass> getInteractionClasses()
+		{
+			return this.interactionClasses;
+		}
+	}
+
+	/**
+	 * The parts of an `<objectClass>` or `<interactionClass>` definition which are kept while
+	 * reading the SOM - the classes are only assembled once the whole SOM has been read, so
+	 * that the order of the elements within a definition does not matter
+	 */
+	private static final class ClassNode
+	{
+		private String name;
+		private String sharing;
+		private final List<MemberNode> members = new ArrayList<>();
+		private final List<ClassNode> children = new ArrayList<>();
+	}
+
+	/**
+	 * The parts of an `<attribute>` or `<parameter>` definition which are kept while reading
+	 * the SOM
+	 */
+	private static final class MemberNode
+	{
+		private String name;
+		private String sharing;
+		private String dataType;
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.base;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This enumeration provides the possible behaviors when an interaction or attribute update is
+ * sent asynchronously, but the queue of items waiting to be sent is full.
+ *
+ * <ol>
+ * <li>{@link #BLOCK}: the sending thread waits until there is room in the queue</li>
+ * <li>{@link #DROP_OLDEST}: the oldest waiting item is discarded to make room - only suitable
+ * for best-effort traffic, such as periodic updates which will soon be superseded anyway</li>
+ * <li>{@link #FAIL}: a {@link UCEFException} is thrown, and the item is not sent</li>
+ * </ol>
+ *
+ * See {@link FederateConfiguration#setAsyncSendOverflowPolicy(SendOverflowPolicy)}
+ */
+public enum SendOverflowPolicy
+{
+	//----------------------------------------------------------
+	//                        VALUES
+	//----------------------------------------------------------
+	BLOCK("block", "Block"),
+	DROP_OLDEST("dropOldest", "Drop Oldest"),
+	FAIL("fail", "Fail");
+
+	//----------------------------------------------------------
+	//                   STATIC VARIABLES
+	//----------------------------------------------------------
+	// a map for finding a policy for a string key
+	private static final Map<String,SendOverflowPolicy> POLICY_LOOKUP =
+	    Collections.unmodifiableMap( initializeMapping() );
+
+	//----------------------------------------------------------
+	//                   INSTANCE VARIABLES
+	//----------------------------------------------------------
+	// the string identifier for the policy (as used in JSON configuration)
+	private String label;
+	// the "human readable" text name for the policy, primarily used for
+	// logging/debugging purposes
+	private String name;
+
+	//----------------------------------------------------------
+	//                      CONSTRUCTORS
+	//----------------------------------------------------------
+	private SendOverflowPolicy( String label, String name )
+	{
+		this.label = label;
+		this.name = name;
+	}
+
+	//----------------------------------------------------------
+	//                    INSTANCE METHODS
+	//----------------------------------------------------------
+	/**
+	 * Returns the human readable text describing this {@link SendOverflowPolicy}
+	 */
+	@Override
+	public String toString()
+	{
+		return this.name;
+	}
+
+	/**
+	 * Obtain the text identifier uniquely identifying this policy
+	 *
+	 * @return the text identifier uniquely identifying this policy
+	 */
+	public String getLabel()
+	{
+		return this.label;
+	}
+
+	//----------------------------------------------------------
+	//                     STATIC METHODS
+	//----------------------------------------------------------
+	/**
+	 * Converts a text identifier uniquely identifying a policy to a {@link SendOverflowPolicy}
+	 * instance.
+	 *
+	 * NOTE: if the key is not a valid text identifier for a policy, null will be returned
+	 *
+	 * @param label the text identifier uniquely identifying a policy
+	 * @return the corresponding {@link SendOverflowPolicy}, or null if the key is not a valid
+	 *         text identifier for a {@link SendOverflowPolicy}.
+	 */
+	public static SendOverflowPolicy fromLabel( String label )
+	{
+		return POLICY_LOOKUP.get( label );
+	}
+
+	/**
+	 * Private initializer method for the key-to-{@link SendOverflowPolicy} lookup map
+	 *
+	 * @return a lookup map which pairs text identifiers and the corresponding policies
+	 */
+	private static Map<String,SendOverflowPolicy> initializeMapping()
+	{
+		Map<String,SendOverflowPolicy> lookupMap = new HashMap<String,SendOverflowPolicy>();
+		for( SendOverflowPolicy p : SendOverflowPolicy.values() )
+		{
+			lookupMap.put( p.label, p );
+		}
+		return lookupMap;
+	}
+}
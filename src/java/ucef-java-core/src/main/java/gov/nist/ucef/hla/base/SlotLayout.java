@@ -0,0 +1,173 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.base;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import gov.nist.ucef.hla.base.Types.DataType;
+
+/**
+ * Assigns dense integer "slots" to the attributes of an object class (or the parameters of an
+ * interaction class) so that instances can store and retrieve member values by index rather than
+ * by name.
+ *
+ * Slots are assigned in the natural (alphabetical) order of the member names, so two layouts
+ * created from the same set of members are always equal and assign the same slots, regardless of
+ * where they were created - for example, a layout created from a {@link Types.ObjectClass}
+ * parsed from a SOM, and a layout created by a generated class from its own attribute names.
+ *
+ * Instances are immutable.
+ */
+public final class SlotLayout
+{
+	//----------------------------------------------------------
+	//                    STATIC VARIABLES
+	//----------------------------------------------------------
+	/** the value returned by {@link #slotOf(String)} for names which are not in the layout */
+	public static final int NO_SLOT = -1;
+
+	//----------------------------------------------------------
+	//                   INSTANCE VARIABLES
+	//----------------------------------------------------------
+	private final String[] names;
+	private final DataType[] dataTypes;
+	private final Map<String,Integer> slotByName;
+
+	//----------------------------------------------------------
+	//                      CONSTRUCTORS
+	//----------------------------------------------------------
+	/**
+	 * Constructor
+	 *
+	 * @param members the names of the members to assign slots to, and their data types
+	 */
+	public SlotLayout( Map<String,DataType> members )
+	{
+		List<String> sortedNames = new ArrayList<>( members.keySet() );
+		Collections.sort( sortedNames );
+
+		int size = sortedNames.size();
+		this.names = sortedNames.toArray( new String[size] );
+		this.dataTypes = new DataType[size];
+		this.slotByName = new HashMap<>();
+		for( int slot = 0; slot < size; slot++ )
+		{
+			DataType dataType = members.get( this.names[slot] );
+			this.dataTypes[slot] = dataType == null ? DataType.UNKNOWN : dataType;
+			this.slotByName.put( this.names[slot], slot );
+		}
+	}
+
+	//----------------------------------------------------------
+	//                    INSTANCE METHODS
+	//----------------------------------------------------------
+	@Override
+	public boolean equals( Object other )
+	{
+		if( this == other )
+			return true;
+		if( !(other instanceof SlotLayout) )
+			return false;
+		return Arrays.equals( this.names, ((SlotLayout)other).names );
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return Arrays.hashCode( this.names );
+	}
+
+	@Override
+	public String toString()
+	{
+		return "SlotLayout" + Arrays.toString( this.names );
+	}
+
+	////////////////////////////////////////////////////////////////////////////////////////////
+	/////////////////////////////// Accessor and Mutator Methods ///////////////////////////////
+	////////////////////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Obtain the number of slots in this layout
+	 *
+	 * @return the number of slots in this layout
+	 */
+	public int size()
+	{
+		return this.names.length;
+	}
+
+	/**
+	 * Obtain the slot assigned to a member name
+	 *
+	 * @param name the member name
+	 * @return the slot assigned to the name, or {@link #NO_SLOT} if the name is not part of this
+	 *         layout
+	 */
+	public int slotOf( String name )
+	{
+		Integer slot = this.slotByName.get( name );
+		return slot == null ? NO_SLOT : slot;
+	}
+
+	/**
+	 * Obtain the member name assigned to a slot
+	 *
+	 * @param slot the slot
+	 * @return the member name
+	 */
+	public String nameOf( int slot )
+	{
+		return this.names[slot];
+	}
+
+	/**
+	 * Obtain the data type of the member assigned to a slot
+	 *
+	 * @param slot the slot
+	 * @return the data type of the member (which may be {@link DataType#UNKNOWN})
+	 */
+	public DataType dataTypeOf( int slot )
+	{
+		return this.dataTypes[slot];
+	}
+
+	/**
+	 * Obtain the member names in slot order
+	 *
+	 * @return the member names in slot order (not modifiable)
+	 */
+	public List<String> getNames()
+	{
+		return Collections.unmodifiableList( Arrays.asList( this.names ) );
+	}
+
+	//----------------------------------------------------------
+	//                     STATIC METHODS
+	//----------------------------------------------------------
+}
@@ -0,0 +1,385 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.base;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A {@link Map} of member names to raw values which stores the values of the members of a
+ * {@link SlotLayout} in an array indexed by slot, with a bitmap recording which slots currently
+ * have an entry.
+ *
+ * Names which are not part of the layout are still accepted (so that this behaves exactly like
+ * any other map as far as users of {@link HLAObject} and {@link HLAInteraction} are concerned),
+ * and are held in an overflow map which is only created if it is needed.
+ *
+ * NOTE: this class is not thread safe - the owner is responsible for synchronization.
+ */
+class SlotMap extends AbstractMap<String,byte[]>
+{
+	//----------------------------------------------------------
+	//                   INSTANCE VARIABLES
+	//----------------------------------------------------------
+	private final SlotLayout layout;
+	private final byte[][] values;
+	private final long[] present;
+	private int presentCount;
+
+	// members which are not part of the layout - created on first use
+	private Map<String,byte[]> overflow;
+
+	private EntrySet entrySet;
+
+	//----------------------------------------------------------
+	//                      CONSTRUCTORS
+	//----------------------------------------------------------
+	SlotMap( SlotLayout layout )
+	{
+		this.layout = layout;
+		this.values = new byte[layout.size()][];
+		this.present = new long[(layout.size() + 63) >>> 6];
+		this.presentCount = 0;
+		this.overflow = null;
+		this.entrySet = null;
+	}
+
+	//----------------------------------------------------------
+	//                    INSTANCE METHODS
+	//----------------------------------------------------------
+	////////////////////////////////////////////////////////////////////////////////////////////
+	////////////////////////////////////// Slot Access /////////////////////////////////////////
+	////////////////////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the layout which determines the slots of this map
+	 */
+	SlotLayout getLayout()
+	{
+		return this.layout;
+	}
+
+	/**
+	 * Determine if there is an entry for the given slot
+	 *
+	 * @param slot the slot
+	 * @return true if there is an entry for the slot, false otherwise
+	 */
+	boolean hasSlot( int slot )
+	{
+		return (this.present[slot >>> 6] & (1L << slot)) != 0;
+	}
+
+	/**
+	 * Obtain the value for the given slot
+	 *
+	 * @param slot the slot
+	 * @return the value (null if there is no entry for the slot)
+	 */
+	byte[] getSlot( int slot )
+	{
+		return this.values[slot];
+	}
+
+	/**
+	 * Set the value for the given slot
+	 *
+	 * @param slot the slot
+	 * @param value the value
+	 * @return the previous value (null if there was no entry for the slot)
+	 */
+	byte[] setSlot( int slot, byte[] value )
+	{
+		if( !hasSlot( slot ) )
+		{
+			this.present[slot >>> 6] |= (1L << slot);
+			this.presentCount++;
+		}
+		byte[] previous = this.values[slot];
+		this.values[slot] = value;
+		return previous;
+	}
+
+	/**
+	 * Remove the entry for the given slot
+	 *
+	 * @param slot the slot
+	 * @return the previous value (null if there was no entry for the slot)
+	 */
+	byte[] clearSlot( int slot )
+	{
+		if( hasSlot( slot ) )
+		{
+			this.present[slot >>> 6] &= ~(1L << slot);
+			this.presentCount--;
+		}
+		byte[] previous = this.values[slot];
+		this.values[slot] = null;
+		return previous;
+	}
+
+	/**
+	 * Obtain the first slot, starting from the given slot, which has an entry
+	 *
+	 * @param from the slot to start from
+	 * @return the slot, or {@link SlotLayout#NO_SLOT} if there are no further slots with entries
+	 */
+	int nextSlot( int from )
+	{
+		for( int slot = from; slot < this.values.length; slot++ )
+		{
+			if( hasSlot( slot ) )
+				return slot;
+		}
+		return SlotLayout.NO_SLOT;
+	}
+
+	/**
+	 * Obtain the entries which are not part of the layout
+	 *
+	 * @return the entries which are not part of the layout (may be null if there are none)
+	 */
+	Map<String,byte[]> getOverflow()
+	{
+		return this.overflow;
+	}
+
+	////////////////////////////////////////////////////////////////////////////////////////////
+	/////////////////////////////////////// Map Methods ////////////////////////////////////////
+	////////////////////////////////////////////////////////////////////////////////////////////
+	@Override
+	public int size()
+	{
+		return this.presentCount + (this.overflow == null ? 0 : this.overflow.size());
+	}
+
+	@Override
+	public boolean containsKey( Object key )
+	{
+		int slot = slotOf( key );
+		if( slot != SlotLayout.NO_SLOT )
+			return hasSlot( slot );
+		return this.overflow != null && this.overflow.containsKey( key );
+	}
+
+	@Override
+	public byte[] get( Object key )
+	{
+		int slot = slotOf( key );
+		if( slot != SlotLayout.NO_SLOT )
+			return this.values[slot];
+		return this.overflow == null ? null : this.overflow.get( key );
+	}
+
+	@Override
+	public byte[] put( String key, byte[] value )
+	{
+		int slot = this.layout.slotOf( key );
+		if( slot != SlotLayout.NO_SLOT )
+			return setSlot( slot, value );
+
+		if( this.overflow == null )
+			this.overflow = new HashMap<>();
+		return this.overflow.put( key, value );
+	}
+
+	@Override
+	public byte[] remove( Object key )
+	{
+		int slot = slotOf( key );
+		if( slot != SlotLayout.NO_SLOT )
+			return clearSlot( slot );
+		return this.overflow == null ? null : this.overflow.remove( key );
+	}
+
+	@Override
+	public void putAll( Map<? extends String,? extends byte[]> source )
+	{
+		if( !(source instanceof SlotMap) || !((SlotMap)source).layout.equals( this.layout ) )
+		{
+			super.putAll( source );
+			return;
+		}
+
+		// same layout, so the slots can be copied across directly
+		SlotMap other = (SlotMap)source;
+		for( int slot = other.nextSlot( 0 ); slot != SlotLayout.NO_SLOT; slot = other.nextSlot( slot + 1 ) )
+			setSlot( slot, other.values[slot] );
+
+		if( other.overflow != null )
+		{
+			for( Map.Entry<String,byte[]> entry : other.overflow.entrySet() )
+				put( entry.getKey(), entry.getValue() );
+		}
+	}
+
+	@Override
+	public void clear()
+	{
+		for( int slot = 0; slot < this.values.length; slot++ )
+			this.values[slot] = null;
+		for( int i = 0; i < this.present.length; i++ )
+			this.present[i] = 0L;
+		this.presentCount = 0;
+
+		if( this.overflow != null )
+			this.overflow.clear();
+	}
+
+	@Override
+	public Set<Map.Entry<String,byte[]>> entrySet()
+	{
+		if( this.entrySet == null )
+			this.entrySet = new EntrySet();
+		return this.entrySet;
+	}
+
+	/**
+	 * Obtain the slot for a map key
+	 *
+	 * @param key the key
+	 * @return the slot, or {@link SlotLayout#NO_SLOT} if the key is not part of the layout
+	 */
+	private int slotOf( Object key )
+	{
+		return key instanceof String ? this.layout.slotOf( (String)key ) : SlotLayout.NO_SLOT;
+	}
+
+	////////////////////////////////////////////////////////////////////////////////////////////
+	////////////////////////////////// Entry Set Classes ///////////////////////////////////////
+	////////////////////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Entry set view, made up of the slots which have entries followed by the overflow entries
+	 */
+	private class EntrySet extends AbstractSet<Map.Entry<String,byte[]>>
+	{
+		@Override
+		public int size()
+		{
+			return SlotMap.this.size();
+		}
+
+		@Override
+		public void clear()
+		{
+			SlotMap.this.clear();
+		}
+
+		@Override
+		public Iterator<Map.Entry<String,byte[]>> iterator()
+		{
+			return new EntryIterator();
+		}
+	}
+
+	/**
+	 * Iterates over the slots which have entries, and then over the overflow entries
+	 */
+	private class EntryIterator implements Iterator<Map.Entry<String,byte[]>>
+	{
+		private int nextSlot = SlotMap.this.nextSlot( 0 );
+		private int lastSlot = SlotLayout.NO_SLOT;
+		private Iterator<Map.Entry<String,byte[]>> overflowIterator = null;
+
+		@Override
+		public boolean hasNext()
+		{
+			if( this.nextSlot != SlotLayout.NO_SLOT )
+				return true;
+			return overflowIterator().hasNext();
+		}
+
+		@Override
+		public Map.Entry<String,byte[]> next()
+		{
+			if( this.nextSlot != SlotLayout.NO_SLOT )
+			{
+				this.lastSlot = this.nextSlot;
+				this.nextSlot = SlotMap.this.nextSlot( this.nextSlot + 1 );
+				return new SlotEntry( this.lastSlot );
+			}
+
+			this.lastSlot = SlotLayout.NO_SLOT;
+			Iterator<Map.Entry<String,byte[]>> iterator = overflowIterator();
+			if( !iterator.hasNext() )
+				throw new NoSuchElementException();
+			return iterator.next();
+		}
+
+		@Override
+		public void remove()
+		{
+			if( this.lastSlot != SlotLayout.NO_SLOT )
+			{
+				clearSlot( this.lastSlot );
+				this.lastSlot = SlotLayout.NO_SLOT;
+			}
+			else if( this.overflowIterator != null )
+			{
+				this.overflowIterator.remove();
+			}
+			else
+			{
+				throw new IllegalStateException();
+			}
+		}
+
+		private Iterator<Map.Entry<String,byte[]>> overflowIterator()
+		{
+			if( this.overflowIterator == null )
+			{
+				this.overflowIterator = overflow == null ? new HashMap<String,byte[]>().entrySet().iterator()
+				                                         : overflow.entrySet().iterator();
+			}
+			return this.overflowIterator;
+		}
+	}
+
+	/**
+	 * A map entry which reads and writes through to a slot
+	 */
+	private class SlotEntry extends AbstractMap.SimpleEntry<String,byte[]>
+	{
+		private static final long serialVersionUID = 1L;
+
+		private final int slot;
+
+		SlotEntry( int slot )
+		{
+			super( layout.nameOf( slot ), values[slot] );
+			this.slot = slot;
+		}
+
+		@Override
+		public byte[] setValue( byte[] value )
+		{
+			setSlot( this.slot, value );
+			return super.setValue( value );
+		}
+	}
+}
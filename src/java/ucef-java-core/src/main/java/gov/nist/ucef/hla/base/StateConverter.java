@@ -0,0 +1,152 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.base;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Function;
+
+/**
+ * Converts the attribute or parameter values of a single object or interaction class between
+ * the name keyed maps used by {@link HLAObject} and {@link HLAInteraction} and the handle keyed
+ * maps used by the RTI.
+ *
+ * A converter is compiled once per class from the {@link SlotLayout} of the class and a
+ * {@link HandleTable} holding the handles of its members in slot order, so that the position of
+ * a handle in the table is also its slot. Conversions are then made with array lookups only, and
+ * incoming values are stored directly into a {@link SlotMap}.
+ *
+ * Instances are immutable.
+ *
+ * @param <H> the type of the handles - {@link hla.rti1516e.AttributeHandle} or
+ *            {@link hla.rti1516e.ParameterHandle}
+ */
+final class StateConverter<H>
+{
+	//----------------------------------------------------------
+	//                   INSTANCE VARIABLES
+	//----------------------------------------------------------
+	private final SlotLayout layout;
+	private final HandleTable<H> handles;
+
+	//----------------------------------------------------------
+	//                      CONSTRUCTORS
+	//----------------------------------------------------------
+	/**
+	 * Constructor
+	 *
+	 * @param layout the slots of the members of the class
+	 * @param handles the handles of the members of the class, positioned in slot order
+	 */
+	StateConverter( SlotLayout layout, HandleTable<H> handles )
+	{
+		if( layout.size() != handles.size() )
+		{
+			throw new UCEFException( "Cannot create converter - there are %d slots but %d handles.",
+			                         layout.size(), handles.size() );
+		}
+
+		for( int slot = 0; slot < layout.size(); slot++ )
+		{
+			if( !layout.nameOf( slot ).equals( handles.nameAt( slot ) ) )
+			{
+				throw new UCEFException( "Cannot create converter - handle for '%s' is not in slot %d.",
+				                         layout.nameOf( slot ), slot );
+			}
+		}
+
+		this.layout = layout;
+		this.handles = handles;
+	}
+
+	//----------------------------------------------------------
+	//                    INSTANCE METHODS
+	//----------------------------------------------------------
+	/**
+	 * @return the slots of the members of the class
+	 */
+	public SlotLayout getLayout()
+	{
+		return this.layout;
+	}
+
+	/**
+	 * Convert handle keyed values received from the RTI into name keyed values
+	 *
+	 * @param source the handle keyed values
+	 * @param unknownHandles used to resolve the name of any handle which is not part of the class
+	 *            as described by the SOM (this should be rare)
+	 * @return the name keyed values
+	 */
+	public SlotMap toState( Map<H,byte[]> source, Function<H,String> unknownHandles )
+	{
+		SlotMap result = new SlotMap( this.layout );
+		for( Entry<H,byte[]> entry : source.entrySet() )
+		{
+			int slot = this.handles.indexOfHandle( entry.getKey() );
+			if( slot < 0 )
+				result.put( unknownHandles.apply( entry.getKey() ), entry.getValue() );
+			else
+				result.setSlot( slot, entry.getValue() );
+		}
+		return result;
+	}
+
+	/**
+	 * Convert name keyed values into handle keyed values to be sent to the RTI
+	 *
+	 * @param state the name keyed values
+	 * @param result the map to populate with the handle keyed values
+	 * @param unknownNames used to resolve the handle of any name which is not part of the class as
+	 *            described by the SOM (this should be rare)
+	 * @return the populated result map
+	 */
+	public <M extends Map<H,byte[]>> M fromState( Map<String,byte[]> state, M result,
+	                                                Function<String,H> unknownNames )
+	{
+		if( state instanceof SlotMap && ((SlotMap)state).getLayout().equals( this.layout ) )
+		{
+			// same layout, so handles can be obtained directly by slot
+			SlotMap slots = (SlotMap)state;
+			for( int slot = slots.nextSlot( 0 ); slot != SlotLayout.NO_SLOT; slot = slots.nextSlot( slot + 1 ) )
+				result.put( this.handles.handleAt( slot ), slots.getSlot( slot ) );
+
+			Map<String,byte[]> overflow = slots.getOverflow();
+			if( overflow != null )
+			{
+				for( Entry<String,byte[]> entry : overflow.entrySet() )
+					result.put( unknownNames.apply( entry.getKey() ), entry.getValue() );
+			}
+			return result;
+		}
+
+		for( Entry<String,byte[]> entry : state.entrySet() )
+		{
+			int slot = this.handles.indexOf( entry.getKey() );
+			H handle = slot < 0 ? unknownNames.apply( entry.getKey() ) : this.handles.handleAt( slot );
+			result.put( handle, entry.getValue() );
+		}
+		return result;
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.base;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timing information for the steps of a federate's main simulation loop.
+ *
+ * Each instance either describes a single step, or is the accumulated total of a number of steps
+ * (see {@link FederateBase#getLastStepMetrics()} and {@link FederateBase#getTotalStepMetrics()}).
+ *
+ * Comparing the time spent in {@link FederateBase#step(double)} with the time spent waiting for
+ * the time advance grant shows whether the federate is limited by its own processing or is
+ * waiting on other federates.
+ */
+public final class StepMetrics
+{
+	//----------------------------------------------------------
+	//                    STATIC VARIABLES
+	//----------------------------------------------------------
+	/** metrics for no steps at all */
+	public static final StepMetrics NONE = new StepMetrics( 0, 0, 0, 0, 0 );
+
+	//----------------------------------------------------------
+	//                   INSTANCE VARIABLES
+	//----------------------------------------------------------
+	private final long stepCount;
+	private final long stepNanos;
+	private final long grantWaitNanos;
+	private final long callbackCount;
+	private final long flushedCount;
+
+	//----------------------------------------------------------
+	//                      CONSTRUCTORS
+	//----------------------------------------------------------
+	/**
+	 * Constructor
+	 *
+	 * @param stepCount the number of steps
+	 * @param stepNanos the time spent in the federate's step() method, in nanoseconds
+	 * @param grantWaitNanos the time spent waiting for time advance grants, in nanoseconds
+	 * @param callbackCount the number of callbacks processed while waiting for time advance grants
+	 * @param flushedCount the number of queued interactions and attribute updates which were
+	 *            flushed out to the RTI
+	 */
+	public StepMetrics( long stepCount, long stepNanos, long grantWaitNanos, long callbackCount,
+	                    long flushedCount )
+	{
+		this.stepCount = stepCount;
+		this.stepNanos = stepNanos;
+		this.grantWaitNanos = grantWaitNanos;
+		this.callbackCount = callbackCount;
+		this.flushedCount = flushedCount;
+	}
+
+	//----------------------------------------------------------
+	//                    INSTANCE METHODS
+	//----------------------------------------------------------
+	@Override
+	public String toString()
+	{
+		return String.format( "%d step(s): step %.3fms, waiting for grant %.3fms, %d callback(s), " +
+		                      "%d queued send(s) flushed",
+		                      this.stepCount,
+		                      this.stepNanos / 1e6,
+		                      this.grantWaitNanos / 1e6,
+		                      this.callbackCount,
+		                      this.flushedCount );
+	}
+
+	/**
+	 * Combine these metrics with another set of metrics
+	 *
+	 * @param other the other metrics
+	 * @return the combined metrics
+	 */
+	public StepMetrics plus( StepMetrics other )
+	{
+		return new StepMetrics( this.stepCount + other.stepCount,
+		                        this.stepNanos + other.stepNanos,
+		                        this.grantWaitNanos + other.grantWaitNanos,
+		                        this.callbackCount + other.callbackCount,
+		                        this.flushedCount + other.flushedCount );
+	}
+
+	/**
+	 * @return the number of steps these metrics cover
+	 */
+	public long getStepCount()
+	{
+		return this.stepCount;
+	}
+
+	/**
+	 * @param unit the time unit for the result
+	 * @return the time spent in the federate's step() method
+	 */
+	public long getStepTime( TimeUnit unit )
+	{
+		return unit.convert( this.stepNanos, TimeUnit.NANOSECONDS );
+	}
+
+	/**
+	 * @param unit the time unit for the result
+	 * @return the time spent waiting for time advance grants (including processing callbacks
+	 *         received while waiting)
+	 */
+	public long getGrantWaitTime( TimeUnit unit )
+	{
+		return unit.convert( this.grantWaitNanos, TimeUnit.NANOSECONDS );
+	}
+
+	/**
+	 * @return the number of callbacks (object registrations, reflections, interactions and
+	 *         deletions) processed while waiting for time advance grants
+	 */
+	public long getCallbackCount()
+	{
+		return this.callbackCount;
+	}
+
+	/**
+	 * @return the number of queued interactions and attribute updates which were flushed out to
+	 *         the RTI (always 0 unless sends are batched - see
+	 *         {@link FederateConfiguration#setBatchSends(boolean)}). For a single step, this is
+	 *         the size of the step's batch.
+	 */
+	public long getFlushedCount()
+	{
+		return this.flushedCount;
+	}
+
+	/**
+	 * Obtain the fraction of the total time which was spent in the federate's step() method. A
+	 * value close to 1 indicates that the federate is limited by its own processing, while a
+	 * value close to 0 indicates that it is mostly waiting on the rest of the federation.
+	 *
+	 * @return the fraction of time spent in step(), between 0 and 1 (0 if no time was recorded)
+	 */
+	public double getBusyFraction()
+	{
+		long total = this.stepNanos + this.grantWaitNanos;
+		return total == 0 ? 0.0 : (double)this.stepNanos / total;
+	}
+
+	//----------------------------------------------------------
+	//                     STATIC METHODS
+	//----------------------------------------------------------
+}
@@ -0,0 +1,48 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.base;
+
+/**
+ * A handler for received interactions or attribute reflections of one particular class, which
+ * receives them already wrapped in their specific type (for example, a generated interaction or
+ * object class).
+ *
+ * Handlers are registered with {@link FederateBase#registerInteractionHandler} or
+ * {@link FederateBase#registerReflectionHandler}.
+ *
+ * @param <T> the type the interaction or object instance is wrapped in
+ */
+@FunctionalInterface
+public interface TypedHandler<T>
+{
+	/**
+	 * Called when an interaction or attribute reflection of the class the handler was registered
+	 * for is received
+	 *
+	 * @param instance the received interaction, or the object instance which has been updated
+	 * @param time the logical time of the interaction or reflection, or null if it was not time
+	 *            stamped
+	 */
+	void receive( T instance, Double time );
+}
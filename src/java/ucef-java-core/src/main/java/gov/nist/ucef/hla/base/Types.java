@@ -239,6 +239,9 @@ public class Types
 		public Sharing sharing;
 		Map<String,ObjectAttribute> attributes;
 
+		// slots for the attributes - created on demand, and discarded if attributes are added
+		private SlotLayout slotLayout;
+
 		//----------------------------------------------------------
 		//                      CONSTRUCTORS
 		//----------------------------------------------------------
@@ -253,6 +256,7 @@ public class Types
 			this.name = name;
 			this.sharing = sharing == null ? Sharing.NEITHER : sharing;
 			this.attributes = new HashMap<>();
+			this.slotLayout = null;
 		}
 
 		//----------------------------------------------------------
@@ -302,6 +306,7 @@ public class Types
 		public ObjectAttribute addAttribute( ObjectAttribute attribute )
 		{
 			this.attributes.put( attribute.name, attribute );
+			this.slotLayout = null;
 			return attribute;
 		}
 
@@ -370,6 +375,24 @@ public class Types
 			return Collections.unmodifiableMap( this.attributes );
 		}
 
+		/**
+		 * Obtain the slots assigned to the attributes of this object class, for use with slot
+		 * indexed {@link HLAObject} instances.
+		 *
+		 * @return the {@link SlotLayout} for the attributes of this object class
+		 */
+		public SlotLayout getSlotLayout()
+		{
+			if( this.slotLayout == null )
+			{
+				Map<String,DataType> members = new HashMap<>();
+				for( ObjectAttribute attribute : this.attributes.values() )
+					members.put( attribute.name, attribute.dataType );
+				this.slotLayout = new SlotLayout( members );
+			}
+			return this.slotLayout;
+		}
+
 		//----------------------------------------------------------
 		//                     STATIC METHODS
 		//----------------------------------------------------------
@@ -536,6 +559,9 @@ public class Types
 		public Sharing sharing;
 		public Map<String,InteractionParameter> parameters;
 
+		// slots for the parameters - created on demand, and discarded if parameters are added
+		private SlotLayout slotLayout;
+
 		//----------------------------------------------------------
 		//                      CONSTRUCTORS
 		//----------------------------------------------------------
@@ -544,6 +570,7 @@ public class Types
 			this.name = name;
 			this.sharing = sharing == null ? Sharing.NEITHER : sharing;
 			this.parameters = new HashMap<>();
+			this.slotLayout = null;
 		}
 
 		//----------------------------------------------------------
@@ -593,6 +620,7 @@ public class Types
 		public InteractionParameter addParameter( InteractionParameter parameter )
 		{
 			this.parameters.put( parameter.name, parameter );
+			this.slotLayout = null;
 			return parameter;
 		}
 
@@ -612,6 +640,25 @@ public class Types
 		{
 			return Collections.unmodifiableMap( this.parameters );
 		}
+
+		/**
+		 * Obtain the slots assigned to the parameters of this interaction class, for use with
+		 * slot indexed {@link HLAInteraction} instances.
+		 *
+		 * @return the {@link SlotLayout} for the parameters of this interaction class
+		 */
+		public SlotLayout getSlotLayout()
+		{
+			if( this.slotLayout == null )
+			{
+				Map<String,DataType> members = new HashMap<>();
+				for( InteractionParameter parameter : this.parameters.values() )
+					members.put( parameter.name, parameter.dataType );
+				this.slotLayout = new SlotLayout( members );
+			}
+			return this.slotLayout;
+		}
+
 		//----------------------------------------------------------
 		//                     STATIC METHODS
 		//----------------------------------------------------------
@@ -0,0 +1,146 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.base;
+
+/**
+ * Declares the maximum rate at which the values of an object class attribute are sent.
+ *
+ * A rate may be given per unit of logical time, or per second of wall clock time. When an
+ * attribute is updated again before the minimum interval (the inverse of the rate) has passed
+ * since it was last sent, the new value is held back, and the latest value is sent once the
+ * interval has passed (see {@link FederateConfiguration#addUpdateRateLimit(String, String, UpdateRateLimit)}).
+ *
+ * Update rate limits are immutable.
+ */
+public final class UpdateRateLimit
+{
+	//----------------------------------------------------------
+	//                    STATIC VARIABLES
+	//----------------------------------------------------------
+	/** the attribute name used to give a limit for all attributes of an object class */
+	public static final String ALL_ATTRIBUTES = "*";
+
+	/**
+	 * The time base in which the rate is given
+	 */
+	public enum TimeBase
+	{
+		LOGICAL("logical"),
+		WALL_CLOCK("wallClock");
+
+		private final String label;
+
+		private TimeBase( String label )
+		{
+			this.label = label;
+		}
+
+		/**
+		 * @return the text identifier for the time base (as used in JSON configuration)
+		 */
+		public String getLabel()
+		{
+			return this.label;
+		}
+
+		/**
+		 * @param label the text identifier for a time base
+		 * @return the time base identified by the label, or null if there is no such time base
+		 */
+		public static TimeBase fromLabel( String label )
+		{
+			for( TimeBase timeBase : values() )
+			{
+				if( timeBase.label.equals( label ) )
+					return timeBase;
+			}
+			return null;
+		}
+	}
+
+	//----------------------------------------------------------
+	//                   INSTANCE VARIABLES
+	//----------------------------------------------------------
+	private final double maxRate;
+	private final TimeBase timeBase;
+
+	//----------------------------------------------------------
+	//                      CONSTRUCTORS
+	//----------------------------------------------------------
+	/**
+	 * Constructor
+	 *
+	 * @param maxRate the maximum number of updates per unit of time (must be positive)
+	 * @param timeBase the time base in which the rate is given
+	 */
+	public UpdateRateLimit( double maxRate, TimeBase timeBase )
+	{
+		if( !(maxRate > 0.0) )
+			throw new UCEFException( "Maximum update rate must be positive (%s given).", maxRate );
+		if( timeBase == null )
+			throw new UCEFException( "Maximum update rate requires a time base." );
+
+		this.maxRate = maxRate;
+		this.timeBase = timeBase;
+	}
+
+	//----------------------------------------------------------
+	//                    INSTANCE METHODS
+	//----------------------------------------------------------
+	@Override
+	public String toString()
+	{
+		return String.format( "%s per %s", this.maxRate,
+		                      this.timeBase == TimeBase.LOGICAL ? "unit of logical time" : "second" );
+	}
+
+	/**
+	 * @return the maximum number of updates per unit of time
+	 */
+	public double getMaxRate()
+	{
+		return this.maxRate;
+	}
+
+	/**
+	 * @return the time base in which the rate is given
+	 */
+	public TimeBase getTimeBase()
+	{
+		return this.timeBase;
+	}
+
+	/**
+	 * @return the minimum time between updates (in units of logical time or seconds, according
+	 *         to the time base)
+	 */
+	public double getMinInterval()
+	{
+		return 1.0 / this.maxRate;
+	}
+
+	//----------------------------------------------------------
+	//                     STATIC METHODS
+	//----------------------------------------------------------
+}
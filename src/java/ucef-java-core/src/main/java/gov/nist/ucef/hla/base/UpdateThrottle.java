@@ -0,0 +1,312 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.base;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import hla.rti1516e.ObjectInstanceHandle;
+
+/**
+ * Enforces maximum update rates of object instance attributes (see {@link UpdateRateLimit}).
+ *
+ * The time at which each rate limited attribute of each instance was last sent is recorded once
+ * the update has been handed to the RTI (see {@link #recordSent(HLAObject, Map, Map, double)}),
+ * so that an update which is dropped or fails to send does not hold back the next one. When an
+ * attribute is updated again before its minimum interval has passed, it is left out of
+ * the update and held back. Held back attributes are released (with their latest values) by
+ * {@link #releaseHeld(double, Function, Release)} once their interval has passed.
+ */
+final class UpdateThrottle
+{
+	//----------------------------------------------------------
+	//                    STATIC VARIABLES
+	//----------------------------------------------------------
+	// allowance for rounding errors in accumulated logical times, so that (for example) an
+	// attribute limited to 5 updates per unit of logical time can be sent every 0.2 units
+	private static final double EPSILON = 1e-9;
+
+	//----------------------------------------------------------
+	//                   INSTANCE VARIABLES
+	//----------------------------------------------------------
+	private final Map<ObjectInstanceHandle,InstanceState> stateByInstance;
+	// instances which currently have attributes held back
+	private final Set<ObjectInstanceHandle> heldInstances;
+	// the number of attribute values which have been held back
+	private final AtomicLong suppressedCount;
+
+	//----------------------------------------------------------
+	//                      CONSTRUCTORS
+	//----------------------------------------------------------
+	UpdateThrottle()
+	{
+		this.stateByInstance = new ConcurrentHashMap<>();
+		this.heldInstances = ConcurrentHashMap.newKeySet();
+		this.suppressedCount = new AtomicLong( 0 );
+	}
+
+	//----------------------------------------------------------
+	//                    INSTANCE METHODS
+	//----------------------------------------------------------
+	/**
+	 * Remove rate limited attributes from an update where they were sent too recently, holding
+	 * them back to be sent later.
+	 *
+	 * @param instance the object instance being updated
+	 * @param state the attributes and values to be sent (modified by this method)
+	 * @param limits the update rate limits of the instance's object class, by attribute name
+	 *            (or {@link UpdateRateLimit#ALL_ATTRIBUTES})
+	 * @param logicalTime the current logical time
+	 * @param tag the tag of the update (can be null)
+	 * @param timestamped whether the update is time-stamped
+	 * @return the attributes and values to send
+	 */
+	Map<String,byte[]> filterUpdate( HLAObject instance, Map<String,byte[]> state,
+	                                 Map<String,UpdateRateLimit> limits, double logicalTime,
+	                                 byte[] tag, boolean timestamped )
+	{
+		ObjectInstanceHandle handle = instance.getObjectInstanceHandle();
+		InstanceState instanceState = this.stateByInstance.computeIfAbsent( handle,
+		                                                                    h -> new InstanceState( instance ) );
+		double wallClockTime = wallClockTime();
+
+		synchronized( instanceState )
+		{
+			boolean heldAny = false;
+			Iterator<String> attributeNames = state.keySet().iterator();
+			while( attributeNames.hasNext() )
+			{
+				String attributeName = attributeNames.next();
+				UpdateRateLimit limit = limitFor( limits, attributeName );
+				if( limit == null )
+					continue;
+
+				double now = limit.getTimeBase() == UpdateRateLimit.TimeBase.LOGICAL ? logicalTime
+				                                                                      : wallClockTime;
+				if( instanceState.isTooSoon( attributeName, limit, now ) )
+				{
+					attributeNames.remove();
+					instanceState.held.add( attributeName );
+					this.suppressedCount.incrementAndGet();
+					heldAny = true;
+				}
+				else
+				{
+					// the latest value goes out with this update, so it no longer needs holding
+					instanceState.held.remove( attributeName );
+				}
+			}
+
+			if( heldAny )
+			{
+				instanceState.heldTag = tag;
+				instanceState.heldTimestamped = timestamped;
+				this.heldInstances.add( handle );
+			}
+		}
+
+		return state;
+	}
+
+	/**
+	 * Send the latest values of held back attributes whose minimum interval has now passed.
+	 *
+	 * Released values are sent with the tag of the latest update from which they were held back.
+	 *
+	 * @param logicalTime the current logical time
+	 * @param limitsForClass provides the update rate limits of an object class, by class name
+	 * @param release sends the released values
+	 */
+	void releaseHeld( double logicalTime, Function<String,Map<String,UpdateRateLimit>> limitsForClass,
+	                  Release release )
+	{
+		double wallClockTime = wallClockTime();
+		for( ObjectInstanceHandle handle : this.heldInstances )
+		{
+			InstanceState instanceState = this.stateByInstance.get( handle );
+			if( instanceState == null )
+			{
+				this.heldInstances.remove( handle );
+				continue;
+			}
+
+			HLAObject instance = instanceState.instance;
+			Map<String,UpdateRateLimit> limits = limitsForClass.apply( instance.getObjectClassName() );
+			Map<String,byte[]> released = new HashMap<>();
+			byte[] tag;
+			boolean timestamped;
+			synchronized( instanceState )
+			{
+				Iterator<String> attributeNames = instanceState.held.iterator();
+				while( attributeNames.hasNext() )
+				{
+					String attributeName = attributeNames.next();
+					UpdateRateLimit limit = limitFor( limits, attributeName );
+					if( limit != null )
+					{
+						double now = limit.getTimeBase() == UpdateRateLimit.TimeBase.LOGICAL ? logicalTime
+						                                                                      : wallClockTime;
+						if( instanceState.isTooSoon( attributeName, limit, now ) )
+							continue;
+					}
+
+					byte[] value = instance.getRawValue( attributeName );
+					if( value != null )
+						released.put( attributeName, value );
+					attributeNames.remove();
+				}
+
+				if( instanceState.held.isEmpty() )
+					this.heldInstances.remove( handle );
+
+				tag = instanceState.heldTag;
+				timestamped = instanceState.heldTimestamped;
+			}
+
+			if( !released.isEmpty() )
+				release.send( instance, released, tag, timestamped );
+		}
+	}
+
+	/**
+	 * Record the time of sending of the rate limited attributes in an update which has been
+	 * handed to the RTI, as the start of their minimum interval.
+	 *
+	 * @param instance the object instance which was updated
+	 * @param state the attributes and values which were sent
+	 * @param limits the update rate limits of the instance's object class, by attribute name
+	 *            (or {@link UpdateRateLimit#ALL_ATTRIBUTES})
+	 * @param logicalTime the logical time of the update
+	 */
+	void recordSent( HLAObject instance, Map<String,byte[]> state,
+	                 Map<String,UpdateRateLimit> limits, double logicalTime )
+	{
+		// nothing to record against if the instance has been forgotten since it was updated
+		InstanceState instanceState = this.stateByInstance.get( instance.getObjectInstanceHandle() );
+		if( instanceState == null )
+			return;
+
+		double wallClockTime = wallClockTime();
+		synchronized( instanceState )
+		{
+			for( String attributeName : state.keySet() )
+			{
+				UpdateRateLimit limit = limitFor( limits, attributeName );
+				if( limit == null )
+					continue;
+
+				double now = limit.getTimeBase() == UpdateRateLimit.TimeBase.LOGICAL ? logicalTime
+				                                                                      : wallClockTime;
+				instanceState.lastSent.put( attributeName, now );
+			}
+		}
+	}
+
+	/**
+	 * Discard all rate limiting state held for an object instance (including any held back
+	 * values)
+	 *
+	 * @param handle the handle of the object instance
+	 */
+	void forget( ObjectInstanceHandle handle )
+	{
+		this.stateByInstance.remove( handle );
+		this.heldInstances.remove( handle );
+	}
+
+	/**
+	 * @return the number of attribute values which have been held back so far
+	 */
+	long getSuppressedCount()
+	{
+		return this.suppressedCount.get();
+	}
+
+	private UpdateRateLimit limitFor( Map<String,UpdateRateLimit> limits, String attributeName )
+	{
+		UpdateRateLimit limit = limits.get( attributeName );
+		return limit == null ? limits.get( UpdateRateLimit.ALL_ATTRIBUTES ) : limit;
+	}
+
+	private double wallClockTime()
+	{
+		return System.nanoTime() / 1e9;
+	}
+
+	//----------------------------------------------------------
+	//                     STATIC METHODS
+	//----------------------------------------------------------
+
+	//----------------------------------------------------------
+	//                     INNER CLASSES
+	//----------------------------------------------------------
+	/**
+	 * Sends the values of held back attributes once they are released
+	 */
+	@FunctionalInterface
+	interface Release
+	{
+		/**
+		 * @param instance the object instance
+		 * @param state the released attributes and their latest values
+		 * @param tag the tag of the latest update from which the attributes were held back
+		 * @param timestamped whether that update was time-stamped
+		 */
+		void send( HLAObject instance, Map<String,byte[]> state, byte[] tag, boolean timestamped );
+	}
+
+	/**
+	 * The rate limiting state of an object instance
+	 */
+	private static final class InstanceState
+	{
+		private final HLAObject instance;
+		// the time at which each attribute was last sent, in the time base of its limit
+		private final Map<String,Double> lastSent;
+		private final Set<String> held;
+		private byte[] heldTag;
+		private boolean heldTimestamped;
+
+		private InstanceState( HLAObject instance )
+		{
+			this.instance = instance;
+			this.lastSent = new HashMap<>();
+			this.held = new HashSet<>();
+			this.heldTag = null;
+			this.heldTimestamped = false;
+		}
+
+		private boolean isTooSoon( String attributeName, UpdateRateLimit limit, double now )
+		{
+			Double last = this.lastSent.get( attributeName );
+			return last != null && (now - last) < limit.getMinInterval() - EPSILON;
+		}
+	}
+}
@@ -0,0 +1,477 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.ucef;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import gov.nist.ucef.hla.base.FederateConfiguration;
+import gov.nist.ucef.hla.base.HLAInteraction;
+import gov.nist.ucef.hla.base.HLAObject;
+import gov.nist.ucef.hla.base.ModelRegistry;
+import gov.nist.ucef.hla.base.Types.DataType;
+
+/**
+ * Writes the JSON payload of OMNeT++ network interactions and objects directly into a reusable
+ * buffer, rather than building a json-simple JSONObject and boxing every value.
+ *
+ * The output is identical to JSONObject.toJSONString() for the same values - including the
+ * member order, which for a JSONObject is the iteration order of a default sized HashMap. That
+ * order depends only on the member names, the order they were inserted and how many there are,
+ * so it is precomputed for each class (see {@link Plan#orderFor(int)}).
+ *
+ * NOTE: the order of a HashMap bucket which has been converted to a tree (8 or more colliding
+ *       names in a class with more than 48 members present) is not reproduced; in that
+ *       (unlikely) case the JSON is still equivalent, just not byte for byte identical.
+ */
+final class OmnetJsonWriter
+{
+	//----------------------------------------------------------
+	//                    STATIC VARIABLES
+	//----------------------------------------------------------
+	private static final int INITIAL_BUFFER_SIZE = 256;
+	// don't hang on to unusually large buffers
+	private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+	private static final ThreadLocal<StringBuilder> BUFFER =
+	    ThreadLocal.withInitial( () -> new StringBuilder( INITIAL_BUFFER_SIZE ) );
+
+	private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+	//----------------------------------------------------------
+	//                   INSTANCE VARIABLES
+	//----------------------------------------------------------
+	private final FederateConfiguration configuration;
+	// the plans are only valid for the registry snapshot they were made from
+	private volatile ModelRegistry registry;
+	private volatile Map<String,Plan> planByClassName;
+
+	//----------------------------------------------------------
+	//                      CONSTRUCTORS
+	//----------------------------------------------------------
+	/**
+	 * Constructor
+	 *
+	 * @param configuration the configuration providing the members of each class
+	 */
+	OmnetJsonWriter( FederateConfiguration configuration )
+	{
+		this.configuration = configuration;
+		this.registry = null;
+		this.planByClassName = new ConcurrentHashMap<>();
+	}
+
+	//----------------------------------------------------------
+	//                    INSTANCE METHODS
+	//----------------------------------------------------------
+	/**
+	 * Encode the present parameters of an interaction as a JSON formatted string
+	 *
+	 * @param instance the interaction to encode
+	 * @return the encoded parameters as a JSON formatted string
+	 */
+	String write( HLAInteraction instance )
+	{
+		Plan plan = planFor( instance.getInteractionClassName(), true );
+
+		boolean[] present = new boolean[plan.size()];
+		int count = 0;
+		for( int i = 0; i < plan.size(); i++ )
+		{
+			present[i] = instance.isPresent( plan.names[i] );
+			if( present[i] )
+				count++;
+		}
+
+		StringBuilder builder = startBuffer();
+		boolean first = true;
+		for( int i : plan.orderFor( count ) )
+		{
+			if( !present[i] )
+				continue;
+
+			builder.append( first ? "" : "," ).append( plan.prefixes[i] );
+			first = false;
+
+			String name = plan.names[i];
+			switch( plan.dataTypes[i] )
+			{
+				case BOOLEAN:
+					builder.append( instance.getAsBoolean( name ) );
+					break;
+				case BYTE:
+					builder.append( (int)instance.getAsByte( name ) );
+					break;
+				case CHAR:
+					builder.append( instance.getAsChar( name ) );
+					break;
+				case DOUBLE:
+					appendDouble( builder, instance.getAsDouble( name ) );
+					break;
+				case FLOAT:
+					appendFloat( builder, instance.getAsFloat( name ) );
+					break;
+				case INT:
+					builder.append( instance.getAsInt( name ) );
+					break;
+				case LONG:
+					builder.append( instance.getAsLong( name ) );
+					break;
+				case SHORT:
+					builder.append( (int)instance.getAsShort( name ) );
+					break;
+				case STRING:
+					appendString( builder, instance.getAsString( name ) );
+					break;
+				case UNKNOWN:
+				default:
+					break;
+			}
+		}
+		return finishBuffer( builder );
+	}
+
+	/**
+	 * Encode the present attributes of an object instance as a JSON formatted string
+	 *
+	 * @param instance the object instance to encode
+	 * @return the encoded attributes as a JSON formatted string
+	 */
+	String write( HLAObject instance )
+	{
+		Plan plan = planFor( instance.getObjectClassName(), false );
+
+		boolean[] present = new boolean[plan.size()];
+		int count = 0;
+		for( int i = 0; i < plan.size(); i++ )
+		{
+			present[i] = instance.isPresent( plan.names[i] );
+			if( present[i] )
+				count++;
+		}
+
+		StringBuilder builder = startBuffer();
+		boolean first = true;
+		for( int i : plan.orderFor( count ) )
+		{
+			if( !present[i] )
+				continue;
+
+			builder.append( first ? "" : "," ).append( plan.prefixes[i] );
+			first = false;
+
+			String name = plan.names[i];
+			switch( plan.dataTypes[i] )
+			{
+				case BOOLEAN:
+					builder.append( instance.getAsBoolean( name ) );
+					break;
+				case BYTE:
+					builder.append( (int)instance.getAsByte( name ) );
+					break;
+				case CHAR:
+					builder.append( instance.getAsChar( name ) );
+					break;
+				case DOUBLE:
+					appendDouble( builder, instance.getAsDouble( name ) );
+					break;
+				case FLOAT:
+					appendFloat( builder, instance.getAsFloat( name ) );
+					break;
+				case INT:
+					builder.append( instance.getAsInt( name ) );
+					break;
+				case LONG:
+					builder.append( instance.getAsLong( name ) );
+					break;
+				case SHORT:
+					builder.append( (int)instance.getAsShort( name ) );
+					break;
+				case STRING:
+					appendString( builder, instance.getAsString( name ) );
+					break;
+				case UNKNOWN:
+				default:
+					break;
+			}
+		}
+		return finishBuffer( builder );
+	}
+
+	/**
+	 * Obtain the plan for a class, making it if necessary. All plans are discarded when the
+	 * classes of the configuration change (that is, when there is a new registry snapshot).
+	 *
+	 * @param className the name of the class
+	 * @param isInteraction true if the class is an interaction class, false for an object class
+	 * @return the plan for the class
+	 */
+	private Plan planFor( String className, boolean isInteraction )
+	{
+		ModelRegistry current = this.configuration.getModelRegistry();
+		Map<String,Plan> plans = this.planByClassName;
+		if( current != this.registry )
+		{
+			plans = new ConcurrentHashMap<>();
+			this.planByClassName = plans;
+			this.registry = current;
+		}
+
+		return plans.computeIfAbsent( className, k -> {
+			ModelRegistry.ClassEntry entry = current.getEntry( k );
+			if( entry == null || entry.isInteraction() != isInteraction )
+				return makePlan( null, Collections.emptySet() );
+			return makePlan( entry, entry.getMemberNames() );
+		} );
+	}
+
+	/**
+	 * Create the plan for a class. Members with unknown data types are left out, as they are
+	 * left out of the JSON.
+	 *
+	 * @param entry the registry entry of the class
+	 * @param memberNames the names of the members of the class, in iteration order
+	 * @return the plan for the class
+	 */
+	private Plan makePlan( ModelRegistry.ClassEntry entry, Collection<String> memberNames )
+	{
+		List<String> names = new ArrayList<>( memberNames.size() );
+		List<DataType> dataTypes = new ArrayList<>( memberNames.size() );
+		for( String name : memberNames )
+		{
+			DataType dataType = entry.getDataType( name );
+			if( dataType == null || dataType == DataType.UNKNOWN )
+				continue;
+			names.add( name );
+			dataTypes.add( dataType );
+		}
+		return new Plan( names, dataTypes );
+	}
+
+	//----------------------------------------------------------
+	//                     STATIC METHODS
+	//----------------------------------------------------------
+	private static StringBuilder startBuffer()
+	{
+		StringBuilder builder = BUFFER.get();
+		builder.setLength( 0 );
+		return builder.append( '{' );
+	}
+
+	private static String finishBuffer( StringBuilder builder )
+	{
+		String result = builder.append( '}' ).toString();
+		if( builder.capacity() > MAX_RETAINED_BUFFER_SIZE )
+			BUFFER.remove();
+		return result;
+	}
+
+	/**
+	 * Append a double value, formatted as json-simple formats it
+	 */
+	static void appendDouble( StringBuilder builder, double value )
+	{
+		if( Double.isNaN( value ) || Double.isInfinite( value ) )
+			builder.append( "null" );
+		else
+			builder.append( Double.toString( value ) );
+	}
+
+	/**
+	 * Append a float value, formatted as json-simple formats it
+	 */
+	static void appendFloat( StringBuilder builder, float value )
+	{
+		if( Float.isNaN( value ) || Float.isInfinite( value ) )
+			builder.append( "null" );
+		else
+			builder.append( Float.toString( value ) );
+	}
+
+	/**
+	 * Append a quoted string value, escaped as json-simple escapes it
+	 */
+	static void appendString( StringBuilder builder, String value )
+	{
+		if( value == null )
+		{
+			builder.append( "null" );
+			return;
+		}
+
+		builder.append( '"' );
+		for( int i = 0; i < value.length(); i++ )
+		{
+			char ch = value.charAt( i );
+			switch( ch )
+			{
+				case '"':
+					builder.append( "\\\"" );
+					break;
+				case '\\':
+					builder.append( "\\\\" );
+					break;
+				case '\b':
+					builder.append( "\\b" );
+					break;
+				case '\f':
+					builder.append( "\\f" );
+					break;
+				case '\n':
+					builder.append( "\\n" );
+					break;
+				case '\r':
+					builder.append( "\\r" );
+					break;
+				case '\t':
+					builder.append( "\\t" );
+					break;
+				case '/':
+					builder.append( "\\/" );
+					break;
+				default:
+					if( ch <= '\u001F' ||
+					    (ch >= '\u007F' && ch <= '\u009F') ||
+					    (ch >= '\u2000' && ch <= '\u20FF') )
+					{
+						builder.append( "\\u" )
+						       .append( HEX_DIGITS[(ch >> 12) & 0xF] )
+						       .append( HEX_DIGITS[(ch >> 8) & 0xF] )
+						       .append( HEX_DIGITS[(ch >> 4) & 0xF] )
+						       .append( HEX_DIGITS[ch & 0xF] );
+					}
+					else
+					{
+						builder.append( ch );
+					}
+			}
+		}
+		builder.append( '"' );
+	}
+
+	//----------------------------------------------------------
+	//                     INNER CLASSES
+	//----------------------------------------------------------
+	/**
+	 * The precomputed details needed to write the members of a class
+	 */
+	static final class Plan
+	{
+		// HashMap defaults, which determine a JSONObject's member order
+		private static final int HASHMAP_INITIAL_CAPACITY = 16;
+		private static final float HASHMAP_LOAD_FACTOR = 0.75f;
+
+		private final String[] names;
+		private final DataType[] dataTypes;
+		// the quoted, escaped member names, each followed by ':'
+		private final String[] prefixes;
+		// member order for each HashMap table capacity which can occur, indexed by log2 of the
+		// capacity relative to the initial capacity
+		private final int[][] orderByCapacity;
+
+		Plan( List<String> names, List<DataType> dataTypes )
+		{
+			int size = names.size();
+			this.names = names.toArray( new String[size] );
+			this.dataTypes = dataTypes.toArray( new DataType[size] );
+			this.prefixes = new String[size];
+			for( int i = 0; i < size; i++ )
+			{
+				StringBuilder builder = new StringBuilder();
+				appendString( builder, this.names[i] );
+				this.prefixes[i] = builder.append( ':' ).toString();
+			}
+
+			// the largest table is the one used when all members are present
+			int capacities = 1 + Integer.numberOfTrailingZeros( capacityFor( size ) / HASHMAP_INITIAL_CAPACITY );
+			this.orderByCapacity = new int[capacities][];
+			for( int i = 0; i < capacities; i++ )
+				this.orderByCapacity[i] = computeOrder( HASHMAP_INITIAL_CAPACITY << i );
+		}
+
+		int size()
+		{
+			return this.names.length;
+		}
+
+		String nameAt( int index )
+		{
+			return this.names[index];
+		}
+
+		/**
+		 * Obtain the order in which a default sized HashMap would iterate over the members, given
+		 * the number of members present.
+		 *
+		 * The returned order includes all members; those which are not present are simply
+		 * skipped by the caller - this is valid because their absence does not change the
+		 * relative order of the others, only the number present (which determines the table
+		 * capacity) does.
+		 *
+		 * @param count the number of members present
+		 * @return indices of the members, in iteration order
+		 */
+		int[] orderFor( int count )
+		{
+			int capacity = capacityFor( count );
+			return this.orderByCapacity[Integer.numberOfTrailingZeros( capacity / HASHMAP_INITIAL_CAPACITY )];
+		}
+
+		/**
+		 * @param count a number of entries
+		 * @return the table capacity of a default sized HashMap after that many entries are added
+		 */
+		private static int capacityFor( int count )
+		{
+			int capacity = HASHMAP_INITIAL_CAPACITY;
+			while( count > capacity * HASHMAP_LOAD_FACTOR )
+				capacity <<= 1;
+			return capacity;
+		}
+
+		private int[] computeOrder( int capacity )
+		{
+			// a HashMap iterates by bucket, and within each bucket in insertion order
+			int size = this.names.length;
+			long[] sortKeys = new long[size];
+			for( int i = 0; i < size; i++ )
+			{
+				int hash = this.names[i].hashCode();
+				int bucket = (hash ^ (hash >>> 16)) & (capacity - 1);
+				sortKeys[i] = ((long)bucket << 32) | i;
+			}
+			Arrays.sort( sortKeys );
+
+			int[] order = new int[size];
+			for( int i = 0; i < size; i++ )
+				order[i] = (int)sortKeys[i];
+			return order;
+		}
+	}
+}
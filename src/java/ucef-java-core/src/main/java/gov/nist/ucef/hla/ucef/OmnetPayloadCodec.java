@@ -0,0 +1,192 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this
+ * software and associated documentation files (the "Software"), to deal in the Software
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.ucef;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import gov.nist.ucef.hla.base.SlotLayout;
+import gov.nist.ucef.hla.base.UCEFException;
+
+/**
+ * Compact binary encoding of the payload of OMNeT++ network interactions and objects, used as an
+ * alternative to the JSON encoding.
+ *
+ * The already HLA encoded values of the wrapped interaction's parameters (or object's attributes)
+ * are copied as-is, with each value identified by its slot in the {@link SlotLayout} of the
+ * wrapped class rather than by name. Both ends must therefore share the same SOM definition of
+ * the wrapped class - a fingerprint of the layout is included so that a mismatch is detected
+ * rather than silently decoding values into the wrong members.
+ *
+ * All multi-byte values are big endian. The format is:
+ *
+ * <pre>
+ *     magic        2 bytes    'U', 'B'
+ *     version      1 byte     currently 1
+ *     fingerprint  4 bytes    hash of the member names of the wrapped class's slot layout
+ *     count        2 bytes    number of values which follow
+ *     ...then for each value:
+ *     slot         2 bytes    slot of the member in the wrapped class's slot layout
+ *     length       4 bytes    number of bytes in the HLA encoded value
+ *     value        length bytes
+ * </pre>
+ */
+public class OmnetPayloadCodec
+{
+	//----------------------------------------------------------
+	//                    STATIC VARIABLES
+	//----------------------------------------------------------
+	private static final byte MAGIC_0 = 'U';
+	private static final byte MAGIC_1 = 'B';
+	private static final byte VERSION = 1;
+
+	private static final int HEADER_LENGTH = 2 + 1 + 4 + 2;
+	private static final int ENTRY_HEADER_LENGTH = 2 + 4;
+	private static final int MAX_COUNT = 0xFFFF;
+
+	//----------------------------------------------------------
+	//                      CONSTRUCTORS
+	//----------------------------------------------------------
+	private OmnetPayloadCodec()
+	{
+		// static utility methods only
+	}
+
+	//----------------------------------------------------------
+	//                     STATIC METHODS
+	//----------------------------------------------------------
+	/**
+	 * Encode HLA encoded member values as a binary payload. Only members which are part of the
+	 * layout are included - any others are skipped.
+	 *
+	 * @param layout the slot layout of the wrapped class
+	 * @param values the HLA encoded member values, keyed by member name
+	 * @return the binary payload
+	 */
+	public static byte[] encode( SlotLayout layout, Map<String,byte[]> values )
+	{
+		if( layout.size() > MAX_COUNT )
+			throw new UCEFException( "Cannot encode a class with more than %d members as a " +
+			                         "binary payload (%d found).", MAX_COUNT, layout.size() );
+
+		// size the buffer exactly so there's no copying
+		int count = 0;
+		int length = HEADER_LENGTH;
+		for( Map.Entry<String,byte[]> entry : values.entrySet() )
+		{
+			if( entry.getValue() == null || layout.slotOf( entry.getKey() ) == SlotLayout.NO_SLOT )
+				continue;
+			count++;
+			length += ENTRY_HEADER_LENGTH + entry.getValue().length;
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate( length );
+		buffer.put( MAGIC_0 ).put( MAGIC_1 ).put( VERSION );
+		buffer.putInt( fingerprint( layout ) );
+		buffer.putShort( (short)count );
+		for( Map.Entry<String,byte[]> entry : values.entrySet() )
+		{
+			byte[] value = entry.getValue();
+			int slot = layout.slotOf( entry.getKey() );
+			if( value == null || slot == SlotLayout.NO_SLOT )
+				continue;
+			buffer.putShort( (short)slot );
+			buffer.putInt( value.length );
+			buffer.put( value );
+		}
+		return buffer.array();
+	}
+
+	/**
+	 * Decode a binary payload back into HLA encoded member values
+	 *
+	 * @param layout the slot layout of the wrapped class
+	 * @param payload the binary payload
+	 * @return the HLA encoded member values, keyed by member name
+	 * @throws UCEFException if the payload is not a binary payload, or it was encoded with a
+	 *             different layout, or it is malformed
+	 */
+	public static Map<String,byte[]> decode( SlotLayout layout, byte[] payload )
+	{
+		if( !isBinaryPayload( payload ) )
+			throw new UCEFException( "Not a binary OMNeT++ payload." );
+
+		// wrap past the marker rather than calling position(), which is covariant (and so links
+		// to a method missing from Java 8) when compiled with a later JDK
+		ByteBuffer buffer = ByteBuffer.wrap( payload, 3, payload.length - 3 );
+		int fingerprint = buffer.getInt();
+		if( fingerprint != fingerprint( layout ) )
+			throw new UCEFException( "Binary OMNeT++ payload was encoded for a different " +
+			                         "definition of the class (expected %s).", layout );
+
+		try
+		{
+			int count = buffer.getShort() & 0xFFFF;
+			Map<String,byte[]> values = new LinkedHashMap<>( count * 2 );
+			for( int i = 0; i < count; i++ )
+			{
+				int slot = buffer.getShort() & 0xFFFF;
+				int length = buffer.getInt();
+				if( slot >= layout.size() || length < 0 || length > buffer.remaining() )
+					throw new UCEFException( "Malformed binary OMNeT++ payload (value %d).", i );
+
+				byte[] value = new byte[length];
+				buffer.get( value );
+				values.put( layout.nameOf( slot ), value );
+			}
+			return values;
+		}
+		catch( BufferUnderflowException e )
+		{
+			throw new UCEFException( e, "Truncated binary OMNeT++ payload." );
+		}
+	}
+
+	/**
+	 * Determine if some bytes are a binary payload, as opposed to (for example) a JSON payload
+	 *
+	 * @param payload the payload to check
+	 * @return true if the payload is a binary payload, false otherwise
+	 */
+	public static boolean isBinaryPayload( byte[] payload )
+	{
+		return payload != null &&
+		       payload.length >= HEADER_LENGTH &&
+		       payload[0] == MAGIC_0 &&
+		       payload[1] == MAGIC_1 &&
+		       payload[2] == VERSION;
+	}
+
+	/**
+	 * @param layout a slot layout
+	 * @return the fingerprint identifying the layout in a binary payload
+	 */
+	private static int fingerprint( SlotLayout layout )
+	{
+		// String.hashCode() is fully specified, so this is the same in every JVM
+		return layout.hashCode();
+	}
+}
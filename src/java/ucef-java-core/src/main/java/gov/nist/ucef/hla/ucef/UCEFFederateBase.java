@@ -28,9 +28,12 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -42,7 +45,7 @@ import org.json.simple.JSONObject;
 import gov.nist.ucef.hla.base.FederateBase;
 import gov.nist.ucef.hla.base.HLAInteraction;
 import gov.nist.ucef.hla.base.HLAObject;
-import gov.nist.ucef.hla.base.Types.DataType;
+import gov.nist.ucef.hla.base.SlotLayout;
 import gov.nist.ucef.hla.base.Types.InteractionClass;
 import gov.nist.ucef.hla.base.UCEFException;
 import gov.nist.ucef.hla.base.UCEFSyncPoint;
@@ -79,16 +82,22 @@ public abstract class UCEFFederateBase extends FederateBase
 	//   {
 	//       ...other config...,
 	//       "omnet":{
-	//           "sourceHost":   "theHostIdentifier",
-	//           "interactions": ["A.B.C.*","X.Y.Z.*"]
+	//           "sourceHost":      "theHostIdentifier",
+	//           "interactions":    ["A.B.C.*","X.Y.Z.*"],
+	//           "payloadEncoding": "json"
 	//       }
 	//   }
 	//
 	// "sourceHost" will default to the federate name if unspecified
 	// "interactions" will default to an empty array if unspecified
+	// "payloadEncoding" is either "json" or "binary" (see OmnetPayloadCodec), and will default
+	// to "json" if unspecified
 	private static final String KEY_OMNET_CONFIG_SCOPE = "omnet";
 	private static final String KEY_OMNET_SOURCE_HOST = "sourceHost";
 	private static final String KEY_OMNET_INTERACTION_FILTERS = "interactions";
+	private static final String KEY_OMNET_PAYLOAD_ENCODING = "payloadEncoding";
+	private static final String PAYLOAD_ENCODING_JSON = "json";
+	private static final String PAYLOAD_ENCODING_BINARY = "binary";
 	private static final String KEY_NETWORK_INTERACTION_NAME = "networkInteractionName";
 	// default interaction class name to treat as am OMNeT++ network interaction
 	private static final String DEFAULT_NETWORK_INTERACTION_NAME = "HLAinteractionRoot.NetworkInteraction";
@@ -104,11 +113,26 @@ public abstract class UCEFFederateBase extends FederateBase
 	// "original" interaction/object interaction/object wrapped by the OMNeT++ interaction/object
 	private static final String KEY_NET_DATA = "data";
 
+	// maximum number of distinct "federateFilter" values whose accept/reject decisions are
+	// remembered - see shouldReceiveInteraction()
+	private static final int FEDERATE_FILTER_CACHE_SIZE = 256;
+
+	// how a received interaction is handled, according to its class
+	private enum InteractionRoute
+	{
+		SIM_START,
+		SIM_END,
+		SIM_PAUSE,
+		SIM_RESUME,
+		// any other interaction class known to the federate
+		USER,
+		// an interaction class which is not known to the federate
+		UNKNOWN
+	}
+
 	//----------------------------------------------------------
 	//                   INSTANCE VARIABLES
 	//----------------------------------------------------------
-	private final Object mutex_lock = new Object();
-
 	protected Set<String> syncPointTimeouts;
 
 	// the namespaced "network interaction" and "network object" class names
@@ -118,6 +142,13 @@ public abstract class UCEFFederateBase extends FederateBase
 	protected String srcHost;
 	// pattern matchers for identifying OMNeT++ interactions
 	protected Collection<Pattern> omnetInteractionMatchers;
+	// true if OMNeT++ payloads are binary encoded, false if they are JSON encoded
+	protected boolean omnetBinaryPayload;
+	// writes JSON OMNeT++ payloads
+	private final OmnetJsonWriter omnetJsonWriter;
+
+	// how received interactions are handled, by interaction class handle
+	private final Map<InteractionClassHandle,InteractionRoute> interactionRouteByHandle;
 
 	// flag which becomes true after a SimStart interaction has
 	// been received (begins as false)
@@ -130,6 +161,13 @@ public abstract class UCEFFederateBase extends FederateBase
 	// has been received (begins as false)
 	protected volatile boolean simShouldPause;
 
+	// accept/reject decisions for recently seen "federateFilter" values, least recently used
+	// first, along with the federate name the decisions were made for
+	private final Map<String,Boolean> federateFilterCache;
+	private String federateFilterCacheName;
+	private final AtomicLong federateFilterCacheHits;
+	private final AtomicLong federateFilterCacheMisses;
+
 	//----------------------------------------------------------
 	//                      CONSTRUCTORS
 	//----------------------------------------------------------
@@ -143,10 +181,28 @@ public abstract class UCEFFederateBase extends FederateBase
 		this.networkObjectName = DEFAULT_NETWORK_OBJECT_NAME;
 		this.srcHost = this.configuration.getFederateName();
 		this.omnetInteractionMatchers = new ArrayList<>();
+		this.omnetBinaryPayload = false;
+		this.omnetJsonWriter = new OmnetJsonWriter( this.configuration );
+
+		this.interactionRouteByHandle = new ConcurrentHashMap<>();
 
 		this.simShouldStart = false;
 		this.simShouldEnd = false;
 		this.simShouldPause = false;
+
+		this.federateFilterCache = new LinkedHashMap<String,Boolean>( 16, 0.75f, true )
+		{
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry( Map.Entry<String,Boolean> eldest )
+			{
+				return size() > FEDERATE_FILTER_CACHE_SIZE;
+			}
+		};
+		this.federateFilterCacheName = null;
+		this.federateFilterCacheHits = new AtomicLong( 0 );
+		this.federateFilterCacheMisses = new AtomicLong( 0 );
 	}
 
 	//----------------------------------------------------------
@@ -173,7 +229,7 @@ public abstract class UCEFFederateBase extends FederateBase
 		if( isOmnetNetworkInteraction( interaction ) )
 		{
 			// convert OMNeT++ routed interactions and re-send
-			this.rtiamb.sendInteraction( makeOmnetInteraction( interaction ), null, null );
+			super.sendInteraction( makeOmnetInteraction( interaction ) );
 		}
 		else
 		{
@@ -188,7 +244,7 @@ public abstract class UCEFFederateBase extends FederateBase
 		if( isOmnetNetworkInteraction( interaction ) )
 		{
 			// convert OMNeT++ routed interactions and re-send
-			this.rtiamb.sendInteraction( makeOmnetInteraction( interaction ), tag, null );
+			super.sendInteraction( makeOmnetInteraction( interaction ), tag );
 		}
 		else
 		{
@@ -203,7 +259,7 @@ public abstract class UCEFFederateBase extends FederateBase
 		if( isOmnetNetworkInteraction( interaction ) )
 		{
 			// convert OMNeT++ routed interactions and re-send
-			this.rtiamb.sendInteraction( makeOmnetInteraction( interaction ), tag, time );
+			super.sendInteraction( makeOmnetInteraction( interaction ), tag, time );
 		}
 		else
 		{
@@ -318,14 +374,22 @@ public abstract class UCEFFederateBase extends FederateBase
 	{
 		while( this.simShouldEnd == false )
 		{
-			// next step, and cease simulation loop if step() returns false
-			if( this.simShouldEnd || step( this.fedamb.getFederateTime() ) == false )
+			// next step, and cease simulation loop if step() returns false (time is not advanced
+			// if a SimEnd arrives during the step - see isEndRequested())
+			if( runStep() == false )
 				break;
-			if( this.simShouldEnd == false)
-				advanceTime();
 		}
 	}
 
+	/**
+	 * Ends the simulation loop once a {@link SimEnd} interaction has been received
+	 */
+	@Override
+	protected boolean isEndRequested()
+	{
+		return this.simShouldEnd;
+	}
+
 	/**
 	 * We override the this method here so that late joining UCEF federates
 	 * can wait for a synchronization point, but time out so they don't lock
@@ -382,22 +446,7 @@ public abstract class UCEFFederateBase extends FederateBase
 	@Override
 	public void incomingInteraction( InteractionClassHandle handle, Map<String,byte[]> parameters )
 	{
-		synchronized( this.mutex_lock )
-		{
-			HLAInteraction interaction = makeInteraction( handle, parameters );
-			if( interaction != null )
-			{
-				if( isSimulationControlInteraction( interaction ) )
-				{
-					// simulation control interactions require their own handling
-					processSimControlInteraction( interaction, null );
-				}
-				else if( shouldReceiveInteraction( interaction ) )
-				{
-					receiveInteraction( interaction );
-				}
-			}
-		}
+		routeInteraction( handle, parameters, null );
 	}
 
 	/**
@@ -409,23 +458,39 @@ public abstract class UCEFFederateBase extends FederateBase
 	                                 Map<String,byte[]> parameters,
 	                                 double time )
 	{
-		synchronized( this.mutex_lock )
+		routeInteraction( handle, parameters, time );
+	}
+
+	/**
+	 * Pass a received interaction on to the appropriate handler, according to the
+	 * {@link InteractionRoute} of its class
+	 *
+	 * @param handle the interaction class handle
+	 * @param parameters the parameters of the interaction
+	 * @param time the logical time (may be null)
+	 */
+	private void routeInteraction( InteractionClassHandle handle,
+	                               Map<String,byte[]> parameters,
+	                               Double time )
+	{
+		InteractionRoute route = interactionRouteFor( handle );
+		if( route == InteractionRoute.UNKNOWN )
 		{
-			// delegate to handlers for UCEF Simulation control interactions as required
-			HLAInteraction interaction = makeInteraction( handle, parameters );
+			// no need to build the interaction just to drop it
+			logger.warn( "Ignoring unexpected interaction: {}", this.rtiamb.makeSummary( handle ) );
+			return;
+		}
 
-			if( interaction != null )
-			{
-				if( isSimulationControlInteraction( interaction ) )
-				{
-					// simulation control interactions require their own handling
-					processSimControlInteraction( interaction, time );
-				}
-				else if( shouldReceiveInteraction( interaction ) )
-				{
-					receiveInteraction( interaction, time );
-				}
-			}
+		HLAInteraction interaction = makeInteraction( handle, parameters );
+		if( route == InteractionRoute.USER )
+		{
+			if( shouldReceiveInteraction( interaction ) )
+				deliverInteraction( handle, interaction, time );
+		}
+		else
+		{
+			// simulation control interactions require their own handling
+			processSimControlInteraction( handle, route, interaction, time );
 		}
 	}
 
@@ -433,55 +498,67 @@ public abstract class UCEFFederateBase extends FederateBase
 	 * General handler for received simulation control interactions
 	 * ({@link SimStart},{@link SimEnd}, {@link SimPause}, {@link SimResume})
 	 *
+	 * The start/end/pause flags are updated straight away, so that the simulation loop reacts
+	 * to them as soon as possible, but the federate's receiveSimX() handler is dispatched like
+	 * any other received interaction (see {@link #dispatchCallback(Object, Runnable)}).
+	 *
+	 * @param handle the interaction class handle
+	 * @param route the route identifying the kind of simulation control interaction
 	 * @param interaction the simulation control interaction
 	 * @param time the logical time (may be null)
 	 */
-	private void processSimControlInteraction( HLAInteraction interaction, Double time )
+	private void processSimControlInteraction( InteractionClassHandle handle,
+	                                           InteractionRoute route,
+	                                           HLAInteraction interaction,
+	                                           Double time )
 	{
-		String interactionClassName = interaction.getInteractionClassName();
-
 		// delegate to handlers for UCEF Simulation control interactions as required
-		if( SimStart.interactionName().equals( interactionClassName ) )
+		switch( route )
 		{
-			// it is up to individual federates as to how they handle this
-			this.simShouldStart = true;
-			if( time == null )
-				receiveSimStart( new SimStart( interaction ) );
-			else
-				receiveSimStart( new SimStart( interaction ), time );
-		}
-		else if( SimEnd.interactionName().equals( interactionClassName ) )
-		{
-			// if a SimEnd is received, a well behaved UCEF federate must
-			// synchronize with the rest of the federation before resigning
-			this.configuration.setSyncBeforeResign( true );
+			case SIM_START:
+				// it is up to individual federates as to how they handle this
+				this.simShouldStart = true;
+				SimStart simStart = new SimStart( interaction );
+				if( time == null )
+					dispatchCallback( handle, () -> receiveSimStart( simStart ) );
+				else
+					dispatchCallback( handle, () -> receiveSimStart( simStart, time ) );
+				break;
+			case SIM_END:
+				// if a SimEnd is received, a well behaved UCEF federate must
+				// synchronize with the rest of the federation before resigning
+				this.configuration.setSyncBeforeResign( true );
 
-			this.simShouldEnd = true;
-			if( time == null )
-				receiveSimEnd( new SimEnd( interaction ) );
-			else
-				receiveSimEnd( new SimEnd( interaction ), time );
-		}
-		else if( SimPause.interactionName().equals( interactionClassName ) )
-		{
-			// if a SimPause is received, a well behaved UCEF federate must
-			// cease its step() loop processing until a SimResume or
-			// SimEnd is received
-			this.simShouldPause = true;
-			if( time == null )
-				receiveSimPause( new SimPause( interaction ) );
-			else
-				receiveSimPause( new SimPause( interaction ), time );
-		}
-		else if( SimResume.interactionName().equals( interactionClassName ) )
-		{
-			// if a SimResume is received, a well behaved UCEF federate may
-			// resume its step() loop processing
-			this.simShouldPause = false;
-			if( time == null )
-				receiveSimResume( new SimResume( interaction ) );
-			else
-				receiveSimResume( new SimResume( interaction ), time );
+				this.simShouldEnd = true;
+				SimEnd simEnd = new SimEnd( interaction );
+				if( time == null )
+					dispatchCallback( handle, () -> receiveSimEnd( simEnd ) );
+				else
+					dispatchCallback( handle, () -> receiveSimEnd( simEnd, time ) );
+				break;
+			case SIM_PAUSE:
+				// if a SimPause is received, a well behaved UCEF federate must
+				// cease its step() loop processing until a SimResume or
+				// SimEnd is received
+				this.simShouldPause = true;
+				SimPause simPause = new SimPause( interaction );
+				if( time == null )
+					dispatchCallback( handle, () -> receiveSimPause( simPause ) );
+				else
+					dispatchCallback( handle, () -> receiveSimPause( simPause, time ) );
+				break;
+			case SIM_RESUME:
+				// if a SimResume is received, a well behaved UCEF federate may
+				// resume its step() loop processing
+				this.simShouldPause = false;
+				SimResume simResume = new SimResume( interaction );
+				if( time == null )
+					dispatchCallback( handle, () -> receiveSimResume( simResume ) );
+				else
+					dispatchCallback( handle, () -> receiveSimResume( simResume, time ) );
+				break;
+			default:
+				break;
 		}
 	}
 
@@ -507,12 +584,7 @@ public abstract class UCEFFederateBase extends FederateBase
 		{
 			// The interaction has a "federateFilter" set, test if the
 			// interaction is supposed to be for this federate
-			// split by commas
-			String[] fedFilters = interaction.getAsString( "federateFilter" ).split( "," );
-			// convert to regular expression patterns
-			Collection<Pattern> dstFeds = stringsToRegexPatterns( Arrays.asList( fedFilters ) );
-			// check for any matches with our federate name
-			shouldReceive = matchesAnyPattern( this.configuration.getFederateName(), dstFeds );
+			shouldReceive = matchesFederateFilter( interaction.getAsString( "federateFilter" ) );
 
 			if( logger.isDebugEnabled() )
 			{
@@ -536,9 +608,76 @@ public abstract class UCEFFederateBase extends FederateBase
 		return shouldReceive;
 	}
 
+	/**
+	 * Determine if a "federateFilter" value designates this federate.
+	 *
+	 * The same filter values tend to be repeated on every interaction sent to a federate, so the
+	 * decisions for recently seen values are cached rather than recompiling and rematching the
+	 * regular expressions each time.
+	 *
+	 * @param federateFilter the comma separated matching strings
+	 * @return true if any of the matching strings match our federate name, false otherwise
+	 */
+	private boolean matchesFederateFilter( String federateFilter )
+	{
+		String federateName = this.configuration.getFederateName();
+		synchronized( this.federateFilterCache )
+		{
+			// cached decisions are only valid for the name they were made for
+			if( !federateName.equals( this.federateFilterCacheName ) )
+			{
+				this.federateFilterCache.clear();
+				this.federateFilterCacheName = federateName;
+			}
+
+			Boolean cached = this.federateFilterCache.get( federateFilter );
+			if( cached != null )
+			{
+				this.federateFilterCacheHits.incrementAndGet();
+				return cached;
+			}
+		}
+
+		this.federateFilterCacheMisses.incrementAndGet();
+		// split by commas, convert to regular expression patterns...
+		String[] fedFilters = federateFilter.split( "," );
+		Collection<Pattern> dstFeds = stringsToRegexPatterns( Arrays.asList( fedFilters ) );
+		// ...and check for any matches with our federate name
+		boolean matches = matchesAnyPattern( federateName, dstFeds );
+
+		synchronized( this.federateFilterCache )
+		{
+			if( federateName.equals( this.federateFilterCacheName ) )
+				this.federateFilterCache.put( federateFilter, matches );
+		}
+		return matches;
+	}
+
 	////////////////////////////////////////////////////////////////////////////////////////////
 	/////////////////////////////// Accessor and Mutator Methods ///////////////////////////////
 	////////////////////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Obtain the number of received "federateFilter" values which were found in the cache of
+	 * previous accept/reject decisions
+	 *
+	 * @return the number of federate filter cache hits
+	 */
+	public long getFederateFilterCacheHits()
+	{
+		return this.federateFilterCacheHits.get();
+	}
+
+	/**
+	 * Obtain the number of received "federateFilter" values which had to be compiled and matched
+	 * because no previous accept/reject decision was cached
+	 *
+	 * @return the number of federate filter cache misses
+	 */
+	public long getFederateFilterCacheMisses()
+	{
+		return this.federateFilterCacheMisses.get();
+	}
+
 	/**
 	 * Determine if this federate is a "late joiner".
 	 *
@@ -594,6 +733,19 @@ public abstract class UCEFFederateBase extends FederateBase
 				this.networkObjectName = this.configuration.jsonStringOrDefault( omnetBlock,
 				                                                                 KEY_NETWORK_OBJECT_NAME,
 				                                                                 this.networkObjectName );
+
+				String payloadEncoding = this.configuration.jsonStringOrDefault( omnetBlock,
+				                                                                 KEY_OMNET_PAYLOAD_ENCODING,
+				                                                                 this.omnetBinaryPayload ? PAYLOAD_ENCODING_BINARY
+				                                                                                         : PAYLOAD_ENCODING_JSON );
+				if( PAYLOAD_ENCODING_BINARY.equalsIgnoreCase( payloadEncoding ) )
+					this.omnetBinaryPayload = true;
+				else if( PAYLOAD_ENCODING_JSON.equalsIgnoreCase( payloadEncoding ) )
+					this.omnetBinaryPayload = false;
+				else
+					throw new UCEFException( "Expected '%s' or '%s' for '%s' but found '%s'",
+					                         PAYLOAD_ENCODING_JSON, PAYLOAD_ENCODING_BINARY,
+					                         KEY_OMNET_PAYLOAD_ENCODING, payloadEncoding );
 			}
 			else
 			{
@@ -607,23 +759,41 @@ public abstract class UCEFFederateBase extends FederateBase
 	}
 
 	/**
-	 * Utility method to determine if an {@link InteractionClass} corresponds to one of the
-	 * simulation control interactions
+	 * Obtain the {@link InteractionRoute} for an interaction class handle.
 	 *
-	 * @param interactionClass {@link InteractionClass} the instance to check
-	 * @return true if the interaction is one of the simulation control interactions, false
-	 *         otherwise
+	 * The route is worked out from the class name the first time a handle is seen, and after
+	 * that is a simple lookup by handle.
+	 *
+	 * @param handle the interaction class handle
+	 * @return the route for the interaction class
 	 */
-	private boolean isSimulationControlInteraction( HLAInteraction instance )
+	private InteractionRoute interactionRouteFor( InteractionClassHandle handle )
 	{
-		if( instance == null )
-			return false;
+		InteractionRoute route = this.interactionRouteByHandle.get( handle );
+		if( route != null )
+			return route;
+
+		InteractionClass interactionClass = interactionClassByHandle( handle );
+		if( interactionClass == null )
+		{
+			// not (yet) known - don't remember this, in case the class becomes known later
+			return InteractionRoute.UNKNOWN;
+		}
 
-		String className = instance.getInteractionClassName();
-		return SimStart.interactionName().equals( className ) ||
-		       SimEnd.interactionName().equals( className ) ||
-		       SimPause.interactionName().equals( className ) ||
-		       SimResume.interactionName().equals( className );
+		String className = interactionClass.name;
+		if( SimStart.interactionName().equals( className ) )
+			route = InteractionRoute.SIM_START;
+		else if( SimEnd.interactionName().equals( className ) )
+			route = InteractionRoute.SIM_END;
+		else if( SimPause.interactionName().equals( className ) )
+			route = InteractionRoute.SIM_PAUSE;
+		else if( SimResume.interactionName().equals( className ) )
+			route = InteractionRoute.SIM_RESUME;
+		else
+			route = InteractionRoute.USER;
+
+		this.interactionRouteByHandle.put( handle, route );
+		return route;
 	}
 
 	/**
@@ -649,7 +819,8 @@ public abstract class UCEFFederateBase extends FederateBase
 	 * {@link HLAInteraction}</li>
 	 * <li>{@link UCEFFederateBase#KEY_OMNET_SOURCE_HOST}: the host identifier of this federate</li>
 	 * <li>{@link UCEFFederateBase#KEY_NET_DATA}: parameters and values of the original
-	 * {@link HLAInteraction} encoded as a JSON string. Only those which are initialized are
+	 * {@link HLAInteraction} encoded as a JSON string, or as a binary payload (see
+	 * {@link OmnetPayloadCodec}) if so configured. Only those which are initialized are
 	 * encoded, and any "unset" parameters are skipped.</li>
 	 * </ul>
 	 *
@@ -661,7 +832,12 @@ public abstract class UCEFFederateBase extends FederateBase
 		HLAInteraction omnetInteraction = makeInteraction( this.networkInteractionName );
 		omnetInteraction.setValue( KEY_ORG_CLASS, interaction.getInteractionClassName() );
 		omnetInteraction.setValue( KEY_OMNET_SOURCE_HOST, this.srcHost );
-		omnetInteraction.setValue( KEY_NET_DATA, encodeAsJson( interaction ) );
+		if( this.omnetBinaryPayload )
+			omnetInteraction.setRawValue( KEY_NET_DATA,
+			                              encodeAsBinary( interaction.getInteractionClassName(),
+			                                              interaction.getState() ) );
+		else
+			omnetInteraction.setValue( KEY_NET_DATA, encodeAsJson( interaction ) );
 		return omnetInteraction;
 	}
 
@@ -676,7 +852,8 @@ public abstract class UCEFFederateBase extends FederateBase
 	 * {@link HLAObject}</li>
 	 * <li>{@link UCEFFederateBase#KEY_OMNET_SOURCE_HOST}: the host identifier of this federate</li>
 	 * <li>{@link UCEFFederateBase#KEY_NET_DATA}: attributes and values of the original
-	 * {@link HLAObject} encoded as a JSON string. Only those which are initialized are
+	 * {@link HLAObject} encoded as a JSON string, or as a binary payload (see
+	 * {@link OmnetPayloadCodec}) if so configured. Only those which are initialized are
 	 * encoded, and any "unset" attributes are skipped.</li>
 	 * </ul>
 	 *
@@ -688,10 +865,84 @@ public abstract class UCEFFederateBase extends FederateBase
 		HLAObject omnetInteraction = makeObjectInstance( this.networkObjectName );
 		omnetInteraction.setValue( KEY_ORG_CLASS, instance.getObjectClassName() );
 		omnetInteraction.setValue( KEY_OMNET_SOURCE_HOST, this.srcHost );
-		omnetInteraction.setValue( KEY_NET_DATA, encodeAsJson( instance ) );
+		if( this.omnetBinaryPayload )
+			omnetInteraction.setRawValue( KEY_NET_DATA,
+			                              encodeAsBinary( instance.getObjectClassName(),
+			                                              instance.getState() ) );
+		else
+			omnetInteraction.setValue( KEY_NET_DATA, encodeAsJson( instance ) );
 		return omnetInteraction;
 	}
 
+	/**
+	 * Utility method which recovers the original {@link HLAInteraction} wrapped in a received
+	 * OMNeT++ interaction which has a binary payload (see {@link #makeOmnetInteraction}).
+	 *
+	 * @param omnetInteraction the received OMNeT++ interaction
+	 * @return the original {@link HLAInteraction}
+	 */
+	protected HLAInteraction unwrapOmnetInteraction( HLAInteraction omnetInteraction )
+	{
+		String className = omnetInteraction.getAsString( KEY_ORG_CLASS );
+		return makeInteraction( className,
+		                        decodeBinary( className, omnetInteraction.getRawValue( KEY_NET_DATA ) ) );
+	}
+
+	/**
+	 * Utility method which recovers the attributes of the original {@link HLAObject} wrapped in a
+	 * received OMNeT++ object which has a binary payload (see {@link #makeOmnetObject}).
+	 *
+	 * NOTE: the returned instance is not registered with the RTI - it is simply a holder for
+	 *       the wrapped object class name and attribute values.
+	 *
+	 * @param omnetObject the received OMNeT++ object
+	 * @return an {@link HLAObject} holding the original attributes
+	 */
+	protected HLAObject unwrapOmnetObject( HLAObject omnetObject )
+	{
+		String className = omnetObject.getAsString( KEY_ORG_CLASS );
+		return makeObjectInstance( className,
+		                           decodeBinary( className, omnetObject.getRawValue( KEY_NET_DATA ) ) );
+	}
+
+	/**
+	 * Utility method to encode HLA encoded parameter or attribute values as a binary payload
+	 *
+	 * @param className the name of the interaction or object class the values belong to
+	 * @param values the HLA encoded values
+	 * @return the binary payload
+	 */
+	private byte[] encodeAsBinary( String className, Map<String,byte[]> values )
+	{
+		return OmnetPayloadCodec.encode( requireSlotLayout( className ), values );
+	}
+
+	/**
+	 * Utility method to decode a binary payload to HLA encoded parameter or attribute values
+	 *
+	 * @param className the name of the interaction or object class the values belong to
+	 * @param payload the binary payload
+	 * @return the HLA encoded values
+	 */
+	private Map<String,byte[]> decodeBinary( String className, byte[] payload )
+	{
+		return OmnetPayloadCodec.decode( requireSlotLayout( className ), payload );
+	}
+
+	/**
+	 * @param className the name of an interaction or object class
+	 * @return the slot layout of the class
+	 * @throws UCEFException if the class is not known to the configuration
+	 */
+	private SlotLayout requireSlotLayout( String className )
+	{
+		SlotLayout layout = this.configuration.getSlotLayout( className );
+		if( layout == null )
+			throw new UCEFException( "Cannot use a binary OMNeT++ payload for '%s' as the class " +
+			                         "is not known.", className );
+		return layout;
+	}
+
 	/**
 	 * Utility method to encode the parameters of an {@link HLA interaction} instance as a JSON
 	 * formatted string.
@@ -701,56 +952,9 @@ public abstract class UCEFFederateBase extends FederateBase
 	 * @param interaction {@link HLAInteraction} the interaction to encode
 	 * @return the encoded parameters as a JSON formatted string
 	 */
-	@SuppressWarnings("unchecked")
 	private String encodeAsJson( HLAInteraction instance )
 	{
-		JSONObject json = new JSONObject();
-		// Get parameters of this interaction
-		Set<String> paramKeys = this.configuration.getParameterNames( instance );
-		for( String paramKey : paramKeys )
-		{
-			if( !instance.isPresent( paramKey ) )
-				continue;
-
-			// Figure out the data type of the parameter
-			DataType dataType = this.configuration.getDataType( instance, paramKey );
-
-			// Now add param values to JSON object
-			switch( dataType )
-			{
-				case BOOLEAN:
-					json.put( paramKey, instance.getAsBoolean( paramKey ) );
-					break;
-				case BYTE:
-					json.put( paramKey, instance.getAsByte( paramKey ) );
-					break;
-				case CHAR:
-					json.put( paramKey, instance.getAsChar( paramKey ) );
-					break;
-				case DOUBLE:
-					json.put( paramKey, instance.getAsDouble( paramKey ) );
-					break;
-				case FLOAT:
-					json.put( paramKey, instance.getAsFloat( paramKey ) );
-					break;
-				case INT:
-					json.put( paramKey, instance.getAsInt( paramKey ) );
-					break;
-				case LONG:
-					json.put( paramKey, instance.getAsLong( paramKey ) );
-					break;
-				case SHORT:
-					json.put( paramKey, instance.getAsShort( paramKey ) );
-					break;
-				case STRING:
-					json.put( paramKey, instance.getAsString( paramKey ) );
-					break;
-				case UNKNOWN:
-				default:
-					break;
-			}
-		}
-		return json.toJSONString();
+		return this.omnetJsonWriter.write( instance );
 	}
 
 	/**
@@ -762,56 +966,9 @@ public abstract class UCEFFederateBase extends FederateBase
 	 * @param interaction {@link HLAObject} the instance to encode
 	 * @return the encoded parameters as a JSON formatted string
 	 */
-	@SuppressWarnings("unchecked")
 	private String encodeAsJson( HLAObject instance )
 	{
-		JSONObject json = new JSONObject();
-		// Get parameters of this interaction
-		Set<String> paramKeys = this.configuration.getAttributeNames( instance );
-		for( String paramKey : paramKeys )
-		{
-			if( !instance.isPresent( paramKey ) )
-				continue;
-
-			// Figure out the data type of the parameter
-			DataType dataType = this.configuration.getDataType( instance, paramKey );
-
-			// Now add param values to JSON object
-			switch( dataType )
-			{
-				case BOOLEAN:
-					json.put( paramKey, instance.getAsBoolean( paramKey ) );
-					break;
-				case BYTE:
-					json.put( paramKey, instance.getAsByte( paramKey ) );
-					break;
-				case CHAR:
-					json.put( paramKey, instance.getAsChar( paramKey ) );
-					break;
-				case DOUBLE:
-					json.put( paramKey, instance.getAsDouble( paramKey ) );
-					break;
-				case FLOAT:
-					json.put( paramKey, instance.getAsFloat( paramKey ) );
-					break;
-				case INT:
-					json.put( paramKey, instance.getAsInt( paramKey ) );
-					break;
-				case LONG:
-					json.put( paramKey, instance.getAsLong( paramKey ) );
-					break;
-				case SHORT:
-					json.put( paramKey, instance.getAsShort( paramKey ) );
-					break;
-				case STRING:
-					json.put( paramKey, instance.getAsString( paramKey ) );
-					break;
-				case UNKNOWN:
-				default:
-					break;
-			}
-		}
-		return json.toJSONString();
+		return this.omnetJsonWriter.write( instance );
 	}
 
 	/**
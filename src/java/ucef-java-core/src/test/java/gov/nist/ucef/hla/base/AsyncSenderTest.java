@@ -0,0 +1,265 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards 
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+ * software and associated documentation files (the "Software"), to deal in the Software 
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following 
+ * conditions:
+ * 
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.base;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+public class AsyncSenderTest extends TestCase
+{
+	//----------------------------------------------------------
+	//                    STATIC VARIABLES
+	//----------------------------------------------------------
+
+	//----------------------------------------------------------
+	//                   INSTANCE VARIABLES
+	//----------------------------------------------------------
+
+	//----------------------------------------------------------
+	//                      CONSTRUCTORS
+	//----------------------------------------------------------
+	/**
+	 * Create the test case
+	 *
+	 * @param testName name of the test case
+	 */
+	public AsyncSenderTest( String testName )
+	{
+		super( testName );
+	}
+
+	//----------------------------------------------------------
+	//                    INSTANCE METHODS
+	//----------------------------------------------------------
+	/**
+	 * Test that a full queue holds up the submitter until there is room, without losing anything
+	 */
+	public void testBlock() throws Exception
+	{
+		AsyncSender sender = new AsyncSender( 1, SendOverflowPolicy.BLOCK, "test-sender" );
+		List<String> sent = Collections.synchronizedList( new ArrayList<>() );
+		CountDownLatch release = occupy( sender, sent );
+
+		sender.submit( () -> sent.add( "2" ) );
+		Thread submitter = new Thread( () -> sender.submit( () -> sent.add( "3" ) ) );
+		submitter.start();
+		submitter.join( 200 );
+		assertTrue( submitter.isAlive() );
+
+		release.countDown();
+		submitter.join( 5000 );
+		assertFalse( submitter.isAlive() );
+		sender.awaitIdle();
+
+		assertEquals( Arrays.asList( "1", "2", "3" ), sent );
+		AsyncSendMetrics metrics = sender.getMetrics();
+		assertEquals( 3, metrics.getSentCount() );
+		assertEquals( 0, metrics.getDroppedCount() );
+		assertEquals( 0, metrics.getQueueDepth() );
+		assertEquals( 1, metrics.getMaxQueueDepth() );
+		sender.shutdown();
+	}
+
+	/**
+	 * Test that a full queue discards the send which has been waiting longest
+	 */
+	public void testDropOldest() throws Exception
+	{
+		AsyncSender sender = new AsyncSender( 1, SendOverflowPolicy.DROP_OLDEST, "test-sender" );
+		List<String> sent = Collections.synchronizedList( new ArrayList<>() );
+		List<String> notSent = Collections.synchronizedList( new ArrayList<>() );
+		CountDownLatch release = occupy( sender, sent );
+
+		sender.submit( () -> sent.add( "2" ), () -> notSent.add( "2" ) );
+		sender.submit( () -> sent.add( "3" ), () -> notSent.add( "3" ) );
+		assertEquals( Arrays.asList( "2" ), notSent );
+
+		release.countDown();
+		sender.awaitIdle();
+
+		assertEquals( Arrays.asList( "1", "3" ), sent );
+		assertEquals( Arrays.asList( "2" ), notSent );
+		AsyncSendMetrics metrics = sender.getMetrics();
+		assertEquals( 2, metrics.getSentCount() );
+		assertEquals( 1, metrics.getDroppedCount() );
+		assertEquals( 0, metrics.getFailedCount() );
+		sender.shutdown();
+	}
+
+	/**
+	 * Test that a full queue rejects the send being submitted
+	 */
+	public void testFail() throws Exception
+	{
+		AsyncSender sender = new AsyncSender( 1, SendOverflowPolicy.FAIL, "test-sender" );
+		List<String> sent = Collections.synchronizedList( new ArrayList<>() );
+		List<String> notSent = Collections.synchronizedList( new ArrayList<>() );
+		CountDownLatch release = occupy( sender, sent );
+
+		sender.submit( () -> sent.add( "2" ), () -> notSent.add( "2" ) );
+		try
+		{
+			sender.submit( () -> sent.add( "3" ), () -> notSent.add( "3" ) );
+			fail( "Expected the send to be rejected" );
+		}
+		catch( UCEFException e )
+		{
+			// expected
+		}
+		assertEquals( Arrays.asList( "3" ), notSent );
+
+		release.countDown();
+		sender.awaitIdle();
+
+		assertEquals( Arrays.asList( "1", "2" ), sent );
+		AsyncSendMetrics metrics = sender.getMetrics();
+		assertEquals( 2, metrics.getSentCount() );
+		assertEquals( 0, metrics.getDroppedCount() );
+		sender.shutdown();
+	}
+
+	/**
+	 * Test that a send which fails on the sender thread is reported by the next wait for the
+	 * sender to become idle, and only by that one
+	 */
+	public void testFailure()
+	{
+		AsyncSender sender = new AsyncSender( 4, SendOverflowPolicy.BLOCK, "test-sender" );
+		List<String> sent = Collections.synchronizedList( new ArrayList<>() );
+		List<String> notSent = Collections.synchronizedList( new ArrayList<>() );
+		UCEFException failure = new UCEFException( "Send failed" );
+
+		sender.submit( () -> { throw failure; }, () -> notSent.add( "1" ) );
+		sender.submit( () -> sent.add( "2" ), () -> notSent.add( "2" ) );
+		try
+		{
+			sender.awaitIdle();
+			fail( "Expected the failure to be reported" );
+		}
+		catch( UCEFException e )
+		{
+			assertSame( failure, e );
+		}
+		sender.awaitIdle();
+
+		assertEquals( Arrays.asList( "2" ), sent );
+		assertEquals( Arrays.asList( "1" ), notSent );
+		AsyncSendMetrics metrics = sender.getMetrics();
+		assertEquals( 1, metrics.getSentCount() );
+		assertEquals( 1, metrics.getFailedCount() );
+		assertTrue( metrics.getMaxLatency( TimeUnit.NANOSECONDS ) >= 0 );
+
+		sender.shutdown();
+		try
+		{
+			sender.submit( () -> sent.add( "3" ) );
+			fail( "Expected the send to be refused after shutdown" );
+		}
+		catch( UCEFException e )
+		{
+			// expected
+		}
+	}
+
+	/**
+	 * Test that attributes whose update fails on the sender thread are marked as changed again,
+	 * so that the next update of changed attributes picks them up
+	 */
+	public void testFailedUpdateMarkedDirty()
+	{
+		RTIAmbassadorWrapper rtiamb = new RTIAmbassadorWrapper()
+		{
+			@Override
+			void sendAttributeValues( HLAObject instance, Map<String,byte[]> state,
+			                          byte[] tag, Double time )
+			{
+				throw new UCEFException( "Send failed" );
+			}
+		};
+		rtiamb.startAsyncSend( 4, SendOverflowPolicy.BLOCK );
+
+		HLAObject object = new HLAObject( "HLAobjectRoot.Test", new HashMap<>() );
+		object.setValue( "A", 1 );
+		object.setValue( "B", 2 );
+		Map<String,byte[]> state = object.getDirtyState();
+		rtiamb.submitAttributeValues( object, state, null, null );
+		try
+		{
+			rtiamb.awaitAsyncSends();
+			fail( "Expected the failure to be reported" );
+		}
+		catch( UCEFException e )
+		{
+			// expected
+		}
+
+		assertTrue( object.isDirty( "A" ) );
+		assertTrue( object.isDirty( "B" ) );
+		rtiamb.stopAsyncSend();
+	}
+
+	/**
+	 * Submit a send which holds up the sender thread until the returned latch is released
+	 */
+	private CountDownLatch occupy( AsyncSender sender, List<String> sent ) throws Exception
+	{
+		CountDownLatch started = new CountDownLatch( 1 );
+		CountDownLatch release = new CountDownLatch( 1 );
+		sender.submit( () -> {
+			started.countDown();
+			try
+			{
+				release.await();
+			}
+			catch( InterruptedException e )
+			{
+				Thread.currentThread().interrupt();
+			}
+			sent.add( "1" );
+		} );
+		assertTrue( started.await( 5, TimeUnit.SECONDS ) );
+		return release;
+	}
+
+	//----------------------------------------------------------
+	//                     STATIC METHODS
+	//----------------------------------------------------------
+	/**
+	 * @return the suite of tests being tested
+	 */
+	public static Test suite()
+	{
+		return new TestSuite( AsyncSenderTest.class );
+	}
+}
@@ -0,0 +1,316 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards 
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+ * software and associated documentation files (the "Software"), to deal in the Software 
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following 
+ * conditions:
+ * 
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.base;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+public class DeadReckoningTest extends TestCase
+{
+	//----------------------------------------------------------
+	//                    STATIC VARIABLES
+	//----------------------------------------------------------
+
+	//----------------------------------------------------------
+	//                   INSTANCE VARIABLES
+	//----------------------------------------------------------
+
+	//----------------------------------------------------------
+	//                      CONSTRUCTORS
+	//----------------------------------------------------------
+	/**
+	 * Create the test case
+	 *
+	 * @param testName name of the test case
+	 */
+	public DeadReckoningTest( String testName )
+	{
+		super( testName );
+	}
+
+	//----------------------------------------------------------
+	//                    INSTANCE METHODS
+	//----------------------------------------------------------
+	/**
+	 * Test that filtering an update does not record its values, so that an update which is never
+	 * sent does not cause later updates to be left out
+	 */
+	public void testFilterDoesNotRecord()
+	{
+		DeadReckoning deadReckoning = new DeadReckoning();
+		Map<String,DeadReckoningSpec> specs = specs( DeadReckoningSpec.staticModel( "X", 1.0 ) );
+		HLAObject object = TestObjects.makeObject( 1 );
+
+		object.setValue( "X", 10.0 );
+		Map<String,byte[]> state = deadReckoning.filterUpdate( object, object.copyState(), specs, 1.0 );
+		assertTrue( state.containsKey( "X" ) );
+
+		// the first update was never sent, so this one still has to go out
+		object.setValue( "X", 10.5 );
+		state = deadReckoning.filterUpdate( object, object.copyState(), specs, 2.0 );
+		assertTrue( state.containsKey( "X" ) );
+	}
+
+	/**
+	 * Test that once an update has been sent, later values within the threshold of it are left out
+	 * and those beyond it are kept
+	 */
+	public void testStaticThreshold()
+	{
+		DeadReckoning deadReckoning = new DeadReckoning();
+		Map<String,DeadReckoningSpec> specs = specs( DeadReckoningSpec.staticModel( "X", 1.0 ) );
+		HLAObject object = TestObjects.makeObject( 1 );
+
+		object.setValue( "X", 10.0 );
+		Map<String,byte[]> state = deadReckoning.filterUpdate( object, object.copyState(), specs, 1.0 );
+		deadReckoning.recordSent( object, state, specs, 1.0 );
+
+		object.setValue( "X", 10.5 );
+		state = deadReckoning.filterUpdate( object, object.copyState(), specs, 2.0 );
+		assertFalse( state.containsKey( "X" ) );
+
+		object.setValue( "X", 11.5 );
+		state = deadReckoning.filterUpdate( object, object.copyState(), specs, 3.0 );
+		assertTrue( state.containsKey( "X" ) );
+	}
+
+	/**
+	 * Test that a linearly dead reckoned attribute is compared against its extrapolated value, and
+	 * that its rate attribute is sent or left out along with it
+	 */
+	public void testLinearThreshold()
+	{
+		DeadReckoning deadReckoning = new DeadReckoning();
+		Map<String,DeadReckoningSpec> specs =
+		    specs( DeadReckoningSpec.linearModel( "X", "VX", 0.5 ) );
+		HLAObject object = TestObjects.makeObject( 1 );
+
+		object.setValue( "X", 0.0 );
+		object.setValue( "VX", 2.0 );
+		Map<String,byte[]> state = deadReckoning.filterUpdate( object, object.copyState(), specs, 0.0 );
+		assertTrue( state.containsKey( "X" ) );
+		assertTrue( state.containsKey( "VX" ) );
+		deadReckoning.recordSent( object, state, specs, 0.0 );
+
+		// on track with the extrapolation
+		object.setValue( "X", 4.2 );
+		state = deadReckoning.filterUpdate( object, object.copyState(), specs, 2.0 );
+		assertFalse( state.containsKey( "X" ) );
+		assertFalse( state.containsKey( "VX" ) );
+
+		// off track - the rate goes out with the value even if it was not part of the update
+		object.setValue( "X", 3.0 );
+		Map<String,byte[]> partial = new HashMap<>();
+		partial.put( "X", object.getRawValue( "X" ) );
+		state = deadReckoning.filterUpdate( object, partial, specs, 2.0 );
+		assertTrue( state.containsKey( "X" ) );
+		assertTrue( state.containsKey( "VX" ) );
+	}
+
+	/**
+	 * Test that when only the rate of a linearly dead reckoned attribute changes, the attribute
+	 * goes out with it, so that subscribers and the publisher extrapolate from the same point
+	 */
+	public void testRateOnlyUpdate()
+	{
+		DeadReckoning deadReckoning = new DeadReckoning();
+		Map<String,DeadReckoningSpec> specs =
+		    specs( DeadReckoningSpec.linearModel( "X", "VX", 0.5 ) );
+		HLAObject object = TestObjects.makeObject( 1 );
+
+		object.setValue( "X", 0.0 );
+		object.setValue( "VX", 2.0 );
+		Map<String,byte[]> state = deadReckoning.filterUpdate( object, object.copyState(), specs, 0.0 );
+		deadReckoning.recordSent( object, state, specs, 0.0 );
+
+		// an unchanged rate on its own does not need the attribute
+		Map<String,byte[]> partial = new HashMap<>();
+		partial.put( "VX", object.getRawValue( "VX" ) );
+		state = deadReckoning.filterUpdate( object, partial, specs, 1.0 );
+		assertFalse( state.containsKey( "X" ) );
+
+		// a changed rate takes the current value of the attribute with it
+		object.setValue( "X", 2.0 );
+		object.setValue( "VX", 3.0 );
+		partial = new HashMap<>();
+		partial.put( "VX", object.getRawValue( "VX" ) );
+		state = deadReckoning.filterUpdate( object, partial, specs, 1.0 );
+		assertTrue( state.containsKey( "VX" ) );
+		assertEquals( 2.0, HLACodecUtils.asDouble( state.get( "X" ) ), 0.0 );
+		deadReckoning.recordSent( object, state, specs, 1.0 );
+
+		// the new rate is now the basis for the extrapolation
+		object.setValue( "X", 5.2 );
+		state = deadReckoning.filterUpdate( object, object.copyState(), specs, 2.0 );
+		assertFalse( state.containsKey( "X" ) );
+		assertFalse( state.containsKey( "VX" ) );
+	}
+
+	/**
+	 * Test that an update which fails to send from the outbound queue is not recorded, so that
+	 * the next update still carries the attribute, and that it is recorded once it is sent
+	 */
+	public void testFailedFlushNotRecorded()
+	{
+		DeadReckoning deadReckoning = new DeadReckoning();
+		Map<String,DeadReckoningSpec> specs = specs( DeadReckoningSpec.staticModel( "X", 1.0 ) );
+		HLAObject object = TestObjects.makeObject( 1 );
+		OutboundQueue queue = new OutboundQueue();
+
+		object.setValue( "X", 10.0 );
+		Map<String,byte[]> state = deadReckoning.filterUpdate( object, object.copyState(), specs, 1.0 );
+		queue.queueAttributeValues( object, state, null, 1.0, false,
+		                            sent -> deadReckoning.recordSent( object, sent, specs, 1.0 ) );
+		try
+		{
+			queue.flush( new SendingWrapper( false ) );
+			fail( "Expected the failure to send to be propagated" );
+		}
+		catch( UCEFException e )
+		{
+			// expected
+		}
+
+		object.setValue( "X", 10.5 );
+		state = deadReckoning.filterUpdate( object, object.copyState(), specs, 2.0 );
+		assertTrue( state.containsKey( "X" ) );
+
+		// once sent, the value is the basis for leaving out the next update
+		object.setValue( "X", 10.0 );
+		state = deadReckoning.filterUpdate( object, object.copyState(), specs, 2.0 );
+		queue.queueAttributeValues( object, state, null, 2.0, false,
+		                            sent -> deadReckoning.recordSent( object, sent, specs, 2.0 ) );
+		queue.flush( new SendingWrapper( true ) );
+
+		object.setValue( "X", 10.5 );
+		state = deadReckoning.filterUpdate( object, object.copyState(), specs, 3.0 );
+		assertFalse( state.containsKey( "X" ) );
+	}
+
+	/**
+	 * Test that an asynchronous update which is dropped to make room for a later one is not
+	 * recorded, so that the next update still carries the attribute
+	 */
+	public void testDroppedSendNotRecorded() throws Exception
+	{
+		DeadReckoning deadReckoning = new DeadReckoning();
+		Map<String,DeadReckoningSpec> specs = specs( DeadReckoningSpec.staticModel( "X", 1.0 ) );
+		HLAObject object = TestObjects.makeObject( 1 );
+		HLAObject other = TestObjects.makeObject( 2 );
+
+		CountDownLatch started = new CountDownLatch( 1 );
+		CountDownLatch release = new CountDownLatch( 1 );
+		RTIAmbassadorWrapper rtiamb = new RTIAmbassadorWrapper()
+		{
+			@Override
+			void sendAttributeValues( HLAObject instance, Map<String,byte[]> state,
+			                          byte[] tag, Double time )
+			{
+				started.countDown();
+				try
+				{
+					release.await();
+				}
+				catch( InterruptedException e )
+				{
+					Thread.currentThread().interrupt();
+				}
+			}
+		};
+		rtiamb.startAsyncSend( 1, SendOverflowPolicy.DROP_OLDEST );
+
+		// hold up the sender thread so that the next send waits on the queue
+		other.setValue( "Y", 1.0 );
+		rtiamb.submitAttributeValues( other, other.copyState(), null, null );
+		assertTrue( started.await( 5, TimeUnit.SECONDS ) );
+
+		object.setValue( "X", 10.0 );
+		Map<String,byte[]> state = deadReckoning.filterUpdate( object, object.copyState(), specs, 1.0 );
+		rtiamb.submitAttributeValues( object, state, null, null,
+		                              sent -> deadReckoning.recordSent( object, sent, specs, 1.0 ) );
+		// dropped to make room for this one
+		rtiamb.submitAttributeValues( other, other.copyState(), null, null );
+
+		release.countDown();
+		rtiamb.awaitAsyncSends();
+		rtiamb.stopAsyncSend();
+
+		assertTrue( object.isDirty( "X" ) );
+		object.setValue( "X", 10.5 );
+		state = deadReckoning.filterUpdate( object, object.copyState(), specs, 2.0 );
+		assertTrue( state.containsKey( "X" ) );
+	}
+
+	private Map<String,DeadReckoningSpec> specs( DeadReckoningSpec... specs )
+	{
+		Map<String,DeadReckoningSpec> byName = new HashMap<>();
+		for( DeadReckoningSpec spec : specs )
+			byName.put( spec.getAttributeName(), spec );
+		return byName;
+	}
+
+	//----------------------------------------------------------
+	//                     STATIC METHODS
+	//----------------------------------------------------------
+	/**
+	 * @return the suite of tests being tested
+	 */
+	public static Test suite()
+	{
+		return new TestSuite( DeadReckoningTest.class );
+	}
+
+	//----------------------------------------------------------
+	//                     INNER CLASSES
+	//----------------------------------------------------------
+	/**
+	 * Either pretends to send attribute updates successfully, or fails every one
+	 */
+	private static class SendingWrapper extends RTIAmbassadorWrapper
+	{
+		private final boolean succeed;
+
+		private SendingWrapper( boolean succeed )
+		{
+			this.succeed = succeed;
+		}
+
+		@Override
+		void submitAttributeValues( HLAObject instance, Map<String,byte[]> state,
+		                            byte[] tag, Double time, Consumer<Map<String,byte[]>> onSent )
+		{
+			if( !this.succeed )
+				throw new UCEFException( "Send failed" );
+			if( onSent != null )
+				onSent.accept( state );
+		}
+	}
+}
@@ -0,0 +1,196 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards 
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+ * software and associated documentation files (the "Software"), to deal in the Software 
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following 
+ * conditions:
+ * 
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.base;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import gov.nist.ucef.hla.base.Types.DataType;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+public class DecodedValueCacheTest extends TestCase
+{
+	//----------------------------------------------------------
+	//                    STATIC VARIABLES
+	//----------------------------------------------------------
+
+	//----------------------------------------------------------
+	//                   INSTANCE VARIABLES
+	//----------------------------------------------------------
+
+	//----------------------------------------------------------
+	//                      CONSTRUCTORS
+	//----------------------------------------------------------
+	/**
+	 * Create the test case
+	 *
+	 * @param testName name of the test case
+	 */
+	public DecodedValueCacheTest( String testName )
+	{
+		super( testName );
+	}
+
+	//----------------------------------------------------------
+	//                    INSTANCE METHODS
+	//----------------------------------------------------------
+	/**
+	 * Test that cached values are only returned as the data type they were decoded as, and are
+	 * discarded when invalidated
+	 */
+	public void testEntries()
+	{
+		DecodedValueCache cache = new DecodedValueCache();
+		assertNull( cache.get( "A", DataType.DOUBLE ) );
+
+		cache.put( "A", DataType.DOUBLE, Double.doubleToRawLongBits( 1.5 ) );
+		cache.put( "B", "text" );
+		assertEquals( 1.5, Double.longBitsToDouble( cache.get( "A", DataType.DOUBLE ).bits ) );
+		assertNull( cache.get( "A", DataType.LONG ) );
+		assertEquals( "text", cache.get( "B", DataType.STRING ).value );
+
+		cache.invalidate( "A" );
+		assertNull( cache.get( "A", DataType.DOUBLE ) );
+		assertNotNull( cache.get( "B", DataType.STRING ) );
+
+		cache.clear();
+		assertNull( cache.get( "B", DataType.STRING ) );
+	}
+
+	/**
+	 * Test that values cached by name and by slot are the same entries when there is a layout
+	 */
+	public void testSlotEntries()
+	{
+		Map<String,DataType> members = new HashMap<>();
+		members.put( "A", DataType.INT );
+		members.put( "B", DataType.STRING );
+		SlotLayout layout = new SlotLayout( members );
+
+		DecodedValueCache cache = new DecodedValueCache( layout );
+		cache.put( "A", DataType.INT, 42 );
+		assertEquals( 42, cache.get( layout.slotOf( "A" ), DataType.INT ).bits );
+
+		cache.put( layout.slotOf( "B" ), "text" );
+		assertEquals( "text", cache.get( "B", DataType.STRING ).value );
+
+		// names which are not part of the layout are still cached
+		cache.put( "C", DataType.SHORT, 7 );
+		assertEquals( 7, cache.get( "C", DataType.SHORT ).bits );
+
+		cache.invalidate( layout.slotOf( "A" ) );
+		assertNull( cache.get( "A", DataType.INT ) );
+		cache.invalidate( Arrays.asList( "B", "C" ) );
+		assertNull( cache.get( "B", DataType.STRING ) );
+		assertNull( cache.get( "C", DataType.SHORT ) );
+	}
+
+	/**
+	 * Test that the values cached by an {@link HLAObject} are discarded whenever the underlying
+	 * raw values change
+	 */
+	public void testObjectInvalidation()
+	{
+		checkObjectInvalidation( new HLAObject( "HLAobjectRoot.Test", new HashMap<>() ) );
+
+		Map<String,DataType> members = new HashMap<>();
+		members.put( "A", DataType.DOUBLE );
+		members.put( "B", DataType.STRING );
+		checkObjectInvalidation( new HLAObject( "HLAobjectRoot.Test", null, null,
+		                                        new SlotLayout( members ) ) );
+	}
+
+	/**
+	 * Test that the values cached by an {@link HLAInteraction} are discarded whenever the
+	 * underlying raw values change
+	 */
+	public void testInteractionInvalidation()
+	{
+		HLAInteraction interaction = new HLAInteraction( "HLAinteractionRoot.Test", new HashMap<>() );
+		interaction.setValue( "A", 1 );
+		assertEquals( 1, interaction.getAsInt( "A" ) );
+		interaction.setRawValue( "A", HLACodecUtils.encode( 2 ) );
+		assertEquals( 2, interaction.getAsInt( "A" ) );
+
+		Map<String,byte[]> state = new HashMap<>();
+		state.put( "A", HLACodecUtils.encode( 3 ) );
+		interaction.setState( state );
+		assertEquals( 3, interaction.getAsInt( "A" ) );
+
+		interaction.clearState();
+		interaction.setValue( "A", 4 );
+		assertEquals( 4, interaction.getAsInt( "A" ) );
+	}
+
+	/**
+	 * Check that the values cached by an {@link HLAObject} are discarded whenever the underlying
+	 * raw values change
+	 *
+	 * @param object the object to check
+	 */
+	private void checkObjectInvalidation( HLAObject object )
+	{
+		object.setValue( "A", 1.5 );
+		object.setValue( "B", "one" );
+		assertEquals( 1.5, object.getAsDouble( "A" ) );
+		assertEquals( "one", object.getAsString( "B" ) );
+
+		object.setRawValue( "A", HLACodecUtils.encode( 2.5 ) );
+		assertEquals( 2.5, object.getAsDouble( "A" ) );
+
+		Map<String,byte[]> state = new HashMap<>();
+		state.put( "A", HLACodecUtils.encode( 3.5 ) );
+		state.put( "B", HLACodecUtils.encode( "two" ) );
+		object.setState( state );
+		assertEquals( 3.5, object.getAsDouble( "A" ) );
+		assertEquals( "two", object.getAsString( "B" ) );
+
+		// reflected values also replace cached values
+		state.put( "A", HLACodecUtils.encode( 4.5 ) );
+		object.reflectState( state );
+		assertEquals( 4.5, object.getAsDouble( "A" ) );
+
+		object.clearState();
+		assertFalse( object.isPresent( "A" ) );
+		object.setValue( "A", 5.5 );
+		object.setValue( "B", "three" );
+		assertEquals( 5.5, object.getAsDouble( "A" ) );
+		assertEquals( "three", object.getAsString( "B" ) );
+	}
+
+
+	//----------------------------------------------------------
+	//                     STATIC METHODS
+	//----------------------------------------------------------
+	/**
+	 * @return the suite of tests being tested
+	 */
+	public static Test suite()
+	{
+		return new TestSuite( DecodedValueCacheTest.class );
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards 
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+ * software and associated documentation files (the "Software"), to deal in the Software 
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following 
+ * conditions:
+ * 
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.base;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+public class HLAObjectTest extends TestCase
+{
+	//----------------------------------------------------------
+	//                    STATIC VARIABLES
+	//----------------------------------------------------------
+
+	//----------------------------------------------------------
+	//                   INSTANCE VARIABLES
+	//----------------------------------------------------------
+
+	//----------------------------------------------------------
+	//                      CONSTRUCTORS
+	//----------------------------------------------------------
+	/**
+	 * Create the test case
+	 *
+	 * @param testName name of the test case
+	 */
+	public HLAObjectTest( String testName )
+	{
+		super( testName );
+	}
+
+	//----------------------------------------------------------
+	//                    INSTANCE METHODS
+	//----------------------------------------------------------
+	/**
+	 * Test which attributes are reported as changed as values are set, reflected and removed
+	 */
+	public void testDirtyAttributes()
+	{
+		Map<String,byte[]> initialValues = new HashMap<>();
+		initialValues.put( "A", HLACodecUtils.encode( 1 ) );
+		HLAObject object = new HLAObject( "HLAobjectRoot.Test", initialValues );
+
+		// initial values have not been sent yet
+		assertTrue( object.isDirty( "A" ) );
+		object.markAllClean();
+		assertFalse( object.hasDirtyAttributes() );
+
+		object.setValue( "B", 2 );
+		assertEquals( new HashSet<>( Arrays.asList( "B" ) ), object.getDirtyAttributeNames() );
+		Map<String,byte[]> dirtyState = object.getDirtyState();
+		assertEquals( 1, dirtyState.size() );
+		assertSame( object.getRawValue( "B" ), dirtyState.get( "B" ) );
+
+		// reflected values come from the federation, so they are not changes to send
+		Map<String,byte[]> reflected = new HashMap<>();
+		reflected.put( "B", HLACodecUtils.encode( 3 ) );
+		object.reflectState( reflected );
+		assertFalse( object.isDirty( "B" ) );
+
+		// removed values have nothing to send
+		object.setValue( "C", 4 );
+		object.setRawValue( "C", null );
+		assertFalse( object.hasDirtyAttributes() );
+
+		object.markAllDirty();
+		assertEquals( new HashSet<>( Arrays.asList( "A", "B" ) ), object.getDirtyAttributeNames() );
+
+		// linked instances share their state, including what has changed
+		HLAObject linked = new HLAObject( object );
+		linked.markAllClean();
+		assertFalse( object.hasDirtyAttributes() );
+	}
+
+	/**
+	 * Test that only attributes which still hold the values which were sent are marked clean
+	 */
+	public void testMarkCleanIdentity()
+	{
+		HLAObject object = new HLAObject( "HLAobjectRoot.Test", new HashMap<>() );
+		object.setValue( "A", 1 );
+		object.setValue( "B", 2 );
+		object.setValue( "C", 3 );
+		Map<String,byte[]> sent = object.copyState();
+
+		// changed while the values were being sent - even to an equal value
+		object.setValue( "B", 20 );
+		object.setValue( "C", 3 );
+		object.markClean( sent );
+
+		assertEquals( new HashSet<>( Arrays.asList( "B", "C" ) ), object.getDirtyAttributeNames() );
+
+		// a value which was not part of what was sent is left alone
+		object.setValue( "D", 4 );
+		object.markClean( sent );
+		assertTrue( object.isDirty( "D" ) );
+
+		object.markClean( object.getDirtyState() );
+		assertFalse( object.hasDirtyAttributes() );
+	}
+
+
+	//----------------------------------------------------------
+	//                     STATIC METHODS
+	//----------------------------------------------------------
+	/**
+	 * @return the suite of tests being tested
+	 */
+	public static Test suite()
+	{
+		return new TestSuite( HLAObjectTest.class );
+	}
+}
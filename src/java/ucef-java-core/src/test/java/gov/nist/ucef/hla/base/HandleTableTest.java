@@ -0,0 +1,142 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards 
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+ * software and associated documentation files (the "Software"), to deal in the Software 
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following 
+ * conditions:
+ * 
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.base;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+public class HandleTableTest extends TestCase
+{
+	//----------------------------------------------------------
+	//                    STATIC VARIABLES
+	//----------------------------------------------------------
+
+	//----------------------------------------------------------
+	//                   INSTANCE VARIABLES
+	//----------------------------------------------------------
+
+	//----------------------------------------------------------
+	//                      CONSTRUCTORS
+	//----------------------------------------------------------
+	/**
+	 * Create the test case
+	 *
+	 * @param testName name of the test case
+	 */
+	public HandleTableTest( String testName )
+	{
+		super( testName );
+	}
+
+	//----------------------------------------------------------
+	//                    INSTANCE METHODS
+	//----------------------------------------------------------
+	/**
+	 * Test lookups in both directions, and that positions follow the order the entries were
+	 * provided in
+	 */
+	public void testLookup()
+	{
+		// enough entries that the index arrays have to grow, and that probe sequences collide
+		Map<String,Integer> handlesByName = new LinkedHashMap<>();
+		for( int i = 0; i < 40; i++ )
+			handlesByName.put( "M" + i, i * 64 );
+		HandleTable<Integer> table = HandleTable.of( handlesByName );
+
+		assertEquals( 40, table.size() );
+		int position = 0;
+		for( Map.Entry<String,Integer> entry : handlesByName.entrySet() )
+		{
+			assertEquals( entry.getValue(), table.handleOf( entry.getKey() ) );
+			assertEquals( entry.getKey(), table.nameOf( entry.getValue() ) );
+			assertEquals( position, table.indexOf( entry.getKey() ) );
+			assertEquals( position, table.indexOfHandle( entry.getValue() ) );
+			assertEquals( entry.getKey(), table.nameAt( position ) );
+			assertEquals( entry.getValue(), table.handleAt( position ) );
+			position++;
+		}
+
+		assertNull( table.handleOf( "Other" ) );
+		assertNull( table.nameOf( 1 ) );
+		assertEquals( -1, table.indexOf( "Other" ) );
+		assertEquals( -1, table.indexOfHandle( 1 ) );
+		assertEquals( -1, table.indexOf( null ) );
+		assertEquals( -1, table.indexOfHandle( null ) );
+	}
+
+	/**
+	 * Test that names are found by equality, not just by identity
+	 */
+	public void testNonInternedNames()
+	{
+		Map<String,Integer> handlesByName = new LinkedHashMap<>();
+		handlesByName.put( "A", 1 );
+		handlesByName.put( "B", 2 );
+		HandleTable<Integer> table = HandleTable.of( handlesByName );
+
+		String name = new String( "B" );
+		assertNotSame( "B", name );
+		assertEquals( Integer.valueOf( 2 ), table.handleOf( name ) );
+		assertEquals( 1, table.indexOf( name ) );
+		assertEquals( Integer.valueOf( 1 ), table.handleOf( new StringBuilder( "A" ).toString() ) );
+	}
+
+	/**
+	 * Test that adding an entry creates a new table, leaving the original unchanged
+	 */
+	public void testWith()
+	{
+		HandleTable<Integer> empty = HandleTable.empty();
+		assertEquals( 0, empty.size() );
+		assertNull( empty.handleOf( "A" ) );
+
+		HandleTable<Integer> one = empty.with( "A", 1 );
+		HandleTable<Integer> two = one.with( "B", 2 );
+		assertEquals( 0, empty.size() );
+		assertEquals( 1, one.size() );
+		assertNull( one.handleOf( "B" ) );
+		assertEquals( 2, two.size() );
+		assertEquals( 1, two.indexOf( "B" ) );
+		assertEquals( "A", two.nameOf( 1 ) );
+
+		// a name which is already present leaves the table as it is
+		assertSame( two, two.with( new String( "A" ), 3 ) );
+		assertEquals( Integer.valueOf( 1 ), two.handleOf( "A" ) );
+	}
+
+	//----------------------------------------------------------
+	//                     STATIC METHODS
+	//----------------------------------------------------------
+	/**
+	 * @return the suite of tests being tested
+	 */
+	public static Test suite()
+	{
+		return new TestSuite( HandleTableTest.class );
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards 
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+ * software and associated documentation files (the "Software"), to deal in the Software 
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following 
+ * conditions:
+ * 
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.base;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+public class IncomingStateViewTest extends TestCase
+{
+	//----------------------------------------------------------
+	//                    STATIC VARIABLES
+	//----------------------------------------------------------
+
+	//----------------------------------------------------------
+	//                   INSTANCE VARIABLES
+	//----------------------------------------------------------
+
+	//----------------------------------------------------------
+	//                      CONSTRUCTORS
+	//----------------------------------------------------------
+	/**
+	 * Create the test case
+	 *
+	 * @param testName name of the test case
+	 */
+	public IncomingStateViewTest( String testName )
+	{
+		super( testName );
+	}
+
+	//----------------------------------------------------------
+	//                    INSTANCE METHODS
+	//----------------------------------------------------------
+	/**
+	 * Test that values can be looked up by name, whether or not their handle is in the table
+	 */
+	public void testLookup()
+	{
+		byte[] known = { 1 };
+		byte[] unknown = { 2 };
+		Map<Integer,byte[]> source = new HashMap<>();
+		source.put( 1, known );
+		source.put( 99, unknown );
+		IncomingStateView<Integer> view = viewOf( source );
+
+		assertEquals( 2, view.size() );
+		assertSame( known, view.get( "A" ) );
+		assertTrue( view.containsKey( "A" ) );
+		assertSame( unknown, view.get( "Unknown99" ) );
+		assertTrue( view.containsKey( "Unknown99" ) );
+
+		// in the table but not received, or neither
+		assertNull( view.get( "B" ) );
+		assertFalse( view.containsKey( "B" ) );
+		assertNull( view.get( "Unknown98" ) );
+		assertFalse( view.containsKey( "Unknown98" ) );
+		assertFalse( view.containsKey( 1 ) );
+	}
+
+	/**
+	 * Test that every name produced by iteration can be looked up, so that the view is equal to
+	 * an ordinary map with the same entries
+	 */
+	public void testIterationMatchesLookup()
+	{
+		Map<Integer,byte[]> source = new HashMap<>();
+		source.put( 1, new byte[]{ 1 } );
+		source.put( 2, new byte[]{ 2 } );
+		source.put( 99, new byte[]{ 3 } );
+		IncomingStateView<Integer> view = viewOf( source );
+
+		for( Map.Entry<String,byte[]> entry : view.entrySet() )
+		{
+			assertTrue( entry.getKey(), view.containsKey( entry.getKey() ) );
+			assertSame( entry.getValue(), view.get( entry.getKey() ) );
+		}
+
+		Map<String,byte[]> expected = new HashMap<>();
+		expected.put( "A", source.get( 1 ) );
+		expected.put( "B", source.get( 2 ) );
+		expected.put( "Unknown99", source.get( 99 ) );
+		assertEquals( expected, view );
+		assertEquals( view, expected );
+	}
+
+	/**
+	 * Test that modifying the view copies the values, leaving the RTI's map unchanged
+	 */
+	public void testModification()
+	{
+		Map<Integer,byte[]> source = new HashMap<>();
+		source.put( 1, new byte[]{ 1 } );
+		source.put( 99, new byte[]{ 2 } );
+		IncomingStateView<Integer> view = viewOf( source );
+
+		byte[] replaced = { 3 };
+		view.put( "A", replaced );
+		view.remove( "Unknown99" );
+		assertSame( replaced, view.get( "A" ) );
+		assertFalse( view.containsKey( "Unknown99" ) );
+		assertEquals( 1, view.size() );
+
+		assertEquals( 2, source.size() );
+		assertEquals( 1, source.get( 1 )[0] );
+	}
+
+	/**
+	 * Create a view over the given values, with a table which knows handles 1 and 2 as "A" and
+	 * "B" - any other handle is named "Unknown" followed by its number
+	 */
+	private IncomingStateView<Integer> viewOf( Map<Integer,byte[]> source )
+	{
+		Map<String,Integer> handles = new LinkedHashMap<>();
+		handles.put( "A", 1 );
+		handles.put( "B", 2 );
+		return new IncomingStateView<>( source, HandleTable.of( handles ), handle -> "Unknown" + handle );
+	}
+
+	//----------------------------------------------------------
+	//                     STATIC METHODS
+	//----------------------------------------------------------
+	/**
+	 * @return the suite of tests being tested
+	 */
+	public static Test suite()
+	{
+		return new TestSuite( IncomingStateViewTest.class );
+	}
+}
@@ -0,0 +1,272 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards 
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+ * software and associated documentation files (the "Software"), to deal in the Software 
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following 
+ * conditions:
+ * 
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.base;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+public class OutboundQueueTest extends TestCase
+{
+	//----------------------------------------------------------
+	//                    STATIC VARIABLES
+	//----------------------------------------------------------
+
+	//----------------------------------------------------------
+	//                   INSTANCE VARIABLES
+	//----------------------------------------------------------
+
+	//----------------------------------------------------------
+	//                      CONSTRUCTORS
+	//----------------------------------------------------------
+	/**
+	 * Create the test case
+	 *
+	 * @param testName name of the test case
+	 */
+	public OutboundQueueTest( String testName )
+	{
+		super( testName );
+	}
+
+	//----------------------------------------------------------
+	//                    INSTANCE METHODS
+	//----------------------------------------------------------
+	/**
+	 * Test that queued items are sent in the order in which they were queued, with the values
+	 * they had when they were queued
+	 */
+	public void testFlushOrder()
+	{
+		OutboundQueue queue = new OutboundQueue();
+		RecordingWrapper rtiamb = new RecordingWrapper();
+		HLAInteraction interaction = new HLAInteraction( "HLAinteractionRoot.I", new HashMap<>() );
+		HLAObject object = TestObjects.makeObject( 1 );
+
+		interaction.setValue( "P", 1 );
+		queue.queueInteraction( interaction, null, null );
+		object.setValue( "A", 1 );
+		queue.queueAttributeValues( object, object.getDirtyState(), null, 1.0, false );
+		interaction.setValue( "P", 2 );
+		queue.queueInteraction( interaction, null, null );
+		assertEquals( 3, queue.size() );
+
+		// later changes don't affect what was queued
+		interaction.setValue( "P", 3 );
+		object.setValue( "A", 3 );
+
+		assertEquals( 3, queue.flush( rtiamb ) );
+		assertEquals( Arrays.asList( "I P=1", "1 A=1 @1.0", "I P=2" ), rtiamb.sent );
+		assertEquals( 0, queue.size() );
+		assertEquals( 3, queue.getLargestBatch() );
+		assertEquals( 0, queue.flush( rtiamb ) );
+	}
+
+	/**
+	 * Test that items which were not sent because an earlier item failed are kept for the next
+	 * flush, and that the attributes of a failed update are marked as changed again
+	 */
+	public void testFailedFlush()
+	{
+		OutboundQueue queue = new OutboundQueue();
+		RecordingWrapper rtiamb = new RecordingWrapper();
+		HLAObject first = TestObjects.makeObject( 1 );
+		HLAObject failing = TestObjects.makeObject( 2 );
+		HLAObject last = TestObjects.makeObject( 3 );
+
+		first.setValue( "A", 1 );
+		queue.queueAttributeValues( first, first.getDirtyState(), null, null, false );
+		failing.setValue( "A", 2 );
+		queue.queueAttributeValues( failing, failing.getDirtyState(), null, null, false );
+		last.setValue( "A", 3 );
+		queue.queueAttributeValues( last, last.getDirtyState(), null, null, false );
+		assertFalse( failing.hasDirtyAttributes() );
+
+		rtiamb.failures.add( "2 A=2" );
+		try
+		{
+			queue.flush( rtiamb );
+			fail( "Expected the failure to send to be propagated" );
+		}
+		catch( UCEFException e )
+		{
+			// expected
+		}
+		assertEquals( Arrays.asList( "1 A=1" ), rtiamb.sent );
+		assertTrue( failing.isDirty( "A" ) );
+		assertFalse( last.hasDirtyAttributes() );
+
+		// the unsent update goes out ahead of anything queued since
+		first.setValue( "A", 10 );
+		queue.queueAttributeValues( first, first.getDirtyState(), null, null, false );
+		assertEquals( 2, queue.flush( rtiamb ) );
+		assertEquals( Arrays.asList( "1 A=1", "3 A=3", "1 A=10" ), rtiamb.sent );
+	}
+
+	/**
+	 * Test that coalesced updates of an instance are merged only when their time-stamps match,
+	 * that the latest value of each attribute (and the latest tag) wins, and that a merged update
+	 * keeps the queue position of the update it was merged into
+	 */
+	public void testCoalesce()
+	{
+		OutboundQueue queue = new OutboundQueue();
+		RecordingWrapper rtiamb = new RecordingWrapper();
+		HLAInteraction interaction = new HLAInteraction( "HLAinteractionRoot.I", new HashMap<>() );
+		HLAObject object = TestObjects.makeObject( 1 );
+		HLAObject other = TestObjects.makeObject( 2 );
+
+		object.setValue( "A", 1 );
+		object.setValue( "B", 1 );
+		queue.queueAttributeValues( object, object.getDirtyState(), "x".getBytes(), 1.0, true );
+		interaction.setValue( "P", 1 );
+		queue.queueInteraction( interaction, null, null );
+		other.setValue( "A", 1 );
+		queue.queueAttributeValues( other, other.getDirtyState(), null, 1.0, true );
+
+		// same time-stamp - merged into the first update, last writer wins
+		object.setValue( "A", 2 );
+		queue.queueAttributeValues( object, object.getDirtyState(), "y".getBytes(), 1.0, true );
+		assertEquals( 1, queue.getCoalescedCount() );
+
+		// different time-stamp - queued separately
+		object.setValue( "A", 3 );
+		queue.queueAttributeValues( object, object.getDirtyState(), null, 2.0, true );
+
+		// only the latest waiting update of the instance is merged into
+		object.setValue( "B", 4 );
+		queue.queueAttributeValues( object, object.getDirtyState(), null, 1.0, true );
+		assertEquals( 1, queue.getCoalescedCount() );
+		assertEquals( 5, queue.size() );
+
+		assertEquals( 5, queue.flush( rtiamb ) );
+		assertEquals( Arrays.asList( "1 A=2 B=1 #y @1.0",
+		                             "I P=1",
+		                             "2 A=1 @1.0",
+		                             "1 A=3 @2.0",
+		                             "1 B=4 @1.0" ),
+		              rtiamb.sent );
+	}
+
+	/**
+	 * Test that updates without a time-stamp are merged with each other, that nothing is merged
+	 * into an update which has already been flushed, and that updates are not merged unless
+	 * coalescing is asked for
+	 */
+	public void testCoalesceUntimed()
+	{
+		OutboundQueue queue = new OutboundQueue();
+		RecordingWrapper rtiamb = new RecordingWrapper();
+		HLAObject object = TestObjects.makeObject( 1 );
+
+		object.setValue( "A", 1 );
+		queue.queueAttributeValues( object, object.getDirtyState(), null, null, true );
+		object.setValue( "A", 2 );
+		queue.queueAttributeValues( object, object.getDirtyState(), null, null, true );
+		assertEquals( 1, queue.size() );
+		assertEquals( 1, queue.getCoalescedCount() );
+
+		// a timestamped update is not merged into one without a time-stamp
+		object.setValue( "A", 3 );
+		queue.queueAttributeValues( object, object.getDirtyState(), null, 3.0, true );
+		assertEquals( 2, queue.size() );
+
+		queue.flush( rtiamb );
+		object.setValue( "A", 4 );
+		queue.queueAttributeValues( object, object.getDirtyState(), null, 3.0, true );
+		object.setValue( "A", 5 );
+		queue.queueAttributeValues( object, object.getDirtyState(), null, 3.0, false );
+		assertEquals( 2, queue.size() );
+		assertEquals( 1, queue.getCoalescedCount() );
+
+		queue.flush( rtiamb );
+		assertEquals( Arrays.asList( "1 A=2", "1 A=3 @3.0", "1 A=4 @3.0", "1 A=5 @3.0" ),
+		              rtiamb.sent );
+	}
+
+
+	//----------------------------------------------------------
+	//                     STATIC METHODS
+	//----------------------------------------------------------
+	/**
+	 * @return the suite of tests being tested
+	 */
+	public static Test suite()
+	{
+		return new TestSuite( OutboundQueueTest.class );
+	}
+
+	//----------------------------------------------------------
+	//                     INNER CLASSES
+	//----------------------------------------------------------
+	/**
+	 * Records what would have been sent to the RTI, rather than sending it
+	 */
+	private static class RecordingWrapper extends RTIAmbassadorWrapper
+	{
+		private final List<String> sent = new ArrayList<>();
+		// sends to fail, in the same form as the recorded sends
+		private final List<String> failures = new ArrayList<>();
+
+		@Override
+		void submitInteraction( HLAInteraction interaction, Map<String,byte[]> state,
+		                        byte[] tag, Double time )
+		{
+			record( "I", state, tag, time );
+		}
+
+		@Override
+		void submitAttributeValues( HLAObject instance, Map<String,byte[]> state,
+		                            byte[] tag, Double time, Consumer<Map<String,byte[]>> onSent )
+		{
+			record( instance.getObjectInstanceHandle().toString(), state, tag, time );
+			if( onSent != null )
+				onSent.accept( state );
+		}
+
+		private void record( String target, Map<String,byte[]> state, byte[] tag, Double time )
+		{
+			StringBuilder builder = new StringBuilder( target );
+			state.keySet().stream().sorted().forEach( name ->
+			    builder.append( ' ' ).append( name ).append( '=' )
+			           .append( HLACodecUtils.asInt( state.get( name ) ) ) );
+			if( tag != null )
+				builder.append( " #" ).append( new String( tag ) );
+			if( time != null )
+				builder.append( " @" ).append( time );
+
+			String send = builder.toString();
+			if( this.failures.remove( send ) )
+				throw new UCEFException( "Failed to send %s", send );
+			this.sent.add( send );
+		}
+	}
+}
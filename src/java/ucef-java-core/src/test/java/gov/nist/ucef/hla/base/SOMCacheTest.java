@@ -0,0 +1,275 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards 
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+ * software and associated documentation files (the "Software"), to deal in the Software 
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following 
+ * conditions:
+ * 
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.base;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import gov.nist.ucef.hla.base.Types.InteractionClass;
+import gov.nist.ucef.hla.base.Types.InteractionParameter;
+import gov.nist.ucef.hla.base.Types.ObjectAttribute;
+import gov.nist.ucef.hla.base.Types.ObjectClass;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Checks that SOMs loaded from the {@link SOMCache} are the same as those parsed directly, and
+ * that snapshots which cannot be used are replaced rather than trusted
+ */
+public class SOMCacheTest extends TestCase
+{
+	//----------------------------------------------------------
+	//                    STATIC VARIABLES
+	//----------------------------------------------------------
+	private static final String[] SOMS = { "som/ping-som.xml", "som/pong-som.xml",
+	                                       "som/challenge-som.xml", "som/response-som.xml" };
+
+	// a time well before the test runs, to tell whether a snapshot has been rewritten
+	private static final long OLD_TIME = 1000000000000L;
+
+	//----------------------------------------------------------
+	//                   INSTANCE VARIABLES
+	//----------------------------------------------------------
+	private Path tempDirectory;
+	private File cacheDirectory;
+
+	//----------------------------------------------------------
+	//                      CONSTRUCTORS
+	//----------------------------------------------------------
+	/**
+	 * Create the test case
+	 *
+	 * @param testName name of the test case
+	 */
+	public SOMCacheTest( String testName )
+	{
+		super( testName );
+	}
+
+	//----------------------------------------------------------
+	//                    INSTANCE METHODS
+	//----------------------------------------------------------
+	@Override
+	protected void setUp() throws Exception
+	{
+		this.tempDirectory = Files.createTempDirectory( "ucef-som-cache" );
+		this.cacheDirectory = this.tempDirectory.resolve( "cache" ).toFile();
+	}
+
+	@Override
+	protected void tearDown() throws Exception
+	{
+		try( Stream<Path> paths = Files.walk( this.tempDirectory ) )
+		{
+			paths.sorted( Comparator.reverseOrder() ).map( Path::toFile ).forEach( File::delete );
+		}
+	}
+
+	/**
+	 * Test that a SOM loaded from a snapshot has the same classes, members, sharing and data types
+	 * as the parsed SOM, in the same order
+	 */
+	public void testRoundTrip() throws Exception
+	{
+		SOMCache cache = new SOMCache( this.cacheDirectory );
+		for( String som : SOMS )
+		{
+			List<String> parsed = describe( SOMParser.parse( som ) );
+
+			// first time round it is parsed, and a snapshot is written
+			assertEquals( som, parsed, describe( cache.load( som ) ) );
+			File snapshot = newestSnapshot();
+			assertTrue( snapshot.setLastModified( OLD_TIME ) );
+
+			// second time round it comes from the snapshot, which is left alone
+			assertEquals( som, parsed, describe( cache.load( som ) ) );
+			assertEquals( som, OLD_TIME, snapshot.lastModified() );
+		}
+		assertEquals( SOMS.length, snapshots().size() );
+	}
+
+	/**
+	 * Test that a corrupt or truncated snapshot, or a snapshot of different SOM content, is
+	 * ignored - the SOM is parsed instead, and the snapshot is rewritten
+	 */
+	public void testUnusableSnapshot() throws Exception
+	{
+		SOMCache cache = new SOMCache( this.cacheDirectory );
+		String som = "som/challenge-som.xml";
+		List<String> parsed = describe( SOMParser.parse( som ) );
+
+		cache.load( som );
+		File snapshot = snapshots().get( 0 );
+		byte[] good = Files.readAllBytes( snapshot.toPath() );
+		assertTrue( snapshot.setLastModified( OLD_TIME ) );
+
+		// a snapshot of another SOM, under this SOM's key
+		cache.load( "som/ping-som.xml" );
+		File otherSnapshot = newestSnapshot();
+		assertFalse( otherSnapshot.equals( snapshot ) );
+		byte[] other = Files.readAllBytes( otherSnapshot.toPath() );
+
+		byte[] garbage = new byte[good.length];
+		Arrays.fill( garbage, (byte)0x7F );
+		byte[] badVersion = good.clone();
+		badVersion[7] ^= 1;
+
+		List<byte[]> unusable = Arrays.asList( new byte[0],
+		                                       Arrays.copyOf( good, 6 ),
+		                                       Arrays.copyOf( good, good.length / 2 ),
+		                                       Arrays.copyOf( good, good.length - 1 ),
+		                                       garbage,
+		                                       badVersion,
+		                                       other );
+		for( int i = 0; i < unusable.size(); i++ )
+		{
+			Files.write( snapshot.toPath(), unusable.get( i ) );
+			assertTrue( snapshot.setLastModified( OLD_TIME ) );
+
+			assertEquals( "case " + i, parsed, describe( cache.load( som ) ) );
+			assertTrue( "case " + i, snapshot.lastModified() != OLD_TIME );
+			assertTrue( "case " + i, Arrays.equals( good, Files.readAllBytes( snapshot.toPath() ) ) );
+		}
+	}
+
+	/**
+	 * Test that changing the content of a SOM gives a new snapshot, rather than loading the
+	 * snapshot of the old content
+	 */
+	public void testChangedContent() throws Exception
+	{
+		SOMCache cache = new SOMCache( this.cacheDirectory );
+		String original = readSOM( "som/ping-som.xml" );
+		Path som = this.tempDirectory.resolve( "ping-som.xml" );
+
+		Files.write( som, original.getBytes( StandardCharsets.UTF_8 ) );
+		assertNotNull( find( cache.load( som.toString() ), "HLAinteractionRoot.Ping" ) );
+		assertEquals( 1, snapshots().size() );
+
+		String changed = original.replace( "<name>Ping</name>", "<name>Pinged</name>" );
+		assertFalse( changed.equals( original ) );
+		Files.write( som, changed.getBytes( StandardCharsets.UTF_8 ) );
+		SOMParser.ObjectModel objectModel = cache.load( som.toString() );
+		assertNotNull( find( objectModel, "HLAinteractionRoot.Pinged" ) );
+		assertNull( find( objectModel, "HLAinteractionRoot.Ping" ) );
+		assertEquals( 2, snapshots().size() );
+
+		// and changing it back finds the original snapshot again
+		Files.write( som, original.getBytes( StandardCharsets.UTF_8 ) );
+		assertNotNull( find( cache.load( som.toString() ), "HLAinteractionRoot.Ping" ) );
+		assertEquals( 2, snapshots().size() );
+	}
+
+	/**
+	 * @return the snapshot files in the cache directory, in name order
+	 */
+	private List<File> snapshots()
+	{
+		File[] files = this.cacheDirectory.listFiles( ( dir, name ) -> name.endsWith( ".som" ) );
+		List<File> snapshots = new ArrayList<>( Arrays.asList( files == null ? new File[0] : files ) );
+		Collections.sort( snapshots );
+		return snapshots;
+	}
+
+	/**
+	 * @return the most recently written snapshot file
+	 */
+	private File newestSnapshot()
+	{
+		File newest = null;
+		for( File snapshot : snapshots() )
+		{
+			if( newest == null || snapshot.lastModified() > newest.lastModified() )
+				newest = snapshot;
+		}
+		assertNotNull( newest );
+		return newest;
+	}
+
+	private InteractionClass find( SOMParser.ObjectModel objectModel, String name )
+	{
+		for( InteractionClass interactionClass : objectModel.getInteractionClasses() )
+		{
+			if( interactionClass.name.equals( name ) )
+				return interactionClass;
+		}
+		return null;
+	}
+
+	private String readSOM( String somPath ) throws IOException
+	{
+		byte[] content = Files.readAllBytes( SOMParser.findSOMFile( somPath ).toPath() );
+		return new String( content, StandardCharsets.UTF_8 );
+	}
+
+	/**
+	 * Describe the classes of an object model in full, so that two object models can be compared
+	 *
+	 * @param objectModel the object model
+	 * @return one line for each class, in order, listing its members in name order
+	 */
+	private List<String> describe( SOMParser.ObjectModel objectModel )
+	{
+		List<String> description = new ArrayList<>();
+		for( ObjectClass objectClass : objectModel.getObjectClasses() )
+		{
+			List<String> members = new ArrayList<>();
+			for( ObjectAttribute attribute : objectClass.attributes.values() )
+				members.add( attribute.name + ":" + attribute.dataType + ":" + attribute.sharing );
+			Collections.sort( members );
+			description.add( "object " + objectClass.name + "(" + objectClass.sharing + ")" + members );
+		}
+		for( InteractionClass interactionClass : objectModel.getInteractionClasses() )
+		{
+			List<String> members = new ArrayList<>();
+			for( InteractionParameter parameter : interactionClass.parameters.values() )
+				members.add( parameter.name + ":" + parameter.dataType );
+			Collections.sort( members );
+			description.add( "interaction " + interactionClass.name +
+			                 "(" + interactionClass.sharing + ")" + members );
+		}
+		return description;
+	}
+
+	//----------------------------------------------------------
+	//                     STATIC METHODS
+	//----------------------------------------------------------
+	/**
+	 * @return the suite of tests being tested
+	 */
+	public static Test suite()
+	{
+		return new TestSuite( SOMCacheTest.class );
+	}
+}
@@ -0,0 +1,440 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards 
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+ * software and associated documentation files (the "Software"), to deal in the Software 
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following 
+ * conditions:
+ * 
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.base;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import gov.nist.ucef.hla.base.Types.DataType;
+import gov.nist.ucef.hla.base.Types.InteractionClass;
+import gov.nist.ucef.hla.base.Types.InteractionParameter;
+import gov.nist.ucef.hla.base.Types.ObjectAttribute;
+import gov.nist.ucef.hla.base.Types.ObjectClass;
+import gov.nist.ucef.hla.base.Types.Sharing;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Checks the classes extracted from the example SOMs (copies of which are in the test resources),
+ * and the merging of the classes of several SOMs
+ */
+public class SOMParserTest extends TestCase
+{
+	//----------------------------------------------------------
+	//                    STATIC VARIABLES
+	//----------------------------------------------------------
+	private static final String PING_SOM = "som/ping-som.xml";
+	private static final String PONG_SOM = "som/pong-som.xml";
+	private static final String CHALLENGE_SOM = "som/challenge-som.xml";
+	private static final String RESPONSE_SOM = "som/response-som.xml";
+
+	//----------------------------------------------------------
+	//                   INSTANCE VARIABLES
+	//----------------------------------------------------------
+
+	//----------------------------------------------------------
+	//                      CONSTRUCTORS
+	//----------------------------------------------------------
+	/**
+	 * Create the test case
+	 *
+	 * @param testName name of the test case
+	 */
+	public SOMParserTest( String testName )
+	{
+		super( testName );
+	}
+
+	//----------------------------------------------------------
+	//                    INSTANCE METHODS
+	//----------------------------------------------------------
+	/**
+	 * Test the classes of the ping and pong SOMs, which define interactions only (the object
+	 * root has no attributes, so it is left out)
+	 */
+	public void testPingPong()
+	{
+		SOMParser.ObjectModel ping = SOMParser.parse( PING_SOM );
+		assertTrue( ping.getObjectClasses().isEmpty() );
+		assertEquals( Arrays.asList( "HLAinteractionRoot",
+		                             "HLAinteractionRoot.Ping",
+		                             "HLAinteractionRoot.Pong" ),
+		              interactionClassNames( ping ) );
+
+		InteractionClass pingInteraction = findInteractionClass( ping, "HLAinteractionRoot.Ping" );
+		assertEquals( Sharing.PUBLISH, pingInteraction.sharing );
+		assertEquals( 1, pingInteraction.parameters.size() );
+		assertEquals( DataType.INT, pingInteraction.parameters.get( "count" ).dataType );
+
+		InteractionClass pongInteraction = findInteractionClass( ping, "HLAinteractionRoot.Pong" );
+		assertEquals( Sharing.SUBSCRIBE, pongInteraction.sharing );
+		assertEquals( DataType.CHAR, pongInteraction.parameters.get( "letter" ).dataType );
+
+		assertEquals( Sharing.NEITHER, findInteractionClass( ping, "HLAinteractionRoot" ).sharing );
+		assertTrue( findInteractionClass( ping, "HLAinteractionRoot" ).parameters.isEmpty() );
+
+		// the same classes, shared the other way around
+		SOMParser.ObjectModel pong = SOMParser.parse( PONG_SOM );
+		assertEquals( interactionClassNames( ping ), interactionClassNames( pong ) );
+		assertEquals( Sharing.SUBSCRIBE, findInteractionClass( pong, "HLAinteractionRoot.Ping" ).sharing );
+		assertEquals( Sharing.PUBLISH, findInteractionClass( pong, "HLAinteractionRoot.Pong" ).sharing );
+	}
+
+	/**
+	 * Test the classes of the challenge SOM, including attributes and parameters inherited from
+	 * superclasses
+	 */
+	public void testChallenge()
+	{
+		SOMParser.ObjectModel challenge = SOMParser.parse( CHALLENGE_SOM );
+
+		assertEquals( Arrays.asList( "HLAobjectRoot.ParentObject",
+		                             "HLAobjectRoot.ParentObject.ChallengeObject" ),
+		              objectClassNames( challenge ) );
+
+		ObjectClass parentObject = findObjectClass( challenge, "HLAobjectRoot.ParentObject" );
+		assertEquals( Sharing.NEITHER, parentObject.sharing );
+		assertEquals( new HashSet<>( Arrays.asList( "challengeId" ) ),
+		              parentObject.attributes.keySet() );
+
+		ObjectClass challengeObject =
+		    findObjectClass( challenge, "HLAobjectRoot.ParentObject.ChallengeObject" );
+		assertEquals( Sharing.PUBLISH, challengeObject.sharing );
+		assertEquals( new HashSet<>( Arrays.asList( "challengeId", "beginIndex", "stringValue" ) ),
+		              challengeObject.attributes.keySet() );
+		ObjectAttribute inherited = challengeObject.attributes.get( "challengeId" );
+		assertEquals( DataType.STRING, inherited.dataType );
+		assertEquals( Sharing.PUBLISH, inherited.sharing );
+		assertEquals( DataType.INT, challengeObject.attributes.get( "beginIndex" ).dataType );
+
+		assertEquals( Arrays.asList( "HLAinteractionRoot",
+		                             "HLAinteractionRoot.C2WInteractionRoot",
+		                             "HLAinteractionRoot.C2WInteractionRoot.SimulationControl",
+		                             "HLAinteractionRoot.C2WInteractionRoot.SimulationControl.SimEnd",
+		                             "HLAinteractionRoot.C2WInteractionRoot.SimulationControl.SimPause",
+		                             "HLAinteractionRoot.C2WInteractionRoot.SimulationControl.SimResume",
+		                             "HLAinteractionRoot.C2WInteractionRoot.ParentInteraction",
+		                             "HLAinteractionRoot.C2WInteractionRoot.ParentInteraction.ChallengeInteraction",
+		                             "HLAinteractionRoot.C2WInteractionRoot.ParentInteraction.Response" ),
+		              interactionClassNames( challenge ) );
+
+		InteractionClass simEnd =
+		    findInteractionClass( challenge, "HLAinteractionRoot.C2WInteractionRoot.SimulationControl.SimEnd" );
+		assertEquals( Sharing.SUBSCRIBE, simEnd.sharing );
+		assertEquals( new HashSet<>( Arrays.asList( "actualLogicalGenerationTime", "federateFilter",
+		                                            "originFed", "sourceFed" ) ),
+		              simEnd.parameters.keySet() );
+		assertEquals( DataType.DOUBLE, simEnd.parameters.get( "actualLogicalGenerationTime" ).dataType );
+
+		InteractionClass challengeInteraction =
+		    findInteractionClass( challenge,
+		                          "HLAinteractionRoot.C2WInteractionRoot.ParentInteraction.ChallengeInteraction" );
+		assertEquals( Sharing.PUBLISH, challengeInteraction.sharing );
+		assertEquals( new HashSet<>( Arrays.asList( "actualLogicalGenerationTime", "federateFilter",
+		                                            "originFed", "sourceFed", "challengeId",
+		                                            "beginIndex", "stringValue" ) ),
+		              challengeInteraction.parameters.keySet() );
+	}
+
+	/**
+	 * Test that the response SOM defines the same classes as the challenge SOM (less SimPause and
+	 * SimResume), shared the other way around
+	 */
+	public void testResponse()
+	{
+		SOMParser.ObjectModel response = SOMParser.parse( RESPONSE_SOM );
+
+		ObjectClass challengeObject =
+		    findObjectClass( response, "HLAobjectRoot.ParentObject.ChallengeObject" );
+		assertEquals( Sharing.SUBSCRIBE, challengeObject.sharing );
+		assertEquals( Sharing.SUBSCRIBE, challengeObject.attributes.get( "challengeId" ).sharing );
+		assertEquals( 3, challengeObject.attributes.size() );
+
+		assertEquals( 7, response.getInteractionClasses().size() );
+		assertNull( findInteractionClass( response,
+		                                  "HLAinteractionRoot.C2WInteractionRoot.SimulationControl.SimPause" ) );
+		InteractionClass responseInteraction =
+		    findInteractionClass( response,
+		                          "HLAinteractionRoot.C2WInteractionRoot.ParentInteraction.Response" );
+		assertEquals( Sharing.PUBLISH, responseInteraction.sharing );
+		assertEquals( DataType.STRING, responseInteraction.parameters.get( "substring" ).dataType );
+		assertEquals( 6, responseInteraction.parameters.size() );
+	}
+
+	/**
+	 * Test that a document without an objectModel root element is rejected
+	 */
+	public void testMissingObjectModel()
+	{
+		String[] documents = { "<?xml version=\"1.0\"?><notAnObjectModel><objects/></notAnObjectModel>",
+		                       "<?xml version=\"1.0\"?>",
+		                       "not XML at all" };
+		for( String document : documents )
+		{
+			try
+			{
+				SOMParser.parse( new ByteArrayInputStream( document.getBytes( StandardCharsets.UTF_8 ) ),
+				                 "test.xml" );
+				fail( "Expected the SOM to be rejected: " + document );
+			}
+			catch( UCEFException e )
+			{
+				// expected
+			}
+		}
+
+		// but a model with no classes at all is fine
+		String empty = "<?xml version=\"1.0\"?><objectModel></objectModel>";
+		SOMParser.ObjectModel objectModel =
+		    SOMParser.parse( new ByteArrayInputStream( empty.getBytes( StandardCharsets.UTF_8 ) ),
+		                     "test.xml" );
+		assertTrue( objectModel.getObjectClasses().isEmpty() );
+		assertTrue( objectModel.getInteractionClasses().isEmpty() );
+	}
+
+	/**
+	 * Test that merged classes follow the order in which the SOMs are given, then the order in
+	 * which they are defined in each SOM - the order in which the SOMs were loaded plays no part
+	 */
+	public void testMergeOrder()
+	{
+		SOMParser.ObjectModel first = makeObjectModel( "HLAinteractionRoot.A", "HLAinteractionRoot.B" );
+		SOMParser.ObjectModel second = makeObjectModel( "HLAinteractionRoot.C", "HLAinteractionRoot.A" );
+
+		SOMParser.ObjectModel merged = SOMParser.merge( Arrays.asList( "first.xml", "second.xml" ),
+		                                                Arrays.asList( first, second ) );
+		assertEquals( Arrays.asList( "HLAinteractionRoot.A", "HLAinteractionRoot.B",
+		                             "HLAinteractionRoot.C" ),
+		              interactionClassNames( merged ) );
+		assertEquals( Arrays.asList( "HLAobjectRoot.A", "HLAobjectRoot.B", "HLAobjectRoot.C" ),
+		              objectClassNames( merged ) );
+
+		merged = SOMParser.merge( Arrays.asList( "second.xml", "first.xml" ),
+		                          Arrays.asList( second, first ) );
+		assertEquals( Arrays.asList( "HLAinteractionRoot.C", "HLAinteractionRoot.A",
+		                             "HLAinteractionRoot.B" ),
+		              interactionClassNames( merged ) );
+		assertEquals( Arrays.asList( "HLAobjectRoot.C", "HLAobjectRoot.A", "HLAobjectRoot.B" ),
+		              objectClassNames( merged ) );
+
+		// a configuration keeps the SOMs in the order in which they were added, whichever of
+		// them is quicker to load
+		FederateConfiguration config = new FederateConfiguration();
+		config.addSomPaths( Arrays.asList( CHALLENGE_SOM, PING_SOM, RESPONSE_SOM ) );
+		assertEquals( Arrays.asList( CHALLENGE_SOM, PING_SOM, RESPONSE_SOM ),
+		              new ArrayList<>( config.getSomPaths() ) );
+	}
+
+	/**
+	 * Test that a class defined in several SOMs is included once, with the combined sharing of
+	 * all of its definitions, without changing the definitions which were merged
+	 */
+	public void testMergeSharing()
+	{
+		SOMParser.ObjectModel challenge = SOMParser.parse( CHALLENGE_SOM );
+		SOMParser.ObjectModel response = SOMParser.parse( RESPONSE_SOM );
+		SOMParser.ObjectModel merged = SOMParser.merge( Arrays.asList( CHALLENGE_SOM, RESPONSE_SOM ),
+		                                                Arrays.asList( challenge, response ) );
+
+		assertEquals( objectClassNames( challenge ), objectClassNames( merged ) );
+		// the challenge SOM defines every interaction class the response SOM does, and more
+		assertEquals( interactionClassNames( challenge ), interactionClassNames( merged ) );
+
+		String challengeObjectName = "HLAobjectRoot.ParentObject.ChallengeObject";
+		ObjectClass challengeObject = findObjectClass( merged, challengeObjectName );
+		assertEquals( Sharing.PUBLISHSUBSCRIBE, challengeObject.sharing );
+		for( ObjectAttribute attribute : challengeObject.attributes.values() )
+			assertEquals( attribute.name, Sharing.PUBLISHSUBSCRIBE, attribute.sharing );
+		assertEquals( Sharing.NEITHER,
+		              findObjectClass( merged, "HLAobjectRoot.ParentObject" ).sharing );
+
+		String parentInteraction = "HLAinteractionRoot.C2WInteractionRoot.ParentInteraction";
+		assertEquals( Sharing.PUBLISHSUBSCRIBE,
+		              findInteractionClass( merged, parentInteraction + ".ChallengeInteraction" ).sharing );
+		assertEquals( Sharing.PUBLISHSUBSCRIBE,
+		              findInteractionClass( merged, parentInteraction + ".Response" ).sharing );
+		// only subscribed to by either
+		assertEquals( Sharing.SUBSCRIBE,
+		              findInteractionClass( merged,
+		                                    "HLAinteractionRoot.C2WInteractionRoot.SimulationControl.SimEnd" ).sharing );
+		// only in the challenge SOM
+		assertEquals( Sharing.SUBSCRIBE,
+		              findInteractionClass( merged,
+		                                    "HLAinteractionRoot.C2WInteractionRoot.SimulationControl.SimPause" ).sharing );
+
+		// the merged definitions are left as they were
+		assertEquals( Sharing.PUBLISH, findObjectClass( challenge, challengeObjectName ).sharing );
+		assertEquals( Sharing.PUBLISH,
+		              findObjectClass( challenge, challengeObjectName ).attributes.get( "challengeId" ).sharing );
+		assertEquals( Sharing.SUBSCRIBE, findObjectClass( response, challengeObjectName ).sharing );
+	}
+
+	/**
+	 * Test that all classes which are defined differently by different SOMs are reported
+	 * together, and that a configuration is left as it was when its SOMs conflict
+	 */
+	public void testMergeConflicts() throws Exception
+	{
+		File conflicting = File.createTempFile( "conflicting-som", ".xml" );
+		try
+		{
+			// Ping has a parameter with a different data type, Pong has an extra parameter
+			String som = "<?xml version=\"1.0\"?>" +
+			             "<objectModel><interactions><interactionClass>" +
+			             "<name>HLAinteractionRoot</name><sharing>Neither</sharing>" +
+			             "<interactionClass><name>Ping</name><sharing>Subscribe</sharing>" +
+			             "<parameter><name>count</name><dataType>HLAfloat64BE</dataType></parameter>" +
+			             "</interactionClass>" +
+			             "<interactionClass><name>Pong</name><sharing>Publish</sharing>" +
+			             "<parameter><name>letter</name><dataType>HLAunicodeChar</dataType></parameter>" +
+			             "<parameter><name>extra</name><dataType>HLAinteger32BE</dataType></parameter>" +
+			             "</interactionClass>" +
+			             "</interactionClass></interactions></objectModel>";
+			Files.write( conflicting.toPath(), som.getBytes( StandardCharsets.UTF_8 ) );
+			String conflictingPath = conflicting.getPath();
+
+			try
+			{
+				SOMParser.merge( Arrays.asList( PING_SOM, conflictingPath ),
+				                 Arrays.asList( SOMParser.parse( PING_SOM ),
+				                                SOMParser.parse( conflictingPath ) ) );
+				fail( "Expected the conflicting definitions to be rejected" );
+			}
+			catch( UCEFException e )
+			{
+				assertTrue( e.getMessage(), e.getMessage().contains( "'HLAinteractionRoot.Ping'" ) );
+				assertTrue( e.getMessage(), e.getMessage().contains( "'HLAinteractionRoot.Pong'" ) );
+				assertTrue( e.getMessage(), e.getMessage().contains( conflictingPath ) );
+				// the class which is defined the same way in both is fine
+				assertFalse( e.getMessage(), e.getMessage().contains( "'HLAinteractionRoot'" ) );
+			}
+
+			FederateConfiguration config = new FederateConfiguration();
+			config.addSomPath( PING_SOM );
+			Set<String> published = config.getPublishedInteractionNames();
+			Set<String> subscribed = config.getSubscribedInteractionNames();
+			try
+			{
+				config.addSomPath( conflictingPath );
+				fail( "Expected the conflicting definitions to be rejected" );
+			}
+			catch( UCEFException e )
+			{
+				// expected
+			}
+			assertEquals( Collections.singleton( PING_SOM ), config.getSomPaths() );
+			assertEquals( published, config.getPublishedInteractionNames() );
+			assertEquals( subscribed, config.getSubscribedInteractionNames() );
+			assertEquals( DataType.INT,
+			              findInteraction( config, "HLAinteractionRoot.Ping" ).parameters.get( "count" ).dataType );
+		}
+		finally
+		{
+			conflicting.delete();
+		}
+	}
+
+	private SOMParser.ObjectModel makeObjectModel( String... interactionClassNames )
+	{
+		List<ObjectClass> objectClasses = new ArrayList<>();
+		List<InteractionClass> interactionClasses = new ArrayList<>();
+		for( String name : interactionClassNames )
+		{
+			InteractionClass interactionClass = new InteractionClass( name, Sharing.PUBLISH );
+			interactionClass.addParameter( new InteractionParameter( "value", DataType.INT ) );
+			interactionClasses.add( interactionClass );
+
+			String objectClassName = name.replace( "HLAinteractionRoot", "HLAobjectRoot" );
+			ObjectClass objectClass = new ObjectClass( objectClassName, Sharing.SUBSCRIBE );
+			objectClass.addAttribute( new ObjectAttribute( "value", DataType.INT, Sharing.SUBSCRIBE ) );
+			objectClasses.add( objectClass );
+		}
+		return new SOMParser.ObjectModel( objectClasses, interactionClasses );
+	}
+
+	private InteractionClass findInteraction( FederateConfiguration config, String name )
+	{
+		return find( config.getPublishedAndSubscribedInteractions(), name,
+		             interactionClass -> interactionClass.name );
+	}
+
+	private List<String> objectClassNames( SOMParser.ObjectModel objectModel )
+	{
+		List<String> names = new ArrayList<>();
+		for( ObjectClass objectClass : objectModel.getObjectClasses() )
+			names.add( objectClass.name );
+		return names;
+	}
+
+	private List<String> interactionClassNames( SOMParser.ObjectModel objectModel )
+	{
+		List<String> names = new ArrayList<>();
+		for( InteractionClass interactionClass : objectModel.getInteractionClasses() )
+			names.add( interactionClass.name );
+		return names;
+	}
+
+	private ObjectClass findObjectClass( SOMParser.ObjectModel objectModel, String name )
+	{
+		return find( objectModel.getObjectClasses(), name, objectClass -> objectClass.name );
+	}
+
+	private InteractionClass findInteractionClass( SOMParser.ObjectModel objectModel, String name )
+	{
+		return find( objectModel.getInteractionClasses(), name,
+		             interactionClass -> interactionClass.name );
+	}
+
+	private <T> T find( Collection<T> classes, String name, Function<T,String> nameOf )
+	{
+		for( T candidate : classes )
+		{
+			if( name.equals( nameOf.apply( candidate ) ) )
+				return candidate;
+		}
+		return null;
+	}
+
+	//----------------------------------------------------------
+	//                     STATIC METHODS
+	//----------------------------------------------------------
+	/**
+	 * @return the suite of tests being tested
+	 */
+	public static Test suite()
+	{
+		return new TestSuite( SOMParserTest.class );
+	}
+}
@@ -0,0 +1,211 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards 
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+ * software and associated documentation files (the "Software"), to deal in the Software 
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following 
+ * conditions:
+ * 
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.base;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import gov.nist.ucef.hla.base.Types.DataType;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+public class SlotMapTest extends TestCase
+{
+	//----------------------------------------------------------
+	//                    STATIC VARIABLES
+	//----------------------------------------------------------
+
+	//----------------------------------------------------------
+	//                   INSTANCE VARIABLES
+	//----------------------------------------------------------
+
+	//----------------------------------------------------------
+	//                      CONSTRUCTORS
+	//----------------------------------------------------------
+	/**
+	 * Create the test case
+	 *
+	 * @param testName name of the test case
+	 */
+	public SlotMapTest( String testName )
+	{
+		super( testName );
+	}
+
+	//----------------------------------------------------------
+	//                    INSTANCE METHODS
+	//----------------------------------------------------------
+	/**
+	 * Test that slots are assigned in order of member name, regardless of insertion order
+	 */
+	public void testLayout()
+	{
+		SlotLayout layout = layoutOf( "C", "A", "B" );
+		assertEquals( 3, layout.size() );
+		assertEquals( Arrays.asList( "A", "B", "C" ), layout.getNames() );
+		for( int slot = 0; slot < layout.size(); slot++ )
+		{
+			assertEquals( slot, layout.slotOf( layout.nameOf( slot ) ) );
+			assertEquals( DataType.INT, layout.dataTypeOf( slot ) );
+		}
+		assertEquals( SlotLayout.NO_SLOT, layout.slotOf( "D" ) );
+
+		// the same names give an equal layout
+		assertEquals( layout, layoutOf( "B", "C", "A" ) );
+		assertEquals( layout.hashCode(), layoutOf( "B", "C", "A" ).hashCode() );
+		assertFalse( layout.equals( layoutOf( "A", "B" ) ) );
+	}
+
+	/**
+	 * Test that values stored by name and by slot are the same values
+	 */
+	public void testSlotsMatchNames()
+	{
+		// more than 64 slots, so that the presence bitmap spans more than one word
+		String[] names = new String[70];
+		for( int i = 0; i < names.length; i++ )
+			names[i] = String.format( "M%02d", i );
+		SlotLayout layout = layoutOf( names );
+		SlotMap map = new SlotMap( layout );
+
+		byte[] first = { 1 };
+		byte[] last = { 2 };
+		map.put( "M00", first );
+		map.setSlot( layout.slotOf( "M69" ), last );
+		assertSame( first, map.getSlot( layout.slotOf( "M00" ) ) );
+		assertSame( last, map.get( "M69" ) );
+		assertTrue( map.hasSlot( layout.slotOf( "M69" ) ) );
+		assertFalse( map.hasSlot( layout.slotOf( "M35" ) ) );
+		assertEquals( layout.slotOf( "M69" ), map.nextSlot( layout.slotOf( "M00" ) + 1 ) );
+		assertEquals( 2, map.size() );
+
+		// names which are not part of the layout are kept separately
+		byte[] other = { 3 };
+		map.put( "Other", other );
+		assertSame( other, map.get( "Other" ) );
+		assertEquals( 3, map.size() );
+
+		// the map is equal to an ordinary map with the same entries
+		Map<String,byte[]> expected = new HashMap<>();
+		expected.put( "M00", first );
+		expected.put( "M69", last );
+		expected.put( "Other", other );
+		assertEquals( expected, map );
+
+		map.clearSlot( layout.slotOf( "M00" ) );
+		assertFalse( map.containsKey( "M00" ) );
+		assertNull( map.remove( "M00" ) );
+		assertSame( last, map.remove( "M69" ) );
+		assertEquals( 1, map.size() );
+
+		map.clear();
+		assertTrue( map.isEmpty() );
+		assertNull( map.get( "Other" ) );
+	}
+
+	/**
+	 * Test removing entries while iterating
+	 */
+	public void testIteratorRemove()
+	{
+		SlotLayout layout = layoutOf( "A", "B", "C" );
+		SlotMap map = new SlotMap( layout );
+		map.put( "A", new byte[]{ 1 } );
+		map.put( "C", new byte[]{ 3 } );
+		map.put( "Other", new byte[]{ 4 } );
+
+		Iterator<Map.Entry<String,byte[]>> iterator = map.entrySet().iterator();
+		while( iterator.hasNext() )
+		{
+			if( !iterator.next().getKey().equals( "C" ) )
+				iterator.remove();
+		}
+		assertEquals( 1, map.size() );
+		assertTrue( map.hasSlot( layout.slotOf( "C" ) ) );
+		assertFalse( map.hasSlot( layout.slotOf( "A" ) ) );
+	}
+
+	/**
+	 * Test that slot based and name based access to an {@link HLAObject} agree, both when the
+	 * values are stored by slot and when the slots are resolved to names
+	 */
+	public void testObjectSlots()
+	{
+		SlotLayout layout = layoutOf( "A", "B" );
+		HLAObject slotted = new HLAObject( "HLAobjectRoot.Test", null, null, layout );
+		slotted.setValue( layout.slotOf( "A" ), 12 );
+		slotted.setValue( "B", "text" );
+		assertEquals( 12, slotted.getAsInt( "A" ) );
+		assertEquals( "text", slotted.getAsString( layout.slotOf( "B" ) ) );
+		assertTrue( slotted.isPresent( layout.slotOf( "A" ) ) );
+
+		// a linked instance with a different layout falls back to access by name
+		SlotLayout otherLayout = layoutOf( "B", "Z" );
+		HLAObject linked = new HLAObject( slotted, otherLayout );
+		assertEquals( "text", linked.getAsString( otherLayout.slotOf( "B" ) ) );
+		linked.setValue( otherLayout.slotOf( "Z" ), 5 );
+		assertEquals( 5, slotted.getAsInt( "Z" ) );
+
+		// without a layout, slots can't be used at all
+		HLAObject unslotted = new HLAObject( "HLAobjectRoot.Test", new HashMap<>() );
+		try
+		{
+			unslotted.getAsInt( 0 );
+			fail( "Expected an exception when accessing a slot without a layout" );
+		}
+		catch( UCEFException e )
+		{
+			// expected
+		}
+	}
+
+	/**
+	 * Create a layout of integer members
+	 *
+	 * @param names the member names
+	 * @return the layout
+	 */
+	private SlotLayout layoutOf( String... names )
+	{
+		Map<String,DataType> members = new HashMap<>();
+		for( String name : names )
+			members.put( name, DataType.INT );
+		return new SlotLayout( members );
+	}
+
+
+	//----------------------------------------------------------
+	//                     STATIC METHODS
+	//----------------------------------------------------------
+	/**
+	 * @return the suite of tests being tested
+	 */
+	public static Test suite()
+	{
+		return new TestSuite( SlotMapTest.class );
+	}
+}
@@ -0,0 +1,227 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards 
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+ * software and associated documentation files (the "Software"), to deal in the Software 
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following 
+ * conditions:
+ * 
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.base;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import gov.nist.ucef.hla.base.Types.DataType;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+public class StateConverterTest extends TestCase
+{
+	//----------------------------------------------------------
+	//                    STATIC VARIABLES
+	//----------------------------------------------------------
+	// the handle of the member which is not part of the layout
+	private static final Integer OTHER_HANDLE = 99;
+
+	//----------------------------------------------------------
+	//                   INSTANCE VARIABLES
+	//----------------------------------------------------------
+	private SlotLayout layout;
+	private StateConverter<Integer> converter;
+	private Function<Integer,String> unknownHandles;
+	private Function<String,Integer> unknownNames;
+
+	//----------------------------------------------------------
+	//                      CONSTRUCTORS
+	//----------------------------------------------------------
+	/**
+	 * Create the test case
+	 *
+	 * @param testName name of the test case
+	 */
+	public StateConverterTest( String testName )
+	{
+		super( testName );
+	}
+
+	//----------------------------------------------------------
+	//                    INSTANCE METHODS
+	//----------------------------------------------------------
+	@Override
+	protected void setUp()
+	{
+		Map<String,DataType> members = new HashMap<>();
+		members.put( "C", DataType.INT );
+		members.put( "A", DataType.INT );
+		members.put( "B", DataType.INT );
+		this.layout = new SlotLayout( members );
+		this.converter = new StateConverter<>( this.layout, tableOf( "A", 10, "B", 20, "C", 30 ) );
+
+		this.unknownHandles = handle -> {
+			assertEquals( OTHER_HANDLE, handle );
+			return "Other";
+		};
+		this.unknownNames = name -> {
+			assertEquals( "Other", name );
+			return OTHER_HANDLE;
+		};
+	}
+
+	/**
+	 * Test that a converter is only created from a table which has the handles in slot order
+	 */
+	public void testTableMatchesLayout()
+	{
+		assertEquals( Arrays.asList( "A", "B", "C" ), this.layout.getNames() );
+		assertSame( this.layout, this.converter.getLayout() );
+
+		try
+		{
+			new StateConverter<>( this.layout, tableOf( "B", 20, "A", 10, "C", 30 ) );
+			fail( "Expected handles out of slot order to be rejected" );
+		}
+		catch( UCEFException e )
+		{
+			// expected
+		}
+
+		try
+		{
+			new StateConverter<>( this.layout, tableOf( "A", 10, "B", 20 ) );
+			fail( "Expected a missing handle to be rejected" );
+		}
+		catch( UCEFException e )
+		{
+			// expected
+		}
+	}
+
+	/**
+	 * Test that received values are stored into the slots of their members, and that values for
+	 * handles which are not in the table go to the overflow
+	 */
+	public void testToState()
+	{
+		byte[] a = { 1 };
+		byte[] c = { 3 };
+		byte[] other = { 9 };
+		Map<Integer,byte[]> source = new HashMap<>();
+		source.put( 10, a );
+		source.put( 30, c );
+		source.put( OTHER_HANDLE, other );
+
+		SlotMap state = this.converter.toState( source, this.unknownHandles );
+		assertSame( this.layout, state.getLayout() );
+		assertEquals( 3, state.size() );
+		assertSame( a, state.getSlot( this.layout.slotOf( "A" ) ) );
+		assertSame( c, state.getSlot( this.layout.slotOf( "C" ) ) );
+		assertFalse( state.hasSlot( this.layout.slotOf( "B" ) ) );
+		assertEquals( 1, state.getOverflow().size() );
+		assertSame( other, state.getOverflow().get( "Other" ) );
+		assertSame( other, state.get( "Other" ) );
+	}
+
+	/**
+	 * Test that values stored in a slot map with the same layout, including its overflow, are
+	 * converted to the right handles
+	 */
+	public void testFromSlotMap()
+	{
+		byte[] b = { 2 };
+		byte[] other = { 9 };
+		SlotMap state = new SlotMap( this.layout );
+		state.setSlot( this.layout.slotOf( "B" ), b );
+		state.put( "Other", other );
+
+		Map<Integer,byte[]> result = this.converter.fromState( state, new HashMap<>(), this.unknownNames );
+		Map<Integer,byte[]> expected = new HashMap<>();
+		expected.put( 20, b );
+		expected.put( OTHER_HANDLE, other );
+		assertEquals( expected, result );
+	}
+
+	/**
+	 * Test that values stored in an ordinary map are converted by name, including names which
+	 * are equal to but not the same instance as the member names
+	 */
+	public void testFromMap()
+	{
+		byte[] a = { 1 };
+		byte[] c = { 3 };
+		byte[] other = { 9 };
+		Map<String,byte[]> state = new HashMap<>();
+		state.put( new String( "A" ), a );
+		state.put( new StringBuilder( "C" ).toString(), c );
+		state.put( "Other", other );
+
+		Map<Integer,byte[]> result = this.converter.fromState( state, new HashMap<>(), this.unknownNames );
+		Map<Integer,byte[]> expected = new HashMap<>();
+		expected.put( 10, a );
+		expected.put( 30, c );
+		expected.put( OTHER_HANDLE, other );
+		assertEquals( expected, result );
+	}
+
+	/**
+	 * Test that converting received values to state and back gives the original values
+	 */
+	public void testRoundTrip()
+	{
+		Map<Integer,byte[]> source = new HashMap<>();
+		source.put( 10, new byte[]{ 1 } );
+		source.put( 20, new byte[]{ 2 } );
+		source.put( 30, new byte[]{ 3 } );
+		source.put( OTHER_HANDLE, new byte[]{ 9 } );
+
+		SlotMap state = this.converter.toState( source, this.unknownHandles );
+		assertEquals( source, this.converter.fromState( state, new HashMap<>(), this.unknownNames ) );
+
+		// a state with a different layout is converted by name instead
+		Map<String,DataType> members = new HashMap<>();
+		members.put( "A", DataType.INT );
+		SlotMap other = new SlotMap( new SlotLayout( members ) );
+		other.putAll( state );
+		assertEquals( source, this.converter.fromState( other, new HashMap<>(), this.unknownNames ) );
+	}
+
+	/**
+	 * Create a table from alternating names and handles, positioned in the order given
+	 */
+	private HandleTable<Integer> tableOf( Object... namesAndHandles )
+	{
+		Map<String,Integer> handlesByName = new LinkedHashMap<>();
+		for( int i = 0; i < namesAndHandles.length; i += 2 )
+			handlesByName.put( (String)namesAndHandles[i], (Integer)namesAndHandles[i + 1] );
+		return HandleTable.of( handlesByName );
+	}
+
+	//----------------------------------------------------------
+	//                     STATIC METHODS
+	//----------------------------------------------------------
+	/**
+	 * @return the suite of tests being tested
+	 */
+	public static Test suite()
+	{
+		return new TestSuite( StateConverterTest.class );
+	}
+}
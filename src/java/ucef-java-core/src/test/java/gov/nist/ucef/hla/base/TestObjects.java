@@ -0,0 +1,78 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards 
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+ * software and associated documentation files (the "Software"), to deal in the Software 
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following 
+ * conditions:
+ * 
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.base;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+
+import hla.rti1516e.ObjectInstanceHandle;
+
+/**
+ * Object instances for tests which need distinct instance handles without an RTI
+ */
+final class TestObjects
+{
+	//----------------------------------------------------------
+	//                      CONSTRUCTORS
+	//----------------------------------------------------------
+	private TestObjects()
+	{
+	}
+
+	//----------------------------------------------------------
+	//                     STATIC METHODS
+	//----------------------------------------------------------
+	/**
+	 * Create an instance handle which is equal only to itself, and whose hash code and string
+	 * form are the given id
+	 *
+	 * @param id identifies the handle
+	 * @return the instance handle
+	 */
+	static ObjectInstanceHandle makeHandle( int id )
+	{
+		return (ObjectInstanceHandle)Proxy.newProxyInstance(
+		    TestObjects.class.getClassLoader(),
+		    new Class<?>[]{ ObjectInstanceHandle.class },
+		    ( proxy, method, args ) -> {
+		        switch( method.getName() )
+		        {
+		            case "equals": return proxy == args[0];
+		            case "hashCode": return id;
+		            default: return String.valueOf( id );
+		        }
+		    } );
+	}
+
+	/**
+	 * Create an object instance with a distinct instance handle
+	 *
+	 * @param id identifies the instance
+	 * @return the object instance
+	 */
+	static HLAObject makeObject( int id )
+	{
+		return new HLAObject( "HLAobjectRoot.O", new HashMap<>(), makeHandle( id ) );
+	}
+}
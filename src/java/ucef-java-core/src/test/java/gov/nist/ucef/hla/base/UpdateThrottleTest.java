@@ -0,0 +1,259 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards 
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+ * software and associated documentation files (the "Software"), to deal in the Software 
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following 
+ * conditions:
+ * 
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.base;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+public class UpdateThrottleTest extends TestCase
+{
+	//----------------------------------------------------------
+	//                    STATIC VARIABLES
+	//----------------------------------------------------------
+
+	//----------------------------------------------------------
+	//                   INSTANCE VARIABLES
+	//----------------------------------------------------------
+
+	//----------------------------------------------------------
+	//                      CONSTRUCTORS
+	//----------------------------------------------------------
+	/**
+	 * Create the test case
+	 *
+	 * @param testName name of the test case
+	 */
+	public UpdateThrottleTest( String testName )
+	{
+		super( testName );
+	}
+
+	//----------------------------------------------------------
+	//                    INSTANCE METHODS
+	//----------------------------------------------------------
+	/**
+	 * Test that an attribute updated again within its logical time interval is held back, and
+	 * that its latest value is released with the latest tag once the interval has passed
+	 */
+	public void testLogicalTimeLimit()
+	{
+		UpdateThrottle throttle = new UpdateThrottle();
+		Map<String,UpdateRateLimit> limits =
+		    limits( "X", new UpdateRateLimit( 2.0, UpdateRateLimit.TimeBase.LOGICAL ) );
+		HLAObject object = TestObjects.makeObject( 1 );
+		Releases releases = new Releases();
+
+		object.setValue( "X", 1.0 );
+		object.setValue( "Y", 1.0 );
+		Map<String,byte[]> state = throttle.filterUpdate( object, object.copyState(), limits, 0.0, null, false );
+		assertTrue( state.containsKey( "X" ) );
+		throttle.recordSent( object, state, limits, 0.0 );
+
+		// too soon for the limited attribute, but not for the one without a limit
+		byte[] firstTag = { 1 };
+		object.setValue( "X", 2.0 );
+		state = throttle.filterUpdate( object, object.copyState(), limits, 0.2, firstTag, false );
+		assertFalse( state.containsKey( "X" ) );
+		assertTrue( state.containsKey( "Y" ) );
+		assertEquals( 1, throttle.getSuppressedCount() );
+
+		byte[] secondTag = { 2 };
+		object.setValue( "X", 3.0 );
+		state = throttle.filterUpdate( object, object.copyState(), limits, 0.3, secondTag, true );
+		assertFalse( state.containsKey( "X" ) );
+		assertEquals( 2, throttle.getSuppressedCount() );
+
+		// nothing is released until the interval has passed
+		throttle.releaseHeld( 0.4, className -> limits, releases );
+		assertTrue( releases.states.isEmpty() );
+
+		// the latest value goes out with the tag and time-stamping of the latest update
+		object.setValue( "X", 4.0 );
+		throttle.releaseHeld( 0.5, className -> limits, releases );
+		assertEquals( 1, releases.states.size() );
+		assertEquals( 1, releases.states.get( 0 ).size() );
+		assertEquals( 4.0, HLACodecUtils.asDouble( releases.states.get( 0 ).get( "X" ) ), 0.0 );
+		assertSame( secondTag, releases.tags.get( 0 ) );
+		assertTrue( releases.timestamped.get( 0 ) );
+
+		// released values are only released once
+		throttle.releaseHeld( 1.0, className -> limits, releases );
+		assertEquals( 1, releases.states.size() );
+	}
+
+	/**
+	 * Test that the interval only starts once an update has been sent, so that an update which
+	 * is dropped or fails to send does not hold back the next one
+	 */
+	public void testIntervalStartsWhenSent()
+	{
+		UpdateThrottle throttle = new UpdateThrottle();
+		Map<String,UpdateRateLimit> limits =
+		    limits( "X", new UpdateRateLimit( 2.0, UpdateRateLimit.TimeBase.LOGICAL ) );
+		HLAObject object = TestObjects.makeObject( 1 );
+
+		object.setValue( "X", 1.0 );
+		Map<String,byte[]> state = throttle.filterUpdate( object, object.copyState(), limits, 0.0, null, false );
+		assertTrue( state.containsKey( "X" ) );
+
+		// the first update was never sent
+		object.setValue( "X", 2.0 );
+		state = throttle.filterUpdate( object, object.copyState(), limits, 0.2, null, false );
+		assertTrue( state.containsKey( "X" ) );
+		assertEquals( 0, throttle.getSuppressedCount() );
+
+		throttle.recordSent( object, state, limits, 0.2 );
+		state = throttle.filterUpdate( object, object.copyState(), limits, 0.4, null, false );
+		assertFalse( state.containsKey( "X" ) );
+	}
+
+	/**
+	 * Test that attributes without a limit of their own fall back to the limit for all
+	 * attributes of the class
+	 */
+	public void testAllAttributesLimit()
+	{
+		UpdateThrottle throttle = new UpdateThrottle();
+		Map<String,UpdateRateLimit> limits =
+		    limits( UpdateRateLimit.ALL_ATTRIBUTES, new UpdateRateLimit( 1.0, UpdateRateLimit.TimeBase.LOGICAL ) );
+		limits.put( "Y", new UpdateRateLimit( 100.0, UpdateRateLimit.TimeBase.LOGICAL ) );
+		HLAObject object = TestObjects.makeObject( 1 );
+
+		object.setValue( "X", 1.0 );
+		object.setValue( "Y", 1.0 );
+		Map<String,byte[]> state = throttle.filterUpdate( object, object.copyState(), limits, 0.0, null, false );
+		assertEquals( 2, state.size() );
+		throttle.recordSent( object, state, limits, 0.0 );
+
+		state = throttle.filterUpdate( object, object.copyState(), limits, 0.1, null, false );
+		assertFalse( state.containsKey( "X" ) );
+		assertTrue( state.containsKey( "Y" ) );
+
+		Releases releases = new Releases();
+		throttle.releaseHeld( 0.5, className -> limits, releases );
+		assertTrue( releases.states.isEmpty() );
+		throttle.releaseHeld( 1.0, className -> limits, releases );
+		assertEquals( 1, releases.states.size() );
+		assertTrue( releases.states.get( 0 ).containsKey( "X" ) );
+	}
+
+	/**
+	 * Test that wall clock limits are measured in real time, regardless of logical time
+	 */
+	public void testWallClockLimit() throws Exception
+	{
+		UpdateThrottle throttle = new UpdateThrottle();
+		Map<String,UpdateRateLimit> limits =
+		    limits( "X", new UpdateRateLimit( 10.0, UpdateRateLimit.TimeBase.WALL_CLOCK ) );
+		HLAObject object = TestObjects.makeObject( 1 );
+		Releases releases = new Releases();
+
+		object.setValue( "X", 1.0 );
+		Map<String,byte[]> state = throttle.filterUpdate( object, object.copyState(), limits, 0.0, null, false );
+		throttle.recordSent( object, state, limits, 0.0 );
+
+		// logical time moving on makes no difference
+		state = throttle.filterUpdate( object, object.copyState(), limits, 100.0, null, false );
+		assertFalse( state.containsKey( "X" ) );
+		throttle.releaseHeld( 100.0, className -> limits, releases );
+		assertTrue( releases.states.isEmpty() );
+
+		Thread.sleep( 150 );
+		throttle.releaseHeld( 100.0, className -> limits, releases );
+		assertEquals( 1, releases.states.size() );
+		assertTrue( releases.states.get( 0 ).containsKey( "X" ) );
+	}
+
+	/**
+	 * Test that forgetting an instance drops any values held back for it
+	 */
+	public void testForget()
+	{
+		UpdateThrottle throttle = new UpdateThrottle();
+		Map<String,UpdateRateLimit> limits =
+		    limits( "X", new UpdateRateLimit( 2.0, UpdateRateLimit.TimeBase.LOGICAL ) );
+		HLAObject object = TestObjects.makeObject( 1 );
+		Releases releases = new Releases();
+
+		object.setValue( "X", 1.0 );
+		Map<String,byte[]> state = throttle.filterUpdate( object, object.copyState(), limits, 0.0, null, false );
+		throttle.recordSent( object, state, limits, 0.0 );
+		state = throttle.filterUpdate( object, object.copyState(), limits, 0.1, null, false );
+		assertFalse( state.containsKey( "X" ) );
+
+		throttle.forget( object.getObjectInstanceHandle() );
+		throttle.releaseHeld( 10.0, className -> limits, releases );
+		assertTrue( releases.states.isEmpty() );
+
+		// a send which completes after the instance was forgotten records nothing
+		throttle.recordSent( object, object.copyState(), limits, 10.0 );
+		state = throttle.filterUpdate( object, object.copyState(), limits, 10.1, null, false );
+		assertTrue( state.containsKey( "X" ) );
+	}
+
+	private Map<String,UpdateRateLimit> limits( String attributeName, UpdateRateLimit limit )
+	{
+		Map<String,UpdateRateLimit> limits = new HashMap<>();
+		limits.put( attributeName, limit );
+		return limits;
+	}
+
+	//----------------------------------------------------------
+	//                     STATIC METHODS
+	//----------------------------------------------------------
+	/**
+	 * @return the suite of tests being tested
+	 */
+	public static Test suite()
+	{
+		return new TestSuite( UpdateThrottleTest.class );
+	}
+
+	//----------------------------------------------------------
+	//                     INNER CLASSES
+	//----------------------------------------------------------
+	/**
+	 * Records the values released by the throttle
+	 */
+	private static class Releases implements UpdateThrottle.Release
+	{
+		private final List<Map<String,byte[]>> states = new ArrayList<>();
+		private final List<byte[]> tags = new ArrayList<>();
+		private final List<Boolean> timestamped = new ArrayList<>();
+
+		@Override
+		public void send( HLAObject instance, Map<String,byte[]> state, byte[] tag, boolean timestamped )
+		{
+			this.states.add( state );
+			this.tags.add( tag );
+			this.timestamped.add( timestamped );
+		}
+	}
+}
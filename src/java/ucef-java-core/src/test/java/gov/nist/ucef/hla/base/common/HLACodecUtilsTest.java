@@ -23,7 +23,10 @@
  */
 package gov.nist.ucef.hla.base.common;
 
+import java.util.Arrays;
+
 import gov.nist.ucef.hla.base.HLACodecUtils;
+import gov.nist.ucef.hla.base.UCEFException;
 import hla.rti1516e.encoding.EncoderFactory;
 import junit.framework.Test;
 import junit.framework.TestCase;
@@ -198,6 +201,155 @@ public class HLACodecUtilsTest extends TestCase
 		}
 	}
 
+	/**
+	 * Test that the direct encoding produces exactly the same bytes as the RTI encoders, and
+	 * that the direct decoding correctly interprets bytes produced by the RTI encoders
+	 */
+	public void testWireCompatibility()
+	{
+		for( char value : new char[]{ ' ', 'A', '字', Character.MAX_VALUE } )
+		{
+			byte[] expected = this.encoder.createHLAunicodeChar( (short)value ).toByteArray();
+			assertTrue( Arrays.equals( expected, HLACodecUtils.encode( value ) ) );
+			assertEquals( value, HLACodecUtils.asChar( expected ) );
+		}
+		for( byte value : new byte[]{ (byte)0, (byte)-1, Byte.MAX_VALUE, Byte.MIN_VALUE } )
+		{
+			byte[] expected = this.encoder.createHLAbyte( value ).toByteArray();
+			assertTrue( Arrays.equals( expected, HLACodecUtils.encode( value ) ) );
+			assertEquals( value, HLACodecUtils.asByte( expected ) );
+		}
+		for( short value : new short[]{ (short)0, (short)-1234, Short.MAX_VALUE, Short.MIN_VALUE } )
+		{
+			byte[] expected = this.encoder.createHLAinteger16BE( value ).toByteArray();
+			assertTrue( Arrays.equals( expected, HLACodecUtils.encode( value ) ) );
+			assertEquals( value, HLACodecUtils.asShort( expected ) );
+		}
+		for( int value : new int[]{ 0, -1234, Integer.MAX_VALUE, Integer.MIN_VALUE } )
+		{
+			byte[] expected = this.encoder.createHLAinteger32BE( value ).toByteArray();
+			assertTrue( Arrays.equals( expected, HLACodecUtils.encode( value ) ) );
+			assertEquals( value, HLACodecUtils.asInt( expected ) );
+		}
+		for( long value : new long[]{ 0L, -123456L, Long.MAX_VALUE, Long.MIN_VALUE } )
+		{
+			byte[] expected = this.encoder.createHLAinteger64BE( value ).toByteArray();
+			assertTrue( Arrays.equals( expected, HLACodecUtils.encode( value ) ) );
+			assertEquals( value, HLACodecUtils.asLong( expected ) );
+		}
+		for( float value : new float[]{ 0F, -123.456F, Float.MAX_VALUE, Float.NaN } )
+		{
+			byte[] expected = this.encoder.createHLAfloat32BE( value ).toByteArray();
+			assertTrue( Arrays.equals( expected, HLACodecUtils.encode( value ) ) );
+			assertEquals( value, HLACodecUtils.asFloat( expected ) );
+		}
+		for( double value : new double[]{ 0.0, -123.456, Double.MAX_VALUE, Double.NaN } )
+		{
+			byte[] expected = this.encoder.createHLAfloat64BE( value ).toByteArray();
+			assertTrue( Arrays.equals( expected, HLACodecUtils.encode( value ) ) );
+			assertEquals( value, HLACodecUtils.asDouble( expected ) );
+		}
+		for( boolean value : new boolean[]{ true, false } )
+		{
+			byte[] expected = this.encoder.createHLAboolean( value ).toByteArray();
+			assertTrue( Arrays.equals( expected, HLACodecUtils.encode( value ) ) );
+			assertEquals( value, HLACodecUtils.asBoolean( expected ) );
+		}
+		for( String value : new String[]{ "", "Alphabet Soup", "日本語" } )
+		{
+			byte[] expected = this.encoder.createHLAunicodeString( value ).toByteArray();
+			assertTrue( Arrays.equals( expected, HLACodecUtils.encode( value ) ) );
+			assertEquals( value, HLACodecUtils.asString( expected ) );
+		}
+	}
+
+	/**
+	 * Test encoding into, and decoding from, an offset within a caller supplied buffer
+	 */
+	public void testBufferEncoding()
+	{
+		byte[] buffer = new byte[64];
+		int offset = 3;
+		offset += HLACodecUtils.encode( 'X', buffer, offset );
+		offset += HLACodecUtils.encode( (short)-4321, buffer, offset );
+		offset += HLACodecUtils.encode( 123456789, buffer, offset );
+		offset += HLACodecUtils.encode( -987654321012L, buffer, offset );
+		offset += HLACodecUtils.encode( 1.5F, buffer, offset );
+		offset += HLACodecUtils.encode( -2.25, buffer, offset );
+		offset += HLACodecUtils.encode( true, buffer, offset );
+		offset += HLACodecUtils.encode( "abc", buffer, offset );
+		assertEquals( 3 + 2 + 2 + 4 + 8 + 4 + 8 + 4 + HLACodecUtils.encodedLength( "abc" ), offset );
+
+		offset = 3;
+		assertEquals( 'X', HLACodecUtils.asChar( buffer, offset ) );
+		offset += HLACodecUtils.CHAR_LENGTH;
+		assertEquals( (short)-4321, HLACodecUtils.asShort( buffer, offset ) );
+		offset += HLACodecUtils.SHORT_LENGTH;
+		assertEquals( 123456789, HLACodecUtils.asInt( buffer, offset ) );
+		offset += HLACodecUtils.INT_LENGTH;
+		assertEquals( -987654321012L, HLACodecUtils.asLong( buffer, offset ) );
+		offset += HLACodecUtils.LONG_LENGTH;
+		assertEquals( 1.5F, HLACodecUtils.asFloat( buffer, offset ) );
+		offset += HLACodecUtils.FLOAT_LENGTH;
+		assertEquals( -2.25, HLACodecUtils.asDouble( buffer, offset ) );
+		offset += HLACodecUtils.DOUBLE_LENGTH;
+		assertEquals( true, HLACodecUtils.asBoolean( buffer, offset ) );
+		offset += HLACodecUtils.BOOLEAN_LENGTH;
+		assertEquals( "abc", HLACodecUtils.asString( buffer, offset ) );
+
+		// not enough room left in the buffer
+		try
+		{
+			HLACodecUtils.encode( Long.MAX_VALUE, buffer, buffer.length - 4 );
+			fail( "Expected an exception when encoding past the end of the buffer" );
+		}
+		catch( UCEFException e )
+		{
+			// expected
+		}
+
+		// not enough bytes to decode
+		try
+		{
+			HLACodecUtils.asDouble( new byte[4] );
+			fail( "Expected an exception when decoding a truncated value" );
+		}
+		catch( UCEFException e )
+		{
+			// expected
+		}
+	}
+
+	/**
+	 * Test that malformed unicode string character counts are rejected
+	 */
+	public void testMalformedString()
+	{
+		// character counts which overflow when converted to a number of bytes
+		int[] counts = { 0x40000000, 0x40000001, 0x7FFFFFFF, -1, 3 };
+		for( int count : counts )
+		{
+			byte[] bytes = new byte[8];
+			HLACodecUtils.encode( count, bytes, 0 );
+			try
+			{
+				HLACodecUtils.asString( bytes );
+				fail( "Expected an exception when decoding a character count of " + count );
+			}
+			catch( UCEFException e )
+			{
+				// expected
+			}
+		}
+
+		// exactly enough bytes for the character count
+		byte[] bytes = new byte[8];
+		HLACodecUtils.encode( 2, bytes, 0 );
+		HLACodecUtils.encode( 'h', bytes, 4 );
+		HLACodecUtils.encode( 'i', bytes, 6 );
+		assertEquals( "hi", HLACodecUtils.asString( bytes ) );
+	}
+
 	////////////////////////////////////////////////////////////////////////////////////////////
 	/////////////////////////////// Accessor and Mutator Methods ///////////////////////////////
 	////////////////////////////////////////////////////////////////////////////////////////////
@@ -36,13 +36,17 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
+import gov.nist.ucef.hla.base.DeadReckoningSpec;
 import gov.nist.ucef.hla.base.FederateConfiguration;
+import gov.nist.ucef.hla.base.ModelRegistry;
 import gov.nist.ucef.hla.base.Types.DataType;
 import gov.nist.ucef.hla.base.Types.InteractionClass;
 import gov.nist.ucef.hla.base.Types.InteractionParameter;
 import gov.nist.ucef.hla.base.Types.ObjectAttribute;
 import gov.nist.ucef.hla.base.Types.ObjectClass;
 import gov.nist.ucef.hla.base.Types.Sharing;
+import gov.nist.ucef.hla.base.UCEFException;
+import gov.nist.ucef.hla.base.UpdateRateLimit;
 import junit.framework.Test;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
@@ -691,6 +695,142 @@ public class FederateConfigurationTest extends TestCase
 	}
 
 
+	/**
+	 * This tests declaring dead reckoned attributes in JSON configuration
+	 */
+	public void testDeadReckoningFromJSON()
+	{
+		String federationName = "federationName";
+		String federateName = "federateName";
+		String federateType = "federateType";
+		String className = "HLAobjectRoot.Vehicle";
+
+		FederateConfiguration config = new FederateConfiguration( federateName, federateType, federationName );
+		// sanity check that there is nothing dead reckoned to begin with
+		assertTrue( config.getDeadReckoning( className ).isEmpty() );
+
+		config.fromJSON( "{ \"deadReckoning\": { \"" + className + "\": {" +
+		                 "\"PositionX\": { \"model\": \"linear\", \"rate\": \"VelocityX\", \"threshold\": 0.5 }," +
+		                 "\"Heading\": { \"model\": \"static\", \"threshold\": 2 } } } }" );
+
+		Map<String,DeadReckoningSpec> specs = config.getDeadReckoning( className );
+		assertEquals( 2, specs.size() );
+
+		DeadReckoningSpec position = specs.get( "PositionX" );
+		assertEquals( DeadReckoningSpec.Model.LINEAR, position.getModel() );
+		assertEquals( "VelocityX", position.getRateAttributeName() );
+		assertEquals( 0.5, position.getThreshold() );
+		// 10 + 2 units per second for 1.5 seconds
+		assertEquals( 13.0, position.extrapolate( 10.0, 2.0, 1.5 ) );
+
+		DeadReckoningSpec heading = specs.get( "Heading" );
+		assertEquals( DeadReckoningSpec.Model.STATIC, heading.getModel() );
+		assertEquals( 2.0, heading.getThreshold() );
+		assertEquals( 10.0, heading.extrapolate( 10.0, 2.0, 1.5 ) );
+
+		// a linear model without a rate is rejected
+		try
+		{
+			config.fromJSON( "{ \"deadReckoning\": { \"" + className + "\": {" +
+			                 "\"PositionY\": { \"model\": \"linear\", \"threshold\": 0.5 } } } }" );
+			fail( "Expected linear dead reckoning without a rate attribute to be rejected" );
+		}
+		catch( UCEFException e )
+		{
+			// expected
+		}
+	}
+
+	/**
+	 * This tests declaring update rate limits in JSON configuration
+	 */
+	public void testUpdateRateLimitsFromJSON()
+	{
+		String federationName = "federationName";
+		String federateName = "federateName";
+		String federateType = "federateType";
+		String className = "HLAobjectRoot.Vehicle";
+
+		FederateConfiguration config = new FederateConfiguration( federateName, federateType, federationName );
+		// sanity check that there is nothing rate limited to begin with
+		assertTrue( config.getUpdateRateLimits( className ).isEmpty() );
+
+		config.fromJSON( "{ \"updateRateLimits\": { \"" + className + "\": {" +
+		                 "\"*\": { \"maxRate\": 2 }," +
+		                 "\"Position\": { \"maxRate\": 10.0, \"timeBase\": \"wallClock\" } } } }" );
+
+		Map<String,UpdateRateLimit> limits = config.getUpdateRateLimits( className );
+		assertEquals( 2, limits.size() );
+
+		UpdateRateLimit all = limits.get( UpdateRateLimit.ALL_ATTRIBUTES );
+		assertEquals( 2.0, all.getMaxRate() );
+		assertEquals( UpdateRateLimit.TimeBase.LOGICAL, all.getTimeBase() );
+		assertEquals( 0.5, all.getMinInterval() );
+
+		UpdateRateLimit position = limits.get( "Position" );
+		assertEquals( 10.0, position.getMaxRate() );
+		assertEquals( UpdateRateLimit.TimeBase.WALL_CLOCK, position.getTimeBase() );
+
+		// a rate which is not positive is rejected
+		try
+		{
+			config.fromJSON( "{ \"updateRateLimits\": { \"" + className + "\": {" +
+			                 "\"Heading\": { \"maxRate\": 0 } } } }" );
+			fail( "Expected an update rate limit of zero to be rejected" );
+		}
+		catch( UCEFException e )
+		{
+			// expected
+		}
+	}
+
+	/**
+	 * This tests the precomputed snapshot of the object and interaction classes
+	 */
+	public void testModelRegistry()
+	{
+		ObjectClass objectClass = new ObjectClass( "HLAobjectRoot.A", Sharing.PUBLISHSUBSCRIBE );
+		objectClass.addAttribute( new ObjectAttribute( "P", DataType.INT, Sharing.PUBLISH ) );
+		objectClass.addAttribute( new ObjectAttribute( "S", DataType.DOUBLE, Sharing.SUBSCRIBE ) );
+		InteractionClass interactionClass = new InteractionClass( "HLAinteractionRoot.B", Sharing.SUBSCRIBE );
+		interactionClass.addParameter( new InteractionParameter( "N", DataType.STRING ) );
+
+		FederateConfiguration config = new FederateConfiguration( "federateName", "federateType", "federationName" );
+		config.cacheObjectClasses( objectClass );
+		config.cacheInteractionClasses( interactionClass );
+
+		// the same snapshot is used until the classes change
+		ModelRegistry registry = config.getModelRegistry();
+		assertSame( registry, config.getModelRegistry() );
+		assertEquals( 2, registry.size() );
+		assertEquals( 0, registry.getClassId( objectClass.name ) );
+		assertEquals( 1, registry.getClassId( interactionClass.name ) );
+		assertEquals( ModelRegistry.NO_CLASS_ID, registry.getClassId( "HLAobjectRoot.Unknown" ) );
+
+		assertEquals( new HashSet<>( Arrays.asList( "P" ) ), config.getPublishedAttributeNames( objectClass.name ) );
+		assertEquals( new HashSet<>( Arrays.asList( "S" ) ), config.getSubscribedAttributeNames( objectClass.name ) );
+		assertEquals( DataType.STRING, config.getDataType( interactionClass.name, "N" ) );
+		assertEquals( DataType.UNKNOWN, config.getDataType( interactionClass.name, "X" ) );
+		// attribute names are only given for object classes, parameter names for interactions
+		assertTrue( config.getAttributeNames( interactionClass.name ).isEmpty() );
+		assertTrue( config.getParameterNames( objectClass.name ).isEmpty() );
+
+		try
+		{
+			config.getPublishedClassNames().add( "HLAobjectRoot.Unknown" );
+			fail( "Expected the published class names to be unmodifiable" );
+		}
+		catch( UnsupportedOperationException e )
+		{
+			// expected
+		}
+
+		// caching more classes gives a new snapshot
+		config.cacheInteractionClasses( new InteractionClass( "HLAinteractionRoot.C", Sharing.PUBLISH ) );
+		assertNotSame( registry, config.getModelRegistry() );
+		assertEquals( new HashSet<>( Arrays.asList( "HLAinteractionRoot.C" ) ),
+		              config.getPublishedInteractionNames() );
+	}
 
 	////////////////////////////////////////////////////////////////////////////////////////////
 	/////////////////////////////// Accessor and Mutator Methods ///////////////////////////////
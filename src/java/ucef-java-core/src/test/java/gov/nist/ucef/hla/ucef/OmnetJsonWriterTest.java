@@ -0,0 +1,149 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards 
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+ * software and associated documentation files (the "Software"), to deal in the Software 
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following 
+ * conditions:
+ * 
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.ucef;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.json.simple.JSONObject;
+import org.json.simple.JSONValue;
+
+import gov.nist.ucef.hla.base.Types.DataType;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Checks that the {@link OmnetJsonWriter} produces exactly the same JSON as json-simple, which
+ * OMNeT++ payloads were previously encoded with
+ */
+public class OmnetJsonWriterTest extends TestCase
+{
+	//----------------------------------------------------------
+	//                    STATIC VARIABLES
+	//----------------------------------------------------------
+
+	//----------------------------------------------------------
+	//                   INSTANCE VARIABLES
+	//----------------------------------------------------------
+
+	//----------------------------------------------------------
+	//                      CONSTRUCTORS
+	//----------------------------------------------------------
+	/**
+	 * Create the test case
+	 *
+	 * @param testName name of the test case
+	 */
+	public OmnetJsonWriterTest( String testName )
+	{
+		super( testName );
+	}
+
+	//----------------------------------------------------------
+	//                    INSTANCE METHODS
+	//----------------------------------------------------------
+	/**
+	 * Test that strings are quoted and escaped as json-simple does it
+	 */
+	public void testStrings()
+	{
+		String[] testValues = { "", "abc", "字", "quote\"back\\slash/", "\b\f\n\r\t",
+		                        "\u0000\u001F\u007F\u009F €⃿", null };
+		for( String value : testValues )
+		{
+			StringBuilder actual = new StringBuilder();
+			OmnetJsonWriter.appendString( actual, value );
+			assertEquals( JSONValue.toJSONString( value ), actual.toString() );
+		}
+	}
+
+	/**
+	 * Test that floating point values are formatted as json-simple does it
+	 */
+	public void testFloatingPoint()
+	{
+		double[] testValues = { 0.0, -0.0, 1.5, Math.PI, 1e-300, 1e300, Double.MIN_VALUE,
+		                        Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY };
+		for( double value : testValues )
+		{
+			StringBuilder actual = new StringBuilder();
+			OmnetJsonWriter.appendDouble( actual, value );
+			assertEquals( JSONValue.toJSONString( value ), actual.toString() );
+
+			actual.setLength( 0 );
+			OmnetJsonWriter.appendFloat( actual, (float)value );
+			assertEquals( JSONValue.toJSONString( (float)value ), actual.toString() );
+		}
+	}
+
+	/**
+	 * Test that members are written in the same order as a JSONObject holding the same members
+	 * would write them, for various numbers of members present
+	 */
+	@SuppressWarnings("unchecked")
+	public void testMemberOrder()
+	{
+		List<String> names = new ArrayList<>();
+		for( int i = 0; i < 100; i++ )
+			names.add( "member" + i );
+		// some names which are known to collide with each other
+		names.add( "Aa" );
+		names.add( "BB" );
+		OmnetJsonWriter.Plan plan = new OmnetJsonWriter.Plan( names,
+		                                                      Collections.nCopies( names.size(),
+		                                                                           DataType.INT ) );
+
+		for( int count = 0; count <= names.size(); count++ )
+		{
+			// the members present are the last 'count' of them
+			int firstPresent = names.size() - count;
+
+			JSONObject json = new JSONObject();
+			for( int i = firstPresent; i < names.size(); i++ )
+				json.put( names.get( i ), i );
+
+			List<String> expected = new ArrayList<>( json.keySet() );
+			List<String> actual = new ArrayList<>();
+			for( int i : plan.orderFor( count ) )
+			{
+				if( i >= firstPresent )
+					actual.add( plan.nameAt( i ) );
+			}
+			assertEquals( expected, actual );
+		}
+	}
+
+	//----------------------------------------------------------
+	//                     STATIC METHODS
+	//----------------------------------------------------------
+	/**
+	 * @return the suite of tests being tested
+	 */
+	public static Test suite()
+	{
+		return new TestSuite( OmnetJsonWriterTest.class );
+	}
+}
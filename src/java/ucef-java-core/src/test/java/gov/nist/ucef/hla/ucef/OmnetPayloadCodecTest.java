@@ -0,0 +1,225 @@
+/*
+ * This software is contributed as a public service by The National Institute of Standards 
+ * and Technology (NIST) and is not subject to U.S. Copyright
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this 
+ * software and associated documentation files (the "Software"), to deal in the Software 
+ * without restriction, including without limitation the rights to use, copy, modify,
+ * merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following 
+ * conditions:
+ * 
+ * The above NIST contribution notice and this permission and disclaimer notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL
+ * NOT HAVE ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR
+ * MODIFICATIONS.
+ */
+package gov.nist.ucef.hla.ucef;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import gov.nist.ucef.hla.base.SlotLayout;
+import gov.nist.ucef.hla.base.Types.DataType;
+import gov.nist.ucef.hla.base.UCEFException;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Checks that the {@link OmnetPayloadCodec} round trips member values, and rejects payloads which
+ * it cannot decode correctly rather than decoding them into the wrong members
+ */
+public class OmnetPayloadCodecTest extends TestCase
+{
+	//----------------------------------------------------------
+	//                    STATIC VARIABLES
+	//----------------------------------------------------------
+
+	//----------------------------------------------------------
+	//                   INSTANCE VARIABLES
+	//----------------------------------------------------------
+
+	//----------------------------------------------------------
+	//                      CONSTRUCTORS
+	//----------------------------------------------------------
+	/**
+	 * Create the test case
+	 *
+	 * @param testName name of the test case
+	 */
+	public OmnetPayloadCodecTest( String testName )
+	{
+		super( testName );
+	}
+
+	//----------------------------------------------------------
+	//                    INSTANCE METHODS
+	//----------------------------------------------------------
+	/**
+	 * Test that decoding an encoded payload gives back the same values, including empty ones
+	 */
+	public void testRoundTrip()
+	{
+		SlotLayout layout = makeLayout( "alpha", "beta", "gamma", "delta" );
+		Map<String,byte[]> values = new LinkedHashMap<>();
+		values.put( "gamma", new byte[]{ 1, 2, 3 } );
+		values.put( "alpha", new byte[]{ -1 } );
+		values.put( "delta", new byte[0] );
+
+		byte[] payload = OmnetPayloadCodec.encode( layout, values );
+		assertTrue( OmnetPayloadCodec.isBinaryPayload( payload ) );
+
+		Map<String,byte[]> decoded = OmnetPayloadCodec.decode( layout, payload );
+		assertEquals( values.keySet(), decoded.keySet() );
+		for( String name : values.keySet() )
+			assertTrue( name, Arrays.equals( values.get( name ), decoded.get( name ) ) );
+
+		// nothing at all
+		payload = OmnetPayloadCodec.encode( layout, Collections.emptyMap() );
+		assertTrue( OmnetPayloadCodec.decode( layout, payload ).isEmpty() );
+	}
+
+	/**
+	 * Test that members which are not part of the layout, and null values, are left out
+	 */
+	public void testUnknownMembersSkipped()
+	{
+		SlotLayout layout = makeLayout( "alpha", "beta" );
+		Map<String,byte[]> values = new HashMap<>();
+		values.put( "alpha", new byte[]{ 1 } );
+		values.put( "beta", null );
+		values.put( "omega", new byte[]{ 2, 3 } );
+
+		byte[] payload = OmnetPayloadCodec.encode( layout, values );
+		Map<String,byte[]> decoded = OmnetPayloadCodec.decode( layout, payload );
+		assertEquals( Collections.singleton( "alpha" ), decoded.keySet() );
+		assertTrue( Arrays.equals( new byte[]{ 1 }, decoded.get( "alpha" ) ) );
+
+		// the skipped members take up no room
+		byte[] alphaOnly =
+		    OmnetPayloadCodec.encode( layout, Collections.singletonMap( "alpha", new byte[]{ 1 } ) );
+		assertTrue( Arrays.equals( alphaOnly, payload ) );
+	}
+
+	/**
+	 * Test that a payload encoded for a different definition of the class is rejected
+	 */
+	public void testFingerprintMismatch()
+	{
+		SlotLayout encodedWith = makeLayout( "alpha", "beta" );
+		SlotLayout decodedWith = makeLayout( "alpha", "beta", "gamma" );
+		byte[] payload =
+		    OmnetPayloadCodec.encode( encodedWith, Collections.singletonMap( "beta", new byte[]{ 1 } ) );
+
+		assertDecodeFails( decodedWith, payload );
+	}
+
+	/**
+	 * Test that truncated and malformed payloads are rejected
+	 */
+	public void testMalformed()
+	{
+		SlotLayout layout = makeLayout( "alpha", "beta" );
+
+		// a well formed payload to start from
+		assertEquals( 1, OmnetPayloadCodec.decode( layout, makePayload( layout, 1, 2, 2 ) ).size() );
+
+		// slot outside the layout
+		assertDecodeFails( layout, makePayload( layout, 2, 2, 2 ) );
+		assertDecodeFails( layout, makePayload( layout, 0xFFFF, 2, 2 ) );
+		// negative length
+		assertDecodeFails( layout, makePayload( layout, 0, -1, 2 ) );
+		// length longer than what's left
+		assertDecodeFails( layout, makePayload( layout, 0, 3, 2 ) );
+		assertDecodeFails( layout, makePayload( layout, 0, Integer.MAX_VALUE, 2 ) );
+
+		// cut off part way through a value, and part way through a value's header
+		byte[] payload = OmnetPayloadCodec.encode( layout,
+		                                           Collections.singletonMap( "alpha", new byte[]{ 1, 2 } ) );
+		assertDecodeFails( layout, Arrays.copyOf( payload, payload.length - 1 ) );
+		assertDecodeFails( layout, Arrays.copyOf( payload, payload.length - 4 ) );
+		// too short to even be a binary payload
+		assertDecodeFails( layout, Arrays.copyOf( payload, 4 ) );
+	}
+
+	/**
+	 * Test that a JSON payload is not taken for a binary one
+	 */
+	public void testJsonPayload()
+	{
+		SlotLayout layout = makeLayout( "alpha" );
+		byte[] json = "{\"alpha\":1}".getBytes( StandardCharsets.UTF_8 );
+		assertFalse( OmnetPayloadCodec.isBinaryPayload( json ) );
+		assertFalse( OmnetPayloadCodec.isBinaryPayload( new byte[0] ) );
+		assertFalse( OmnetPayloadCodec.isBinaryPayload( null ) );
+		assertDecodeFails( layout, json );
+	}
+
+	private void assertDecodeFails( SlotLayout layout, byte[] payload )
+	{
+		try
+		{
+			OmnetPayloadCodec.decode( layout, payload );
+			fail( "Expected the payload to be rejected" );
+		}
+		catch( UCEFException e )
+		{
+			// expected
+		}
+	}
+
+	/**
+	 * Build a payload holding a single value with the given header, regardless of whether the
+	 * header is valid
+	 *
+	 * @param layout the layout to take the fingerprint from
+	 * @param slot the slot to write in the value's header
+	 * @param length the length to write in the value's header
+	 * @param actualLength the number of value bytes actually written
+	 * @return the payload
+	 */
+	private byte[] makePayload( SlotLayout layout, int slot, int length, int actualLength )
+	{
+		// the encoding of no values is the header, ending in the count
+		byte[] header = OmnetPayloadCodec.encode( layout, Collections.emptyMap() );
+		ByteBuffer buffer = ByteBuffer.allocate( header.length + 2 + 4 + actualLength );
+		buffer.put( header, 0, header.length - 2 );
+		buffer.putShort( (short)1 );
+		buffer.putShort( (short)slot );
+		buffer.putInt( length );
+		buffer.put( new byte[actualLength] );
+		return buffer.array();
+	}
+
+	private SlotLayout makeLayout( String... names )
+	{
+		Map<String,DataType> members = new HashMap<>();
+		for( String name : names )
+			members.put( name, DataType.INT );
+		return new SlotLayout( members );
+	}
+
+	//----------------------------------------------------------
+	//                     STATIC METHODS
+	//----------------------------------------------------------
+	/**
+	 * @return the suite of tests being tested
+	 */
+	public static Test suite()
+	{
+		return new TestSuite( OmnetPayloadCodecTest.class );
+	}
+}
@@ -56,6 +56,12 @@ public abstract class _GenxPingFederate extends NoOpFederate
     public _GenxPingFederate()
     {
         super();
+
+        // received interactions and reflections go straight to the typed handlers
+        registerInteractionHandler( Pong.interactionClassName(), Pong::new,
+                                    ( pong, time ) -> receivePongInteraction( pong ) );
+        registerReflectionHandler( Player.objectClassName(), Player::new,
+                                   ( player, time ) -> receivePlayerUpdate( player ) );
     }
 
     //----------------------------------------------------------
@@ -68,33 +74,17 @@ public abstract class _GenxPingFederate extends NoOpFederate
     @Override
     public void receiveInteraction( HLAInteraction hlaInteraction )
     {
-        String interactionClassName = hlaInteraction.getInteractionClassName();
-        if( Pong.interactionClassName().equals( interactionClassName ) )
-        {
-            receivePongInteraction( new Pong( hlaInteraction ) );
-        }
-        else
-        {
-            // this is unexpected - we shouldn't receive any thing we didn't subscribe to
-            System.err.println( String.format( "Received an unexpected interaction of type '%s'",
-                                                interactionClassName ) );
-        }
+        // this is unexpected - we shouldn't receive any thing we didn't subscribe to
+        System.err.println( String.format( "Received an unexpected interaction of type '%s'",
+                                            hlaInteraction.getInteractionClassName() ) );
     }
 
     @Override
     public void receiveAttributeReflection( HLAObject hlaObject )
     {
-        String objectClassName = hlaObject.getObjectClassName();
-        if( Player.objectClassName().equals( objectClassName ) )
-        {
-            receivePlayerUpdate( new Player( hlaObject ) );
-        }
-        else
-        {
-            // this is unexpected - we shouldn't receive any thing we didn't subscribe to
-            System.err.println( String.format( "Received an unexpected attribute reflection of type '%s'",
-                                                objectClassName ) );
-        }
+        // this is unexpected - we shouldn't receive any thing we didn't subscribe to
+        System.err.println( String.format( "Received an unexpected attribute reflection of type '%s'",
+                                            hlaObject.getObjectClassName() ) );
     }
 
     ////////////////////////////////////////////////////////////////////////////////////////////
@@ -56,6 +56,12 @@ public abstract class _GenxPongFederate extends NoOpFederate
     public _GenxPongFederate()
     {
         super();
+
+        // received interactions and reflections go straight to the typed handlers
+        registerInteractionHandler( Ping.interactionClassName(), Ping::new,
+                                    ( ping, time ) -> receivePingInteraction( ping ) );
+        registerReflectionHandler( Player.objectClassName(), Player::new,
+                                   ( player, time ) -> receivePlayerUpdate( player ) );
     }
 
     //----------------------------------------------------------
@@ -68,33 +74,17 @@ public abstract class _GenxPongFederate extends NoOpFederate
     @Override
     public void receiveInteraction( HLAInteraction hlaInteraction )
     {
-        String interactionClassName = hlaInteraction.getInteractionClassName();
-        if( Ping.interactionClassName().equals( interactionClassName ) )
-        {
-            receivePingInteraction( new Ping( hlaInteraction ) );
-        }
-        else
-        {
-            // this is unexpected - we shouldn't receive any thing we didn't subscribe to
-            System.err.println( String.format( "Received an unexpected interaction of type '%s'",
-                                                interactionClassName ) );
-        }
+        // this is unexpected - we shouldn't receive any thing we didn't subscribe to
+        System.err.println( String.format( "Received an unexpected interaction of type '%s'",
+                                            hlaInteraction.getInteractionClassName() ) );
     }
 
     @Override
     public void receiveAttributeReflection( HLAObject hlaObject )
     {
-        String objectClassName = hlaObject.getObjectClassName();
-        if( Player.objectClassName().equals( objectClassName ) )
-        {
-            receivePlayerUpdate( new Player( hlaObject ) );
-        }
-        else
-        {
-            // this is unexpected - we shouldn't receive any thing we didn't subscribe to
-            System.err.println( String.format( "Received an unexpected attribute reflection of type '%s'",
-                                                objectClassName ) );
-        }
+        // this is unexpected - we shouldn't receive any thing we didn't subscribe to
+        System.err.println( String.format( "Received an unexpected attribute reflection of type '%s'",
+                                            hlaObject.getObjectClassName() ) );
     }
 
     ////////////////////////////////////////////////////////////////////////////////////////////
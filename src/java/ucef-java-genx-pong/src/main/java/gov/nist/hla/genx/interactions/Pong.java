@@ -31,6 +31,7 @@ import java.util.Map;
 import java.util.Set;
 
 import gov.nist.ucef.hla.base.HLAInteraction;
+import gov.nist.ucef.hla.base.SlotLayout;
 import gov.nist.ucef.hla.base.Types.DataType;
 
 public class Pong extends HLAInteraction
@@ -66,6 +67,18 @@ public class Pong extends HLAInteraction
     private static final Map<String,DataType> PARAMETERS_LOOKUP =
         Collections.unmodifiableMap( initializeMapping() );
 
+    // the slots of the parameters, for quick access to the parameter values
+    private static final SlotLayout SLOT_LAYOUT = new SlotLayout( PARAMETERS_LOOKUP );
+    private static final int PARAM_SLOT_SOMEBOOLEAN = SLOT_LAYOUT.slotOf( PARAM_KEY_SOMEBOOLEAN );
+    private static final int PARAM_SLOT_SOMEBYTE = SLOT_LAYOUT.slotOf( PARAM_KEY_SOMEBYTE );
+    private static final int PARAM_SLOT_SOMECHAR = SLOT_LAYOUT.slotOf( PARAM_KEY_SOMECHAR );
+    private static final int PARAM_SLOT_SOMEDOUBLE = SLOT_LAYOUT.slotOf( PARAM_KEY_SOMEDOUBLE );
+    private static final int PARAM_SLOT_SOMEFLOAT = SLOT_LAYOUT.slotOf( PARAM_KEY_SOMEFLOAT );
+    private static final int PARAM_SLOT_SOMEINT = SLOT_LAYOUT.slotOf( PARAM_KEY_SOMEINT );
+    private static final int PARAM_SLOT_SOMELONG = SLOT_LAYOUT.slotOf( PARAM_KEY_SOMELONG );
+    private static final int PARAM_SLOT_SOMESHORT = SLOT_LAYOUT.slotOf( PARAM_KEY_SOMESHORT );
+    private static final int PARAM_SLOT_SOMESTRING = SLOT_LAYOUT.slotOf( PARAM_KEY_SOMESTRING );
+
     //----------------------------------------------------------
     //                   INSTANCE VARIABLES
     //----------------------------------------------------------
@@ -78,7 +91,7 @@ public class Pong extends HLAInteraction
     */
     public Pong()
     {
-        super( INTERACTION_NAME, null );
+        super( INTERACTION_NAME, null, SLOT_LAYOUT );
     }
 
     /**
@@ -86,7 +99,7 @@ public class Pong extends HLAInteraction
     */
     public Pong( HLAInteraction interaction )
     {
-        super( interaction );
+        super( interaction, SLOT_LAYOUT );
     }
 
     //----------------------------------------------------------
@@ -104,7 +117,7 @@ public class Pong extends HLAInteraction
     */
     public boolean isSomeBooleanPresent()
     {
-        return isPresent( PARAM_KEY_SOMEBOOLEAN );
+        return isPresent( PARAM_SLOT_SOMEBOOLEAN );
     }
 
     /**
@@ -115,7 +128,7 @@ public class Pong extends HLAInteraction
     */
     public Pong someBoolean( boolean value )
     {
-        setValue( PARAM_KEY_SOMEBOOLEAN, value );
+        setValue( PARAM_SLOT_SOMEBOOLEAN, value );
         return this;
     }
 
@@ -134,7 +147,7 @@ public class Pong extends HLAInteraction
     */
     public boolean someBoolean()
     {
-        return getAsBoolean( PARAM_KEY_SOMEBOOLEAN );
+        return getAsBoolean( PARAM_SLOT_SOMEBOOLEAN );
     }
 
     /**
@@ -157,7 +170,7 @@ public class Pong extends HLAInteraction
     */
     public boolean isSomeBytePresent()
     {
-        return isPresent( PARAM_KEY_SOMEBYTE );
+        return isPresent( PARAM_SLOT_SOMEBYTE );
     }
 
     /**
@@ -168,7 +181,7 @@ public class Pong extends HLAInteraction
     */
     public Pong someByte( byte value )
     {
-        setValue( PARAM_KEY_SOMEBYTE, value );
+        setValue( PARAM_SLOT_SOMEBYTE, value );
         return this;
     }
 
@@ -187,7 +200,7 @@ public class Pong extends HLAInteraction
     */
     public byte someByte()
     {
-        return getAsByte( PARAM_KEY_SOMEBYTE );
+        return getAsByte( PARAM_SLOT_SOMEBYTE );
     }
 
     /**
@@ -210,7 +223,7 @@ public class Pong extends HLAInteraction
     */
     public boolean isSomeCharPresent()
     {
-        return isPresent( PARAM_KEY_SOMECHAR );
+        return isPresent( PARAM_SLOT_SOMECHAR );
     }
 
     /**
@@ -221,7 +234,7 @@ public class Pong extends HLAInteraction
     */
     public Pong someChar( char value )
     {
-        setValue( PARAM_KEY_SOMECHAR, value );
+        setValue( PARAM_SLOT_SOMECHAR, value );
         return this;
     }
 
@@ -240,7 +253,7 @@ public class Pong extends HLAInteraction
     */
     public char someChar()
     {
-        return getAsChar( PARAM_KEY_SOMECHAR );
+        return getAsChar( PARAM_SLOT_SOMECHAR );
     }
 
     /**
@@ -263,7 +276,7 @@ public class Pong extends HLAInteraction
     */
     public boolean isSomeDoublePresent()
     {
-        return isPresent( PARAM_KEY_SOMEDOUBLE );
+        return isPresent( PARAM_SLOT_SOMEDOUBLE );
     }
 
     /**
@@ -274,7 +287,7 @@ public class Pong extends HLAInteraction
     */
     public Pong someDouble( double value )
     {
-        setValue( PARAM_KEY_SOMEDOUBLE, value );
+        setValue( PARAM_SLOT_SOMEDOUBLE, value );
         return this;
     }
 
@@ -293,7 +306,7 @@ public class Pong extends HLAInteraction
     */
     public double someDouble()
     {
-        return getAsDouble( PARAM_KEY_SOMEDOUBLE );
+        return getAsDouble( PARAM_SLOT_SOMEDOUBLE );
     }
 
     /**
@@ -316,7 +329,7 @@ public class Pong extends HLAInteraction
     */
     public boolean isSomeFloatPresent()
     {
-        return isPresent( PARAM_KEY_SOMEFLOAT );
+        return isPresent( PARAM_SLOT_SOMEFLOAT );
     }
 
     /**
@@ -327,7 +340,7 @@ public class Pong extends HLAInteraction
     */
     public Pong someFloat( float value )
     {
-        setValue( PARAM_KEY_SOMEFLOAT, value );
+        setValue( PARAM_SLOT_SOMEFLOAT, value );
         return this;
     }
 
@@ -346,7 +359,7 @@ public class Pong extends HLAInteraction
     */
     public float someFloat()
     {
-        return getAsFloat( PARAM_KEY_SOMEFLOAT );
+        return getAsFloat( PARAM_SLOT_SOMEFLOAT );
     }
 
     /**
@@ -369,7 +382,7 @@ public class Pong extends HLAInteraction
     */
     public boolean isSomeIntPresent()
     {
-        return isPresent( PARAM_KEY_SOMEINT );
+        return isPresent( PARAM_SLOT_SOMEINT );
     }
 
     /**
@@ -380,7 +393,7 @@ public class Pong extends HLAInteraction
     */
     public Pong someInt( int value )
     {
-        setValue( PARAM_KEY_SOMEINT, value );
+        setValue( PARAM_SLOT_SOMEINT, value );
         return this;
     }
 
@@ -399,7 +412,7 @@ public class Pong extends HLAInteraction
     */
     public int someInt()
     {
-        return getAsInt( PARAM_KEY_SOMEINT );
+        return getAsInt( PARAM_SLOT_SOMEINT );
     }
 
     /**
@@ -422,7 +435,7 @@ public class Pong extends HLAInteraction
     */
     public boolean isSomeLongPresent()
     {
-        return isPresent( PARAM_KEY_SOMELONG );
+        return isPresent( PARAM_SLOT_SOMELONG );
     }
 
     /**
@@ -433,7 +446,7 @@ public class Pong extends HLAInteraction
     */
     public Pong someLong( long value )
     {
-        setValue( PARAM_KEY_SOMELONG, value );
+        setValue( PARAM_SLOT_SOMELONG, value );
         return this;
     }
 
@@ -452,7 +465,7 @@ public class Pong extends HLAInteraction
     */
     public long someLong()
     {
-        return getAsLong( PARAM_KEY_SOMELONG );
+        return getAsLong( PARAM_SLOT_SOMELONG );
     }
 
     /**
@@ -475,7 +488,7 @@ public class Pong extends HLAInteraction
     */
     public boolean isSomeShortPresent()
     {
-        return isPresent( PARAM_KEY_SOMESHORT );
+        return isPresent( PARAM_SLOT_SOMESHORT );
     }
 
     /**
@@ -486,7 +499,7 @@ public class Pong extends HLAInteraction
     */
     public Pong someShort( short value )
     {
-        setValue( PARAM_KEY_SOMESHORT, value );
+        setValue( PARAM_SLOT_SOMESHORT, value );
         return this;
     }
 
@@ -505,7 +518,7 @@ public class Pong extends HLAInteraction
     */
     public short someShort()
     {
-        return getAsShort( PARAM_KEY_SOMESHORT );
+        return getAsShort( PARAM_SLOT_SOMESHORT );
     }
 
     /**
@@ -528,7 +541,7 @@ public class Pong extends HLAInteraction
     */
     public boolean isSomeStringPresent()
     {
-        return isPresent( PARAM_KEY_SOMESTRING );
+        return isPresent( PARAM_SLOT_SOMESTRING );
     }
 
     /**
@@ -539,7 +552,7 @@ public class Pong extends HLAInteraction
     */
     public Pong someString( String value )
     {
-        setValue( PARAM_KEY_SOMESTRING, value );
+        setValue( PARAM_SLOT_SOMESTRING, value );
         return this;
     }
 
@@ -558,7 +571,7 @@ public class Pong extends HLAInteraction
     */
     public String someString()
     {
-        return getAsString( PARAM_KEY_SOMESTRING );
+        return getAsString( PARAM_SLOT_SOMESTRING );
     }
 
     /**
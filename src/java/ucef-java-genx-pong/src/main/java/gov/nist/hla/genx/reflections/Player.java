@@ -31,6 +31,7 @@ import java.util.Map;
 import java.util.Set;
 
 import gov.nist.ucef.hla.base.HLAObject;
+import gov.nist.ucef.hla.base.SlotLayout;
 import gov.nist.ucef.hla.base.Types.DataType;
 
 public class Player extends HLAObject
@@ -66,6 +67,18 @@ public class Player extends HLAObject
     private static final Map<String,DataType> ATTRIBUTES_LOOKUP =
         Collections.unmodifiableMap( initializeMapping() );
 
+    // the slots of the attributes, for quick access to the attribute values
+    private static final SlotLayout SLOT_LAYOUT = new SlotLayout( ATTRIBUTES_LOOKUP );
+    private static final int ATTRIBUTE_SLOT_SOMEBOOLEAN = SLOT_LAYOUT.slotOf( ATTRIBUTE_KEY_SOMEBOOLEAN );
+    private static final int ATTRIBUTE_SLOT_SOMEBYTE = SLOT_LAYOUT.slotOf( ATTRIBUTE_KEY_SOMEBYTE );
+    private static final int ATTRIBUTE_SLOT_SOMECHAR = SLOT_LAYOUT.slotOf( ATTRIBUTE_KEY_SOMECHAR );
+    private static final int ATTRIBUTE_SLOT_SOMEDOUBLE = SLOT_LAYOUT.slotOf( ATTRIBUTE_KEY_SOMEDOUBLE );
+    private static final int ATTRIBUTE_SLOT_SOMEFLOAT = SLOT_LAYOUT.slotOf( ATTRIBUTE_KEY_SOMEFLOAT );
+    private static final int ATTRIBUTE_SLOT_SOMEINT = SLOT_LAYOUT.slotOf( ATTRIBUTE_KEY_SOMEINT );
+    private static final int ATTRIBUTE_SLOT_SOMELONG = SLOT_LAYOUT.slotOf( ATTRIBUTE_KEY_SOMELONG );
+    private static final int ATTRIBUTE_SLOT_SOMENAME = SLOT_LAYOUT.slotOf( ATTRIBUTE_KEY_SOMENAME );
+    private static final int ATTRIBUTE_SLOT_SOMESHORT = SLOT_LAYOUT.slotOf( ATTRIBUTE_KEY_SOMESHORT );
+
     //----------------------------------------------------------
     //                   INSTANCE VARIABLES
     //----------------------------------------------------------
@@ -78,7 +91,7 @@ public class Player extends HLAObject
     */
     public Player()
     {
-        super( OBJECT_CLASS_NAME, null, null );
+        super( OBJECT_CLASS_NAME, null, null, SLOT_LAYOUT );
     }
 
     /**
@@ -86,7 +99,7 @@ public class Player extends HLAObject
     */
     public Player( HLAObject reflection )
     {
-        super( reflection );
+        super( reflection, SLOT_LAYOUT );
     }
 
     //----------------------------------------------------------
@@ -104,7 +117,7 @@ public class Player extends HLAObject
     */
     public boolean isSomeBooleanPresent()
     {
-        return isPresent( ATTRIBUTE_KEY_SOMEBOOLEAN );
+        return isPresent( ATTRIBUTE_SLOT_SOMEBOOLEAN );
     }
 
     /**
@@ -115,7 +128,7 @@ public class Player extends HLAObject
     */
     public Player someBoolean( boolean value )
     {
-        setValue( ATTRIBUTE_KEY_SOMEBOOLEAN, value );
+        setValue( ATTRIBUTE_SLOT_SOMEBOOLEAN, value );
         return this;
     }
 
@@ -134,7 +147,7 @@ public class Player extends HLAObject
     */
     public boolean someBoolean()
     {
-        return getAsBoolean( ATTRIBUTE_KEY_SOMEBOOLEAN );
+        return getAsBoolean( ATTRIBUTE_SLOT_SOMEBOOLEAN );
     }
 
     /**
@@ -157,7 +170,7 @@ public class Player extends HLAObject
     */
     public boolean isSomeBytePresent()
     {
-        return isPresent( ATTRIBUTE_KEY_SOMEBYTE );
+        return isPresent( ATTRIBUTE_SLOT_SOMEBYTE );
     }
 
     /**
@@ -168,7 +181,7 @@ public class Player extends HLAObject
     */
     public Player someByte( byte value )
     {
-        setValue( ATTRIBUTE_KEY_SOMEBYTE, value );
+        setValue( ATTRIBUTE_SLOT_SOMEBYTE, value );
         return this;
     }
 
@@ -187,7 +200,7 @@ public class Player extends HLAObject
     */
     public byte someByte()
     {
-        return getAsByte( ATTRIBUTE_KEY_SOMEBYTE );
+        return getAsByte( ATTRIBUTE_SLOT_SOMEBYTE );
     }
 
     /**
@@ -210,7 +223,7 @@ public class Player extends HLAObject
     */
     public boolean isSomeCharPresent()
     {
-        return isPresent( ATTRIBUTE_KEY_SOMECHAR );
+        return isPresent( ATTRIBUTE_SLOT_SOMECHAR );
     }
 
     /**
@@ -221,7 +234,7 @@ public class Player extends HLAObject
     */
     public Player someChar( char value )
     {
-        setValue( ATTRIBUTE_KEY_SOMECHAR, value );
+        setValue( ATTRIBUTE_SLOT_SOMECHAR, value );
         return this;
     }
 
@@ -240,7 +253,7 @@ public class Player extends HLAObject
     */
     public char someChar()
     {
-        return getAsChar( ATTRIBUTE_KEY_SOMECHAR );
+        return getAsChar( ATTRIBUTE_SLOT_SOMECHAR );
     }
 
     /**
@@ -263,7 +276,7 @@ public class Player extends HLAObject
     */
     public boolean isSomeDoublePresent()
     {
-        return isPresent( ATTRIBUTE_KEY_SOMEDOUBLE );
+        return isPresent( ATTRIBUTE_SLOT_SOMEDOUBLE );
     }
 
     /**
@@ -274,7 +287,7 @@ public class Player extends HLAObject
     */
     public Player someDouble( double value )
     {
-        setValue( ATTRIBUTE_KEY_SOMEDOUBLE, value );
+        setValue( ATTRIBUTE_SLOT_SOMEDOUBLE, value );
         return this;
     }
 
@@ -293,7 +306,7 @@ public class Player extends HLAObject
     */
     public double someDouble()
     {
-        return getAsDouble( ATTRIBUTE_KEY_SOMEDOUBLE );
+        return getAsDouble( ATTRIBUTE_SLOT_SOMEDOUBLE );
     }
 
     /**
@@ -316,7 +329,7 @@ public class Player extends HLAObject
     */
     public boolean isSomeFloatPresent()
     {
-        return isPresent( ATTRIBUTE_KEY_SOMEFLOAT );
+        return isPresent( ATTRIBUTE_SLOT_SOMEFLOAT );
     }
 
     /**
@@ -327,7 +340,7 @@ public class Player extends HLAObject
     */
     public Player someFloat( float value )
     {
-        setValue( ATTRIBUTE_KEY_SOMEFLOAT, value );
+        setValue( ATTRIBUTE_SLOT_SOMEFLOAT, value );
         return this;
     }
 
@@ -346,7 +359,7 @@ public class Player extends HLAObject
     */
     public float someFloat()
     {
-        return getAsFloat( ATTRIBUTE_KEY_SOMEFLOAT );
+        return getAsFloat( ATTRIBUTE_SLOT_SOMEFLOAT );
     }
 
     /**
@@ -369,7 +382,7 @@ public class Player extends HLAObject
     */
     public boolean isSomeIntPresent()
     {
-        return isPresent( ATTRIBUTE_KEY_SOMEINT );
+        return isPresent( ATTRIBUTE_SLOT_SOMEINT );
     }
 
     /**
@@ -380,7 +393,7 @@ public class Player extends HLAObject
     */
     public Player someInt( int value )
     {
-        setValue( ATTRIBUTE_KEY_SOMEINT, value );
+        setValue( ATTRIBUTE_SLOT_SOMEINT, value );
         return this;
     }
 
@@ -399,7 +412,7 @@ public class Player extends HLAObject
     */
     public int someInt()
     {
-        return getAsInt( ATTRIBUTE_KEY_SOMEINT );
+        return getAsInt( ATTRIBUTE_SLOT_SOMEINT );
     }
 
     /**
@@ -422,7 +435,7 @@ public class Player extends HLAObject
     */
     public boolean isSomeLongPresent()
     {
-        return isPresent( ATTRIBUTE_KEY_SOMELONG );
+        return isPresent( ATTRIBUTE_SLOT_SOMELONG );
     }
 
     /**
@@ -433,7 +446,7 @@ public class Player extends HLAObject
     */
     public Player someLong( long value )
     {
-        setValue( ATTRIBUTE_KEY_SOMELONG, value );
+        setValue( ATTRIBUTE_SLOT_SOMELONG, value );
         return this;
     }
 
@@ -452,7 +465,7 @@ public class Player extends HLAObject
     */
     public long someLong()
     {
-        return getAsLong( ATTRIBUTE_KEY_SOMELONG );
+        return getAsLong( ATTRIBUTE_SLOT_SOMELONG );
     }
 
     /**
@@ -475,7 +488,7 @@ public class Player extends HLAObject
     */
     public boolean isSomeNamePresent()
     {
-        return isPresent( ATTRIBUTE_KEY_SOMENAME );
+        return isPresent( ATTRIBUTE_SLOT_SOMENAME );
     }
 
     /**
@@ -486,7 +499,7 @@ public class Player extends HLAObject
     */
     public Player someName( String value )
     {
-        setValue( ATTRIBUTE_KEY_SOMENAME, value );
+        setValue( ATTRIBUTE_SLOT_SOMENAME, value );
         return this;
     }
 
@@ -505,7 +518,7 @@ public class Player extends HLAObject
     */
     public String someName()
     {
-        return getAsString( ATTRIBUTE_KEY_SOMENAME );
+        return getAsString( ATTRIBUTE_SLOT_SOMENAME );
     }
 
     /**
@@ -528,7 +541,7 @@ public class Player extends HLAObject
     */
     public boolean isSomeShortPresent()
     {
-        return isPresent( ATTRIBUTE_KEY_SOMESHORT );
+        return isPresent( ATTRIBUTE_SLOT_SOMESHORT );
     }
 
     /**
@@ -539,7 +552,7 @@ public class Player extends HLAObject
     */
     public Player someShort( short value )
     {
-        setValue( ATTRIBUTE_KEY_SOMESHORT, value );
+        setValue( ATTRIBUTE_SLOT_SOMESHORT, value );
         return this;
     }
 
@@ -558,7 +571,7 @@ public class Player extends HLAObject
     */
     public short someShort()
     {
-        return getAsShort( ATTRIBUTE_KEY_SOMESHORT );
+        return getAsShort( ATTRIBUTE_SLOT_SOMESHORT );
     }
 
     /**